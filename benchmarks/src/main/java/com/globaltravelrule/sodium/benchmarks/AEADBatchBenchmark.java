@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.interfaces.AEAD;
+import com.globaltravelrule.sodium.utils.Key;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.BitSet;
+
+/**
+ * Many small records under one key, one call per record versus one batch.
+ * Scores are per record.
+ */
+@State(Scope.Thread)
+public class AEADBatchBenchmark extends SodiumBenchmark {
+
+    private static final int RECORDS = 1024;
+
+    @Param({"64", "256", "512"})
+    public int size;
+
+    private final AEAD.Method method = AEAD.Method.XCHACHA20_POLY1305_IETF;
+
+    private Key key;
+    private byte[] messages;
+    private int[] bounds;
+    private byte[] nonces;
+    private byte[] out;
+
+    @Setup
+    public void setup() {
+        key = lazySodium.keygen(method);
+        messages = payload(RECORDS * size);
+        bounds = new int[RECORDS + 1];
+        for (int i = 0; i <= RECORDS; i++) {
+            bounds[i] = i * size;
+        }
+        nonces = lazySodium.nonce(RECORDS * AEAD.XCHACHA20POLY1305_IETF_NPUBBYTES);
+        out = new byte[RECORDS * (size + AEAD.XCHACHA20POLY1305_IETF_ABYTES)];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public int singleCalls() {
+        int written = 0;
+        for (int i = 0; i < RECORDS; i++) {
+            written += lazySodium.encrypt(messages, bounds[i], size, null, nonce(i), key, method, out, written);
+        }
+        return written;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public BitSet batch() {
+        return lazySodium.encryptBatch(messages, bounds, null, null, nonces, key, method, out);
+    }
+
+    private byte[] nonce(int i) {
+        byte[] nPub = new byte[AEAD.XCHACHA20POLY1305_IETF_NPUBBYTES];
+        System.arraycopy(nonces, i * nPub.length, nPub, 0, nPub.length);
+        return nPub;
+    }
+
+}
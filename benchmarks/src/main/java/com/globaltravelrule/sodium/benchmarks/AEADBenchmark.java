@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.interfaces.AEAD;
+import com.globaltravelrule.sodium.utils.Key;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.AEADBadTagException;
+
+@State(Scope.Thread)
+public class AEADBenchmark extends SodiumBenchmark {
+
+    private static final byte[] NO_AD = new byte[0];
+
+    @Param({"CHACHA20_POLY1305", "CHACHA20_POLY1305_IETF", "XCHACHA20_POLY1305_IETF", "AES256GCM"})
+    public AEAD.Method method;
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216"})
+    public int size;
+
+    private Key key;
+    private byte[] nPub;
+    private byte[] message;
+    private byte[] cipher;
+    private byte[] decrypted;
+    private String text;
+    private String cipherText;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() {
+        if (method == AEAD.Method.AES256GCM && !lazySodium.cryptoAeadAES256GCMIsAvailable()) {
+            throw new IllegalStateException("AES256-GCM is not available on this CPU.");
+        }
+        key = lazySodium.keygen(method);
+        nPub = lazySodium.nonce(AEAD.nPubBytes(method));
+        message = payload(size);
+        cipher = new byte[size + 16];
+        decrypted = new byte[size];
+        encrypt();
+        text = text(size);
+        cipherText = lazySodium.encrypt(text, null, nPub, key, method);
+        encoded = new byte[lazySodium.getMessageEncoder().encodedLength(size + 16)];
+    }
+
+    @Benchmark
+    public boolean encrypt() {
+        byte[] k = key.getAsBytes();
+        switch (method) {
+            case CHACHA20_POLY1305:
+                return lazySodium.cryptoAeadChaCha20Poly1305Encrypt(cipher, null, message, size, NO_AD, 0, null, nPub, k);
+            case CHACHA20_POLY1305_IETF:
+                return lazySodium.cryptoAeadChaCha20Poly1305IetfEncrypt(cipher, null, message, size, NO_AD, 0, null, nPub, k);
+            case XCHACHA20_POLY1305_IETF:
+                return lazySodium.cryptoAeadXChaCha20Poly1305IetfEncrypt(cipher, null, message, size, NO_AD, 0, null, nPub, k);
+            default:
+                return lazySodium.cryptoAeadAES256GCMEncrypt(cipher, null, message, size, NO_AD, 0, null, nPub, k);
+        }
+    }
+
+    @Benchmark
+    public boolean decrypt() {
+        byte[] k = key.getAsBytes();
+        switch (method) {
+            case CHACHA20_POLY1305:
+                return lazySodium.cryptoAeadChaCha20Poly1305Decrypt(decrypted, null, null, cipher, cipher.length, NO_AD, 0, nPub, k);
+            case CHACHA20_POLY1305_IETF:
+                return lazySodium.cryptoAeadChaCha20Poly1305IetfDecrypt(decrypted, null, null, cipher, cipher.length, NO_AD, 0, nPub, k);
+            case XCHACHA20_POLY1305_IETF:
+                return lazySodium.cryptoAeadXChaCha20Poly1305IetfDecrypt(decrypted, null, null, cipher, cipher.length, NO_AD, 0, nPub, k);
+            default:
+                return lazySodium.cryptoAeadAES256GCMDecrypt(decrypted, null, null, cipher, cipher.length, NO_AD, 0, nPub, k);
+        }
+    }
+
+    @Benchmark
+    public String encryptLazy() {
+        return lazySodium.encrypt(text, null, nPub, key, method);
+    }
+
+    @Benchmark
+    public String decryptLazy() throws AEADBadTagException {
+        return lazySodium.decrypt(cipherText, null, nPub, key, method);
+    }
+
+    @Benchmark
+    public int encryptEncodedReusable() {
+        return lazySodium.encryptEncoded(message, 0, size, null, nPub, key, method, encoded, 0);
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.interfaces.Auth;
+import com.globaltravelrule.sodium.utils.Key;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class AuthBenchmark extends SodiumBenchmark {
+
+    @Param({"SHA256", "SHA512", "SHA512256"})
+    public Auth.Type type;
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216"})
+    public int size;
+
+    private Key key;
+    private byte[] message;
+    private byte[] out;
+    private String text;
+    private String tag;
+
+    @Setup
+    public void setup() {
+        key = lazySodium.cryptoAuthHMACShaKeygen(type);
+        message = payload(size);
+        out = new byte[Auth.HMACSHA512_BYTES];
+        text = text(size);
+        tag = lazySodium.cryptoAuthHMACSha(type, text, key);
+    }
+
+    @Benchmark
+    public boolean hmac() {
+        byte[] k = key.getAsBytes();
+        switch (type) {
+            case SHA256:
+                return lazySodium.cryptoAuthHMACSha256(out, message, size, k);
+            case SHA512:
+                return lazySodium.cryptoAuthHMACSha512(out, message, size, k);
+            default:
+                return lazySodium.cryptoAuthHMACSha512256(out, message, size, k);
+        }
+    }
+
+    @Benchmark
+    public String hmacLazy() {
+        return lazySodium.cryptoAuthHMACSha(type, text, key);
+    }
+
+    @Benchmark
+    public boolean verifyLazy() {
+        return lazySodium.cryptoAuthHMACShaVerify(type, tag, text, key);
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.Box;
+import com.globaltravelrule.sodium.utils.BoxSharedKeyCache;
+import com.globaltravelrule.sodium.utils.KeyPair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+public class BoxBenchmark extends SodiumBenchmark {
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216"})
+    public int size;
+
+    private KeyPair keyPair;
+    private byte[] publicKey;
+    private byte[] secretKey;
+    private byte[] sharedKey;
+    private byte[] nonce;
+    private byte[] message;
+    private byte[] cipher;
+    private byte[] sealed;
+    private byte[] decrypted;
+    private String text;
+    private String cipherText;
+    private String sealedText;
+    private BoxSharedKeyCache cache;
+
+    @Setup
+    public void setup() throws SodiumException {
+        keyPair = lazySodium.cryptoBoxKeypair();
+        publicKey = keyPair.getPublicKey().getAsBytes();
+        secretKey = keyPair.getSecretKey().getAsBytes();
+        sharedKey = new byte[Box.BEFORENMBYTES];
+        lazySodium.cryptoBoxBeforeNm(sharedKey, publicKey, secretKey);
+        nonce = lazySodium.nonce(Box.NONCEBYTES);
+        message = payload(size);
+        cipher = new byte[size + Box.MACBYTES];
+        sealed = new byte[size + Box.SEALBYTES];
+        decrypted = new byte[size];
+        easy();
+        seal();
+        text = text(size);
+        cipherText = lazySodium.cryptoBoxEasy(text, nonce, keyPair);
+        sealedText = lazySodium.cryptoBoxSealEasy(text, keyPair.getPublicKey());
+        cache = new BoxSharedKeyCache(lazySodium, 1024, 1, TimeUnit.HOURS);
+    }
+
+    @Benchmark
+    public boolean easy() {
+        return lazySodium.cryptoBoxEasy(cipher, message, size, nonce, publicKey, secretKey);
+    }
+
+    @Benchmark
+    public boolean openEasy() {
+        return lazySodium.cryptoBoxOpenEasy(decrypted, cipher, cipher.length, nonce, publicKey, secretKey);
+    }
+
+    @Benchmark
+    public boolean easyAfterNm() {
+        return lazySodium.cryptoBoxEasyAfterNm(cipher, message, size, nonce, sharedKey);
+    }
+
+    @Benchmark
+    public boolean easyCached() {
+        return cache.cryptoBoxEasy(cipher, message, size, nonce, publicKey, secretKey);
+    }
+
+    @Benchmark
+    public boolean seal() {
+        return lazySodium.cryptoBoxSeal(sealed, message, size, publicKey);
+    }
+
+    @Benchmark
+    public boolean sealOpen() {
+        return lazySodium.cryptoBoxSealOpen(decrypted, sealed, sealed.length, publicKey, secretKey);
+    }
+
+    @Benchmark
+    public String easyLazy() throws SodiumException {
+        return lazySodium.cryptoBoxEasy(text, nonce, keyPair);
+    }
+
+    @Benchmark
+    public String openEasyLazy() throws SodiumException {
+        return lazySodium.cryptoBoxOpenEasy(cipherText, nonce, keyPair);
+    }
+
+    @Benchmark
+    public String sealLazy() throws SodiumException {
+        return lazySodium.cryptoBoxSealEasy(text, keyPair.getPublicKey());
+    }
+
+    @Benchmark
+    public String sealOpenLazy() throws SodiumException {
+        return lazySodium.cryptoBoxSealOpenEasy(sealedText, keyPair);
+    }
+
+}
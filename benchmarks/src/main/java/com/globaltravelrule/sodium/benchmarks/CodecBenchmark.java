@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.utils.Base64Codec;
+import com.globaltravelrule.sodium.utils.HexCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Compares the table driven codecs with libsodium's {@code sodium_bin2hex},
+ * {@code sodium_hex2bin} and {@code sodium_bin2base64}, with
+ * {@link java.util.Base64} and with the character loop {@code LazySodium}
+ * used for hex before the codecs existed.
+ */
+@State(Scope.Thread)
+public class CodecBenchmark extends SodiumBenchmark {
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    @Param({"16", "256", "4096", "65536"})
+    public int size;
+
+    private byte[] message;
+    private byte[] hex;
+    private byte[] hexOut;
+    private String hexText;
+    private byte[] base64;
+    private byte[] base64Out;
+    private byte[] decoded;
+    private ByteBuffer messageBuffer;
+    private CharBuffer charOut;
+
+    @Setup
+    public void setup() {
+        message = payload(size);
+        hexText = HexCodec.LOWER_CASE.encodeToString(message);
+        hex = hexText.getBytes(StandardCharsets.US_ASCII);
+        // sodium_bin2hex and sodium_bin2base64 write a terminating NUL.
+        hexOut = new byte[size * 2 + 1];
+        base64 = Base64Codec.ORIGINAL.encodeToString(message).getBytes(StandardCharsets.US_ASCII);
+        base64Out = new byte[base64.length + 1];
+        decoded = new byte[size];
+        messageBuffer = ByteBuffer.allocateDirect(size);
+        messageBuffer.put(message).flip();
+        charOut = CharBuffer.allocate(size * 2);
+    }
+
+    @Benchmark
+    public String hexSodium() {
+        return lazySodium.getSodium().sodium_bin2hex(hexOut, hexOut.length, message, size);
+    }
+
+    @Benchmark
+    public int hexCodec() {
+        return HexCodec.LOWER_CASE.encode(message, 0, size, hexOut, 0);
+    }
+
+    @Benchmark
+    public String hexCodecString() {
+        return HexCodec.UPPER_CASE.encodeToString(message);
+    }
+
+    @Benchmark
+    public String hexCharLoopString() {
+        char[] hexChars = new char[message.length * 2];
+        for (int j = 0; j < message.length; j++) {
+            int v = message[j] & 0xFF;
+            hexChars[j * 2] = HEX_DIGITS[v >>> 4];
+            hexChars[j * 2 + 1] = HEX_DIGITS[v & 0x0F];
+        }
+        return new String(hexChars);
+    }
+
+    @Benchmark
+    public int hexCodecDirectBuffer() {
+        messageBuffer.rewind();
+        charOut.clear();
+        return HexCodec.UPPER_CASE.encode(messageBuffer, charOut);
+    }
+
+    @Benchmark
+    public int hexDecodeSodium() {
+        return lazySodium.getSodium().sodium_hex2bin(decoded, size, hex, hex.length, null, null, null);
+    }
+
+    @Benchmark
+    public int hexDecodeCodec() {
+        return HexCodec.LOWER_CASE.decode(hex, 0, hex.length, decoded, 0);
+    }
+
+    @Benchmark
+    public byte[] hexDecodeCharLoop() {
+        int len = hexText.length();
+        byte[] data = new byte[len / 2];
+        for (int i = 0; i < len; i += 2) {
+            data[i / 2] = (byte) ((Character.digit(hexText.charAt(i), 16) << 4)
+                    + Character.digit(hexText.charAt(i + 1), 16));
+        }
+        return data;
+    }
+
+    @Benchmark
+    public String base64Sodium() {
+        return lazySodium.getSodium().sodium_bin2base64(base64Out, base64Out.length, message, size,
+                Base64Codec.ORIGINAL.getVariant());
+    }
+
+    @Benchmark
+    public int base64Java() {
+        return Base64.getEncoder().encode(message, base64Out);
+    }
+
+    @Benchmark
+    public int base64Codec() {
+        return Base64Codec.ORIGINAL.encode(message, 0, size, base64Out, 0);
+    }
+
+    @Benchmark
+    public int base64DecodeJava() {
+        return Base64.getDecoder().decode(base64, decoded);
+    }
+
+    @Benchmark
+    public int base64DecodeCodec() {
+        return Base64Codec.ORIGINAL.decode(base64, 0, base64.length, decoded, 0);
+    }
+
+}
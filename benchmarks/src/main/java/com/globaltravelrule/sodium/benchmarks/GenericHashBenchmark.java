@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.GenericHash;
+import com.globaltravelrule.sodium.utils.GenericHashState;
+import com.globaltravelrule.sodium.utils.GenericHashTree;
+import com.globaltravelrule.sodium.utils.Key;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+
+@State(Scope.Thread)
+public class GenericHashBenchmark extends SodiumBenchmark {
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216"})
+    public int size;
+
+    /**
+     * Update size for the incremental benchmarks.
+     */
+    private static final int UPDATE = 4096;
+
+    private Key key;
+    private byte[] message;
+    private ByteBuffer directMessage;
+    private byte[] state;
+    private GenericHashTree tree;
+    private byte[] out;
+    private String text;
+
+    @Setup
+    public void setup() {
+        key = lazySodium.cryptoGenericHashKeygen();
+        message = payload(size);
+        out = new byte[GenericHash.BYTES];
+        text = text(size);
+        directMessage = ByteBuffer.allocateDirect(size);
+        directMessage.put(message);
+        ((Buffer) directMessage).flip();
+        state = new byte[lazySodium.cryptoGenericHashStateBytes()];
+        tree = new GenericHashTree(lazySodium, 256 * 1024, GenericHash.BYTES, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public boolean hash() {
+        return lazySodium.cryptoGenericHash(out, out.length, message, size);
+    }
+
+    @Benchmark
+    public boolean hashKeyed() {
+        byte[] k = key.getAsBytes();
+        return lazySodium.cryptoGenericHash(out, out.length, message, size, k, k.length);
+    }
+
+    @Benchmark
+    public String hashLazy() throws SodiumException {
+        return lazySodium.cryptoGenericHash(text);
+    }
+
+    @Benchmark
+    public String hashKeyedLazy() throws SodiumException {
+        return lazySodium.cryptoGenericHash(text, key);
+    }
+
+    @Benchmark
+    public boolean incrementalByteArrayState() {
+        lazySodium.cryptoGenericHashInit(state, out.length);
+        for (int off = 0; off < size; off += UPDATE) {
+            lazySodium.cryptoGenericHashUpdate(state, message, off, Math.min(UPDATE, size - off));
+        }
+        return lazySodium.cryptoGenericHashFinal(state, out, out.length);
+    }
+
+    @Benchmark
+    public byte[] incrementalNativeState() {
+        try (GenericHashState hash = new GenericHashState(lazySodium, out.length)) {
+            ByteBuffer in = directMessage.duplicate();
+            for (int off = 0; off < size; off += UPDATE) {
+                ((Buffer) in).limit(Math.min(off + UPDATE, size));
+                hash.update(in);
+            }
+            return hash.finish();
+        }
+    }
+
+    @Benchmark
+    public byte[] tree() {
+        return tree.hash(directMessage.duplicate()).getRoot();
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.Hash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class HashBenchmark extends SodiumBenchmark {
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216"})
+    public int size;
+
+    private byte[] message;
+    private byte[] out;
+    private String text;
+
+    @Setup
+    public void setup() {
+        message = payload(size);
+        out = new byte[Hash.SHA512_BYTES];
+        text = text(size);
+    }
+
+    @Benchmark
+    public boolean sha256() {
+        return lazySodium.cryptoHashSha256(out, message, size);
+    }
+
+    @Benchmark
+    public boolean sha512() {
+        return lazySodium.cryptoHashSha512(out, message, size);
+    }
+
+    @Benchmark
+    public String sha256Lazy() throws SodiumException {
+        return lazySodium.cryptoHashSha256(text);
+    }
+
+    @Benchmark
+    public String sha512Lazy() throws SodiumException {
+        return lazySodium.cryptoHashSha512(text);
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.KeyDerivation;
+import com.globaltravelrule.sodium.utils.Key;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+
+@State(Scope.Thread)
+public class KdfBenchmark extends SodiumBenchmark {
+
+    private static final String CONTEXT = "benchctx";
+
+    private Key masterKey;
+    private byte[] masterKeyBytes;
+    private byte[] context;
+    private byte[] subKey;
+    private long subKeyId;
+
+    @Setup
+    public void setup() {
+        masterKey = lazySodium.cryptoKdfKeygen();
+        masterKeyBytes = masterKey.getAsBytes();
+        context = CONTEXT.getBytes(StandardCharsets.UTF_8);
+        subKey = new byte[KeyDerivation.BYTES_MAX];
+    }
+
+    @Benchmark
+    public int derive() {
+        return lazySodium.cryptoKdfDeriveFromKey(subKey, subKey.length, subKeyId++, context, masterKeyBytes);
+    }
+
+    @Benchmark
+    public Key deriveLazy() throws SodiumException {
+        return lazySodium.cryptoKdfDeriveFromKey(KeyDerivation.BYTES_MAX, subKeyId++, CONTEXT, masterKey);
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.interfaces.AEAD;
+import com.globaltravelrule.sodium.utils.NonceGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Nonce creation through {@code randombytes_buf} against {@link NonceGenerator}.
+ */
+@State(Scope.Benchmark)
+public class NonceBenchmark extends SodiumBenchmark {
+
+    private NonceGenerator counter;
+    private NonceGenerator random;
+
+    @Setup
+    public void setup() {
+        counter = NonceGenerator.counter(lazySodium, AEAD.Method.CHACHA20_POLY1305_IETF);
+        random = NonceGenerator.random(lazySodium, AEAD.Method.XCHACHA20_POLY1305_IETF);
+    }
+
+    @Benchmark
+    public byte[] randomBytes() {
+        return lazySodium.nonce(AEAD.XCHACHA20POLY1305_IETF_NPUBBYTES);
+    }
+
+    @Benchmark
+    public byte[] counterGenerator() {
+        return counter.next();
+    }
+
+    @Benchmark
+    public byte[] randomGenerator() {
+        return random.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] counterGeneratorContended() {
+        return counter.next();
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.PwHash;
+import com.sun.jna.NativeLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PwHashBenchmark extends SodiumBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"INTERACTIVE", "MODERATE"})
+    public String limits;
+
+    private long opsLimit;
+    private NativeLong memLimit;
+    private byte[] password;
+    private byte[] salt;
+    private byte[] hash;
+    private String hashStr;
+
+    @Setup
+    public void setup() throws SodiumException {
+        boolean interactive = "INTERACTIVE".equals(limits);
+        opsLimit = interactive ? PwHash.OPSLIMIT_INTERACTIVE : PwHash.OPSLIMIT_MODERATE;
+        memLimit = interactive ? PwHash.MEMLIMIT_INTERACTIVE : PwHash.MEMLIMIT_MODERATE;
+        password = PASSWORD.getBytes(StandardCharsets.UTF_8);
+        salt = lazySodium.randomBytesBuf(PwHash.SALTBYTES);
+        hash = new byte[PwHash.BYTES_MIN * 2];
+        hashStr = lazySodium.cryptoPwHashStr(PASSWORD, opsLimit, memLimit);
+    }
+
+    @Benchmark
+    public boolean hash() {
+        return lazySodium.cryptoPwHash(hash, hash.length, password, password.length, salt,
+                opsLimit, memLimit, PwHash.Alg.PWHASH_ALG_ARGON2ID13);
+    }
+
+    @Benchmark
+    public String hashStrLazy() throws SodiumException {
+        return lazySodium.cryptoPwHashStr(PASSWORD, opsLimit, memLimit);
+    }
+
+    @Benchmark
+    public boolean verifyLazy() {
+        return lazySodium.cryptoPwHashStrVerify(hashStr, PASSWORD);
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.utils.BufferedRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.SecureRandom;
+
+/**
+ * Small random requests straight from {@code randombytes_buf} against {@link BufferedRandom}.
+ */
+@State(Scope.Benchmark)
+public class RandomBenchmark extends SodiumBenchmark {
+
+    @Param({"12", "32"})
+    public int size;
+
+    private BufferedRandom buffered;
+    private SecureRandom secureRandom;
+
+    @Setup
+    public void setup() {
+        buffered = new BufferedRandom(lazySodium);
+        secureRandom = buffered.asSecureRandom();
+    }
+
+    @Benchmark
+    public byte[] randomBytesBuf() {
+        return lazySodium.randomBytesBuf(size);
+    }
+
+    @Benchmark
+    public byte[] bufferedRandom() {
+        return buffered.randomBytesBuf(size);
+    }
+
+    @Benchmark
+    public byte[] secureRandom() {
+        byte[] bytes = new byte[size];
+        secureRandom.nextBytes(bytes);
+        return bytes;
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.Ristretto255;
+import com.globaltravelrule.sodium.interfaces.Ristretto255.RistrettoPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.BitSet;
+
+/**
+ * Ristretto255 point operations over many elements, one native call per
+ * element on {@code byte[]} arguments versus the packed batch API, and a
+ * multi-scalar product through {@link RistrettoPoint} objects versus
+ * {@code cryptoScalarmultRistretto255Multi}. Scores are per element.
+ */
+@State(Scope.Thread)
+public class Ristretto255BatchBenchmark extends SodiumBenchmark {
+
+    private static final int POINTS = 256;
+
+    private byte[] points;
+    private byte[] others;
+    private byte[] scalars;
+    private byte[] hashes;
+    private byte[] results;
+    private RistrettoPoint[] pointObjects;
+
+    @Setup
+    public void setup() {
+        points = new byte[POINTS * Ristretto255.RISTRETTO255_BYTES];
+        others = new byte[POINTS * Ristretto255.RISTRETTO255_BYTES];
+        scalars = new byte[POINTS * Ristretto255.RISTRETTO255_SCALAR_BYTES];
+        hashes = payload(POINTS * Ristretto255.RISTRETTO255_HASH_BYTES);
+        results = new byte[POINTS * Ristretto255.RISTRETTO255_BYTES];
+        pointObjects = new RistrettoPoint[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            pointObjects[i] = lazySodium.cryptoCoreRistretto255Random();
+            System.arraycopy(pointObjects[i].toBytes(), 0, points, i * Ristretto255.RISTRETTO255_BYTES, Ristretto255.RISTRETTO255_BYTES);
+            System.arraycopy(lazySodium.cryptoCoreRistretto255Random().toBytes(), 0,
+                             others, i * Ristretto255.RISTRETTO255_BYTES, Ristretto255.RISTRETTO255_BYTES);
+            System.arraycopy(Ristretto255.scalarToBytes(lazySodium.cryptoCoreRistretto255ScalarRandom()), 0,
+                             scalars, i * Ristretto255.RISTRETTO255_SCALAR_BYTES, Ristretto255.RISTRETTO255_SCALAR_BYTES);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public byte[] scalarmultLoop() {
+        byte[] point = new byte[Ristretto255.RISTRETTO255_BYTES];
+        byte[] scalar = new byte[Ristretto255.RISTRETTO255_SCALAR_BYTES];
+        byte[] result = new byte[Ristretto255.RISTRETTO255_BYTES];
+        for (int i = 0; i < POINTS; i++) {
+            System.arraycopy(points, i * Ristretto255.RISTRETTO255_BYTES, point, 0, Ristretto255.RISTRETTO255_BYTES);
+            System.arraycopy(scalars, i * Ristretto255.RISTRETTO255_SCALAR_BYTES, scalar, 0, Ristretto255.RISTRETTO255_SCALAR_BYTES);
+            lazySodium.cryptoScalarmultRistretto255(result, scalar, point);
+            System.arraycopy(result, 0, results, i * Ristretto255.RISTRETTO255_BYTES, Ristretto255.RISTRETTO255_BYTES);
+        }
+        return results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public BitSet scalarmultMany() {
+        return lazySodium.cryptoScalarmultRistretto255Many(results, scalars, points, POINTS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public byte[] addLoop() {
+        byte[] p = new byte[Ristretto255.RISTRETTO255_BYTES];
+        byte[] q = new byte[Ristretto255.RISTRETTO255_BYTES];
+        byte[] result = new byte[Ristretto255.RISTRETTO255_BYTES];
+        for (int i = 0; i < POINTS; i++) {
+            System.arraycopy(points, i * Ristretto255.RISTRETTO255_BYTES, p, 0, Ristretto255.RISTRETTO255_BYTES);
+            System.arraycopy(others, i * Ristretto255.RISTRETTO255_BYTES, q, 0, Ristretto255.RISTRETTO255_BYTES);
+            lazySodium.cryptoCoreRistretto255Add(result, p, q);
+            System.arraycopy(result, 0, results, i * Ristretto255.RISTRETTO255_BYTES, Ristretto255.RISTRETTO255_BYTES);
+        }
+        return results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public BitSet addMany() {
+        return lazySodium.cryptoCoreRistretto255AddMany(results, points, others, POINTS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public BitSet fromHashMany() {
+        return lazySodium.cryptoCoreRistretto255FromHashMany(results, hashes, POINTS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public RistrettoPoint multiScalarLazy() throws SodiumException {
+        byte[] scalar = new byte[Ristretto255.RISTRETTO255_SCALAR_BYTES];
+        RistrettoPoint sum = RistrettoPoint.zero(lazySodium);
+        for (int i = 0; i < POINTS; i++) {
+            System.arraycopy(scalars, i * Ristretto255.RISTRETTO255_SCALAR_BYTES, scalar, 0, Ristretto255.RISTRETTO255_SCALAR_BYTES);
+            sum = sum.plus(lazySodium.cryptoScalarmultRistretto255(scalar, pointObjects[i]));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public RistrettoPoint multiScalar() throws SodiumException {
+        return lazySodium.cryptoScalarmultRistretto255Multi(scalars, points, POINTS);
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.Ristretto255;
+import com.globaltravelrule.sodium.interfaces.Ristretto255.RistrettoPoint;
+import com.globaltravelrule.sodium.interfaces.Ristretto255.RistrettoScalar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigInteger;
+
+@State(Scope.Thread)
+public class Ristretto255Benchmark extends SodiumBenchmark {
+
+    private byte[] scalar;
+    private byte[] point;
+    private byte[] other;
+    private byte[] hash;
+    private byte[] result;
+    private BigInteger scalarValue;
+    private BigInteger otherScalarValue;
+    private RistrettoScalar x;
+    private RistrettoScalar y;
+    private RistrettoScalar acc;
+    private RistrettoPoint p;
+    private RistrettoPoint q;
+
+    @Setup
+    public void setup() {
+        scalar = new byte[Ristretto255.RISTRETTO255_SCALAR_BYTES];
+        lazySodium.cryptoCoreRistretto255ScalarRandom(scalar);
+        point = new byte[Ristretto255.RISTRETTO255_BYTES];
+        other = new byte[Ristretto255.RISTRETTO255_BYTES];
+        lazySodium.cryptoCoreRistretto255Random(point);
+        lazySodium.cryptoCoreRistretto255Random(other);
+        hash = payload(Ristretto255.RISTRETTO255_HASH_BYTES);
+        result = new byte[Ristretto255.RISTRETTO255_BYTES];
+        scalarValue = lazySodium.cryptoCoreRistretto255ScalarRandom();
+        otherScalarValue = lazySodium.cryptoCoreRistretto255ScalarRandom();
+        x = RistrettoScalar.fromBigInteger(lazySodium, scalarValue);
+        y = RistrettoScalar.fromBigInteger(lazySodium, otherScalarValue);
+        acc = x.copy();
+        p = lazySodium.cryptoCoreRistretto255Random();
+        q = lazySodium.cryptoCoreRistretto255Random();
+    }
+
+    @Benchmark
+    public boolean isValidPoint() {
+        return lazySodium.cryptoCoreRistretto255IsValidPoint(point);
+    }
+
+    @Benchmark
+    public boolean fromHash() {
+        return lazySodium.cryptoCoreRistretto255FromHash(result, hash);
+    }
+
+    @Benchmark
+    public boolean add() {
+        return lazySodium.cryptoCoreRistretto255Add(result, point, other);
+    }
+
+    @Benchmark
+    public boolean scalarmult() {
+        return lazySodium.cryptoScalarmultRistretto255(result, scalar, point);
+    }
+
+    @Benchmark
+    public boolean scalarmultBase() {
+        return lazySodium.cryptoScalarmultRistretto255Base(result, scalar);
+    }
+
+    @Benchmark
+    public RistrettoPoint addLazy() throws SodiumException {
+        return lazySodium.cryptoCoreRistretto255Add(p, q);
+    }
+
+    @Benchmark
+    public RistrettoPoint scalarmultLazy() throws SodiumException {
+        return lazySodium.cryptoScalarmultRistretto255(scalarValue, p);
+    }
+
+    @Benchmark
+    public RistrettoPoint scalarmultBaseLazy() throws SodiumException {
+        return lazySodium.cryptoScalarmultRistretto255Base(scalarValue);
+    }
+
+    /**
+     * (x + y) * y - x through the {@link BigInteger} API.
+     */
+    @Benchmark
+    public BigInteger scalarChainBigInteger() {
+        BigInteger sum = lazySodium.cryptoCoreRistretto255ScalarAdd(scalarValue, otherScalarValue);
+        BigInteger product = lazySodium.cryptoCoreRistretto255ScalarMul(sum, otherScalarValue);
+        return lazySodium.cryptoCoreRistretto255ScalarSub(product, scalarValue);
+    }
+
+    /**
+     * (x + y) * y - x in place on a {@link RistrettoScalar}.
+     */
+    @Benchmark
+    public RistrettoScalar scalarChainInPlace() {
+        return acc.set(x).add(y).mul(y).sub(x);
+    }
+
+}
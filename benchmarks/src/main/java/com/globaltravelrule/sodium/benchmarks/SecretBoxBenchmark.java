@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.SecretBox;
+import com.globaltravelrule.sodium.utils.Key;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class SecretBoxBenchmark extends SodiumBenchmark {
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216"})
+    public int size;
+
+    private Key key;
+    private byte[] nonce;
+    private byte[] message;
+    private byte[] cipher;
+    private byte[] decrypted;
+    private String text;
+    private String cipherText;
+
+    @Setup
+    public void setup() throws SodiumException {
+        key = lazySodium.cryptoSecretBoxKeygen();
+        nonce = lazySodium.nonce(SecretBox.NONCEBYTES);
+        message = payload(size);
+        cipher = new byte[size + SecretBox.MACBYTES];
+        decrypted = new byte[size];
+        easy();
+        text = text(size);
+        cipherText = lazySodium.cryptoSecretBoxEasy(text, nonce, key);
+    }
+
+    @Benchmark
+    public boolean easy() {
+        return lazySodium.cryptoSecretBoxEasy(cipher, message, size, nonce, key.getAsBytes());
+    }
+
+    @Benchmark
+    public boolean openEasy() {
+        return lazySodium.cryptoSecretBoxOpenEasy(decrypted, cipher, cipher.length, nonce, key.getAsBytes());
+    }
+
+    @Benchmark
+    public String easyLazy() throws SodiumException {
+        return lazySodium.cryptoSecretBoxEasy(text, nonce, key);
+    }
+
+    @Benchmark
+    public String openEasyLazy() throws SodiumException {
+        return lazySodium.cryptoSecretBoxOpenEasy(cipherText, nonce, key);
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.SecretStream;
+import com.globaltravelrule.sodium.secretstream.SecretStreamFileCipher;
+import com.globaltravelrule.sodium.secretstream.SecretStreamInputStream;
+import com.globaltravelrule.sodium.secretstream.SecretStreamOutputStream;
+import com.globaltravelrule.sodium.utils.Key;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link SecretStreamFileCipher}, which maps the source and pushes
+ * chunks straight from the mapping, with reading the file onto the heap and
+ * pushing {@code byte[]} chunks one at a time, and with piping the file
+ * through {@link SecretStreamOutputStream} and {@link SecretStreamInputStream}.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SecretStreamFileBenchmark extends SodiumBenchmark {
+
+    @Param({"1048576", "16777216"})
+    public int size;
+
+    @Param({"65536"})
+    public int chunkSize;
+
+    private Key key;
+    private Path directory;
+    private Path plain;
+    private Path encrypted;
+    private Path decrypted;
+    private SecretStreamFileCipher cipher;
+
+    @Setup
+    public void setup() throws IOException, SodiumException {
+        key = lazySodium.cryptoSecretStreamKeygen();
+        directory = Files.createTempDirectory("secretstream-bench");
+        plain = Files.write(directory.resolve("plain"), payload(size));
+        encrypted = directory.resolve("encrypted");
+        decrypted = directory.resolve("decrypted");
+        cipher = new SecretStreamFileCipher(lazySodium, chunkSize);
+        cipher.encrypt(plain, encrypted, key);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(plain);
+        Files.deleteIfExists(encrypted);
+        Files.deleteIfExists(decrypted);
+        Files.deleteIfExists(directory.resolve("heap"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public long encryptFile() throws IOException, SodiumException {
+        return cipher.encrypt(plain, directory.resolve("heap"), key);
+    }
+
+    @Benchmark
+    public long decryptFile() throws IOException, SodiumException {
+        return cipher.decrypt(encrypted, decrypted, key);
+    }
+
+    @Benchmark
+    public long encryptStream() throws IOException {
+        try (InputStream in = Files.newInputStream(plain);
+             OutputStream out = new SecretStreamOutputStream(lazySodium, Files.newOutputStream(directory.resolve("heap")),
+                     key, chunkSize, null)) {
+            return copy(in, out);
+        }
+    }
+
+    @Benchmark
+    public long decryptStream() throws IOException {
+        try (InputStream in = new SecretStreamInputStream(lazySodium, Files.newInputStream(encrypted), key);
+             OutputStream out = Files.newOutputStream(decrypted)) {
+            return copy(in, out);
+        }
+    }
+
+    @Benchmark
+    public long encryptHeapChunks() throws IOException, SodiumException {
+        byte[] data = Files.readAllBytes(plain);
+        byte[] header = new byte[SecretStream.HEADERBYTES];
+        SecretStream.State state = lazySodium.cryptoSecretStreamInitPush(header, key);
+        byte[] chunk = new byte[chunkSize];
+        byte[] out = new byte[chunkSize + SecretStream.ABYTES];
+        try (OutputStream os = Files.newOutputStream(directory.resolve("heap"))) {
+            os.write(header);
+            int pos = 0;
+            do {
+                int n = Math.min(chunkSize, data.length - pos);
+                System.arraycopy(data, pos, chunk, 0, n);
+                pos += n;
+                byte tag = pos == data.length ? SecretStream.TAG_FINAL : SecretStream.TAG_MESSAGE;
+                lazySodium.cryptoSecretStreamPush(state, out, chunk, n, tag);
+                os.write(out, 0, n + SecretStream.ABYTES);
+            } while (pos < data.length);
+        }
+        return data.length;
+    }
+
+    private static long copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        int n;
+        while ((n = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, n);
+            total += n;
+        }
+        return total;
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.interfaces.Sign;
+import com.globaltravelrule.sodium.utils.KeyPair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Verifying many detached signatures, one by one on the calling thread
+ * versus the batch API on the common pool. Scores are per signature.
+ */
+@State(Scope.Thread)
+public class SignBatchBenchmark extends SodiumBenchmark {
+
+    private static final int SIGNATURES = 1024;
+
+    private byte[][] signatures;
+    private byte[][] messages;
+    private byte[][] publicKeys;
+
+    @Setup
+    public void setup() throws Exception {
+        signatures = new byte[SIGNATURES][Sign.BYTES];
+        messages = new byte[SIGNATURES][];
+        publicKeys = new byte[SIGNATURES][];
+        for (int i = 0; i < SIGNATURES; i++) {
+            KeyPair keyPair = lazySodium.cryptoSignKeypair();
+            messages[i] = payload(256 + i);
+            publicKeys[i] = keyPair.getPublicKey().getAsBytes();
+            lazySodium.cryptoSignDetached(signatures[i], messages[i], messages[i].length, keyPair.getSecretKey().getAsBytes());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIGNATURES)
+    public int sequential() {
+        int valid = 0;
+        for (int i = 0; i < SIGNATURES; i++) {
+            if (lazySodium.cryptoSignVerifyDetached(signatures[i], messages[i], messages[i].length, publicKeys[i])) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIGNATURES)
+    public boolean[] batch() {
+        return lazySodium.cryptoSignVerifyDetachedBatch(signatures, messages, publicKeys);
+    }
+
+}
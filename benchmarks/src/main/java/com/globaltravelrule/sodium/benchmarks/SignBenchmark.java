@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.Sign;
+import com.globaltravelrule.sodium.utils.KeyPair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class SignBenchmark extends SodiumBenchmark {
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216"})
+    public int size;
+
+    private KeyPair keyPair;
+    private byte[] publicKey;
+    private byte[] secretKey;
+    private byte[] message;
+    private byte[] signature;
+    private String text;
+    private String signatureText;
+
+    @Setup
+    public void setup() throws SodiumException {
+        keyPair = lazySodium.cryptoSignKeypair();
+        publicKey = keyPair.getPublicKey().getAsBytes();
+        secretKey = keyPair.getSecretKey().getAsBytes();
+        message = payload(size);
+        signature = new byte[Sign.BYTES];
+        signDetached();
+        text = text(size);
+        signatureText = lazySodium.cryptoSignDetached(text, keyPair.getSecretKey());
+    }
+
+    @Benchmark
+    public boolean signDetached() {
+        return lazySodium.cryptoSignDetached(signature, message, size, secretKey);
+    }
+
+    @Benchmark
+    public boolean verifyDetached() {
+        return lazySodium.cryptoSignVerifyDetached(signature, message, size, publicKey);
+    }
+
+    @Benchmark
+    public String signDetachedLazy() throws SodiumException {
+        return lazySodium.cryptoSignDetached(text, keyPair.getSecretKey());
+    }
+
+    @Benchmark
+    public boolean verifyDetachedLazy() {
+        return lazySodium.cryptoSignVerifyDetached(signatureText, text, keyPair.getPublicKey());
+    }
+
+}
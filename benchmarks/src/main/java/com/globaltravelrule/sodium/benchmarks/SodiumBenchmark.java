@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.benchmarks;
+
+import com.globaltravelrule.sodium.LazySodiumJava;
+import com.globaltravelrule.sodium.SodiumJava;
+import com.globaltravelrule.sodium.utils.LibraryLoader;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Common settings for every benchmark in this module. All benchmarks use
+ * the bundled native library so that results follow the libsodium version
+ * shipped with the jar rather than whatever happens to be installed.
+ * <p>
+ * Payload sizes are declared per benchmark with {@code @Param} and span
+ * 16 B to 16 MB. Run with {@code -rf json} to get machine-readable results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class SodiumBenchmark {
+
+    protected static final LazySodiumJava lazySodium =
+            new LazySodiumJava(new SodiumJava(LibraryLoader.Mode.BUNDLED_ONLY));
+
+    /**
+     * @param size Number of bytes.
+     * @return Deterministic pseudo random bytes.
+     */
+    protected static byte[] payload(int size) {
+        byte[] bytes = new byte[size];
+        SplittableRandom random = new SplittableRandom(size);
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) random.nextInt(256);
+        }
+        return bytes;
+    }
+
+    /**
+     * @param size Number of characters.
+     * @return An ASCII string that encodes to exactly {@code size} bytes in UTF-8.
+     */
+    protected static String text(int size) {
+        char[] chars = new char[size];
+        SplittableRandom random = new SplittableRandom(size);
+        for (int i = 0; i < size; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.AEAD;
+import com.globaltravelrule.sodium.interfaces.PwHash;
+import com.globaltravelrule.sodium.interfaces.Sign;
+import com.globaltravelrule.sodium.utils.Key;
+import com.sun.jna.NativeLong;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * {@link CompletableFuture} versions of the CPU heavy {@link LazySodiumJava}
+ * operations, for callers that must not block, such as event loops.
+ * <p>
+ * Work runs on the executor given at construction, the common fork/join pool
+ * by default. On JDK 21 and later {@link #virtualThreadExecutor()} gives a
+ * virtual thread per task; note that a thread inside a native call stays
+ * pinned to its carrier, so virtual threads add concurrency of waiting, not
+ * of hashing.
+ * <p>
+ * Buffer ownership: every {@code byte[]} argument is copied before this
+ * method returns, so the caller may reuse or wipe its arrays at once, and
+ * results are always written to fresh arrays handed over through the future.
+ * The copies of passwords and keys are wiped when the task ends.
+ * <p>
+ * Cancellation: cancelling a future before its task starts skips the native
+ * call. Once started, a native call cannot be interrupted; it runs to the
+ * end and its result is discarded.
+ */
+public class AsyncLazySodium {
+
+    private final LazySodiumJava lazySodium;
+    private final Executor executor;
+
+    public AsyncLazySodium(LazySodiumJava lazySodium) {
+        this(lazySodium, ForkJoinPool.commonPool());
+    }
+
+    public AsyncLazySodium(LazySodiumJava lazySodium, Executor executor) {
+        this.lazySodium = lazySodium;
+        this.executor = executor;
+    }
+
+    /**
+     * @return An executor starting a virtual thread per task.
+     * @throws UnsupportedOperationException Before JDK 21.
+     */
+    public static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads need JDK 21 or later.", e);
+        }
+    }
+
+    public LazySodiumJava getLazySodium() {
+        return lazySodium;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    // Password hashing
+
+    /**
+     * @see PwHash.Native#cryptoPwHash(byte[], int, byte[], int, byte[], long, NativeLong, PwHash.Alg)
+     */
+    public CompletableFuture<byte[]> cryptoPwHash(int outputHashLen, byte[] password, byte[] salt,
+                                                  long opsLimit, NativeLong memLimit, PwHash.Alg alg) {
+        byte[] pw = password.clone();
+        byte[] s = salt.clone();
+        return submit(() -> {
+            byte[] out = new byte[outputHashLen];
+            if (!lazySodium.cryptoPwHash(out, outputHashLen, pw, pw.length, s, opsLimit, memLimit, alg)) {
+                throw new SodiumException("Password hashing failed.");
+            }
+            return out;
+        }, pw);
+    }
+
+    /**
+     * @see PwHash.Lazy#cryptoPwHashStr(String, long, NativeLong)
+     */
+    public CompletableFuture<String> cryptoPwHashStr(String password, long opsLimit, NativeLong memLimit) {
+        return submit(() -> lazySodium.cryptoPwHashStr(password, opsLimit, memLimit));
+    }
+
+    /**
+     * @see PwHash.Lazy#cryptoPwHashStrVerify(String, String)
+     */
+    public CompletableFuture<Boolean> cryptoPwHashStrVerify(String hash, String password) {
+        return submit(() -> lazySodium.cryptoPwHashStrVerify(hash, password));
+    }
+
+    /**
+     * @see LazySodiumJava#cryptoPwHashScryptSalsa208Sha256(byte[], long, byte[], long, byte[], long, long)
+     */
+    public CompletableFuture<byte[]> cryptoPwHashScryptSalsa208Sha256(int outLen, byte[] password, byte[] salt,
+                                                                      long opsLimit, long memLimit) {
+        byte[] pw = password.clone();
+        byte[] s = salt.clone();
+        return submit(() -> {
+            byte[] out = new byte[outLen];
+            if (!lazySodium.cryptoPwHashScryptSalsa208Sha256(out, outLen, pw, pw.length, s, opsLimit, memLimit)) {
+                throw new SodiumException("Password hashing failed.");
+            }
+            return out;
+        }, pw);
+    }
+
+    /**
+     * @see LazySodiumJava#cryptoPwHashScryptSalsa208Sha256Str(String, long, long)
+     */
+    public CompletableFuture<String> cryptoPwHashScryptSalsa208Sha256Str(String password, long opsLimit, long memLimit) {
+        return submit(() -> lazySodium.cryptoPwHashScryptSalsa208Sha256Str(password, opsLimit, memLimit));
+    }
+
+    /**
+     * @see LazySodiumJava#cryptoPwHashScryptSalsa208Sha256StrVerify(String, String)
+     */
+    public CompletableFuture<Boolean> cryptoPwHashScryptSalsa208Sha256StrVerify(String hash, String password) {
+        return submit(() -> lazySodium.cryptoPwHashScryptSalsa208Sha256StrVerify(hash, password));
+    }
+
+    // AEAD
+
+    /**
+     * Encrypt a whole message.
+     * @return Completes with the cipher text, {@code message.length} plus the method's ABYTES long.
+     * @see AEAD.Lazy#encrypt(byte[], int, int, byte[], byte[], Key, AEAD.Method, byte[], int)
+     */
+    public CompletableFuture<byte[]> encrypt(byte[] message, byte[] additionalData, byte[] nPub, Key k, AEAD.Method method) {
+        byte[] m = message.clone();
+        byte[] ad = additionalData == null ? null : additionalData.clone();
+        byte[] n = nPub.clone();
+        byte[] key = k.getAsBytes().clone();
+        return submit(() -> {
+            byte[] out = new byte[m.length + AEAD.aBytes(method)];
+            lazySodium.encrypt(m, 0, m.length, ad, n, Key.fromBytes(key), method, out, 0);
+            return out;
+        }, key);
+    }
+
+    /**
+     * Decrypt a whole cipher text. A forged or corrupted cipher text completes
+     * the future with an {@link javax.crypto.AEADBadTagException}.
+     * @return Completes with the message.
+     * @see AEAD.Lazy#decrypt(byte[], int, int, byte[], byte[], Key, AEAD.Method, byte[], int)
+     */
+    public CompletableFuture<byte[]> decrypt(byte[] cipher, byte[] additionalData, byte[] nPub, Key k, AEAD.Method method) {
+        if (cipher.length < AEAD.aBytes(method)) {
+            throw new IllegalArgumentException("cipher out of bounds");
+        }
+        byte[] c = cipher.clone();
+        byte[] ad = additionalData == null ? null : additionalData.clone();
+        byte[] n = nPub.clone();
+        byte[] key = k.getAsBytes().clone();
+        return submit(() -> {
+            byte[] out = new byte[c.length - AEAD.aBytes(method)];
+            lazySodium.decrypt(c, 0, c.length, ad, n, Key.fromBytes(key), method, out, 0);
+            return out;
+        }, key);
+    }
+
+    // Signatures
+
+    /**
+     * @return Completes with the {@link Sign#BYTES} long signature.
+     * @see Sign.Native#cryptoSignDetached(byte[], byte[], long, byte[])
+     */
+    public CompletableFuture<byte[]> cryptoSignDetached(byte[] message, byte[] secretKey) {
+        byte[] m = message.clone();
+        byte[] sk = secretKey.clone();
+        return submit(() -> {
+            byte[] signature = new byte[Sign.BYTES];
+            if (!lazySodium.cryptoSignDetached(signature, m, m.length, sk)) {
+                throw new SodiumException("Could not sign the message.");
+            }
+            return signature;
+        }, sk);
+    }
+
+    /**
+     * @return Completes with one verification result per signature.
+     * @see Sign.Batch#cryptoSignVerifyDetachedBatch(byte[][], byte[][], byte[][])
+     */
+    public CompletableFuture<boolean[]> cryptoSignVerifyDetachedBatch(byte[][] signatures, byte[][] messages, byte[][] publicKeys) {
+        byte[][] sigs = deepCopy(signatures);
+        byte[][] msgs = deepCopy(messages);
+        byte[][] pks = deepCopy(publicKeys);
+        return submit(() -> lazySodium.cryptoSignVerifyDetachedBatch(sigs, msgs, pks));
+    }
+
+    /**
+     * A task that may throw checked exceptions, which complete its future.
+     */
+    private interface Task<T> {
+        T run() throws Exception;
+    }
+
+    private <T> CompletableFuture<T> submit(Task<T> task, byte[]... secrets) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    if (!future.isDone()) {
+                        future.complete(task.run());
+                    }
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    wipe(secrets);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            wipe(secrets);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private static void wipe(byte[]... secrets) {
+        for (byte[] secret : secrets) {
+            Arrays.fill(secret, (byte) 0);
+        }
+    }
+
+    private static byte[][] deepCopy(byte[][] arrays) {
+        byte[][] copy = new byte[arrays.length][];
+        for (int i = 0; i < arrays.length; i++) {
+            copy[i] = arrays[i] == null ? null : arrays[i].clone();
+        }
+        return copy;
+    }
+
+}
@@ -20,13 +20,23 @@ import com.sun.jna.ptr.PointerByReference;
 
 import javax.crypto.AEADBadTagException;
 import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 public abstract class LazySodium implements
         Base,
         Random,
-        AEAD.Native, AEAD.Lazy,
+        AEAD.Native, AEAD.Lazy, AEAD.Batch,
         GenericHash.Native, GenericHash.Lazy,
         ShortHash.Native, ShortHash.Lazy,
         SecureMemory.Native, SecureMemory.Lazy,
@@ -37,17 +47,24 @@ public abstract class LazySodium implements
         Helpers.Native, Helpers.Lazy,
         PwHash.Native, PwHash.Lazy,
         Hash.Native, Hash.Lazy,
-        Sign.Native, Sign.Lazy,
+        Sign.Native, Sign.Lazy, Sign.Batch,
         Box.Native, Box.Lazy,
         SecretBox.Native, SecretBox.Lazy,
         KeyExchange.Native, KeyExchange.Lazy,
         KeyDerivation.Native, KeyDerivation.Lazy,
         DiffieHellman.Native, DiffieHellman.Lazy,
-        Ristretto255.Native, Ristretto255.Lazy {
+        Ristretto255.Native, Ristretto255.Lazy, Ristretto255.Batch {
 
     protected final Charset charset;
     protected final MessageEncoder messageEncoder;
 
+    /**
+     * Passed along with results that libsodium computed, see
+     * {@link RistrettoPoint#fromNativeResult(LazySodium, byte[], Object)}.
+     * Never handed out, so other callers cannot mark bytes as valid.
+     */
+    private final Object nativeResultToken = new Object();
+
     public static Base64Facade base64Facade;
 
     public LazySodium() {
@@ -66,6 +83,22 @@ public abstract class LazySodium implements
         this.messageEncoder = messageEncoder;
     }
 
+    /**
+     * @return The encoder used by the lazy methods, e.g. to size
+     * buffers for {@link #encryptEncoded(byte[], int, int, byte[], byte[], Key, AEAD.Method, byte[], int)}.
+     */
+    public MessageEncoder getMessageEncoder() {
+        return messageEncoder;
+    }
+
+    /**
+     * @param token The token passed to {@link RistrettoPoint#fromNativeResult(LazySodium, byte[], Object)}.
+     * @return Whether it is this instance's private token.
+     */
+    public final boolean isNativeResultToken(Object token) {
+        return token == nativeResultToken;
+    }
+
     public static Integer longToInt(long lng) {
         if (lng < 0) {
             return 0;
@@ -123,21 +156,22 @@ public abstract class LazySodium implements
     }
 
 
-    private static final char[] hexArray = "0123456789ABCDEF".toCharArray();
-
-    // The following is from https://stackoverflow.com/a/9855338/3526705
     private static String bytesToHex(byte[] bytes) {
-        char[] hexChars = new char[bytes.length * 2];
-        for (int j = 0; j < bytes.length; j++) {
-            int v = bytes[j] & 0xFF;
-            hexChars[j * 2] = hexArray[v >>> 4];
-            hexChars[j * 2 + 1] = hexArray[v & 0x0F];
+        return HexCodec.UPPER_CASE.encodeToString(bytes);
+    }
+
+    private static byte[] hexToBytes(String s) {
+        try {
+            return HexCodec.UPPER_CASE.decode(s);
+        } catch (IllegalArgumentException e) {
+            // The lazy API has always accepted text that is not hex and
+            // hashed whatever Character.digit made of it, so keep doing that.
+            return lenientHexToBytes(s);
         }
-        return new String(hexChars);
     }
 
     // The following is from https://stackoverflow.com/a/140861/3526705
-    private static byte[] hexToBytes(String s) {
+    private static byte[] lenientHexToBytes(String s) {
         int len = s.length();
         byte[] data = new byte[len / 2];
         for (int i = 0; i < len; i += 2) {
@@ -570,6 +604,54 @@ public abstract class LazySodium implements
         return successful(getSodium().crypto_hash_sha512_final(state, out));
     }
 
+    @Override
+    public boolean cryptoHashSha256(byte[] out, int outOffset, byte[] in, int inOffset, int inLen) {
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        BaseChecker.checkSlice(out, outOffset, Hash.SHA256_BYTES, "out");
+        try (NativeScratch scratch = NativeScratch.acquire((long) inLen + Hash.SHA256_BYTES)) {
+            Pointer i = scratch.put(0, in, inOffset, inLen);
+            Pointer o = scratch.at(inLen);
+            if (!successful(getSodium().crypto_hash_sha256(o, i, inLen))) {
+                return false;
+            }
+            scratch.get(inLen, out, outOffset, Hash.SHA256_BYTES);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoHashSha512(byte[] out, int outOffset, byte[] in, int inOffset, int inLen) {
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        BaseChecker.checkSlice(out, outOffset, Hash.SHA512_BYTES, "out");
+        try (NativeScratch scratch = NativeScratch.acquire((long) inLen + Hash.SHA512_BYTES)) {
+            Pointer i = scratch.put(0, in, inOffset, inLen);
+            Pointer o = scratch.at(inLen);
+            if (!successful(getSodium().crypto_hash_sha512(o, i, inLen))) {
+                return false;
+            }
+            scratch.get(inLen, out, outOffset, Hash.SHA512_BYTES);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoHashSha256Update(Hash.State256 state, byte[] in, int inOffset, int inLen) {
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) inLen)) {
+            Pointer i = scratch.put(0, in, inOffset, inLen);
+            return successful(getSodium().crypto_hash_sha256_update(state, i, inLen));
+        }
+    }
+
+    @Override
+    public boolean cryptoHashSha512Update(Hash.State512 state, byte[] in, int inOffset, int inLen) {
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) inLen)) {
+            Pointer i = scratch.put(0, in, inOffset, inLen);
+            return successful(getSodium().crypto_hash_sha512_update(state, i, inLen));
+        }
+    }
+
     // -- lazy
 
 
@@ -651,6 +733,34 @@ public abstract class LazySodium implements
         return successful(getSodium().crypto_secretbox_open_easy(message, cipherText, cipherTextLen, nonce, key));
     }
 
+    @Override
+    public boolean cryptoSecretBoxEasy(byte[] cipherText, byte[] message, long messageLen, byte[] nonce, SecureKey key) {
+        if (messageLen < 0 || messageLen > message.length) {
+            throw new IllegalArgumentException("messageLen out of bounds: " + messageLen);
+        }
+        checkKeySize(key, SecretBox.KEYBYTES);
+        Pointer k = key.acquire();
+        try {
+            return successful(getSodium().crypto_secretbox_easy(cipherText, message, messageLen, nonce, k));
+        } finally {
+            key.release();
+        }
+    }
+
+    @Override
+    public boolean cryptoSecretBoxOpenEasy(byte[] message, byte[] cipherText, long cipherTextLen, byte[] nonce, SecureKey key) {
+        if (cipherTextLen < 0 || cipherTextLen > cipherText.length) {
+            throw new IllegalArgumentException("cipherTextLen out of bounds: " + cipherTextLen);
+        }
+        checkKeySize(key, SecretBox.KEYBYTES);
+        Pointer k = key.acquire();
+        try {
+            return successful(getSodium().crypto_secretbox_open_easy(message, cipherText, cipherTextLen, nonce, k));
+        } finally {
+            key.release();
+        }
+    }
+
     @Override
     public boolean cryptoSecretBoxDetached(byte[] cipherText, byte[] mac, byte[] message, long messageLen, byte[] nonce, byte[] key) {
         if (messageLen < 0 || messageLen > message.length) {
@@ -667,6 +777,76 @@ public abstract class LazySodium implements
         return successful(getSodium().crypto_secretbox_open_detached(message, cipherText, mac, cipherTextLen, nonce, key));
     }
 
+    @Override
+    public boolean cryptoSecretBoxEasy(byte[] cipherText, int cipherTextOffset, byte[] message, int messageOffset, int messageLen, byte[] nonce, byte[] key) {
+        int cipherTextLen = messageLen + SecretBox.MACBYTES;
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        BaseChecker.checkSlice(cipherText, cipherTextOffset, cipherTextLen, "cipherTextLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + cipherTextLen)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer c = scratch.at(messageLen);
+            if (!successful(getSodium().crypto_secretbox_easy(c, m, messageLen, nonce, key))) {
+                return false;
+            }
+            scratch.get(messageLen, cipherText, cipherTextOffset, cipherTextLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoSecretBoxOpenEasy(byte[] message, int messageOffset, byte[] cipherText, int cipherTextOffset, int cipherTextLen, byte[] nonce, byte[] key) {
+        int messageLen = cipherTextLen - SecretBox.MACBYTES;
+        if (messageLen < 0) {
+            throw new IllegalArgumentException("cipherTextLen out of bounds: " + cipherTextLen);
+        }
+        BaseChecker.checkSlice(cipherText, cipherTextOffset, cipherTextLen, "cipherTextLen");
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherTextLen + messageLen)) {
+            Pointer c = scratch.put(0, cipherText, cipherTextOffset, cipherTextLen);
+            Pointer m = scratch.at(cipherTextLen);
+            if (!successful(getSodium().crypto_secretbox_open_easy(m, c, cipherTextLen, nonce, key))) {
+                return false;
+            }
+            scratch.get(cipherTextLen, message, messageOffset, messageLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoSecretBoxDetached(byte[] cipherText, int cipherTextOffset, byte[] mac, int macOffset, byte[] message, int messageOffset, int messageLen, byte[] nonce, byte[] key) {
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        BaseChecker.checkSlice(cipherText, cipherTextOffset, messageLen, "cipherTextLen");
+        BaseChecker.checkSlice(mac, macOffset, SecretBox.MACBYTES, "mac");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + messageLen + SecretBox.MACBYTES)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer c = scratch.at(messageLen);
+            Pointer tag = scratch.at((long) messageLen + messageLen);
+            if (!successful(getSodium().crypto_secretbox_detached(c, tag, m, messageLen, nonce, key))) {
+                return false;
+            }
+            scratch.get(messageLen, cipherText, cipherTextOffset, messageLen);
+            scratch.get((long) messageLen + messageLen, mac, macOffset, SecretBox.MACBYTES);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoSecretBoxOpenDetached(byte[] message, int messageOffset, byte[] cipherText, int cipherTextOffset, int cipherTextLen, byte[] mac, int macOffset, byte[] nonce, byte[] key) {
+        BaseChecker.checkSlice(cipherText, cipherTextOffset, cipherTextLen, "cipherTextLen");
+        BaseChecker.checkSlice(mac, macOffset, SecretBox.MACBYTES, "mac");
+        BaseChecker.checkSlice(message, messageOffset, cipherTextLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherTextLen + SecretBox.MACBYTES + cipherTextLen)) {
+            Pointer c = scratch.put(0, cipherText, cipherTextOffset, cipherTextLen);
+            Pointer tag = scratch.put(cipherTextLen, mac, macOffset, SecretBox.MACBYTES);
+            Pointer m = scratch.at((long) cipherTextLen + SecretBox.MACBYTES);
+            if (!successful(getSodium().crypto_secretbox_open_detached(m, c, tag, cipherTextLen, nonce, key))) {
+                return false;
+            }
+            scratch.get((long) cipherTextLen + SecretBox.MACBYTES, message, messageOffset, cipherTextLen);
+            return true;
+        }
+    }
+
 
     /// --- Lazy
 
@@ -683,7 +863,7 @@ public abstract class LazySodium implements
         byte[] messageBytes = bytes(message);
         byte[] cipherTextBytes = new byte[SecretBox.MACBYTES + messageBytes.length];
 
-        if (!cryptoSecretBoxEasy(cipherTextBytes, messageBytes, messageBytes.length, nonce, keyBytes)) {
+        if (!secretBoxStaged(true, cipherTextBytes, messageBytes, nonce, keyBytes)) {
             throw new SodiumException("Could not encrypt message.");
         }
 
@@ -697,13 +877,43 @@ public abstract class LazySodium implements
         byte[] messageBytes = new byte[cipherBytes.length - SecretBox.MACBYTES];
 
 
-        if (!cryptoSecretBoxOpenEasy(messageBytes, cipherBytes, cipherBytes.length, nonce, keyBytes)) {
+        if (!secretBoxStaged(false, messageBytes, cipherBytes, nonce, keyBytes)) {
             throw new SodiumException("Could not decrypt message.");
         }
 
         return str(messageBytes);
     }
 
+    /**
+     * Run {@code crypto_secretbox_easy} or {@code _open_easy} with every
+     * argument staged in the per-thread {@link NativeScratch} block, so
+     * JNA does not allocate native memory for each array. Arguments of
+     * unexpected length take the plain {@code byte[]} path unchanged.
+     */
+    private boolean secretBoxStaged(boolean encrypt, byte[] out, byte[] in, byte[] nonce, byte[] key) {
+        if (nonce.length != SecretBox.NONCEBYTES || key.length != SecretBox.KEYBYTES) {
+            return encrypt
+                    ? cryptoSecretBoxEasy(out, in, in.length, nonce, key)
+                    : cryptoSecretBoxOpenEasy(out, in, in.length, nonce, key);
+        }
+        long inOffset = SecretBox.NONCEBYTES + SecretBox.KEYBYTES;
+        long outOffset = inOffset + in.length;
+        try (NativeScratch scratch = NativeScratch.acquire(outOffset + out.length)) {
+            Pointer n = scratch.put(0, nonce);
+            Pointer k = scratch.put(SecretBox.NONCEBYTES, key);
+            Pointer i = scratch.put(inOffset, in);
+            Pointer o = scratch.at(outOffset);
+            int res = encrypt
+                    ? getSodium().crypto_secretbox_easy(o, i, in.length, n, k)
+                    : getSodium().crypto_secretbox_open_easy(o, i, in.length, n, k);
+            if (!successful(res)) {
+                return false;
+            }
+            scratch.get(outOffset, out, 0, out.length);
+            return true;
+        }
+    }
+
     @Override
     public DetachedEncrypt cryptoSecretBoxDetached(String message, byte[] nonce, Key key) throws SodiumException {
         byte[] keyBytes = key.getAsBytes();
@@ -862,6 +1072,146 @@ public abstract class LazySodium implements
         return successful(getSodium().crypto_box_seal_open(m, cipher, cipherLen, publicKey, secretKey));
     }
 
+    @Override
+    public boolean cryptoBoxEasy(byte[] cipherText, int cipherTextOffset, byte[] message, int messageOffset, int messageLen, byte[] nonce, byte[] publicKey, byte[] secretKey) {
+        int cipherTextLen = messageLen + Box.MACBYTES;
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        BaseChecker.checkSlice(cipherText, cipherTextOffset, cipherTextLen, "cipherTextLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + cipherTextLen)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer c = scratch.at(messageLen);
+            if (!successful(getSodium().crypto_box_easy(c, m, messageLen, nonce, publicKey, secretKey))) {
+                return false;
+            }
+            scratch.get(messageLen, cipherText, cipherTextOffset, cipherTextLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoBoxOpenEasy(byte[] message, int messageOffset, byte[] cipherText, int cipherTextOffset, int cipherTextLen, byte[] nonce, byte[] publicKey, byte[] secretKey) {
+        int messageLen = cipherTextLen - Box.MACBYTES;
+        if (messageLen < 0) {
+            throw new IllegalArgumentException("cipherTextLen out of bounds: " + cipherTextLen);
+        }
+        BaseChecker.checkSlice(cipherText, cipherTextOffset, cipherTextLen, "cipherTextLen");
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherTextLen + messageLen)) {
+            Pointer c = scratch.put(0, cipherText, cipherTextOffset, cipherTextLen);
+            Pointer m = scratch.at(cipherTextLen);
+            if (!successful(getSodium().crypto_box_open_easy(m, c, cipherTextLen, nonce, publicKey, secretKey))) {
+                return false;
+            }
+            scratch.get(cipherTextLen, message, messageOffset, messageLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoBoxDetached(byte[] cipherText, int cipherTextOffset, byte[] mac, int macOffset, byte[] message, int messageOffset, int messageLen, byte[] nonce, byte[] publicKey, byte[] secretKey) {
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        BaseChecker.checkSlice(cipherText, cipherTextOffset, messageLen, "cipherTextLen");
+        BaseChecker.checkSlice(mac, macOffset, Box.MACBYTES, "mac");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + messageLen + Box.MACBYTES)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer c = scratch.at(messageLen);
+            Pointer tag = scratch.at((long) messageLen + messageLen);
+            if (!successful(getSodium().crypto_box_detached(c, tag, m, messageLen, nonce, publicKey, secretKey))) {
+                return false;
+            }
+            scratch.get(messageLen, cipherText, cipherTextOffset, messageLen);
+            scratch.get((long) messageLen + messageLen, mac, macOffset, Box.MACBYTES);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoBoxOpenDetached(byte[] message, int messageOffset, byte[] cipherText, int cipherTextOffset, int cipherTextLen, byte[] mac, int macOffset, byte[] nonce, byte[] publicKey, byte[] secretKey) {
+        BaseChecker.checkSlice(cipherText, cipherTextOffset, cipherTextLen, "cipherTextLen");
+        BaseChecker.checkSlice(mac, macOffset, Box.MACBYTES, "mac");
+        BaseChecker.checkSlice(message, messageOffset, cipherTextLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherTextLen + Box.MACBYTES + cipherTextLen)) {
+            Pointer c = scratch.put(0, cipherText, cipherTextOffset, cipherTextLen);
+            Pointer tag = scratch.put(cipherTextLen, mac, macOffset, Box.MACBYTES);
+            Pointer m = scratch.at((long) cipherTextLen + Box.MACBYTES);
+            if (!successful(getSodium().crypto_box_open_detached(m, c, tag, cipherTextLen, nonce, publicKey, secretKey))) {
+                return false;
+            }
+            scratch.get((long) cipherTextLen + Box.MACBYTES, message, messageOffset, cipherTextLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoBoxEasyAfterNm(byte[] cipherText, int cipherTextOffset, byte[] message, int messageOffset, int messageLen, byte[] nonce, byte[] key) {
+        int cipherTextLen = messageLen + Box.MACBYTES;
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        BaseChecker.checkSlice(cipherText, cipherTextOffset, cipherTextLen, "cipherTextLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + cipherTextLen)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer c = scratch.at(messageLen);
+            if (!successful(getSodium().crypto_box_easy_afternm(c, m, messageLen, nonce, key))) {
+                return false;
+            }
+            scratch.get(messageLen, cipherText, cipherTextOffset, cipherTextLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoBoxOpenEasyAfterNm(byte[] message, int messageOffset, byte[] cipherText, int cipherTextOffset, int cipherTextLen, byte[] nonce, byte[] key) {
+        int messageLen = cipherTextLen - Box.MACBYTES;
+        if (messageLen < 0) {
+            throw new IllegalArgumentException("cipherTextLen out of bounds: " + cipherTextLen);
+        }
+        BaseChecker.checkSlice(cipherText, cipherTextOffset, cipherTextLen, "cipherTextLen");
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherTextLen + messageLen)) {
+            Pointer c = scratch.put(0, cipherText, cipherTextOffset, cipherTextLen);
+            Pointer m = scratch.at(cipherTextLen);
+            if (!successful(getSodium().crypto_box_open_easy_afternm(m, c, cipherTextLen, nonce, key))) {
+                return false;
+            }
+            scratch.get(cipherTextLen, message, messageOffset, messageLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoBoxSeal(byte[] cipher, int cipherOffset, byte[] message, int messageOffset, int messageLen, byte[] publicKey) {
+        int cipherLen = messageLen + Box.SEALBYTES;
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + cipherLen)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer c = scratch.at(messageLen);
+            if (!successful(getSodium().crypto_box_seal(c, m, messageLen, publicKey))) {
+                return false;
+            }
+            scratch.get(messageLen, cipher, cipherOffset, cipherLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoBoxSealOpen(byte[] message, int messageOffset, byte[] cipher, int cipherOffset, int cipherLen, byte[] publicKey, byte[] secretKey) {
+        int messageLen = cipherLen - Box.SEALBYTES;
+        if (messageLen < 0) {
+            throw new IllegalArgumentException("cipherLen out of bounds: " + cipherLen);
+        }
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherLen + messageLen)) {
+            Pointer c = scratch.put(0, cipher, cipherOffset, cipherLen);
+            Pointer m = scratch.at(cipherLen);
+            if (!successful(getSodium().crypto_box_seal_open(m, c, cipherLen, publicKey, secretKey))) {
+                return false;
+            }
+            scratch.get(cipherLen, message, messageOffset, messageLen);
+            return true;
+        }
+    }
+
     // -- lazy
 
     @Override
@@ -892,10 +1242,10 @@ public abstract class LazySodium implements
     public String cryptoBoxEasy(String message, byte[] nonce, KeyPair keyPair) throws SodiumException {
         byte[] messageBytes = bytes(message);
         byte[] cipherBytes = new byte[Box.MACBYTES + messageBytes.length];
-        boolean res = cryptoBoxEasy(
+        boolean res = boxStaged(
+                true,
                 cipherBytes,
                 messageBytes,
-                messageBytes.length,
                 nonce,
                 keyPair.getPublicKey().getAsBytes(),
                 keyPair.getSecretKey().getAsBytes()
@@ -911,10 +1261,10 @@ public abstract class LazySodium implements
         byte[] cipher = messageEncoder.decode(cipherText);
         byte[] message = new byte[cipher.length - Box.MACBYTES];
         boolean res =
-                cryptoBoxOpenEasy(
+                boxStaged(
+                        false,
                         message,
                         cipher,
-                        cipher.length,
                         nonce,
                         keyPair.getPublicKey().getAsBytes(),
                         keyPair.getSecretKey().getAsBytes()
@@ -927,6 +1277,62 @@ public abstract class LazySodium implements
         return str(message);
     }
 
+    /**
+     * {@code crypto_box_easy} or {@code _open_easy} with every argument
+     * staged in the per-thread {@link NativeScratch} block.
+     */
+    private boolean boxStaged(boolean encrypt, byte[] out, byte[] in, byte[] nonce, byte[] publicKey, byte[] secretKey) {
+        if (nonce.length != Box.NONCEBYTES || publicKey.length != Box.PUBLICKEYBYTES
+                || secretKey.length != Box.SECRETKEYBYTES) {
+            return encrypt
+                    ? cryptoBoxEasy(out, in, in.length, nonce, publicKey, secretKey)
+                    : cryptoBoxOpenEasy(out, in, in.length, nonce, publicKey, secretKey);
+        }
+        long pkOffset = Box.NONCEBYTES;
+        long skOffset = pkOffset + Box.PUBLICKEYBYTES;
+        long inOffset = skOffset + Box.SECRETKEYBYTES;
+        long outOffset = inOffset + in.length;
+        try (NativeScratch scratch = NativeScratch.acquire(outOffset + out.length)) {
+            Pointer n = scratch.put(0, nonce);
+            Pointer pk = scratch.put(pkOffset, publicKey);
+            Pointer sk = scratch.put(skOffset, secretKey);
+            Pointer i = scratch.put(inOffset, in);
+            Pointer o = scratch.at(outOffset);
+            int res = encrypt
+                    ? getSodium().crypto_box_easy(o, i, in.length, n, pk, sk)
+                    : getSodium().crypto_box_open_easy(o, i, in.length, n, pk, sk);
+            if (!successful(res)) {
+                return false;
+            }
+            scratch.get(outOffset, out, 0, out.length);
+            return true;
+        }
+    }
+
+    /**
+     * {@code crypto_box_easy_afternm} or {@code _open_easy_afternm} with every
+     * argument staged in the per-thread {@link NativeScratch} block. The
+     * nonce and key lengths must already have been checked.
+     */
+    private boolean boxAfterNmStaged(boolean encrypt, byte[] out, byte[] in, byte[] nonce, byte[] key) {
+        long inOffset = Box.NONCEBYTES + Box.BEFORENMBYTES;
+        long outOffset = inOffset + in.length;
+        try (NativeScratch scratch = NativeScratch.acquire(outOffset + out.length)) {
+            Pointer n = scratch.put(0, nonce);
+            Pointer k = scratch.put(Box.NONCEBYTES, key);
+            Pointer i = scratch.put(inOffset, in);
+            Pointer o = scratch.at(outOffset);
+            int res = encrypt
+                    ? getSodium().crypto_box_easy_afternm(o, i, in.length, n, k)
+                    : getSodium().crypto_box_open_easy_afternm(o, i, in.length, n, k);
+            if (!successful(res)) {
+                return false;
+            }
+            scratch.get(outOffset, out, 0, out.length);
+            return true;
+        }
+    }
+
     @Override
     public String cryptoBoxBeforeNm(byte[] publicKey, byte[] secretKey) throws SodiumException {
         byte[] sharedKey = new byte[Box.BEFORENMBYTES];
@@ -963,7 +1369,7 @@ public abstract class LazySodium implements
         byte[] messageBytes = bytes(message);
         byte[] cipher = new byte[messageBytes.length + Box.MACBYTES];
 
-        boolean res = cryptoBoxEasyAfterNm(cipher, messageBytes, messageBytes.length, nonce, sharedKey);
+        boolean res = boxAfterNmStaged(true, cipher, messageBytes, nonce, sharedKey);
         if (!res) {
             throw new SodiumException("Could not fully complete shared secret key encryption.");
         }
@@ -985,7 +1391,7 @@ public abstract class LazySodium implements
         byte[] cipherBytes = messageEncoder.decode(cipher);
         byte[] message = new byte[cipherBytes.length - Box.MACBYTES];
 
-        boolean res = cryptoBoxOpenEasyAfterNm(message, cipherBytes, cipherBytes.length, nonce, sharedKey);
+        boolean res = boxAfterNmStaged(false, message, cipherBytes, nonce, sharedKey);
         if (!res) {
             throw new SodiumException("Could not fully complete shared secret key decryption.");
         }
@@ -1137,6 +1543,129 @@ public abstract class LazySodium implements
         return successful(getSodium().crypto_sign_verify_detached(signature, message, messageLen, publicKey));
     }
 
+    @Override
+    public boolean cryptoSignUpdate(Sign.StateCryptoSign state, byte[] chunk, int chunkOffset, int chunkLength) {
+        BaseChecker.checkSlice(chunk, chunkOffset, chunkLength, "chunkLength");
+        try (NativeScratch scratch = NativeScratch.acquire((long) chunkLength)) {
+            Pointer c = scratch.put(0, chunk, chunkOffset, chunkLength);
+            return successful(getSodium().crypto_sign_update(state, c, chunkLength));
+        }
+    }
+
+    @Override
+    public boolean cryptoSign(byte[] signedMessage, int signedMessageOffset, byte[] message, int messageOffset, int messageLen, byte[] secretKey) {
+        int signedMessageLen = messageLen + Sign.BYTES;
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        BaseChecker.checkSlice(signedMessage, signedMessageOffset, signedMessageLen, "signedMessageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + signedMessageLen)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer sm = scratch.at(messageLen);
+            if (!successful(getSodium().crypto_sign(sm, null, m, messageLen, secretKey))) {
+                return false;
+            }
+            scratch.get(messageLen, signedMessage, signedMessageOffset, signedMessageLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoSignOpen(byte[] message, int messageOffset, byte[] signedMessage, int signedMessageOffset, int signedMessageLen, byte[] publicKey) {
+        int messageLen = signedMessageLen - Sign.BYTES;
+        if (messageLen < 0) {
+            throw new IllegalArgumentException("signedMessageLen out of bounds: " + signedMessageLen);
+        }
+        BaseChecker.checkSlice(signedMessage, signedMessageOffset, signedMessageLen, "signedMessageLen");
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) signedMessageLen + messageLen)) {
+            Pointer sm = scratch.put(0, signedMessage, signedMessageOffset, signedMessageLen);
+            Pointer m = scratch.at(signedMessageLen);
+            if (!successful(getSodium().crypto_sign_open(m, null, sm, signedMessageLen, publicKey))) {
+                return false;
+            }
+            scratch.get(signedMessageLen, message, messageOffset, messageLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoSignDetached(byte[] signature, int signatureOffset, byte[] message, int messageOffset, int messageLen, byte[] secretKey) {
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        BaseChecker.checkSlice(signature, signatureOffset, Sign.BYTES, "signature");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + Sign.BYTES)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer sig = scratch.at(messageLen);
+            if (!successful(getSodium().crypto_sign_detached(sig, null, m, messageLen, secretKey))) {
+                return false;
+            }
+            scratch.get(messageLen, signature, signatureOffset, Sign.BYTES);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoSignVerifyDetached(byte[] signature, int signatureOffset, byte[] message, int messageOffset, int messageLen, byte[] publicKey) {
+        BaseChecker.checkSlice(signature, signatureOffset, Sign.BYTES, "signature");
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) Sign.BYTES + messageLen)) {
+            Pointer sig = scratch.put(0, signature, signatureOffset, Sign.BYTES);
+            Pointer m = scratch.put(Sign.BYTES, message, messageOffset, messageLen);
+            return successful(getSodium().crypto_sign_verify_detached(sig, m, messageLen, publicKey));
+        }
+    }
+
+    @Override
+    public boolean[] cryptoSignVerifyDetachedBatch(byte[][] signatures, byte[][] messages, byte[][] publicKeys) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int chunkSize = Math.max(1, (signatures.length + parallelism * 4 - 1) / (parallelism * 4));
+        return cryptoSignVerifyDetachedBatch(signatures, messages, publicKeys, ForkJoinPool.commonPool(), chunkSize);
+    }
+
+    @Override
+    public boolean[] cryptoSignVerifyDetachedBatch(byte[][] signatures, byte[][] messages, byte[][] publicKeys,
+                                                   Executor executor, int chunkSize) {
+        int count = signatures.length;
+        if (messages.length != count || publicKeys.length != count) {
+            throw new IllegalArgumentException("messages and publicKeys must have as many elements as signatures");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize out of bounds: " + chunkSize);
+        }
+        boolean[] results = new boolean[count];
+        if (count <= chunkSize) {
+            verifyDetachedRange(signatures, messages, publicKeys, results, 0, count);
+            return results;
+        }
+        CompletableFuture<?>[] chunks = new CompletableFuture<?>[(count + chunkSize - 1) / chunkSize];
+        for (int c = 0; c < chunks.length; c++) {
+            int from = c * chunkSize;
+            int to = Math.min(count, from + chunkSize);
+            chunks[c] = CompletableFuture.runAsync(
+                    () -> verifyDetachedRange(signatures, messages, publicKeys, results, from, to), executor);
+        }
+        try {
+            CompletableFuture.allOf(chunks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    private void verifyDetachedRange(byte[][] signatures, byte[][] messages, byte[][] publicKeys,
+                                     boolean[] results, int from, int to) {
+        Sodium sodium = getSodium();
+        for (int i = from; i < to; i++) {
+            byte[] signature = signatures[i];
+            byte[] message = messages[i];
+            byte[] publicKey = publicKeys[i];
+            results[i] = signature.length == Sign.BYTES
+                    && publicKey.length == Sign.PUBLICKEYBYTES
+                    && successful(sodium.crypto_sign_verify_detached(signature, message, message.length, publicKey));
+        }
+    }
+
     @Override
     public boolean convertPublicKeyEd25519ToCurve25519(byte[] curve, byte[] ed) {
         return successful(getSodium().crypto_sign_ed25519_pk_to_curve25519(curve, ed));
@@ -1235,7 +1764,7 @@ public abstract class LazySodium implements
         byte[] skBytes = secretKey.getAsBytes();
         byte[] signatureBytes = new byte[Sign.BYTES];
 
-        if (!cryptoSignDetached(signatureBytes, messageBytes, messageBytes.length, skBytes)) {
+        if (!signDetachedStaged(signatureBytes, messageBytes, skBytes)) {
             throw new SodiumException("Could not create a signature for your message in detached mode.");
         }
 
@@ -1248,7 +1777,45 @@ public abstract class LazySodium implements
         byte[] pkBytes = publicKey.getAsBytes();
         byte[] signatureBytes = messageEncoder.decode(signature);
 
-        return cryptoSignVerifyDetached(signatureBytes, messageBytes, messageBytes.length, pkBytes);
+        return signVerifyDetachedStaged(signatureBytes, messageBytes, pkBytes);
+    }
+
+    /**
+     * {@code crypto_sign_detached} with every argument staged in the
+     * per-thread {@link NativeScratch} block.
+     */
+    private boolean signDetachedStaged(byte[] signature, byte[] message, byte[] secretKey) {
+        if (secretKey.length != Sign.SECRETKEYBYTES) {
+            return cryptoSignDetached(signature, message, message.length, secretKey);
+        }
+        long mOffset = Sign.BYTES + Sign.SECRETKEYBYTES;
+        try (NativeScratch scratch = NativeScratch.acquire(mOffset + message.length)) {
+            Pointer sig = scratch.at(0);
+            Pointer sk = scratch.put(Sign.BYTES, secretKey);
+            Pointer m = scratch.put(mOffset, message);
+            if (!successful(getSodium().crypto_sign_detached(sig, null, m, message.length, sk))) {
+                return false;
+            }
+            scratch.get(0, signature, 0, Sign.BYTES);
+            return true;
+        }
+    }
+
+    /**
+     * {@code crypto_sign_verify_detached} with every argument staged in the
+     * per-thread {@link NativeScratch} block.
+     */
+    private boolean signVerifyDetachedStaged(byte[] signature, byte[] message, byte[] publicKey) {
+        if (signature.length != Sign.BYTES || publicKey.length != Sign.PUBLICKEYBYTES) {
+            return cryptoSignVerifyDetached(signature, message, message.length, publicKey);
+        }
+        long mOffset = Sign.BYTES + Sign.PUBLICKEYBYTES;
+        try (NativeScratch scratch = NativeScratch.acquire(mOffset + message.length)) {
+            Pointer sig = scratch.put(0, signature);
+            Pointer pk = scratch.put(Sign.BYTES, publicKey);
+            Pointer m = scratch.put(mOffset, message);
+            return successful(getSodium().crypto_sign_verify_detached(sig, m, message.length, pk));
+        }
     }
 
     @Override
@@ -1391,6 +1958,43 @@ public abstract class LazySodium implements
         ));
     }
 
+    @Override
+    public boolean cryptoSecretStreamPush(SecretStream.State state, ByteBuffer cipher, ByteBuffer message, byte[] additionalData, byte tag) {
+        int messageLen = message.remaining();
+        int cipherLen = messageLen + SecretStream.ABYTES;
+        if (cipher.remaining() < cipherLen) {
+            throw new IllegalArgumentException("Cipher buffer too small: " + cipher.remaining() + " < " + cipherLen);
+        }
+        long adLen = additionalData == null ? 0L : additionalData.length;
+        if (!successful(getSodium().crypto_secretstream_xchacha20poly1305_push(
+                state, cipher, null, message, messageLen, additionalData, adLen, tag))) {
+            return false;
+        }
+        ((Buffer) cipher).position(cipher.position() + cipherLen);
+        ((Buffer) message).position(message.limit());
+        return true;
+    }
+
+    @Override
+    public boolean cryptoSecretStreamPull(SecretStream.State state, ByteBuffer message, byte[] tag, ByteBuffer cipher, byte[] additionalData) {
+        int cipherLen = cipher.remaining();
+        int messageLen = cipherLen - SecretStream.ABYTES;
+        if (messageLen < 0) {
+            throw new IllegalArgumentException("cipherLen out of bounds: " + cipherLen);
+        }
+        if (message.remaining() < messageLen) {
+            throw new IllegalArgumentException("Message buffer too small: " + message.remaining() + " < " + messageLen);
+        }
+        long adLen = additionalData == null ? 0L : additionalData.length;
+        if (!successful(getSodium().crypto_secretstream_xchacha20poly1305_pull(
+                state, message, null, tag, cipher, cipherLen, additionalData, adLen))) {
+            return false;
+        }
+        ((Buffer) message).position(message.position() + messageLen);
+        ((Buffer) cipher).position(cipher.limit());
+        return true;
+    }
+
     @Override
     public Key cryptoSecretStreamKeygen() {
         byte[] key = randomBytesBuf(SecretStream.KEYBYTES);
@@ -1873,6 +2477,137 @@ public abstract class LazySodium implements
         return successful(getSodium().crypto_auth_hmacsha512256_final(state, out));
     }
 
+    @Override
+    public boolean cryptoAuth(byte[] tag, int tagOffset, byte[] in, int inOffset, int inLen, byte[] key) {
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        BaseChecker.checkSlice(tag, tagOffset, Auth.BYTES, "tag");
+        try (NativeScratch scratch = NativeScratch.acquire((long) inLen + Auth.BYTES)) {
+            Pointer i = scratch.put(0, in, inOffset, inLen);
+            Pointer t = scratch.at(inLen);
+            if (!successful(getSodium().crypto_auth(t, i, inLen, key))) {
+                return false;
+            }
+            scratch.get(inLen, tag, tagOffset, Auth.BYTES);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAuthVerify(byte[] tag, int tagOffset, byte[] in, int inOffset, int inLen, byte[] key) {
+        BaseChecker.checkSlice(tag, tagOffset, Auth.BYTES, "tag");
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) Auth.BYTES + inLen)) {
+            Pointer t = scratch.put(0, tag, tagOffset, Auth.BYTES);
+            Pointer i = scratch.put(Auth.BYTES, in, inOffset, inLen);
+            return successful(getSodium().crypto_auth_verify(t, i, inLen, key));
+        }
+    }
+
+    @Override
+    public boolean cryptoAuthHMACSha256(byte[] out, int outOffset, byte[] in, int inOffset, int inLen, byte[] k) {
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        BaseChecker.checkSlice(out, outOffset, Auth.HMACSHA256_BYTES, "out");
+        try (NativeScratch scratch = NativeScratch.acquire((long) inLen + Auth.HMACSHA256_BYTES)) {
+            Pointer i = scratch.put(0, in, inOffset, inLen);
+            Pointer o = scratch.at(inLen);
+            if (!successful(getSodium().crypto_auth_hmacsha256(o, i, inLen, k))) {
+                return false;
+            }
+            scratch.get(inLen, out, outOffset, Auth.HMACSHA256_BYTES);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAuthHMACSha256Verify(byte[] h, int hOffset, byte[] in, int inOffset, int inLen, byte[] k) {
+        BaseChecker.checkSlice(h, hOffset, Auth.HMACSHA256_BYTES, "h");
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) Auth.HMACSHA256_BYTES + inLen)) {
+            Pointer t = scratch.put(0, h, hOffset, Auth.HMACSHA256_BYTES);
+            Pointer i = scratch.put(Auth.HMACSHA256_BYTES, in, inOffset, inLen);
+            return successful(getSodium().crypto_auth_hmacsha256_verify(t, i, inLen, k));
+        }
+    }
+
+    @Override
+    public boolean cryptoAuthHMACSha256Update(Auth.StateHMAC256 state, byte[] in, int inOffset, int inLen) {
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) inLen)) {
+            Pointer i = scratch.put(0, in, inOffset, inLen);
+            return successful(getSodium().crypto_auth_hmacsha256_update(state, i, inLen));
+        }
+    }
+
+    @Override
+    public boolean cryptoAuthHMACSha512(byte[] out, int outOffset, byte[] in, int inOffset, int inLen, byte[] k) {
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        BaseChecker.checkSlice(out, outOffset, Auth.HMACSHA512_BYTES, "out");
+        try (NativeScratch scratch = NativeScratch.acquire((long) inLen + Auth.HMACSHA512_BYTES)) {
+            Pointer i = scratch.put(0, in, inOffset, inLen);
+            Pointer o = scratch.at(inLen);
+            if (!successful(getSodium().crypto_auth_hmacsha512(o, i, inLen, k))) {
+                return false;
+            }
+            scratch.get(inLen, out, outOffset, Auth.HMACSHA512_BYTES);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAuthHMACSha512Verify(byte[] h, int hOffset, byte[] in, int inOffset, int inLen, byte[] k) {
+        BaseChecker.checkSlice(h, hOffset, Auth.HMACSHA512_BYTES, "h");
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) Auth.HMACSHA512_BYTES + inLen)) {
+            Pointer t = scratch.put(0, h, hOffset, Auth.HMACSHA512_BYTES);
+            Pointer i = scratch.put(Auth.HMACSHA512_BYTES, in, inOffset, inLen);
+            return successful(getSodium().crypto_auth_hmacsha512_verify(t, i, inLen, k));
+        }
+    }
+
+    @Override
+    public boolean cryptoAuthHMACSha512Update(Auth.StateHMAC512 state, byte[] in, int inOffset, int inLen) {
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) inLen)) {
+            Pointer i = scratch.put(0, in, inOffset, inLen);
+            return successful(getSodium().crypto_auth_hmacsha512_update(state, i, inLen));
+        }
+    }
+
+    @Override
+    public boolean cryptoAuthHMACSha512256(byte[] out, int outOffset, byte[] in, int inOffset, int inLen, byte[] k) {
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        BaseChecker.checkSlice(out, outOffset, Auth.HMACSHA512256_BYTES, "out");
+        try (NativeScratch scratch = NativeScratch.acquire((long) inLen + Auth.HMACSHA512256_BYTES)) {
+            Pointer i = scratch.put(0, in, inOffset, inLen);
+            Pointer o = scratch.at(inLen);
+            if (!successful(getSodium().crypto_auth_hmacsha512256(o, i, inLen, k))) {
+                return false;
+            }
+            scratch.get(inLen, out, outOffset, Auth.HMACSHA512256_BYTES);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAuthHMACSha512256Verify(byte[] h, int hOffset, byte[] in, int inOffset, int inLen, byte[] k) {
+        BaseChecker.checkSlice(h, hOffset, Auth.HMACSHA512256_BYTES, "h");
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) Auth.HMACSHA512256_BYTES + inLen)) {
+            Pointer t = scratch.put(0, h, hOffset, Auth.HMACSHA512256_BYTES);
+            Pointer i = scratch.put(Auth.HMACSHA512256_BYTES, in, inOffset, inLen);
+            return successful(getSodium().crypto_auth_hmacsha512256_verify(t, i, inLen, k));
+        }
+    }
+
+    @Override
+    public boolean cryptoAuthHMACSha512256Update(Auth.StateHMAC512256 state, byte[] in, int inOffset, int inLen) {
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) inLen)) {
+            Pointer i = scratch.put(0, in, inOffset, inLen);
+            return successful(getSodium().crypto_auth_hmacsha512256_update(state, i, inLen));
+        }
+    }
+
 
     @Override
     public Key cryptoAuthHMACShaKeygen(Auth.Type type) {
@@ -2085,6 +2820,30 @@ public abstract class LazySodium implements
         return getSodium().crypto_generichash_statebytes();
     }
 
+    @Override
+    public boolean cryptoGenericHash(byte[] out, int outOffset, int outLen, byte[] in, int inOffset, int inLen, byte[] key, int keyLen) {
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        BaseChecker.checkSlice(out, outOffset, outLen, "outLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) inLen + outLen)) {
+            Pointer i = scratch.put(0, in, inOffset, inLen);
+            Pointer o = scratch.at(inLen);
+            if (!successful(getSodium().crypto_generichash(o, outLen, i, inLen, key, keyLen))) {
+                return false;
+            }
+            scratch.get(inLen, out, outOffset, outLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoGenericHashUpdate(byte[] state, byte[] in, int inOffset, int inLen) {
+        BaseChecker.checkSlice(in, inOffset, inLen, "inLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) inLen)) {
+            Pointer i = scratch.put(0, in, inOffset, inLen);
+            return successful(getSodium().crypto_generichash_update(state, i, inLen));
+        }
+    }
+
     @Override
     public void cryptoGenericHashKeygen(byte[] k) {
         getSodium().crypto_generichash_keygen(k);
@@ -2112,7 +2871,7 @@ public abstract class LazySodium implements
         byte[] keyBytes = key.getAsBytes();
 
         byte[] hash = randomBytesBuf(GenericHash.BYTES);
-        boolean res = cryptoGenericHash(hash, hash.length, message, message.length, keyBytes, keyBytes.length);
+        boolean res = genericHashStaged(hash, message, keyBytes);
 
         if (!res) {
             throw new SodiumException("Could not hash the message.");
@@ -2125,7 +2884,7 @@ public abstract class LazySodium implements
     public String cryptoGenericHash(String in) throws SodiumException {
         byte[] message = bytes(in);
         byte[] hash = randomBytesBuf(GenericHash.BYTES);
-        boolean res = cryptoGenericHash(hash, hash.length, message, message.length, null, 0);
+        boolean res = genericHashStaged(hash, message, null);
 
         if (!res) {
             throw new SodiumException("Could not hash the message.");
@@ -2134,6 +2893,25 @@ public abstract class LazySodium implements
         return messageEncoder.encode(hash);
     }
 
+    /**
+     * {@code crypto_generichash} with every argument staged in the
+     * per-thread {@link NativeScratch} block.
+     */
+    private boolean genericHashStaged(byte[] out, byte[] in, byte[] key) {
+        int keyLen = key == null ? 0 : key.length;
+        long inOffset = out.length + keyLen;
+        try (NativeScratch scratch = NativeScratch.acquire(inOffset + in.length)) {
+            Pointer o = scratch.at(0);
+            Pointer k = key == null ? null : scratch.put(out.length, key);
+            Pointer i = scratch.put(inOffset, in);
+            if (!successful(getSodium().crypto_generichash(o, out.length, i, in.length, k, keyLen))) {
+                return false;
+            }
+            scratch.get(0, out, 0, out.length);
+            return true;
+        }
+    }
+
     @Override
     public boolean cryptoGenericHashInit(byte[] state, Key key, int outLen) {
         byte[] keyBytes = key.getAsBytes();
@@ -2272,6 +3050,536 @@ public abstract class LazySodium implements
         return getSodium().crypto_aead_aes256gcm_is_available() == 1;
     }
 
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305Encrypt(ByteBuffer c, ByteBuffer m, ByteBuffer ad, byte[] nSec, byte[] nPub, byte[] k) {
+        int cLen = aeadCipherLen(c, m, AEAD.CHACHA20POLY1305_ABYTES);
+        int res = getSodium().crypto_aead_chacha20poly1305_encrypt(c, null, m, m.remaining(), ad, remaining(ad), nSec, nPub, k);
+        return aeadAdvance(res, c, cLen, m, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305Decrypt(ByteBuffer m, byte[] nSec, ByteBuffer c, ByteBuffer ad, byte[] nPub, byte[] k) {
+        int mLen = aeadMessageLen(m, c, AEAD.CHACHA20POLY1305_ABYTES);
+        int res = getSodium().crypto_aead_chacha20poly1305_decrypt(m, null, nSec, c, c.remaining(), ad, remaining(ad), nPub, k);
+        return aeadAdvance(res, m, mLen, c, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305EncryptDetached(ByteBuffer c, ByteBuffer mac, ByteBuffer m, ByteBuffer ad, byte[] nSec, byte[] nPub, byte[] k) {
+        int cLen = aeadCipherLen(c, m, 0);
+        aeadMacLen(mac, AEAD.CHACHA20POLY1305_ABYTES);
+        int res = getSodium().crypto_aead_chacha20poly1305_encrypt_detached(c, mac, null, m, m.remaining(), ad, remaining(ad), nSec, nPub, k);
+        return aeadAdvanceDetached(res, c, cLen, mac, AEAD.CHACHA20POLY1305_ABYTES, m, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305DecryptDetached(ByteBuffer m, byte[] nSec, ByteBuffer c, ByteBuffer mac, ByteBuffer ad, byte[] nPub, byte[] k) {
+        int mLen = aeadMessageLen(m, c, 0);
+        aeadMacLen(mac, AEAD.CHACHA20POLY1305_ABYTES);
+        int res = getSodium().crypto_aead_chacha20poly1305_decrypt_detached(m, nSec, c, c.remaining(), mac, ad, remaining(ad), nPub, k);
+        return aeadAdvanceDetached(res, m, mLen, mac, AEAD.CHACHA20POLY1305_ABYTES, c, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305IetfEncrypt(ByteBuffer c, ByteBuffer m, ByteBuffer ad, byte[] nSec, byte[] nPub, byte[] k) {
+        int cLen = aeadCipherLen(c, m, AEAD.CHACHA20POLY1305_IETF_ABYTES);
+        int res = getSodium().crypto_aead_chacha20poly1305_ietf_encrypt(c, null, m, m.remaining(), ad, remaining(ad), nSec, nPub, k);
+        return aeadAdvance(res, c, cLen, m, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305IetfDecrypt(ByteBuffer m, byte[] nSec, ByteBuffer c, ByteBuffer ad, byte[] nPub, byte[] k) {
+        int mLen = aeadMessageLen(m, c, AEAD.CHACHA20POLY1305_IETF_ABYTES);
+        int res = getSodium().crypto_aead_chacha20poly1305_ietf_decrypt(m, null, nSec, c, c.remaining(), ad, remaining(ad), nPub, k);
+        return aeadAdvance(res, m, mLen, c, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305IetfEncryptDetached(ByteBuffer c, ByteBuffer mac, ByteBuffer m, ByteBuffer ad, byte[] nSec, byte[] nPub, byte[] k) {
+        int cLen = aeadCipherLen(c, m, 0);
+        aeadMacLen(mac, AEAD.CHACHA20POLY1305_IETF_ABYTES);
+        int res = getSodium().crypto_aead_chacha20poly1305_ietf_encrypt_detached(c, mac, null, m, m.remaining(), ad, remaining(ad), nSec, nPub, k);
+        return aeadAdvanceDetached(res, c, cLen, mac, AEAD.CHACHA20POLY1305_IETF_ABYTES, m, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305IetfDecryptDetached(ByteBuffer m, byte[] nSec, ByteBuffer c, ByteBuffer mac, ByteBuffer ad, byte[] nPub, byte[] k) {
+        int mLen = aeadMessageLen(m, c, 0);
+        aeadMacLen(mac, AEAD.CHACHA20POLY1305_IETF_ABYTES);
+        int res = getSodium().crypto_aead_chacha20poly1305_ietf_decrypt_detached(m, nSec, c, c.remaining(), mac, ad, remaining(ad), nPub, k);
+        return aeadAdvanceDetached(res, m, mLen, mac, AEAD.CHACHA20POLY1305_IETF_ABYTES, c, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadXChaCha20Poly1305IetfEncrypt(ByteBuffer c, ByteBuffer m, ByteBuffer ad, byte[] nSec, byte[] nPub, byte[] k) {
+        int cLen = aeadCipherLen(c, m, AEAD.XCHACHA20POLY1305_IETF_ABYTES);
+        int res = getSodium().crypto_aead_xchacha20poly1305_ietf_encrypt(c, null, m, m.remaining(), ad, remaining(ad), nSec, nPub, k);
+        return aeadAdvance(res, c, cLen, m, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadXChaCha20Poly1305IetfDecrypt(ByteBuffer m, byte[] nSec, ByteBuffer c, ByteBuffer ad, byte[] nPub, byte[] k) {
+        int mLen = aeadMessageLen(m, c, AEAD.XCHACHA20POLY1305_IETF_ABYTES);
+        int res = getSodium().crypto_aead_xchacha20poly1305_ietf_decrypt(m, null, nSec, c, c.remaining(), ad, remaining(ad), nPub, k);
+        return aeadAdvance(res, m, mLen, c, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadXChaCha20Poly1305IetfEncryptDetached(ByteBuffer c, ByteBuffer mac, ByteBuffer m, ByteBuffer ad, byte[] nSec, byte[] nPub, byte[] k) {
+        int cLen = aeadCipherLen(c, m, 0);
+        aeadMacLen(mac, AEAD.XCHACHA20POLY1305_IETF_ABYTES);
+        int res = getSodium().crypto_aead_xchacha20poly1305_ietf_encrypt_detached(c, mac, null, m, m.remaining(), ad, remaining(ad), nSec, nPub, k);
+        return aeadAdvanceDetached(res, c, cLen, mac, AEAD.XCHACHA20POLY1305_IETF_ABYTES, m, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadXChaCha20Poly1305IetfDecryptDetached(ByteBuffer m, byte[] nSec, ByteBuffer c, ByteBuffer mac, ByteBuffer ad, byte[] nPub, byte[] k) {
+        int mLen = aeadMessageLen(m, c, 0);
+        aeadMacLen(mac, AEAD.XCHACHA20POLY1305_IETF_ABYTES);
+        int res = getSodium().crypto_aead_xchacha20poly1305_ietf_decrypt_detached(m, nSec, c, c.remaining(), mac, ad, remaining(ad), nPub, k);
+        return aeadAdvanceDetached(res, m, mLen, mac, AEAD.XCHACHA20POLY1305_IETF_ABYTES, c, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadAES256GCMEncrypt(ByteBuffer c, ByteBuffer m, ByteBuffer ad, byte[] nSec, byte[] nPub, byte[] k) {
+        int cLen = aeadCipherLen(c, m, AEAD.AES256GCM_ABYTES);
+        int res = getSodium().crypto_aead_aes256gcm_encrypt(c, null, m, m.remaining(), ad, remaining(ad), nSec, nPub, k);
+        return aeadAdvance(res, c, cLen, m, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadAES256GCMDecrypt(ByteBuffer m, byte[] nSec, ByteBuffer c, ByteBuffer ad, byte[] nPub, byte[] k) {
+        int mLen = aeadMessageLen(m, c, AEAD.AES256GCM_ABYTES);
+        int res = getSodium().crypto_aead_aes256gcm_decrypt(m, null, nSec, c, c.remaining(), ad, remaining(ad), nPub, k);
+        return aeadAdvance(res, m, mLen, c, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadAES256GCMEncryptDetached(ByteBuffer c, ByteBuffer mac, ByteBuffer m, ByteBuffer ad, byte[] nSec, byte[] nPub, byte[] k) {
+        int cLen = aeadCipherLen(c, m, 0);
+        aeadMacLen(mac, AEAD.AES256GCM_ABYTES);
+        int res = getSodium().crypto_aead_aes256gcm_encrypt_detached(c, mac, null, m, m.remaining(), ad, remaining(ad), nSec, nPub, k);
+        return aeadAdvanceDetached(res, c, cLen, mac, AEAD.AES256GCM_ABYTES, m, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadAES256GCMDecryptDetached(ByteBuffer m, byte[] nSec, ByteBuffer c, ByteBuffer mac, ByteBuffer ad, byte[] nPub, byte[] k) {
+        int mLen = aeadMessageLen(m, c, 0);
+        aeadMacLen(mac, AEAD.AES256GCM_ABYTES);
+        int res = getSodium().crypto_aead_aes256gcm_decrypt_detached(m, nSec, c, c.remaining(), mac, ad, remaining(ad), nPub, k);
+        return aeadAdvanceDetached(res, m, mLen, mac, AEAD.AES256GCM_ABYTES, c, ad);
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305Encrypt(byte[] cipher, int cipherOffset, byte[] message, int messageOffset, int messageLen, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nSec, byte[] nPub, byte[] key) {
+        int cipherLen = messageLen + AEAD.CHACHA20POLY1305_ABYTES;
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + adLen + cipherLen)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer a = additionalData == null ? null : scratch.put(messageLen, additionalData, additionalDataOffset, adLen);
+            Pointer c = scratch.at((long) messageLen + adLen);
+            if (!successful(getSodium().crypto_aead_chacha20poly1305_encrypt(c, null, m, messageLen, a, adLen, nSec, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) messageLen + adLen, cipher, cipherOffset, cipherLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305Decrypt(byte[] message, int messageOffset, byte[] nSec, byte[] cipher, int cipherOffset, int cipherLen, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nPub, byte[] key) {
+        int messageLen = cipherLen - AEAD.CHACHA20POLY1305_ABYTES;
+        if (messageLen < 0) {
+            throw new IllegalArgumentException("cipherLen out of bounds: " + cipherLen);
+        }
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherLen + adLen + messageLen)) {
+            Pointer c = scratch.put(0, cipher, cipherOffset, cipherLen);
+            Pointer a = additionalData == null ? null : scratch.put(cipherLen, additionalData, additionalDataOffset, adLen);
+            Pointer m = scratch.at((long) cipherLen + adLen);
+            if (!successful(getSodium().crypto_aead_chacha20poly1305_decrypt(m, null, nSec, c, cipherLen, a, adLen, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) cipherLen + adLen, message, messageOffset, messageLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305EncryptDetached(byte[] cipher, int cipherOffset, byte[] mac, int macOffset, byte[] message, int messageOffset, int messageLen, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nSec, byte[] nPub, byte[] key) {
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(cipher, cipherOffset, messageLen, "cipherLen");
+        BaseChecker.checkSlice(mac, macOffset, AEAD.CHACHA20POLY1305_ABYTES, "mac");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + adLen + messageLen + AEAD.CHACHA20POLY1305_ABYTES)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer a = additionalData == null ? null : scratch.put(messageLen, additionalData, additionalDataOffset, adLen);
+            Pointer c = scratch.at((long) messageLen + adLen);
+            Pointer tag = scratch.at((long) messageLen + adLen + messageLen);
+            if (!successful(getSodium().crypto_aead_chacha20poly1305_encrypt_detached(c, tag, null, m, messageLen, a, adLen, nSec, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) messageLen + adLen, cipher, cipherOffset, messageLen);
+            scratch.get((long) messageLen + adLen + messageLen, mac, macOffset, AEAD.CHACHA20POLY1305_ABYTES);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305DecryptDetached(byte[] message, int messageOffset, byte[] nSec, byte[] cipher, int cipherOffset, int cipherLen, byte[] mac, int macOffset, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nPub, byte[] key) {
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        BaseChecker.checkSlice(mac, macOffset, AEAD.CHACHA20POLY1305_ABYTES, "mac");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(message, messageOffset, cipherLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherLen + AEAD.CHACHA20POLY1305_ABYTES + adLen + cipherLen)) {
+            Pointer c = scratch.put(0, cipher, cipherOffset, cipherLen);
+            Pointer tag = scratch.put(cipherLen, mac, macOffset, AEAD.CHACHA20POLY1305_ABYTES);
+            Pointer a = additionalData == null ? null : scratch.put((long) cipherLen + AEAD.CHACHA20POLY1305_ABYTES, additionalData, additionalDataOffset, adLen);
+            Pointer m = scratch.at((long) cipherLen + AEAD.CHACHA20POLY1305_ABYTES + adLen);
+            if (!successful(getSodium().crypto_aead_chacha20poly1305_decrypt_detached(m, nSec, c, cipherLen, tag, a, adLen, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) cipherLen + AEAD.CHACHA20POLY1305_ABYTES + adLen, message, messageOffset, cipherLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305IetfEncrypt(byte[] cipher, int cipherOffset, byte[] message, int messageOffset, int messageLen, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nSec, byte[] nPub, byte[] key) {
+        int cipherLen = messageLen + AEAD.CHACHA20POLY1305_IETF_ABYTES;
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + adLen + cipherLen)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer a = additionalData == null ? null : scratch.put(messageLen, additionalData, additionalDataOffset, adLen);
+            Pointer c = scratch.at((long) messageLen + adLen);
+            if (!successful(getSodium().crypto_aead_chacha20poly1305_ietf_encrypt(c, null, m, messageLen, a, adLen, nSec, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) messageLen + adLen, cipher, cipherOffset, cipherLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305IetfDecrypt(byte[] message, int messageOffset, byte[] nSec, byte[] cipher, int cipherOffset, int cipherLen, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nPub, byte[] key) {
+        int messageLen = cipherLen - AEAD.CHACHA20POLY1305_IETF_ABYTES;
+        if (messageLen < 0) {
+            throw new IllegalArgumentException("cipherLen out of bounds: " + cipherLen);
+        }
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherLen + adLen + messageLen)) {
+            Pointer c = scratch.put(0, cipher, cipherOffset, cipherLen);
+            Pointer a = additionalData == null ? null : scratch.put(cipherLen, additionalData, additionalDataOffset, adLen);
+            Pointer m = scratch.at((long) cipherLen + adLen);
+            if (!successful(getSodium().crypto_aead_chacha20poly1305_ietf_decrypt(m, null, nSec, c, cipherLen, a, adLen, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) cipherLen + adLen, message, messageOffset, messageLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305IetfEncryptDetached(byte[] cipher, int cipherOffset, byte[] mac, int macOffset, byte[] message, int messageOffset, int messageLen, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nSec, byte[] nPub, byte[] key) {
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(cipher, cipherOffset, messageLen, "cipherLen");
+        BaseChecker.checkSlice(mac, macOffset, AEAD.CHACHA20POLY1305_IETF_ABYTES, "mac");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + adLen + messageLen + AEAD.CHACHA20POLY1305_IETF_ABYTES)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer a = additionalData == null ? null : scratch.put(messageLen, additionalData, additionalDataOffset, adLen);
+            Pointer c = scratch.at((long) messageLen + adLen);
+            Pointer tag = scratch.at((long) messageLen + adLen + messageLen);
+            if (!successful(getSodium().crypto_aead_chacha20poly1305_ietf_encrypt_detached(c, tag, null, m, messageLen, a, adLen, nSec, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) messageLen + adLen, cipher, cipherOffset, messageLen);
+            scratch.get((long) messageLen + adLen + messageLen, mac, macOffset, AEAD.CHACHA20POLY1305_IETF_ABYTES);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadChaCha20Poly1305IetfDecryptDetached(byte[] message, int messageOffset, byte[] nSec, byte[] cipher, int cipherOffset, int cipherLen, byte[] mac, int macOffset, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nPub, byte[] key) {
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        BaseChecker.checkSlice(mac, macOffset, AEAD.CHACHA20POLY1305_IETF_ABYTES, "mac");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(message, messageOffset, cipherLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherLen + AEAD.CHACHA20POLY1305_IETF_ABYTES + adLen + cipherLen)) {
+            Pointer c = scratch.put(0, cipher, cipherOffset, cipherLen);
+            Pointer tag = scratch.put(cipherLen, mac, macOffset, AEAD.CHACHA20POLY1305_IETF_ABYTES);
+            Pointer a = additionalData == null ? null : scratch.put((long) cipherLen + AEAD.CHACHA20POLY1305_IETF_ABYTES, additionalData, additionalDataOffset, adLen);
+            Pointer m = scratch.at((long) cipherLen + AEAD.CHACHA20POLY1305_IETF_ABYTES + adLen);
+            if (!successful(getSodium().crypto_aead_chacha20poly1305_ietf_decrypt_detached(m, nSec, c, cipherLen, tag, a, adLen, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) cipherLen + AEAD.CHACHA20POLY1305_IETF_ABYTES + adLen, message, messageOffset, cipherLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadXChaCha20Poly1305IetfEncrypt(byte[] cipher, int cipherOffset, byte[] message, int messageOffset, int messageLen, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nSec, byte[] nPub, byte[] key) {
+        int cipherLen = messageLen + AEAD.XCHACHA20POLY1305_IETF_ABYTES;
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + adLen + cipherLen)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer a = additionalData == null ? null : scratch.put(messageLen, additionalData, additionalDataOffset, adLen);
+            Pointer c = scratch.at((long) messageLen + adLen);
+            if (!successful(getSodium().crypto_aead_xchacha20poly1305_ietf_encrypt(c, null, m, messageLen, a, adLen, nSec, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) messageLen + adLen, cipher, cipherOffset, cipherLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadXChaCha20Poly1305IetfDecrypt(byte[] message, int messageOffset, byte[] nSec, byte[] cipher, int cipherOffset, int cipherLen, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nPub, byte[] key) {
+        int messageLen = cipherLen - AEAD.XCHACHA20POLY1305_IETF_ABYTES;
+        if (messageLen < 0) {
+            throw new IllegalArgumentException("cipherLen out of bounds: " + cipherLen);
+        }
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherLen + adLen + messageLen)) {
+            Pointer c = scratch.put(0, cipher, cipherOffset, cipherLen);
+            Pointer a = additionalData == null ? null : scratch.put(cipherLen, additionalData, additionalDataOffset, adLen);
+            Pointer m = scratch.at((long) cipherLen + adLen);
+            if (!successful(getSodium().crypto_aead_xchacha20poly1305_ietf_decrypt(m, null, nSec, c, cipherLen, a, adLen, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) cipherLen + adLen, message, messageOffset, messageLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadXChaCha20Poly1305IetfEncryptDetached(byte[] cipher, int cipherOffset, byte[] mac, int macOffset, byte[] message, int messageOffset, int messageLen, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nSec, byte[] nPub, byte[] key) {
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(cipher, cipherOffset, messageLen, "cipherLen");
+        BaseChecker.checkSlice(mac, macOffset, AEAD.XCHACHA20POLY1305_IETF_ABYTES, "mac");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + adLen + messageLen + AEAD.XCHACHA20POLY1305_IETF_ABYTES)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer a = additionalData == null ? null : scratch.put(messageLen, additionalData, additionalDataOffset, adLen);
+            Pointer c = scratch.at((long) messageLen + adLen);
+            Pointer tag = scratch.at((long) messageLen + adLen + messageLen);
+            if (!successful(getSodium().crypto_aead_xchacha20poly1305_ietf_encrypt_detached(c, tag, null, m, messageLen, a, adLen, nSec, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) messageLen + adLen, cipher, cipherOffset, messageLen);
+            scratch.get((long) messageLen + adLen + messageLen, mac, macOffset, AEAD.XCHACHA20POLY1305_IETF_ABYTES);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadXChaCha20Poly1305IetfDecryptDetached(byte[] message, int messageOffset, byte[] nSec, byte[] cipher, int cipherOffset, int cipherLen, byte[] mac, int macOffset, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nPub, byte[] key) {
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        BaseChecker.checkSlice(mac, macOffset, AEAD.XCHACHA20POLY1305_IETF_ABYTES, "mac");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(message, messageOffset, cipherLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherLen + AEAD.XCHACHA20POLY1305_IETF_ABYTES + adLen + cipherLen)) {
+            Pointer c = scratch.put(0, cipher, cipherOffset, cipherLen);
+            Pointer tag = scratch.put(cipherLen, mac, macOffset, AEAD.XCHACHA20POLY1305_IETF_ABYTES);
+            Pointer a = additionalData == null ? null : scratch.put((long) cipherLen + AEAD.XCHACHA20POLY1305_IETF_ABYTES, additionalData, additionalDataOffset, adLen);
+            Pointer m = scratch.at((long) cipherLen + AEAD.XCHACHA20POLY1305_IETF_ABYTES + adLen);
+            if (!successful(getSodium().crypto_aead_xchacha20poly1305_ietf_decrypt_detached(m, nSec, c, cipherLen, tag, a, adLen, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) cipherLen + AEAD.XCHACHA20POLY1305_IETF_ABYTES + adLen, message, messageOffset, cipherLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadAES256GCMEncrypt(byte[] cipher, int cipherOffset, byte[] message, int messageOffset, int messageLen, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nSec, byte[] nPub, byte[] key) {
+        int cipherLen = messageLen + AEAD.AES256GCM_ABYTES;
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + adLen + cipherLen)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer a = additionalData == null ? null : scratch.put(messageLen, additionalData, additionalDataOffset, adLen);
+            Pointer c = scratch.at((long) messageLen + adLen);
+            if (!successful(getSodium().crypto_aead_aes256gcm_encrypt(c, null, m, messageLen, a, adLen, nSec, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) messageLen + adLen, cipher, cipherOffset, cipherLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadAES256GCMDecrypt(byte[] message, int messageOffset, byte[] nSec, byte[] cipher, int cipherOffset, int cipherLen, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nPub, byte[] key) {
+        int messageLen = cipherLen - AEAD.AES256GCM_ABYTES;
+        if (messageLen < 0) {
+            throw new IllegalArgumentException("cipherLen out of bounds: " + cipherLen);
+        }
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherLen + adLen + messageLen)) {
+            Pointer c = scratch.put(0, cipher, cipherOffset, cipherLen);
+            Pointer a = additionalData == null ? null : scratch.put(cipherLen, additionalData, additionalDataOffset, adLen);
+            Pointer m = scratch.at((long) cipherLen + adLen);
+            if (!successful(getSodium().crypto_aead_aes256gcm_decrypt(m, null, nSec, c, cipherLen, a, adLen, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) cipherLen + adLen, message, messageOffset, messageLen);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadAES256GCMEncryptDetached(byte[] cipher, int cipherOffset, byte[] mac, int macOffset, byte[] message, int messageOffset, int messageLen, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nSec, byte[] nPub, byte[] key) {
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(message, messageOffset, messageLen, "messageLen");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(cipher, cipherOffset, messageLen, "cipherLen");
+        BaseChecker.checkSlice(mac, macOffset, AEAD.AES256GCM_ABYTES, "mac");
+        try (NativeScratch scratch = NativeScratch.acquire((long) messageLen + adLen + messageLen + AEAD.AES256GCM_ABYTES)) {
+            Pointer m = scratch.put(0, message, messageOffset, messageLen);
+            Pointer a = additionalData == null ? null : scratch.put(messageLen, additionalData, additionalDataOffset, adLen);
+            Pointer c = scratch.at((long) messageLen + adLen);
+            Pointer tag = scratch.at((long) messageLen + adLen + messageLen);
+            if (!successful(getSodium().crypto_aead_aes256gcm_encrypt_detached(c, tag, null, m, messageLen, a, adLen, nSec, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) messageLen + adLen, cipher, cipherOffset, messageLen);
+            scratch.get((long) messageLen + adLen + messageLen, mac, macOffset, AEAD.AES256GCM_ABYTES);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean cryptoAeadAES256GCMDecryptDetached(byte[] message, int messageOffset, byte[] nSec, byte[] cipher, int cipherOffset, int cipherLen, byte[] mac, int macOffset, byte[] additionalData, int additionalDataOffset, int additionalDataLen, byte[] nPub, byte[] key) {
+        int adLen = additionalData == null ? 0 : additionalDataLen;
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        BaseChecker.checkSlice(mac, macOffset, AEAD.AES256GCM_ABYTES, "mac");
+        if (additionalData != null) {
+            BaseChecker.checkSlice(additionalData, additionalDataOffset, adLen, "additionalDataLen");
+        }
+        BaseChecker.checkSlice(message, messageOffset, cipherLen, "messageLen");
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherLen + AEAD.AES256GCM_ABYTES + adLen + cipherLen)) {
+            Pointer c = scratch.put(0, cipher, cipherOffset, cipherLen);
+            Pointer tag = scratch.put(cipherLen, mac, macOffset, AEAD.AES256GCM_ABYTES);
+            Pointer a = additionalData == null ? null : scratch.put((long) cipherLen + AEAD.AES256GCM_ABYTES, additionalData, additionalDataOffset, adLen);
+            Pointer m = scratch.at((long) cipherLen + AEAD.AES256GCM_ABYTES + adLen);
+            if (!successful(getSodium().crypto_aead_aes256gcm_decrypt_detached(m, nSec, c, cipherLen, tag, a, adLen, nPub, key))) {
+                return false;
+            }
+            scratch.get((long) cipherLen + AEAD.AES256GCM_ABYTES + adLen, message, messageOffset, cipherLen);
+            return true;
+        }
+    }
+
+    private static int remaining(ByteBuffer buffer) {
+        return buffer == null ? 0 : buffer.remaining();
+    }
+
+    private static int aeadCipherLen(ByteBuffer c, ByteBuffer m, int aBytes) {
+        int cLen = m.remaining() + aBytes;
+        if (c.remaining() < cLen) {
+            throw new IllegalArgumentException("Cipher buffer too small: " + c.remaining() + " < " + cLen);
+        }
+        return cLen;
+    }
+
+    private static int aeadMessageLen(ByteBuffer m, ByteBuffer c, int aBytes) {
+        int mLen = c.remaining() - aBytes;
+        if (mLen < 0) {
+            throw new IllegalArgumentException("cLen out of bounds: " + c.remaining());
+        }
+        if (m.remaining() < mLen) {
+            throw new IllegalArgumentException("Message buffer too small: " + m.remaining() + " < " + mLen);
+        }
+        return mLen;
+    }
+
+    private static void aeadMacLen(ByteBuffer mac, int aBytes) {
+        if (mac.remaining() < aBytes) {
+            throw new IllegalArgumentException("Mac buffer too small: " + mac.remaining() + " < " + aBytes);
+        }
+    }
+
+    private boolean aeadAdvance(int res, ByteBuffer out, int outLen, ByteBuffer in, ByteBuffer ad) {
+        if (!successful(res)) {
+            return false;
+        }
+        // Cast to Buffer keeps the Java 8 method signatures when built on newer JDKs.
+        ((Buffer) out).position(out.position() + outLen);
+        ((Buffer) in).position(in.limit());
+        if (ad != null) {
+            ((Buffer) ad).position(ad.limit());
+        }
+        return true;
+    }
+
+    private boolean aeadAdvanceDetached(int res, ByteBuffer out, int outLen, ByteBuffer mac, int macLen, ByteBuffer in, ByteBuffer ad) {
+        if (!aeadAdvance(res, out, outLen, in, ad)) {
+            return false;
+        }
+        ((Buffer) mac).position(mac.position() + macLen);
+        return true;
+    }
+
 
     // -- lazy
 
@@ -2310,6 +3618,11 @@ public abstract class LazySodium implements
         long additionalBytesLen = additionalData == null ? 0L : additionalDataBytes.length;
         byte[] keyBytes = k.getAsBytes();
 
+        if (nSec == null) {
+            byte[] cipherBytes = new byte[messageBytes.length + AEAD.aBytes(method)];
+            aeadEncrypt(messageBytes, 0, messageBytes.length, additionalDataBytes, nPub, keyBytes, method, cipherBytes, 0);
+            return messageEncoder.encode(cipherBytes);
+        }
         if (method.equals(AEAD.Method.CHACHA20_POLY1305)) {
             byte[] cipherBytes = new byte[messageBytes.length + AEAD.CHACHA20POLY1305_ABYTES];
             cryptoAeadChaCha20Poly1305Encrypt(
@@ -2382,6 +3695,13 @@ public abstract class LazySodium implements
         long additionalBytesLen = additionalData == null ? 0L : additionalDataBytes.length;
         byte[] keyBytes = k.getAsBytes();
 
+        if (nSec == null) {
+            byte[] messageBytes = new byte[cipherBytes.length - AEAD.aBytes(method)];
+            if (!aeadDecrypt(cipherBytes, 0, cipherBytes.length, additionalDataBytes, nPub, keyBytes, method, messageBytes, 0)) {
+                throw new AEADBadTagException();
+            }
+            return str(messageBytes);
+        }
         if (method.equals(AEAD.Method.CHACHA20_POLY1305)) {
             byte[] messageBytes = new byte[cipherBytes.length - AEAD.CHACHA20POLY1305_ABYTES];
             if (!cryptoAeadChaCha20Poly1305Decrypt(
@@ -2593,9 +3913,387 @@ public abstract class LazySodium implements
         }
     }
 
+    @Override
+    public int encrypt(byte[] m, int mOffset, int mLen, byte[] additionalData, byte[] nPub, Key k, AEAD.Method method,
+                       byte[] out, int outOffset) {
+        if (!aeadEncrypt(m, mOffset, mLen, additionalData, nPub, k.getAsBytes(), method, out, outOffset)) {
+            throw new IllegalStateException("Could not encrypt the message.");
+        }
+        return mLen + AEAD.aBytes(method);
+    }
+
+    @Override
+    public int encryptEncoded(byte[] m, int mOffset, int mLen, byte[] additionalData, byte[] nPub, Key k, AEAD.Method method,
+                              byte[] out, int outOffset) {
+        int cipherLen = mLen + AEAD.aBytes(method);
+        int encodedLen = messageEncoder.encodedLength(cipherLen);
+        BaseChecker.checkSlice(out, outOffset, encodedLen, "out");
+        // Encrypt into the tail of the output range and encode forwards over it.
+        int cipherOffset = outOffset + encodedLen - cipherLen;
+        encrypt(m, mOffset, mLen, additionalData, nPub, k, method, out, cipherOffset);
+        return messageEncoder.encode(out, cipherOffset, cipherLen, out, outOffset);
+    }
+
+    @Override
+    public int encrypt(ByteBuffer m, ByteBuffer additionalData, byte[] nPub, Key k, AEAD.Method method, ByteBuffer out) {
+        int start = out.position();
+        byte[] key = k.getAsBytes();
+        boolean res;
+        switch (method) {
+            case CHACHA20_POLY1305:
+                res = cryptoAeadChaCha20Poly1305Encrypt(out, m, additionalData, null, nPub, key);
+                break;
+            case CHACHA20_POLY1305_IETF:
+                res = cryptoAeadChaCha20Poly1305IetfEncrypt(out, m, additionalData, null, nPub, key);
+                break;
+            case XCHACHA20_POLY1305_IETF:
+                res = cryptoAeadXChaCha20Poly1305IetfEncrypt(out, m, additionalData, null, nPub, key);
+                break;
+            default:
+                res = cryptoAeadAES256GCMEncrypt(out, m, additionalData, null, nPub, key);
+                break;
+        }
+        if (!res) {
+            throw new IllegalStateException("Could not encrypt the message.");
+        }
+        return out.position() - start;
+    }
+
+    @Override
+    public int decrypt(byte[] cipher, int cipherOffset, int cipherLen, byte[] additionalData, byte[] nPub, Key k, AEAD.Method method,
+                       byte[] out, int outOffset) throws AEADBadTagException {
+        if (!aeadDecrypt(cipher, cipherOffset, cipherLen, additionalData, nPub, k.getAsBytes(), method, out, outOffset)) {
+            throw new AEADBadTagException();
+        }
+        return cipherLen - AEAD.aBytes(method);
+    }
+
+    @Override
+    public int decryptEncoded(byte[] encoded, int encodedOffset, int encodedLen, byte[] additionalData, byte[] nPub, Key k,
+                              AEAD.Method method, byte[] out, int outOffset) throws AEADBadTagException {
+        int cipherLen = messageEncoder.decode(encoded, encodedOffset, encodedLen, out, outOffset);
+        return decrypt(out, outOffset, cipherLen, additionalData, nPub, k, method, out, outOffset);
+    }
+
+    @Override
+    public int decrypt(ByteBuffer cipher, ByteBuffer additionalData, byte[] nPub, Key k, AEAD.Method method, ByteBuffer out)
+            throws AEADBadTagException {
+        int start = out.position();
+        byte[] key = k.getAsBytes();
+        boolean res;
+        switch (method) {
+            case CHACHA20_POLY1305:
+                res = cryptoAeadChaCha20Poly1305Decrypt(out, null, cipher, additionalData, nPub, key);
+                break;
+            case CHACHA20_POLY1305_IETF:
+                res = cryptoAeadChaCha20Poly1305IetfDecrypt(out, null, cipher, additionalData, nPub, key);
+                break;
+            case XCHACHA20_POLY1305_IETF:
+                res = cryptoAeadXChaCha20Poly1305IetfDecrypt(out, null, cipher, additionalData, nPub, key);
+                break;
+            default:
+                res = cryptoAeadAES256GCMDecrypt(out, null, cipher, additionalData, nPub, key);
+                break;
+        }
+        if (!res) {
+            throw new AEADBadTagException();
+        }
+        return out.position() - start;
+    }
+
+    @Override
+    public int encrypt(byte[] m, int mOffset, int mLen, byte[] additionalData, byte[] nPub, SecureKey k, AEAD.Method method,
+                       byte[] out, int outOffset) {
+        int cipherLen = mLen + AEAD.aBytes(method);
+        int adLen = additionalData == null ? 0 : additionalData.length;
+        BaseChecker.checkSlice(m, mOffset, mLen, "mLen");
+        BaseChecker.checkSlice(out, outOffset, cipherLen, "out");
+        BaseChecker.checkSlice(nPub, 0, AEAD.nPubBytes(method), "nPub");
+        checkKeySize(k, AEAD.keyBytes(method));
+        int res;
+        Pointer key = k.acquire();
+        try (NativeScratch scratch = NativeScratch.acquire((long) mLen + adLen + nPub.length + cipherLen)) {
+            Pointer mp = scratch.put(0, m, mOffset, mLen);
+            Pointer ad = additionalData == null ? null : scratch.put(mLen, additionalData, 0, adLen);
+            Pointer np = scratch.put((long) mLen + adLen, nPub, 0, nPub.length);
+            long cOffset = (long) mLen + adLen + nPub.length;
+            res = aeadEncrypt(method, scratch.at(cOffset), mp, mLen, ad, adLen, np, key);
+            if (successful(res)) {
+                scratch.get(cOffset, out, outOffset, cipherLen);
+            }
+        } finally {
+            k.release();
+        }
+        if (!successful(res)) {
+            throw new IllegalStateException("Could not encrypt the message.");
+        }
+        return cipherLen;
+    }
+
+    @Override
+    public int decrypt(byte[] cipher, int cipherOffset, int cipherLen, byte[] additionalData, byte[] nPub, SecureKey k, AEAD.Method method,
+                       byte[] out, int outOffset) throws AEADBadTagException {
+        int mLen = cipherLen - AEAD.aBytes(method);
+        if (mLen < 0) {
+            throw new IllegalArgumentException("cipherLen out of bounds: " + cipherLen);
+        }
+        int adLen = additionalData == null ? 0 : additionalData.length;
+        BaseChecker.checkSlice(cipher, cipherOffset, cipherLen, "cipherLen");
+        BaseChecker.checkSlice(out, outOffset, mLen, "out");
+        BaseChecker.checkSlice(nPub, 0, AEAD.nPubBytes(method), "nPub");
+        checkKeySize(k, AEAD.keyBytes(method));
+        int res;
+        Pointer key = k.acquire();
+        try (NativeScratch scratch = NativeScratch.acquire((long) cipherLen + adLen + nPub.length + mLen)) {
+            Pointer cp = scratch.put(0, cipher, cipherOffset, cipherLen);
+            Pointer ad = additionalData == null ? null : scratch.put(cipherLen, additionalData, 0, adLen);
+            Pointer np = scratch.put((long) cipherLen + adLen, nPub, 0, nPub.length);
+            long mOffset = (long) cipherLen + adLen + nPub.length;
+            res = aeadDecrypt(method, scratch.at(mOffset), cp, cipherLen, ad, adLen, np, key);
+            if (successful(res)) {
+                scratch.get(mOffset, out, outOffset, mLen);
+            }
+        } finally {
+            k.release();
+        }
+        if (!successful(res)) {
+            throw new AEADBadTagException();
+        }
+        return mLen;
+    }
+
+    private boolean aeadEncrypt(byte[] m, int mOffset, int mLen, byte[] ad, byte[] nPub, byte[] key, AEAD.Method method,
+                                byte[] out, int outOffset) {
+        int adLen = ad == null ? 0 : ad.length;
+        if (aeadStageable(nPub, key, method)) {
+            // Stage everything in the per-thread scratch block so JNA allocates nothing per call.
+            int cLen = mLen + AEAD.aBytes(method);
+            long kOffset = nPub.length;
+            long adOffset = kOffset + key.length;
+            long mOffsetInScratch = adOffset + adLen;
+            long cOffset = mOffsetInScratch + mLen;
+            try (NativeScratch scratch = NativeScratch.acquire(cOffset + cLen)) {
+                Pointer n = scratch.put(0, nPub);
+                Pointer k = scratch.put(kOffset, key);
+                Pointer a = ad == null ? null : scratch.put(adOffset, ad);
+                Pointer mp = scratch.put(mOffsetInScratch, m, mOffset, mLen);
+                Pointer c = scratch.at(cOffset);
+                if (!successful(aeadEncrypt(method, c, mp, mLen, a, adLen, n, k))) {
+                    return false;
+                }
+                scratch.get(cOffset, out, outOffset, cLen);
+                return true;
+            }
+        }
+        switch (method) {
+            case CHACHA20_POLY1305:
+                return cryptoAeadChaCha20Poly1305Encrypt(out, outOffset, m, mOffset, mLen, ad, 0, adLen, null, nPub, key);
+            case CHACHA20_POLY1305_IETF:
+                return cryptoAeadChaCha20Poly1305IetfEncrypt(out, outOffset, m, mOffset, mLen, ad, 0, adLen, null, nPub, key);
+            case XCHACHA20_POLY1305_IETF:
+                return cryptoAeadXChaCha20Poly1305IetfEncrypt(out, outOffset, m, mOffset, mLen, ad, 0, adLen, null, nPub, key);
+            default:
+                return cryptoAeadAES256GCMEncrypt(out, outOffset, m, mOffset, mLen, ad, 0, adLen, null, nPub, key);
+        }
+    }
+
+    private boolean aeadDecrypt(byte[] c, int cOffset, int cLen, byte[] ad, byte[] nPub, byte[] key, AEAD.Method method,
+                                byte[] out, int outOffset) {
+        int adLen = ad == null ? 0 : ad.length;
+        int mLen = cLen - AEAD.aBytes(method);
+        if (mLen >= 0 && aeadStageable(nPub, key, method)) {
+            long kOffset = nPub.length;
+            long adOffset = kOffset + key.length;
+            long cOffsetInScratch = adOffset + adLen;
+            long mOffset = cOffsetInScratch + cLen;
+            try (NativeScratch scratch = NativeScratch.acquire(mOffset + mLen)) {
+                Pointer n = scratch.put(0, nPub);
+                Pointer k = scratch.put(kOffset, key);
+                Pointer a = ad == null ? null : scratch.put(adOffset, ad);
+                Pointer cp = scratch.put(cOffsetInScratch, c, cOffset, cLen);
+                Pointer m = scratch.at(mOffset);
+                if (!successful(aeadDecrypt(method, m, cp, cLen, a, adLen, n, k))) {
+                    return false;
+                }
+                scratch.get(mOffset, out, outOffset, mLen);
+                return true;
+            }
+        }
+        switch (method) {
+            case CHACHA20_POLY1305:
+                return cryptoAeadChaCha20Poly1305Decrypt(out, outOffset, null, c, cOffset, cLen, ad, 0, adLen, nPub, key);
+            case CHACHA20_POLY1305_IETF:
+                return cryptoAeadChaCha20Poly1305IetfDecrypt(out, outOffset, null, c, cOffset, cLen, ad, 0, adLen, nPub, key);
+            case XCHACHA20_POLY1305_IETF:
+                return cryptoAeadXChaCha20Poly1305IetfDecrypt(out, outOffset, null, c, cOffset, cLen, ad, 0, adLen, nPub, key);
+            default:
+                return cryptoAeadAES256GCMDecrypt(out, outOffset, null, c, cOffset, cLen, ad, 0, adLen, nPub, key);
+        }
+    }
+
+    /**
+     * @return True if the nonce and key have the lengths {@code method} expects,
+     * so they can be staged in a scratch block without reading past either array.
+     */
+    private static boolean aeadStageable(byte[] nPub, byte[] key, AEAD.Method method) {
+        return nPub != null && key != null
+                && nPub.length == AEAD.nPubBytes(method) && key.length == AEAD.keyBytes(method);
+    }
+
+    @Override
+    public BitSet encryptBatch(byte[] messages, int[] messageBounds, byte[] additionalData, int[] adBounds,
+                               byte[] nonces, Key k, AEAD.Method method, byte[] out) {
+        int count = batchCount(messages, messageBounds, additionalData, adBounds, "messageBounds");
+        int aBytes = AEAD.aBytes(method);
+        int nPubBytes = AEAD.nPubBytes(method);
+        int messagesLen = messageBounds[count] - messageBounds[0];
+        int adLen = adBounds == null ? 0 : adBounds[count] - adBounds[0];
+        int outLen = messagesLen + count * aBytes;
+        BaseChecker.checkSlice(nonces, 0, count * nPubBytes, "nonces");
+        BaseChecker.checkSlice(out, 0, outLen, "out");
+        byte[] key = k.getAsBytes();
+        checkKeySize(key, AEAD.keyBytes(method));
+
+        BitSet result = new BitSet(count);
+        long adStart = messagesLen;
+        long nonceStart = adStart + adLen;
+        long keyStart = nonceStart + (long) count * nPubBytes;
+        long outStart = keyStart + key.length;
+        try (NativeScratch scratch = NativeScratch.acquire(outStart + outLen)) {
+            scratch.put(0, messages, messageBounds[0], messagesLen);
+            if (adBounds != null) {
+                scratch.put(adStart, additionalData, adBounds[0], adLen);
+            }
+            scratch.put(nonceStart, nonces, 0, count * nPubBytes);
+            Pointer kp = scratch.put(keyStart, key, 0, key.length);
+            for (int i = 0; i < count; i++) {
+                long mOffset = messageBounds[i] - messageBounds[0];
+                long mLen = messageBounds[i + 1] - messageBounds[i];
+                Pointer c = scratch.at(outStart + mOffset + (long) i * aBytes);
+                Pointer m = scratch.at(mOffset);
+                Pointer ad = adBounds == null ? null : scratch.at(adStart + adBounds[i] - adBounds[0]);
+                long adiLen = adBounds == null ? 0 : adBounds[i + 1] - adBounds[i];
+                Pointer nPub = scratch.at(nonceStart + (long) i * nPubBytes);
+                if (successful(aeadEncrypt(method, c, m, mLen, ad, adiLen, nPub, kp))) {
+                    result.set(i);
+                }
+            }
+            scratch.get(outStart, out, 0, outLen);
+        }
+        return result;
+    }
+
+    @Override
+    public BitSet decryptBatch(byte[] ciphers, int[] cipherBounds, byte[] additionalData, int[] adBounds,
+                               byte[] nonces, Key k, AEAD.Method method, byte[] out) {
+        int count = batchCount(ciphers, cipherBounds, additionalData, adBounds, "cipherBounds");
+        int aBytes = AEAD.aBytes(method);
+        int nPubBytes = AEAD.nPubBytes(method);
+        for (int i = 0; i < count; i++) {
+            if (cipherBounds[i + 1] - cipherBounds[i] < aBytes) {
+                throw new IllegalArgumentException("cipherBounds out of bounds: record " + i + " is shorter than " + aBytes);
+            }
+        }
+        int ciphersLen = cipherBounds[count] - cipherBounds[0];
+        int adLen = adBounds == null ? 0 : adBounds[count] - adBounds[0];
+        int outLen = ciphersLen - count * aBytes;
+        BaseChecker.checkSlice(nonces, 0, count * nPubBytes, "nonces");
+        BaseChecker.checkSlice(out, 0, outLen, "out");
+        byte[] key = k.getAsBytes();
+        checkKeySize(key, AEAD.keyBytes(method));
+
+        BitSet result = new BitSet(count);
+        long adStart = ciphersLen;
+        long nonceStart = adStart + adLen;
+        long keyStart = nonceStart + (long) count * nPubBytes;
+        long outStart = keyStart + key.length;
+        try (NativeScratch scratch = NativeScratch.acquire(outStart + outLen)) {
+            scratch.put(0, ciphers, cipherBounds[0], ciphersLen);
+            if (adBounds != null) {
+                scratch.put(adStart, additionalData, adBounds[0], adLen);
+            }
+            scratch.put(nonceStart, nonces, 0, count * nPubBytes);
+            Pointer kp = scratch.put(keyStart, key, 0, key.length);
+            for (int i = 0; i < count; i++) {
+                long cOffset = cipherBounds[i] - cipherBounds[0];
+                long cLen = cipherBounds[i + 1] - cipherBounds[i];
+                Pointer m = scratch.at(outStart + cOffset - (long) i * aBytes);
+                Pointer c = scratch.at(cOffset);
+                Pointer ad = adBounds == null ? null : scratch.at(adStart + adBounds[i] - adBounds[0]);
+                long adiLen = adBounds == null ? 0 : adBounds[i + 1] - adBounds[i];
+                Pointer nPub = scratch.at(nonceStart + (long) i * nPubBytes);
+                if (successful(aeadDecrypt(method, m, c, cLen, ad, adiLen, nPub, kp))) {
+                    result.set(i);
+                }
+            }
+            scratch.get(outStart, out, 0, outLen);
+        }
+        for (int i = result.nextClearBit(0); i < count; i = result.nextClearBit(i + 1)) {
+            int from = cipherBounds[i] - cipherBounds[0] - i * aBytes;
+            Arrays.fill(out, from, from + cipherBounds[i + 1] - cipherBounds[i] - aBytes, (byte) 0);
+        }
+        return result;
+    }
+
+    private static int batchCount(byte[] data, int[] bounds, byte[] additionalData, int[] adBounds, String name) {
+        if (bounds.length == 0) {
+            throw new IllegalArgumentException(name + " out of bounds: empty");
+        }
+        int count = bounds.length - 1;
+        checkBounds(data, bounds, name);
+        if ((additionalData == null) != (adBounds == null)) {
+            throw new IllegalArgumentException("additionalData and adBounds must both be set or both be null");
+        }
+        if (adBounds != null) {
+            if (adBounds.length != bounds.length) {
+                throw new IllegalArgumentException("adBounds out of bounds: " + adBounds.length + " != " + bounds.length);
+            }
+            checkBounds(additionalData, adBounds, "adBounds");
+        }
+        return count;
+    }
+
+    private static void checkBounds(byte[] data, int[] bounds, String name) {
+        if (bounds[0] < 0 || bounds[bounds.length - 1] > data.length) {
+            throw new IllegalArgumentException(name + " out of bounds: " + bounds[0] + " to " + bounds[bounds.length - 1]);
+        }
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i] < bounds[i - 1]) {
+                throw new IllegalArgumentException(name + " out of bounds: decreasing at " + i);
+            }
+        }
+    }
+
+    private int aeadEncrypt(AEAD.Method method, Pointer c, Pointer m, long mLen, Pointer ad, long adLen, Pointer nPub, Pointer k) {
+        switch (method) {
+            case CHACHA20_POLY1305:
+                return getSodium().crypto_aead_chacha20poly1305_encrypt(c, null, m, mLen, ad, adLen, null, nPub, k);
+            case CHACHA20_POLY1305_IETF:
+                return getSodium().crypto_aead_chacha20poly1305_ietf_encrypt(c, null, m, mLen, ad, adLen, null, nPub, k);
+            case XCHACHA20_POLY1305_IETF:
+                return getSodium().crypto_aead_xchacha20poly1305_ietf_encrypt(c, null, m, mLen, ad, adLen, null, nPub, k);
+            default:
+                return getSodium().crypto_aead_aes256gcm_encrypt(c, null, m, mLen, ad, adLen, null, nPub, k);
+        }
+    }
+
+    private int aeadDecrypt(AEAD.Method method, Pointer m, Pointer c, long cLen, Pointer ad, long adLen, Pointer nPub, Pointer k) {
+        switch (method) {
+            case CHACHA20_POLY1305:
+                return getSodium().crypto_aead_chacha20poly1305_decrypt(m, null, null, c, cLen, ad, adLen, nPub, k);
+            case CHACHA20_POLY1305_IETF:
+                return getSodium().crypto_aead_chacha20poly1305_ietf_decrypt(m, null, null, c, cLen, ad, adLen, nPub, k);
+            case XCHACHA20_POLY1305_IETF:
+                return getSodium().crypto_aead_xchacha20poly1305_ietf_decrypt(m, null, null, c, cLen, ad, adLen, nPub, k);
+            default:
+                return getSodium().crypto_aead_aes256gcm_decrypt(m, null, null, c, cLen, ad, adLen, nPub, k);
+        }
+    }
+
 
     //// -------------------------------------------|
     //// Ristretto255
+
     //// -------------------------------------------|
 
     @Override
@@ -2720,6 +4418,184 @@ public abstract class LazySodium implements
         getSodium().crypto_core_ristretto255_scalar_mul(result, x, y);
     }
 
+    @Override
+    public BitSet cryptoScalarmultRistretto255Many(byte[] results, byte[] scalars, byte[] points, int count) {
+        boolean shared = scalars != null && scalars.length == Ristretto255.RISTRETTO255_SCALAR_BYTES;
+        Checker.checkCount(points, count, Ristretto255.RISTRETTO255_BYTES, "points");
+        Checker.checkCount(scalars, shared ? 1 : count, Ristretto255.RISTRETTO255_SCALAR_BYTES, "scalars");
+        Checker.checkCount(results, count, Ristretto255.RISTRETTO255_BYTES, "results");
+
+        int pointsLen = count * Ristretto255.RISTRETTO255_BYTES;
+        int scalarsLen = shared ? Ristretto255.RISTRETTO255_SCALAR_BYTES : count * Ristretto255.RISTRETTO255_SCALAR_BYTES;
+        long scalarStart = pointsLen;
+        long outStart = scalarStart + scalarsLen;
+        BitSet result = new BitSet(count);
+        Sodium sodium = getSodium();
+        try (NativeScratch scratch = NativeScratch.acquire(outStart + pointsLen)) {
+            scratch.put(0, points, 0, pointsLen);
+            Pointer n = scratch.put(scalarStart, scalars, 0, scalarsLen);
+            for (int i = 0; i < count; i++) {
+                long offset = (long) i * Ristretto255.RISTRETTO255_BYTES;
+                if (!shared) {
+                    n = scratch.at(scalarStart + offset);
+                }
+                if (successful(sodium.crypto_scalarmult_ristretto255(scratch.at(outStart + offset), n, scratch.at(offset)))) {
+                    result.set(i);
+                }
+            }
+            scratch.get(outStart, results, 0, pointsLen);
+        }
+        clearFailedPoints(results, result, count);
+        return result;
+    }
+
+    @Override
+    public BitSet cryptoCoreRistretto255AddMany(byte[] results, byte[] p, byte[] q, int count) {
+        Checker.checkCount(p, count, Ristretto255.RISTRETTO255_BYTES, "p");
+        Checker.checkCount(q, count, Ristretto255.RISTRETTO255_BYTES, "q");
+        Checker.checkCount(results, count, Ristretto255.RISTRETTO255_BYTES, "results");
+
+        int pointsLen = count * Ristretto255.RISTRETTO255_BYTES;
+        BitSet result = new BitSet(count);
+        Sodium sodium = getSodium();
+        try (NativeScratch scratch = NativeScratch.acquire(3L * pointsLen)) {
+            scratch.put(0, p, 0, pointsLen);
+            scratch.put(pointsLen, q, 0, pointsLen);
+            for (int i = 0; i < count; i++) {
+                long offset = (long) i * Ristretto255.RISTRETTO255_BYTES;
+                Pointer r = scratch.at(2L * pointsLen + offset);
+                if (successful(sodium.crypto_core_ristretto255_add(r, scratch.at(offset), scratch.at(pointsLen + offset)))) {
+                    result.set(i);
+                }
+            }
+            scratch.get(2L * pointsLen, results, 0, pointsLen);
+        }
+        clearFailedPoints(results, result, count);
+        return result;
+    }
+
+    @Override
+    public BitSet cryptoCoreRistretto255FromHashMany(byte[] points, byte[] hashes, int count) {
+        Checker.checkCount(hashes, count, Ristretto255.RISTRETTO255_HASH_BYTES, "hashes");
+        Checker.checkCount(points, count, Ristretto255.RISTRETTO255_BYTES, "points");
+
+        int hashesLen = count * Ristretto255.RISTRETTO255_HASH_BYTES;
+        int pointsLen = count * Ristretto255.RISTRETTO255_BYTES;
+        BitSet result = new BitSet(count);
+        Sodium sodium = getSodium();
+        try (NativeScratch scratch = NativeScratch.acquire((long) hashesLen + pointsLen)) {
+            scratch.put(0, hashes, 0, hashesLen);
+            for (int i = 0; i < count; i++) {
+                Pointer point = scratch.at(hashesLen + (long) i * Ristretto255.RISTRETTO255_BYTES);
+                Pointer hash = scratch.at((long) i * Ristretto255.RISTRETTO255_HASH_BYTES);
+                if (successful(sodium.crypto_core_ristretto255_from_hash(point, hash))) {
+                    result.set(i);
+                }
+            }
+            scratch.get(hashesLen, points, 0, pointsLen);
+        }
+        clearFailedPoints(points, result, count);
+        return result;
+    }
+
+    @Override
+    public RistrettoPoint cryptoScalarmultRistretto255Multi(byte[] scalars, byte[] points, int count)
+        throws SodiumException {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        // A term costs a full scalar multiplication, so even small chunks are worth a task,
+        // but not so small that the partial sums start to dominate.
+        int chunkSize = Math.max(16, (count + parallelism * 4 - 1) / (parallelism * 4));
+        return cryptoScalarmultRistretto255Multi(scalars, points, count, ForkJoinPool.commonPool(), chunkSize);
+    }
+
+    @Override
+    public RistrettoPoint cryptoScalarmultRistretto255Multi(byte[] scalars, byte[] points, int count,
+                                                            Executor executor, int chunkSize)
+        throws SodiumException {
+        Checker.checkCount(scalars, count, Ristretto255.RISTRETTO255_SCALAR_BYTES, "scalars");
+        Checker.checkCount(points, count, Ristretto255.RISTRETTO255_BYTES, "points");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize out of bounds: " + chunkSize);
+        }
+        if (count <= chunkSize) {
+            return RistrettoPoint.fromNativeResult(this, multiScalarRange(scalars, points, 0, count), nativeResultToken);
+        }
+        List<CompletableFuture<byte[]>> chunks = new ArrayList<>((count + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < count; from += chunkSize) {
+            int start = from;
+            int to = Math.min(count, from + chunkSize);
+            chunks.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return multiScalarRange(scalars, points, start, to);
+                } catch (SodiumException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+        byte[] sum = Ristretto255.pointBuffer();
+        try {
+            for (CompletableFuture<byte[]> chunk : chunks) {
+                // Partial sums are libsodium outputs, so adding them cannot fail.
+                byte[] next = Ristretto255.pointBuffer();
+                getSodium().crypto_core_ristretto255_add(next, sum, chunk.join());
+                sum = next;
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof SodiumException) {
+                throw (SodiumException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return RistrettoPoint.fromNativeResult(this, sum, nativeResultToken);
+    }
+
+    /**
+     * Sum {@code scalars[i] * points[i]} for {@code from <= i < to}, with the
+     * running sum kept in the scratch block so each term costs two native
+     * calls and no copies.
+     */
+    private byte[] multiScalarRange(byte[] scalars, byte[] points, int from, int to) throws SodiumException {
+        int n = to - from;
+        int pointsLen = n * Ristretto255.RISTRETTO255_BYTES;
+        long scalarStart = pointsLen;
+        long termStart = scalarStart + (long) n * Ristretto255.RISTRETTO255_SCALAR_BYTES;
+        long sumStart = termStart + Ristretto255.RISTRETTO255_BYTES;
+        byte[] sum = Ristretto255.pointBuffer();
+        Sodium sodium = getSodium();
+        try (NativeScratch scratch = NativeScratch.acquire(sumStart + Ristretto255.RISTRETTO255_BYTES)) {
+            scratch.put(0, points, from * Ristretto255.RISTRETTO255_BYTES, pointsLen);
+            scratch.put(scalarStart, scalars, from * Ristretto255.RISTRETTO255_SCALAR_BYTES,
+                        n * Ristretto255.RISTRETTO255_SCALAR_BYTES);
+            Pointer term = scratch.at(termStart);
+            Pointer acc = scratch.put(sumStart, sum);
+            for (int i = 0; i < n; i++) {
+                Pointer point = scratch.at((long) i * Ristretto255.RISTRETTO255_BYTES);
+                Pointer scalar = scratch.at(scalarStart + (long) i * Ristretto255.RISTRETTO255_SCALAR_BYTES);
+                if (!successful(sodium.crypto_scalarmult_ristretto255(term, scalar, point))) {
+                    // Either the point is invalid or the scalar is a multiple of L,
+                    // in which case the term is the identity and adds nothing.
+                    if (sodium.crypto_core_ristretto255_is_valid_point(point) != 1) {
+                        throw new SodiumException("Point " + (from + i) + " is not a valid Ristretto255 point.");
+                    }
+                    continue;
+                }
+                sodium.crypto_core_ristretto255_add(acc, acc, term);
+            }
+            scratch.get(sumStart, sum, 0, Ristretto255.RISTRETTO255_BYTES);
+        }
+        return sum;
+    }
+
+    private static void clearFailedPoints(byte[] points, BitSet succeeded, int count) {
+        for (int i = succeeded.nextClearBit(0); i < count; i = succeeded.nextClearBit(i + 1)) {
+            int from = i * Ristretto255.RISTRETTO255_BYTES;
+            Arrays.fill(points, from, from + Ristretto255.RISTRETTO255_BYTES, (byte) 0);
+        }
+    }
+
 
     // -- lazy
 
@@ -2737,7 +4613,7 @@ public abstract class LazySodium implements
         byte[] point = Ristretto255.pointBuffer();
         cryptoCoreRistretto255Random(point);
 
-        return RistrettoPoint.fromBytes(this, point);
+        return RistrettoPoint.fromNativeResult(this, point, nativeResultToken);
     }
 
     @Override
@@ -2758,7 +4634,7 @@ public abstract class LazySodium implements
             throw new SodiumException("Conversion from hash to Ristretto point failed");
         }
 
-        return RistrettoPoint.fromBytes(this, point);
+        return RistrettoPoint.fromNativeResult(this, point, nativeResultToken);
     }
 
     @Override
@@ -2792,7 +4668,7 @@ public abstract class LazySodium implements
                 "Scalar multiplication failed. The resulting point was the identity element.");
         }
 
-        return RistrettoPoint.fromBytes(this, result);
+        return RistrettoPoint.fromNativeResult(this, result, nativeResultToken);
     }
 
     @Override
@@ -2822,7 +4698,7 @@ public abstract class LazySodium implements
                 "Scalar multiplication failed. n was 0.");
         }
 
-        return RistrettoPoint.fromBytes(this, result);
+        return RistrettoPoint.fromNativeResult(this, result, nativeResultToken);
     }
 
     @Override
@@ -2837,7 +4713,7 @@ public abstract class LazySodium implements
             throw new SodiumException("Either p or q was not a valid point.");
         }
 
-        return RistrettoPoint.fromBytes(this, result);
+        return RistrettoPoint.fromNativeResult(this, result, nativeResultToken);
     }
 
     @Override
@@ -2853,7 +4729,7 @@ public abstract class LazySodium implements
             throw new SodiumException("Either p or q was not a valid point.");
         }
 
-        return RistrettoPoint.fromBytes(this, result);
+        return RistrettoPoint.fromNativeResult(this, result, nativeResultToken);
     }
 
     @Override
@@ -3270,6 +5146,18 @@ public abstract class LazySodium implements
         return messageEncoder.decode(encoded);
     }
 
+    private static void checkKeySize(SecureKey key, int size) {
+        if (key.size() != size) {
+            throw new IllegalArgumentException("key out of bounds: " + key.size() + " != " + size);
+        }
+    }
+
+    private static void checkKeySize(byte[] key, int size) {
+        if (key.length != size) {
+            throw new IllegalArgumentException("key out of bounds: " + key.length + " != " + size);
+        }
+    }
+
     @Override
     public boolean wrongLen(byte[] bs, int shouldBe) {
         return bs.length != shouldBe;
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+/**
+ * A per-thread block of native memory used to stage slices of caller
+ * supplied arrays before handing them to libsodium.
+ * <p>
+ * JNA marshals a {@code byte[]} argument by copying the whole array,
+ * and copies each argument separately, so passing one large framing
+ * buffer as both input and output loses the result. Copying only the
+ * slice that is needed into this scratch block, calling the pointer
+ * variant of the native and copying the result back avoids both
+ * problems without allocating on every call.
+ * <p>
+ * Each thread keeps one block, allocated at {@link #INITIAL_CAPACITY} so
+ * that typical messages never hit the allocator, and grown in powers of
+ * two up to {@link #MAX_RETAINED}. Nested or larger requests get a one-off
+ * block instead.
+ * <p>
+ * Everything written into the scratch block is wiped on {@link #close()}.
+ */
+final class NativeScratch implements AutoCloseable {
+
+    /**
+     * Requests above this size get a one-off block that is freed
+     * on close instead of growing the per-thread block for good.
+     */
+    static final long MAX_RETAINED = 1 << 20;
+
+    /**
+     * Size of the per-thread block when it is first allocated.
+     */
+    static final long INITIAL_CAPACITY = 16 * 1024;
+
+    private static final ThreadLocal<NativeScratch> LOCAL = ThreadLocal.withInitial(() -> new NativeScratch(true));
+
+    private final boolean retained;
+    private Memory memory;
+    private long used;
+    private boolean inUse;
+
+    private NativeScratch(boolean retained) {
+        this.retained = retained;
+    }
+
+    /**
+     * Borrow a scratch block of at least {@code size} bytes.
+     * Must be closed by the calling thread, ideally with try-with-resources.
+     * @param size The number of bytes needed.
+     * @return A scratch block.
+     */
+    static NativeScratch acquire(long size) {
+        NativeScratch scratch = size <= MAX_RETAINED ? LOCAL.get() : null;
+        if (scratch == null || scratch.inUse) {
+            scratch = new NativeScratch(false);
+        }
+        scratch.ensureCapacity(size);
+        scratch.used = size;
+        scratch.inUse = true;
+        return scratch;
+    }
+
+    /**
+     * Copy {@code len} bytes of {@code src} starting at {@code off}
+     * into the block at {@code offset}.
+     * @return A pointer to {@code offset} in the block.
+     */
+    Pointer put(long offset, byte[] src, int off, int len) {
+        if (len > 0) {
+            memory.write(offset, src, off, len);
+        }
+        return at(offset);
+    }
+
+    /**
+     * Copy all of {@code src} into the block at {@code offset}.
+     * @return A pointer to {@code offset} in the block.
+     */
+    Pointer put(long offset, byte[] src) {
+        return put(offset, src, 0, src.length);
+    }
+
+    /**
+     * @return A pointer to {@code offset} in the block. A plain peer rather
+     * than a {@code SharedMemory} view, which is several times larger.
+     */
+    Pointer at(long offset) {
+        return new Pointer(Pointer.nativeValue(memory) + offset);
+    }
+
+    /**
+     * Copy {@code len} bytes at {@code offset} in the block into
+     * {@code dst} starting at {@code off}.
+     */
+    void get(long offset, byte[] dst, int off, int len) {
+        if (len > 0) {
+            memory.read(offset, dst, off, len);
+        }
+    }
+
+    @Override
+    public void close() {
+        memory.clear(used);
+        used = 0;
+        inUse = false;
+        if (!retained) {
+            memory.close();
+            memory = null;
+        }
+    }
+
+    private void ensureCapacity(long size) {
+        long needed = Math.max(size, 1);
+        if (memory != null && memory.size() >= needed) {
+            return;
+        }
+        if (memory != null) {
+            memory.close();
+        }
+        long capacity = retained
+                ? Math.min(Math.max(Long.highestOneBit(needed - 1) << 1, INITIAL_CAPACITY), MAX_RETAINED)
+                : needed;
+        memory = new Memory(Math.max(capacity, needed));
+    }
+
+}
@@ -15,6 +15,8 @@ import com.sun.jna.NativeLong;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.IntByReference;
 
+import java.nio.ByteBuffer;
+
 public class Sodium {
 
     public static Base64Facade base64Facade = new Base64Java();
@@ -110,6 +112,8 @@ public class Sodium {
 
     public native void randombytes_buf(byte[] buffer, int size);
 
+    public native void randombytes_buf(Pointer buffer, int size);
+
     public native void randombytes_buf_deterministic(byte[] buffer, int size, byte[] seed);
 
 
@@ -168,6 +172,14 @@ public class Sodium {
 
     public native int crypto_hash_sha512_final(Hash.State512 state, byte[] out);
 
+    public native int crypto_hash_sha256(Pointer out, Pointer in, long inLen);
+
+    public native int crypto_hash_sha512(Pointer out, Pointer in, long inLen);
+
+    public native int crypto_hash_sha256_update(Hash.State256 state, Pointer in, long inLen);
+
+    public native int crypto_hash_sha512_update(Hash.State512 state, Pointer in, long inLen);
+
 
 
 
@@ -235,6 +247,18 @@ public class Sodium {
                                           byte[] nonce,
                                           byte[] key);
 
+    public native int crypto_secretbox_easy(byte[] cipherText,
+                                            byte[] message,
+                                            long messageLen,
+                                            byte[] nonce,
+                                            Pointer key);
+
+    public native int crypto_secretbox_open_easy(byte[] message,
+                                                 byte[] cipherText,
+                                                 long cipherTextLen,
+                                                 byte[] nonce,
+                                                 Pointer key);
+
     public native int crypto_secretbox_detached(byte[] cipherText,
                                          byte[] mac,
                                          byte[] message,
@@ -249,6 +273,44 @@ public class Sodium {
                                               byte[] nonce,
                                               byte[] key);
 
+    public native int crypto_secretbox_easy(Pointer cipherText,
+                                            Pointer message,
+                                            long messageLen,
+                                            byte[] nonce,
+                                            byte[] key);
+
+    public native int crypto_secretbox_open_easy(Pointer message,
+                                                 Pointer cipherText,
+                                                 long cipherTextLen,
+                                                 byte[] nonce,
+                                                 byte[] key);
+
+    public native int crypto_secretbox_detached(Pointer cipherText,
+                                                Pointer mac,
+                                                Pointer message,
+                                                long messageLen,
+                                                byte[] nonce,
+                                                byte[] key);
+
+    public native int crypto_secretbox_open_detached(Pointer message,
+                                                     Pointer cipherText,
+                                                     Pointer mac,
+                                                     long cipherTextLen,
+                                                     byte[] nonce,
+                                                     byte[] key);
+
+    public native int crypto_secretbox_easy(Pointer cipherText,
+                                            Pointer message,
+                                            long messageLen,
+                                            Pointer nonce,
+                                            Pointer key);
+
+    public native int crypto_secretbox_open_easy(Pointer message,
+                                                 Pointer cipherText,
+                                                 long cipherTextLen,
+                                                 Pointer nonce,
+                                                 Pointer key);
+
 
 
     //// -------------------------------------------|
@@ -337,6 +399,99 @@ public class Sodium {
                                     byte[] secretKey);
 
 
+    public native int crypto_box_easy(
+            Pointer cipherText,
+            Pointer message,
+            long messageLen,
+            byte[] nonce,
+            byte[] publicKey,
+            byte[] secretKey
+    );
+
+    public native int crypto_box_open_easy(
+            Pointer message,
+            Pointer cipherText,
+            long cipherTextLen,
+            byte[] nonce,
+            byte[] publicKey,
+            byte[] secretKey
+    );
+
+    public native int crypto_box_detached(Pointer cipherText,
+                                          Pointer mac,
+                                          Pointer message,
+                                          long messageLen,
+                                          byte[] nonce,
+                                          byte[] publicKey,
+                                          byte[] secretKey);
+
+    public native int crypto_box_open_detached(Pointer message,
+                                               Pointer cipherText,
+                                               Pointer mac,
+                                               long cipherTextLen,
+                                               byte[] nonce,
+                                               byte[] publicKey,
+                                               byte[] secretKey);
+
+    public native int crypto_box_easy_afternm(
+            Pointer cipherText,
+            Pointer message,
+            long messageLen,
+            byte[] nonce,
+            byte[] key
+    );
+
+    public native int crypto_box_open_easy_afternm(
+            Pointer message,
+            Pointer cipher,
+            long cLen,
+            byte[] nonce,
+            byte[] key
+    );
+
+    public native int crypto_box_seal(Pointer cipher, Pointer message, long messageLen, byte[] publicKey);
+
+    public native int crypto_box_seal_open(Pointer m,
+                                           Pointer cipher,
+                                           long cipherLen,
+                                           byte[] publicKey,
+                                           byte[] secretKey);
+
+    public native int crypto_box_easy(
+            Pointer cipherText,
+            Pointer message,
+            long messageLen,
+            Pointer nonce,
+            Pointer publicKey,
+            Pointer secretKey
+    );
+
+    public native int crypto_box_open_easy(
+            Pointer message,
+            Pointer cipherText,
+            long cipherTextLen,
+            Pointer nonce,
+            Pointer publicKey,
+            Pointer secretKey
+    );
+
+    public native int crypto_box_easy_afternm(
+            Pointer cipherText,
+            Pointer message,
+            long messageLen,
+            Pointer nonce,
+            Pointer key
+    );
+
+    public native int crypto_box_open_easy_afternm(
+            Pointer message,
+            Pointer cipher,
+            long cLen,
+            Pointer nonce,
+            Pointer key
+    );
+
+
 
 
     //// -------------------------------------------|
@@ -382,6 +537,44 @@ public class Sodium {
 
     public native int crypto_sign_verify_detached(byte[] signature, byte[] message, long messageLen, byte[] publicKey);
 
+    public native int crypto_sign_update(Sign.StateCryptoSign state, Pointer chunk, long chunkLength);
+
+    public native int crypto_sign(
+            Pointer signedMessage,
+            Pointer sigLength,
+            Pointer message,
+            long messageLen,
+            byte[] secretKey
+    );
+
+    public native int crypto_sign_open(
+            Pointer message,
+            Pointer messageLen,
+            Pointer signedMessage,
+            long signedMessageLen,
+            byte[] publicKey
+    );
+
+    public native int crypto_sign_detached(
+            Pointer signature,
+            Pointer sigLength,
+            Pointer message,
+            long messageLen,
+            byte[] secretKey
+    );
+
+    public native int crypto_sign_verify_detached(Pointer signature, Pointer message, long messageLen, byte[] publicKey);
+
+    public native int crypto_sign_detached(
+            Pointer signature,
+            Pointer sigLength,
+            Pointer message,
+            long messageLen,
+            Pointer secretKey
+    );
+
+    public native int crypto_sign_verify_detached(Pointer signature, Pointer message, long messageLen, Pointer publicKey);
+
 
     public native int crypto_sign_ed25519_pk_to_curve25519(
             byte[] curve25519PublicKey,
@@ -439,6 +632,28 @@ public class Sodium {
             long additionalDataLen
     );
 
+    public native int crypto_secretstream_xchacha20poly1305_push(
+            SecretStream.State state,
+            ByteBuffer cipher,
+            long[] cipherAddr,
+            ByteBuffer message,
+            long messageLen,
+            byte[] additionalData,
+            long additionalDataLen,
+            byte tag
+    );
+
+    public native int crypto_secretstream_xchacha20poly1305_pull(
+            SecretStream.State state,
+            ByteBuffer message,
+            long[] messageAddress,
+            byte[] tagAddress,
+            ByteBuffer cipher,
+            long cipherLen,
+            byte[] additionalData,
+            long additionalDataLen
+    );
+
     public native void crypto_secretstream_xchacha20poly1305_rekey(SecretStream.State state);
 
     public native int crypto_secretstream_xchacha20poly1305_abytes();
@@ -586,6 +801,11 @@ public class Sodium {
     public native void crypto_auth_keygen(byte[] k);
 
 
+    public native int crypto_auth(Pointer tag, Pointer in, long inLen, byte[] key);
+
+    public native int crypto_auth_verify(Pointer tag, Pointer in, long inLen, byte[] key);
+
+
     public native void crypto_auth_hmacsha256_keygen(byte[] key);
 
     public native int crypto_auth_hmacsha256(
@@ -619,6 +839,12 @@ public class Sodium {
             byte[] out
     );
 
+    public native int crypto_auth_hmacsha256(Pointer out, Pointer in, long inLen, byte[] k);
+
+    public native int crypto_auth_hmacsha256_verify(Pointer h, Pointer in, long inLen, byte[] k);
+
+    public native int crypto_auth_hmacsha256_update(Auth.StateHMAC256 state, Pointer in, long inLen);
+
 
 
     public native void crypto_auth_hmacsha512256_keygen(byte[] key);
@@ -654,6 +880,12 @@ public class Sodium {
             byte[] out
     );
 
+    public native int crypto_auth_hmacsha512256(Pointer out, Pointer in, long inLen, byte[] k);
+
+    public native int crypto_auth_hmacsha512256_verify(Pointer h, Pointer in, long inLen, byte[] k);
+
+    public native int crypto_auth_hmacsha512256_update(Auth.StateHMAC512256 state, Pointer in, long inLen);
+
 
     public native void crypto_auth_hmacsha512_keygen(byte[] key);
 
@@ -688,6 +920,12 @@ public class Sodium {
             byte[] out
     );
 
+    public native int crypto_auth_hmacsha512(Pointer out, Pointer in, long inLen, byte[] k);
+
+    public native int crypto_auth_hmacsha512_verify(Pointer h, Pointer in, long inLen, byte[] k);
+
+    public native int crypto_auth_hmacsha512_update(Auth.StateHMAC512 state, Pointer in, long inLen);
+
     //// -------------------------------------------|
     //// SHORT HASH
     //// -------------------------------------------|
@@ -723,8 +961,39 @@ public class Sodium {
 
     public native int crypto_generichash_final(byte[] state, byte[] out, int outLen);
 
+    public native int crypto_generichash(
+            Pointer out, int outLen,
+            Pointer in, long inLen,
+            byte[] key, int keyLen
+    );
+
+    public native int crypto_generichash(
+            Pointer out, int outLen,
+            Pointer in, long inLen,
+            Pointer key, int keyLen
+    );
+
+    public native int crypto_generichash_update(byte[] state,
+                                                Pointer in,
+                                                long inLen);
+
     public native int crypto_generichash_statebytes();
 
+    public native int crypto_generichash_init(Pointer state,
+                                              byte[] key,
+                                              int keyLength,
+                                              int outLen);
+
+    public native int crypto_generichash_update(Pointer state,
+                                                byte[] in,
+                                                long inLen);
+
+    public native int crypto_generichash_update(Pointer state,
+                                                ByteBuffer in,
+                                                long inLen);
+
+    public native int crypto_generichash_final(Pointer state, byte[] out, int outLen);
+
 
     public native int crypto_generichash_blake2b_salt_personal(
             byte[] subKey,
@@ -737,6 +1006,17 @@ public class Sodium {
             byte[] context
     );
 
+    public native int crypto_generichash_blake2b_salt_personal(
+            byte[] out,
+            int outLen,
+            ByteBuffer in,
+            long inLen,
+            byte[] key,
+            int keyLen,
+            byte[] salt,
+            byte[] personal
+    );
+
     public native int crypto_core_hchacha20(byte[] out,
                                             byte[] in,
                                             byte[] k,
@@ -799,6 +1079,128 @@ public class Sodium {
             byte[] k
     );
 
+    public native int crypto_aead_chacha20poly1305_encrypt(
+            ByteBuffer c,
+            long[] cLen,
+            ByteBuffer m,
+            long mLen,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_decrypt(
+            ByteBuffer m,
+            long[] mLen,
+            byte[] nSec,
+            ByteBuffer c,
+            long cLen,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_encrypt_detached(
+            ByteBuffer c,
+            ByteBuffer mac,
+            long[] macLenAddress,
+            ByteBuffer m,
+            long mLen,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_decrypt_detached(
+            ByteBuffer m,
+            byte[] nSec,
+            ByteBuffer c,
+            long cLen,
+            ByteBuffer mac,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_encrypt(
+            Pointer c,
+            long[] cLen,
+            Pointer m,
+            long mLen,
+            Pointer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_decrypt(
+            Pointer m,
+            long[] mLen,
+            byte[] nSec,
+            Pointer c,
+            long cLen,
+            Pointer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_encrypt_detached(
+            Pointer c,
+            Pointer mac,
+            long[] macLenAddress,
+            Pointer m,
+            long mLen,
+            Pointer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_decrypt_detached(
+            Pointer m,
+            byte[] nSec,
+            Pointer c,
+            long cLen,
+            Pointer mac,
+            Pointer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_encrypt(
+            Pointer c,
+            Pointer cLen,
+            Pointer m,
+            long mLen,
+            Pointer ad,
+            long adLen,
+            Pointer nSec,
+            Pointer nPub,
+            Pointer k
+    );
+
+    public native int crypto_aead_chacha20poly1305_decrypt(
+            Pointer m,
+            Pointer mLen,
+            Pointer nSec,
+            Pointer c,
+            long cLen,
+            Pointer ad,
+            long adLen,
+            Pointer nPub,
+            Pointer k
+    );
+
     // ietf
 
     public native void crypto_aead_chacha20poly1305_ietf_keygen(byte[] key);
@@ -852,6 +1254,128 @@ public class Sodium {
             byte[] k
     );
 
+    public native int crypto_aead_chacha20poly1305_ietf_encrypt(
+            ByteBuffer c,
+            long[] cLen,
+            ByteBuffer m,
+            long mLen,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_ietf_decrypt(
+            ByteBuffer m,
+            long[] mLen,
+            byte[] nSec,
+            ByteBuffer c,
+            long cLen,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_ietf_encrypt_detached(
+            ByteBuffer c,
+            ByteBuffer mac,
+            long[] macLenAddress,
+            ByteBuffer m,
+            long mLen,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_ietf_decrypt_detached(
+            ByteBuffer m,
+            byte[] nSec,
+            ByteBuffer c,
+            long cLen,
+            ByteBuffer mac,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_ietf_encrypt(
+            Pointer c,
+            long[] cLen,
+            Pointer m,
+            long mLen,
+            Pointer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_ietf_decrypt(
+            Pointer m,
+            long[] mLen,
+            byte[] nSec,
+            Pointer c,
+            long cLen,
+            Pointer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_ietf_encrypt_detached(
+            Pointer c,
+            Pointer mac,
+            long[] macLenAddress,
+            Pointer m,
+            long mLen,
+            Pointer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_ietf_decrypt_detached(
+            Pointer m,
+            byte[] nSec,
+            Pointer c,
+            long cLen,
+            Pointer mac,
+            Pointer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_chacha20poly1305_ietf_encrypt(
+            Pointer c,
+            Pointer cLen,
+            Pointer m,
+            long mLen,
+            Pointer ad,
+            long adLen,
+            Pointer nSec,
+            Pointer nPub,
+            Pointer k
+    );
+
+    public native int crypto_aead_chacha20poly1305_ietf_decrypt(
+            Pointer m,
+            Pointer mLen,
+            Pointer nSec,
+            Pointer c,
+            long cLen,
+            Pointer ad,
+            long adLen,
+            Pointer nPub,
+            Pointer k
+    );
+
     // xchacha
 
     public native void crypto_aead_xchacha20poly1305_ietf_keygen(byte[] k);
@@ -907,6 +1431,128 @@ public class Sodium {
     );
 
 
+    public native int crypto_aead_xchacha20poly1305_ietf_encrypt(
+            ByteBuffer c,
+            long[] cLen,
+            ByteBuffer m,
+            long mLen,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_xchacha20poly1305_ietf_decrypt(
+            ByteBuffer m,
+            long[] mLen,
+            byte[] nSec,
+            ByteBuffer c,
+            long cLen,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_xchacha20poly1305_ietf_encrypt_detached(
+            ByteBuffer c,
+            ByteBuffer mac,
+            long[] macLenAddress,
+            ByteBuffer m,
+            long mLen,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_xchacha20poly1305_ietf_decrypt_detached(
+            ByteBuffer m,
+            byte[] nSec,
+            ByteBuffer c,
+            long cLen,
+            ByteBuffer mac,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_xchacha20poly1305_ietf_encrypt(
+            Pointer c,
+            long[] cLen,
+            Pointer m,
+            long mLen,
+            Pointer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_xchacha20poly1305_ietf_decrypt(
+            Pointer m,
+            long[] mLen,
+            byte[] nSec,
+            Pointer c,
+            long cLen,
+            Pointer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_xchacha20poly1305_ietf_encrypt_detached(
+            Pointer c,
+            Pointer mac,
+            long[] macLenAddress,
+            Pointer m,
+            long mLen,
+            Pointer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_xchacha20poly1305_ietf_decrypt_detached(
+            Pointer m,
+            byte[] nSec,
+            Pointer c,
+            long cLen,
+            Pointer mac,
+            Pointer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_xchacha20poly1305_ietf_encrypt(
+            Pointer c,
+            Pointer cLen,
+            Pointer m,
+            long mLen,
+            Pointer ad,
+            long adLen,
+            Pointer nSec,
+            Pointer nPub,
+            Pointer k
+    );
+
+    public native int crypto_aead_xchacha20poly1305_ietf_decrypt(
+            Pointer m,
+            Pointer mLen,
+            Pointer nSec,
+            Pointer c,
+            long cLen,
+            Pointer ad,
+            long adLen,
+            Pointer nPub,
+            Pointer k
+    );
+
     // AES
 
     public native void crypto_aead_aes256gcm_keygen(byte[] key);
@@ -962,6 +1608,128 @@ public class Sodium {
 
 
 
+    public native int crypto_aead_aes256gcm_encrypt(
+            ByteBuffer c,
+            long[] cLen,
+            ByteBuffer m,
+            long mLen,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_aes256gcm_decrypt(
+            ByteBuffer m,
+            long[] mLen,
+            byte[] nSec,
+            ByteBuffer c,
+            long cLen,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_aes256gcm_encrypt_detached(
+            ByteBuffer c,
+            ByteBuffer mac,
+            long[] macLenAddress,
+            ByteBuffer m,
+            long mLen,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_aes256gcm_decrypt_detached(
+            ByteBuffer m,
+            byte[] nSec,
+            ByteBuffer c,
+            long cLen,
+            ByteBuffer mac,
+            ByteBuffer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_aes256gcm_encrypt(
+            Pointer c,
+            long[] cLen,
+            Pointer m,
+            long mLen,
+            Pointer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_aes256gcm_decrypt(
+            Pointer m,
+            long[] mLen,
+            byte[] nSec,
+            Pointer c,
+            long cLen,
+            Pointer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_aes256gcm_encrypt_detached(
+            Pointer c,
+            Pointer mac,
+            long[] macLenAddress,
+            Pointer m,
+            long mLen,
+            Pointer ad,
+            long adLen,
+            byte[] nSec,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_aes256gcm_decrypt_detached(
+            Pointer m,
+            byte[] nSec,
+            Pointer c,
+            long cLen,
+            Pointer mac,
+            Pointer ad,
+            long adLen,
+            byte[] nPub,
+            byte[] k
+    );
+
+    public native int crypto_aead_aes256gcm_encrypt(
+            Pointer c,
+            Pointer cLen,
+            Pointer m,
+            long mLen,
+            Pointer ad,
+            long adLen,
+            Pointer nSec,
+            Pointer nPub,
+            Pointer k
+    );
+
+    public native int crypto_aead_aes256gcm_decrypt(
+            Pointer m,
+            Pointer mLen,
+            Pointer nSec,
+            Pointer c,
+            long cLen,
+            Pointer ad,
+            long adLen,
+            Pointer nPub,
+            Pointer k
+    );
+
     public native int crypto_aead_aes256gcm_beforenm(
             AEAD.StateAES state,
             byte[] key
@@ -1036,6 +1804,14 @@ public class Sodium {
 
     public native int crypto_core_ristretto255_sub(byte[] r, byte[] p, byte[] q);
 
+    public native int crypto_core_ristretto255_is_valid_point(Pointer p);
+
+    public native int crypto_core_ristretto255_from_hash(Pointer p, Pointer r);
+
+    public native int crypto_scalarmult_ristretto255(Pointer q, Pointer n, Pointer p);
+
+    public native int crypto_core_ristretto255_add(Pointer r, Pointer p, Pointer q);
+
     public native void crypto_core_ristretto255_scalar_random(byte[] r);
 
     public native void crypto_core_ristretto255_scalar_reduce(byte[] r, byte[] s);
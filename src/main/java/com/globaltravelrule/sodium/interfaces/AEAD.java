@@ -12,10 +12,13 @@ package com.globaltravelrule.sodium.interfaces;
 import com.globaltravelrule.sodium.utils.DetachedDecrypt;
 import com.globaltravelrule.sodium.utils.DetachedEncrypt;
 import com.globaltravelrule.sodium.utils.Key;
+import com.globaltravelrule.sodium.utils.SecureKey;
 import com.sun.jna.Structure;
 
 import javax.crypto.AEADBadTagException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 public interface AEAD {
@@ -60,6 +63,63 @@ public interface AEAD {
         AES256GCM,
     }
 
+    /**
+     * @param method The AEAD method.
+     * @return The key length of {@code method}.
+     */
+    static int keyBytes(Method method) {
+        switch (method) {
+            case CHACHA20_POLY1305:
+                return CHACHA20POLY1305_KEYBYTES;
+            case CHACHA20_POLY1305_IETF:
+                return CHACHA20POLY1305_IETF_KEYBYTES;
+            case XCHACHA20_POLY1305_IETF:
+                return XCHACHA20POLY1305_IETF_KEYBYTES;
+            case AES256GCM:
+                return AES256GCM_KEYBYTES;
+            default:
+                throw new IllegalArgumentException("method out of bounds");
+        }
+    }
+
+    /**
+     * @param method The AEAD method.
+     * @return The public nonce length of {@code method}.
+     */
+    static int nPubBytes(Method method) {
+        switch (method) {
+            case CHACHA20_POLY1305:
+                return CHACHA20POLY1305_NPUBBYTES;
+            case CHACHA20_POLY1305_IETF:
+                return CHACHA20POLY1305_IETF_NPUBBYTES;
+            case XCHACHA20_POLY1305_IETF:
+                return XCHACHA20POLY1305_IETF_NPUBBYTES;
+            case AES256GCM:
+                return AES256GCM_NPUBBYTES;
+            default:
+                throw new IllegalArgumentException("method out of bounds");
+        }
+    }
+
+    /**
+     * @param method The AEAD method.
+     * @return The authentication tag length of {@code method}.
+     */
+    static int aBytes(Method method) {
+        switch (method) {
+            case CHACHA20_POLY1305:
+                return CHACHA20POLY1305_ABYTES;
+            case CHACHA20_POLY1305_IETF:
+                return CHACHA20POLY1305_IETF_ABYTES;
+            case XCHACHA20_POLY1305_IETF:
+                return XCHACHA20POLY1305_IETF_ABYTES;
+            case AES256GCM:
+                return AES256GCM_ABYTES;
+            default:
+                throw new IllegalArgumentException("method out of bounds");
+        }
+    }
+
 
 
     interface Native {
@@ -285,6 +345,329 @@ public interface AEAD {
 
         boolean cryptoAeadAES256GCMIsAvailable();
 
+        // ByteBuffer
+
+        // The following overloads read their inputs from position to limit of
+        // each buffer and write their output starting at the position of the
+        // output buffer, so direct buffers (or slices of a larger buffer) can
+        // be handed to libsodium without copying them into byte arrays first.
+        // On success the input buffers are fully consumed and the position of
+        // each output buffer is advanced past the bytes written. On failure no
+        // position is changed. additionalData may be null.
+
+        boolean cryptoAeadChaCha20Poly1305Encrypt(
+                ByteBuffer cipher,
+                ByteBuffer message,
+                ByteBuffer additionalData,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305Decrypt(
+                ByteBuffer message,
+                byte[] nSec,
+                ByteBuffer cipher,
+                ByteBuffer additionalData,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305EncryptDetached(
+                ByteBuffer cipher,
+                ByteBuffer mac,
+                ByteBuffer message,
+                ByteBuffer additionalData,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305DecryptDetached(
+                ByteBuffer message,
+                byte[] nSec,
+                ByteBuffer cipher,
+                ByteBuffer mac,
+                ByteBuffer additionalData,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305IetfEncrypt(
+                ByteBuffer cipher,
+                ByteBuffer message,
+                ByteBuffer additionalData,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305IetfDecrypt(
+                ByteBuffer message,
+                byte[] nSec,
+                ByteBuffer cipher,
+                ByteBuffer additionalData,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305IetfEncryptDetached(
+                ByteBuffer cipher,
+                ByteBuffer mac,
+                ByteBuffer message,
+                ByteBuffer additionalData,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305IetfDecryptDetached(
+                ByteBuffer message,
+                byte[] nSec,
+                ByteBuffer cipher,
+                ByteBuffer mac,
+                ByteBuffer additionalData,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadXChaCha20Poly1305IetfEncrypt(
+                ByteBuffer cipher,
+                ByteBuffer message,
+                ByteBuffer additionalData,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadXChaCha20Poly1305IetfDecrypt(
+                ByteBuffer message,
+                byte[] nSec,
+                ByteBuffer cipher,
+                ByteBuffer additionalData,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadXChaCha20Poly1305IetfEncryptDetached(
+                ByteBuffer cipher,
+                ByteBuffer mac,
+                ByteBuffer message,
+                ByteBuffer additionalData,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadXChaCha20Poly1305IetfDecryptDetached(
+                ByteBuffer message,
+                byte[] nSec,
+                ByteBuffer cipher,
+                ByteBuffer mac,
+                ByteBuffer additionalData,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadAES256GCMEncrypt(
+                ByteBuffer cipher,
+                ByteBuffer message,
+                ByteBuffer additionalData,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadAES256GCMDecrypt(
+                ByteBuffer message,
+                byte[] nSec,
+                ByteBuffer cipher,
+                ByteBuffer additionalData,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadAES256GCMEncryptDetached(
+                ByteBuffer cipher,
+                ByteBuffer mac,
+                ByteBuffer message,
+                ByteBuffer additionalData,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadAES256GCMDecryptDetached(
+                ByteBuffer message,
+                byte[] nSec,
+                ByteBuffer cipher,
+                ByteBuffer mac,
+                ByteBuffer additionalData,
+                byte[] nPub,
+                byte[] key
+        );
+
+        // Offset
+
+        // Array slice variants of the above. Each input is read from its
+        // offset for the given length and each output is written starting
+        // at its offset, so a record framed inside a larger buffer can be
+        // encrypted or decrypted in place. Input and output may be the same
+        // array. additionalData may be null, in which case its offset and
+        // length are ignored.
+
+        boolean cryptoAeadChaCha20Poly1305Encrypt(
+                byte[] cipher, int cipherOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305Decrypt(
+                byte[] message, int messageOffset,
+                byte[] nSec,
+                byte[] cipher, int cipherOffset, int cipherLen,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305EncryptDetached(
+                byte[] cipher, int cipherOffset,
+                byte[] mac, int macOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305DecryptDetached(
+                byte[] message, int messageOffset,
+                byte[] nSec,
+                byte[] cipher, int cipherOffset, int cipherLen,
+                byte[] mac, int macOffset,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305IetfEncrypt(
+                byte[] cipher, int cipherOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305IetfDecrypt(
+                byte[] message, int messageOffset,
+                byte[] nSec,
+                byte[] cipher, int cipherOffset, int cipherLen,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305IetfEncryptDetached(
+                byte[] cipher, int cipherOffset,
+                byte[] mac, int macOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadChaCha20Poly1305IetfDecryptDetached(
+                byte[] message, int messageOffset,
+                byte[] nSec,
+                byte[] cipher, int cipherOffset, int cipherLen,
+                byte[] mac, int macOffset,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadXChaCha20Poly1305IetfEncrypt(
+                byte[] cipher, int cipherOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadXChaCha20Poly1305IetfDecrypt(
+                byte[] message, int messageOffset,
+                byte[] nSec,
+                byte[] cipher, int cipherOffset, int cipherLen,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadXChaCha20Poly1305IetfEncryptDetached(
+                byte[] cipher, int cipherOffset,
+                byte[] mac, int macOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadXChaCha20Poly1305IetfDecryptDetached(
+                byte[] message, int messageOffset,
+                byte[] nSec,
+                byte[] cipher, int cipherOffset, int cipherLen,
+                byte[] mac, int macOffset,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadAES256GCMEncrypt(
+                byte[] cipher, int cipherOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadAES256GCMDecrypt(
+                byte[] message, int messageOffset,
+                byte[] nSec,
+                byte[] cipher, int cipherOffset, int cipherLen,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadAES256GCMEncryptDetached(
+                byte[] cipher, int cipherOffset,
+                byte[] mac, int macOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nSec,
+                byte[] nPub,
+                byte[] key
+        );
+
+        boolean cryptoAeadAES256GCMDecryptDetached(
+                byte[] message, int messageOffset,
+                byte[] nSec,
+                byte[] cipher, int cipherOffset, int cipherLen,
+                byte[] mac, int macOffset,
+                byte[] additionalData, int additionalDataOffset, int additionalDataLen,
+                byte[] nPub,
+                byte[] key
+        );
+
     }
 
 
@@ -343,6 +726,142 @@ public interface AEAD {
                 Method method
         ) throws AEADBadTagException;
 
+        // Reusable buffers
+
+        /**
+         * Encrypt a slice of {@code m} into a caller supplied buffer. Nothing
+         * is allocated on the Java heap, so a loop that reuses {@code out}
+         * runs garbage free.
+         * @param m The message.
+         * @param mOffset Where the message starts in {@code m}.
+         * @param mLen The length of the message.
+         * @param additionalData Additional data, may be null.
+         * @param nPub The nonce.
+         * @param k The key.
+         * @param method The AEAD method.
+         * @param out Receives the cipher text, which is {@code mLen} plus the method's ABYTES long.
+         * @param outOffset Where to start writing in {@code out}.
+         * @return The number of bytes written to {@code out}.
+         */
+        int encrypt(byte[] m, int mOffset, int mLen, byte[] additionalData, byte[] nPub, Key k, Method method,
+                    byte[] out, int outOffset);
+
+        /**
+         * Like {@link #encrypt(byte[], int, int, byte[], byte[], Key, Method, byte[], int)}
+         * but writes the cipher text as encoded by this instance's
+         * {@link MessageEncoder}.
+         * {@code out} must have room for
+         * {@link MessageEncoder#encodedLength(int)} of the raw cipher text length.
+         * @return The number of encoded bytes written to {@code out}.
+         */
+        int encryptEncoded(byte[] m, int mOffset, int mLen, byte[] additionalData, byte[] nPub, Key k, Method method,
+                           byte[] out, int outOffset);
+
+        /**
+         * Encrypt the remaining bytes of {@code m} into {@code out}.
+         * The positions of {@code m}, {@code additionalData} and {@code out}
+         * are advanced on success.
+         * @return The number of bytes written to {@code out}.
+         */
+        int encrypt(ByteBuffer m, ByteBuffer additionalData, byte[] nPub, Key k, Method method, ByteBuffer out);
+
+        /**
+         * Decrypt a slice of {@code cipher} into a caller supplied buffer.
+         * @param cipher The cipher text.
+         * @param cipherOffset Where the cipher text starts in {@code cipher}.
+         * @param cipherLen The length of the cipher text.
+         * @param additionalData Additional data, may be null.
+         * @param nPub The nonce.
+         * @param k The key.
+         * @param method The AEAD method.
+         * @param out Receives the message.
+         * @param outOffset Where to start writing in {@code out}.
+         * @return The number of bytes written to {@code out}.
+         * @throws AEADBadTagException If the cipher text could not be verified.
+         */
+        int decrypt(byte[] cipher, int cipherOffset, int cipherLen, byte[] additionalData, byte[] nPub, Key k, Method method,
+                    byte[] out, int outOffset) throws AEADBadTagException;
+
+        /**
+         * Like {@link #decrypt(byte[], int, int, byte[], byte[], Key, Method, byte[], int)}
+         * but takes cipher text encoded by this instance's
+         * {@link MessageEncoder}.
+         * {@code out} must have room for the decoded cipher text, and may be
+         * the same array as {@code encoded} at the same offset.
+         * @return The number of bytes written to {@code out}.
+         * @throws AEADBadTagException If the cipher text could not be verified.
+         */
+        int decryptEncoded(byte[] encoded, int encodedOffset, int encodedLen, byte[] additionalData, byte[] nPub, Key k,
+                           Method method, byte[] out, int outOffset) throws AEADBadTagException;
+
+        /**
+         * Decrypt the remaining bytes of {@code cipher} into {@code out}.
+         * The positions of {@code cipher}, {@code additionalData} and {@code out}
+         * are advanced on success.
+         * @return The number of bytes written to {@code out}.
+         * @throws AEADBadTagException If the cipher text could not be verified.
+         */
+        int decrypt(ByteBuffer cipher, ByteBuffer additionalData, byte[] nPub, Key k, Method method, ByteBuffer out)
+                throws AEADBadTagException;
+
+        /**
+         * Same as {@link #encrypt(byte[], int, int, byte[], byte[], Key, Method, byte[], int)}
+         * but reads the key straight from secure memory.
+         */
+        int encrypt(byte[] m, int mOffset, int mLen, byte[] additionalData, byte[] nPub, SecureKey k, Method method,
+                    byte[] out, int outOffset);
+
+        /**
+         * Same as {@link #decrypt(byte[], int, int, byte[], byte[], Key, Method, byte[], int)}
+         * but reads the key straight from secure memory.
+         */
+        int decrypt(byte[] cipher, int cipherOffset, int cipherLen, byte[] additionalData, byte[] nPub, SecureKey k, Method method,
+                    byte[] out, int outOffset) throws AEADBadTagException;
+
+    }
+
+    /**
+     * Encrypts or decrypts many records under one key in a single pass.
+     * All records are copied into native memory in one go and the results
+     * are copied back in one go, so per record only the native call itself
+     * is paid for. Records are packed back to back: record {@code i} spans
+     * {@code bounds[i]} to {@code bounds[i + 1]} of its buffer, and its nonce is
+     * the {@code i}-th nonce sized block of {@code nonces}.
+     */
+    interface Batch {
+
+        /**
+         * Encrypt a batch of records. The cipher text of record {@code i} is written to
+         * {@code out} at {@code messageBounds[i] - messageBounds[0] + i * ABYTES}.
+         * @param messages The packed messages.
+         * @param messageBounds Record boundaries in {@code messages}, one more than the number of records.
+         * @param additionalData The packed additional data, may be null.
+         * @param adBounds Record boundaries in {@code additionalData}, null if it is null.
+         * @param nonces One nonce per record, back to back.
+         * @param k The key.
+         * @param method The AEAD method.
+         * @param out Receives the packed cipher texts.
+         * @return Bit {@code i} is set if record {@code i} was encrypted.
+         */
+        BitSet encryptBatch(byte[] messages, int[] messageBounds, byte[] additionalData, int[] adBounds,
+                            byte[] nonces, Key k, Method method, byte[] out);
+
+        /**
+         * Decrypt a batch of records. The message of record {@code i} is written to
+         * {@code out} at {@code cipherBounds[i] - cipherBounds[0] - i * ABYTES}.
+         * A record that fails verification leaves its slice of {@code out} zeroed.
+         * @param ciphers The packed cipher texts.
+         * @param cipherBounds Record boundaries in {@code ciphers}, one more than the number of records.
+         * @param additionalData The packed additional data, may be null.
+         * @param adBounds Record boundaries in {@code additionalData}, null if it is null.
+         * @param nonces One nonce per record, back to back.
+         * @param k The key.
+         * @param method The AEAD method.
+         * @param out Receives the packed messages.
+         * @return Bit {@code i} is set if record {@code i} was verified and decrypted.
+         */
+        BitSet decryptBatch(byte[] ciphers, int[] cipherBounds, byte[] additionalData, int[] adBounds,
+                            byte[] nonces, Key k, Method method, byte[] out);
 
     }
 
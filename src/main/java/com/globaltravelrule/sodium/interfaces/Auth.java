@@ -167,6 +167,32 @@ public interface Auth {
                 byte[] out
         );
 
+
+        // Offset variants. The message is read from a slice of a larger
+        // array and the tag is written to (or read from) the given offset.
+
+        boolean cryptoAuth(byte[] tag, int tagOffset, byte[] in, int inOffset, int inLen, byte[] key);
+
+        boolean cryptoAuthVerify(byte[] tag, int tagOffset, byte[] in, int inOffset, int inLen, byte[] key);
+
+        boolean cryptoAuthHMACSha256(byte[] out, int outOffset, byte[] in, int inOffset, int inLen, byte[] k);
+
+        boolean cryptoAuthHMACSha256Verify(byte[] h, int hOffset, byte[] in, int inOffset, int inLen, byte[] k);
+
+        boolean cryptoAuthHMACSha256Update(Auth.StateHMAC256 state, byte[] in, int inOffset, int inLen);
+
+        boolean cryptoAuthHMACSha512(byte[] out, int outOffset, byte[] in, int inOffset, int inLen, byte[] k);
+
+        boolean cryptoAuthHMACSha512Verify(byte[] h, int hOffset, byte[] in, int inOffset, int inLen, byte[] k);
+
+        boolean cryptoAuthHMACSha512Update(Auth.StateHMAC512 state, byte[] in, int inOffset, int inLen);
+
+        boolean cryptoAuthHMACSha512256(byte[] out, int outOffset, byte[] in, int inOffset, int inLen, byte[] k);
+
+        boolean cryptoAuthHMACSha512256Verify(byte[] h, int hOffset, byte[] in, int inOffset, int inLen, byte[] k);
+
+        boolean cryptoAuthHMACSha512256Update(Auth.StateHMAC512256 state, byte[] in, int inOffset, int inLen);
+
     }
 
     interface Lazy {
@@ -147,6 +147,73 @@ public interface Box {
                                     byte[] publicKey,
                                     byte[] secretKey);
 
+
+        // Offset variants. These read the given number of bytes starting
+        // at the input offset and write their output starting at the
+        // output offset, so messages framed inside a larger buffer do not need
+        // to be copied out first. Input and output may be the same array.
+
+        boolean cryptoBoxEasy(
+                byte[] cipherText, int cipherTextOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] nonce,
+                byte[] publicKey,
+                byte[] secretKey
+        );
+
+        boolean cryptoBoxOpenEasy(
+                byte[] message, int messageOffset,
+                byte[] cipherText, int cipherTextOffset, int cipherTextLen,
+                byte[] nonce,
+                byte[] publicKey,
+                byte[] secretKey
+        );
+
+        boolean cryptoBoxDetached(
+                byte[] cipherText, int cipherTextOffset,
+                byte[] mac, int macOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] nonce,
+                byte[] publicKey,
+                byte[] secretKey
+        );
+
+        boolean cryptoBoxOpenDetached(
+                byte[] message, int messageOffset,
+                byte[] cipherText, int cipherTextOffset, int cipherTextLen,
+                byte[] mac, int macOffset,
+                byte[] nonce,
+                byte[] publicKey,
+                byte[] secretKey
+        );
+
+        boolean cryptoBoxEasyAfterNm(
+                byte[] cipherText, int cipherTextOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] nonce,
+                byte[] key
+        );
+
+        boolean cryptoBoxOpenEasyAfterNm(
+                byte[] message, int messageOffset,
+                byte[] cipherText, int cipherTextOffset, int cipherTextLen,
+                byte[] nonce,
+                byte[] key
+        );
+
+        boolean cryptoBoxSeal(
+                byte[] cipher, int cipherOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] publicKey
+        );
+
+        boolean cryptoBoxSealOpen(
+                byte[] message, int messageOffset,
+                byte[] cipher, int cipherOffset, int cipherLen,
+                byte[] publicKey,
+                byte[] secretKey
+        );
+
     }
 
     interface Lazy {
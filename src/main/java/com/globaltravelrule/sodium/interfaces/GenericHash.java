@@ -143,6 +143,36 @@ public interface GenericHash {
 
         int cryptoGenericHashStateBytes();
 
+        /**
+         * Same as {@link #cryptoGenericHash(byte[], int, byte[], long, byte[], int)}
+         * but works on slices of larger arrays.
+         * @param out The hash will be written here from {@code outOffset}.
+         * @param outOffset Where the hash starts in {@code out}.
+         * @param outLen Size of the hash, between {@link #BYTES_MIN} and {@link #BYTES_MAX}.
+         * @param in The array holding the text to hash.
+         * @param inOffset Where the text starts in {@code in}.
+         * @param inLen The size of the text.
+         * @param key The key generated by {@link #cryptoGenericHashKeygen(byte[])}, or null.
+         * @param keyLen The length of the key, or 0 when there is no key.
+         * @return True if successfully hashed.
+         */
+        boolean cryptoGenericHash(
+                byte[] out, int outOffset, int outLen,
+                byte[] in, int inOffset, int inLen,
+                byte[] key, int keyLen
+        );
+
+        /**
+         * Same as {@link #cryptoGenericHashUpdate(byte[], byte[], long)}
+         * but reads the part from a slice of a larger array.
+         * @param state The state.
+         * @param in The array holding the hash part.
+         * @param inOffset Where the hash part starts in {@code in}.
+         * @param inLen The length of the hash part.
+         * @return True if this part of the message was hashed.
+         */
+        boolean cryptoGenericHashUpdate(byte[] state, byte[] in, int inOffset, int inLen);
+
 
 
     }
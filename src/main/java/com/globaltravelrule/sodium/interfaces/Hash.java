@@ -45,6 +45,18 @@ public interface Hash {
 
         boolean cryptoHashSha512Final(Hash.State512 state, byte[] out);
 
+
+        // Offset variants. The input is read from a slice of a larger
+        // array and the digest is written starting at outOffset.
+
+        boolean cryptoHashSha256(byte[] out, int outOffset, byte[] in, int inOffset, int inLen);
+
+        boolean cryptoHashSha512(byte[] out, int outOffset, byte[] in, int inOffset, int inLen);
+
+        boolean cryptoHashSha256Update(Hash.State256 state, byte[] in, int inOffset, int inLen);
+
+        boolean cryptoHashSha512Update(Hash.State512 state, byte[] in, int inOffset, int inLen);
+
     }
 
     interface Lazy {
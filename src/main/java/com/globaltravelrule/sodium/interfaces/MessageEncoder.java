@@ -8,7 +8,102 @@
 
 package com.globaltravelrule.sodium.interfaces;
 
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 public interface MessageEncoder {
     String encode(byte[] cipher);
     byte[] decode(String cipherText);
+
+    /**
+     * The number of ASCII bytes {@link #encode(byte[], int, int, byte[], int)}
+     * writes for {@code length} input bytes.
+     * @param length The number of bytes to encode.
+     * @return The encoded length.
+     */
+    default int encodedLength(int length) {
+        return encode(new byte[length]).length();
+    }
+
+    /**
+     * Encode a slice of {@code src} as ASCII into {@code dst}.
+     * The input may occupy the tail of the output range in the
+     * same array, which lets callers encode in place.
+     * The default implementation goes through {@link #encode(byte[])};
+     * the bundled encoders override it so that it does not allocate.
+     * @param src The bytes to encode.
+     * @param srcOffset Where the bytes start in {@code src}.
+     * @param length The number of bytes to encode.
+     * @param dst Receives the encoded ASCII bytes.
+     * @param dstOffset Where to start writing in {@code dst}.
+     * @return The number of bytes written to {@code dst}.
+     */
+    default int encode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        byte[] encoded = encode(Arrays.copyOfRange(src, srcOffset, srcOffset + length)).getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(encoded, 0, dst, dstOffset, encoded.length);
+        return encoded.length;
+    }
+
+    /**
+     * Decode a slice of ASCII bytes in {@code src} into {@code dst}.
+     * The output may start at the same position as the input in
+     * the same array, which lets callers decode in place.
+     * @param src The ASCII bytes to decode.
+     * @param srcOffset Where the bytes start in {@code src}.
+     * @param length The number of bytes to decode.
+     * @param dst Receives the decoded bytes.
+     * @param dstOffset Where to start writing in {@code dst}.
+     * @return The number of bytes written to {@code dst}.
+     */
+    default int decode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        byte[] decoded = decode(new String(src, srcOffset, length, StandardCharsets.US_ASCII));
+        System.arraycopy(decoded, 0, dst, dstOffset, decoded.length);
+        return decoded.length;
+    }
+
+    /**
+     * Encode the remaining bytes of {@code src} into {@code dst},
+     * advancing both buffers, without building an intermediate {@code String}.
+     * The bundled encoders stop after the last whole group that fits in
+     * {@code dst}, so a caller can drain {@code dst} and call again while
+     * {@code src} has bytes remaining. The default implementation goes
+     * through {@link #encode(byte[])} and either consumes everything or,
+     * when {@code dst} is too small, nothing.
+     * @param src The bytes to encode.
+     * @param dst Receives the encoded characters.
+     * @return The number of chars written to {@code dst}.
+     */
+    default int encode(ByteBuffer src, CharBuffer dst) {
+        byte[] bytes = new byte[src.remaining()];
+        src.duplicate().get(bytes);
+        String encoded = encode(bytes);
+        if (encoded.length() > dst.remaining()) {
+            throw new BufferOverflowException();
+        }
+        dst.put(encoded);
+        ((Buffer) src).position(src.limit());
+        return encoded.length();
+    }
+
+    /**
+     * Decode the remaining characters of {@code src} into {@code dst},
+     * advancing both buffers, as {@link #encode(ByteBuffer, CharBuffer)}
+     * does for encoding.
+     * @param src The characters to decode.
+     * @param dst Receives the decoded bytes.
+     * @return The number of bytes written to {@code dst}.
+     */
+    default int decode(CharBuffer src, ByteBuffer dst) {
+        byte[] decoded = decode(src.toString());
+        if (decoded.length > dst.remaining()) {
+            throw new BufferOverflowException();
+        }
+        dst.put(decoded);
+        ((Buffer) src).position(src.limit());
+        return decoded.length;
+    }
 }
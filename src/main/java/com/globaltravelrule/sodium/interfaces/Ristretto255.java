@@ -12,7 +12,10 @@ import com.globaltravelrule.sodium.LazySodium;
 import com.globaltravelrule.sodium.exceptions.SodiumException;
 
 import java.math.BigInteger;
+import java.security.MessageDigest;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.Executor;
 
 public interface Ristretto255 {
 
@@ -233,6 +236,85 @@ public interface Ristretto255 {
         void cryptoCoreRistretto255ScalarMul(byte[] result, byte[] x, byte[] y);
     }
 
+    /**
+     * Point operations over many elements at once. Points, scalars and hashes are
+     * packed back to back in one array, staged into native memory with a single
+     * copy and processed without a {@link RistrettoPoint} per element.
+     */
+    interface Batch {
+
+        /**
+         * Multiplies {@code count} packed points by scalars. The product for point
+         * {@code i} is written to {@code results} at {@code i * RISTRETTO255_BYTES}; a
+         * product that fails leaves its slot zeroed.
+         *
+         * @param results the target array, at least {@code count * RISTRETTO255_BYTES} bytes
+         * @param scalars either one scalar applied to every point, or {@code count} packed
+         *                scalars of {@link Ristretto255#RISTRETTO255_SCALAR_BYTES} bytes
+         * @param points  {@code count} packed points of {@link Ristretto255#RISTRETTO255_BYTES}
+         *                bytes
+         * @param count   the number of points
+         * @return bit {@code i} is set unless point {@code i} was invalid or its product
+         *         was the identity element
+         */
+        BitSet cryptoScalarmultRistretto255Many(byte[] results, byte[] scalars, byte[] points, int count);
+
+        /**
+         * Adds the packed points {@code p} and {@code q} pairwise. The sum of point
+         * {@code i} is written to {@code results} at {@code i * RISTRETTO255_BYTES}; a
+         * sum that fails leaves its slot zeroed.
+         *
+         * @param results the target array, at least {@code count * RISTRETTO255_BYTES} bytes
+         * @param p       {@code count} packed points
+         * @param q       {@code count} packed points
+         * @param count   the number of pairs
+         * @return bit {@code i} is set unless {@code p[i]} or {@code q[i]} was invalid
+         */
+        BitSet cryptoCoreRistretto255AddMany(byte[] results, byte[] p, byte[] q, int count);
+
+        /**
+         * Maps {@code count} packed {@link Ristretto255#RISTRETTO255_HASH_BYTES} bytes
+         * hashes to points, written to {@code points} at {@code i * RISTRETTO255_BYTES}.
+         *
+         * @param points the target array, at least {@code count * RISTRETTO255_BYTES} bytes
+         * @param hashes {@code count} packed hashes
+         * @param count  the number of hashes
+         * @return bit {@code i} is set if hash {@code i} was mapped
+         */
+        BitSet cryptoCoreRistretto255FromHashMany(byte[] points, byte[] hashes, int count);
+
+        /**
+         * Computes the multi-scalar product {@code scalars[0] * points[0] + ... +
+         * scalars[count - 1] * points[count - 1]} on the common fork-join pool. Terms
+         * whose scalar is zero modulo {@code L} contribute the identity element.
+         *
+         * @param scalars {@code count} packed scalars
+         * @param points  {@code count} packed points
+         * @param count   the number of terms
+         * @return the sum, which may be the identity element
+         * @throws SodiumException if one of the points is invalid
+         */
+        RistrettoPoint cryptoScalarmultRistretto255Multi(byte[] scalars, byte[] points, int count)
+            throws SodiumException;
+
+        /**
+         * Like {@link #cryptoScalarmultRistretto255Multi(byte[], byte[], int)} but on the
+         * given executor. Each task sums {@code chunkSize} consecutive terms and the
+         * partial sums are added at the end.
+         *
+         * @param scalars   {@code count} packed scalars
+         * @param points    {@code count} packed points
+         * @param count     the number of terms
+         * @param executor  runs the chunks
+         * @param chunkSize the number of terms each task sums
+         * @return the sum, which may be the identity element
+         * @throws SodiumException if one of the points is invalid
+         */
+        RistrettoPoint cryptoScalarmultRistretto255Multi(byte[] scalars, byte[] points, int count,
+                                                         Executor executor, int chunkSize)
+            throws SodiumException;
+    }
+
     interface Lazy {
 
         /**
@@ -801,6 +883,23 @@ public interface Ristretto255 {
             }
         }
 
+        public static void checkCount(byte[] packed, int count, int elementBytes, String name) {
+            if (count < 0) {
+                throw new IllegalArgumentException("count out of bounds: " + count);
+            }
+
+            if (packed == null) {
+                throw new IllegalArgumentException(
+                    "Null pointers are not allowed as packed Ristretto255 " + name);
+            }
+
+            if ((long) count * elementBytes > packed.length) {
+                throw new IllegalArgumentException(
+                    name + " out of bounds: " + count + " elements need "
+                        + (long) count * elementBytes + " bytes");
+            }
+        }
+
         public static void checkNonReducedScalar(byte[] scalar) {
             if (scalar == null) {
                 throw new IllegalArgumentException(
@@ -817,8 +916,13 @@ public interface Ristretto255 {
 
     final class RistrettoPoint {
 
+        private static final byte UNCHECKED = 0;
+        private static final byte VALID = 1;
+        private static final byte INVALID = 2;
+
         private final LazySodium ls;
         private final byte[] repr;
+        private byte validity;
 
         private RistrettoPoint(LazySodium ls, byte[] repr) {
             if (repr == null || !ls.cryptoCoreRistretto255IsValidPoint(repr)) {
@@ -827,6 +931,14 @@ public interface Ristretto255 {
 
             this.repr = repr;
             this.ls = ls;
+            this.validity = VALID;
+        }
+
+        private RistrettoPoint(LazySodium ls, byte[] repr, byte validity) {
+            Checker.checkPoint(repr);
+            this.repr = repr;
+            this.ls = ls;
+            this.validity = validity;
         }
 
         private RistrettoPoint(LazySodium ls, String encoded) {
@@ -857,6 +969,22 @@ public interface Ristretto255 {
             return Arrays.hashCode(repr);
         }
 
+        /**
+         * Returns whether this point is a valid canonical encoding. Points from
+         * {@link #fromBytesUnchecked(LazySodium, byte[])} are decoded on the first
+         * call and the answer is cached; all other points are known to be valid.
+         *
+         * @return true if valid
+         */
+        public boolean isValid() {
+            byte v = validity;
+            if (v == UNCHECKED) {
+                v = ls.cryptoCoreRistretto255IsValidPoint(repr) ? VALID : INVALID;
+                validity = v;
+            }
+            return v == VALID;
+        }
+
         /**
          * Returns the hexadecimal notation of this point's canonical encoding.
          *
@@ -905,6 +1033,17 @@ public interface Ristretto255 {
             return scalarMult(n);
         }
 
+        /**
+         * Multiplies this point by a given scalar, without converting through {@link BigInteger}.
+         *
+         * @param n the scalar to multiply by
+         * @return the multiplied point
+         * @throws SodiumException if the result is zero
+         */
+        public RistrettoPoint times(RistrettoScalar n) throws SodiumException {
+            return n.times(this);
+        }
+
         /**
          * Adds the given point to this point. Addition is commutative.
          *
@@ -945,7 +1084,7 @@ public interface Ristretto255 {
          * @return the identity element of Ristretto255
          */
         public static RistrettoPoint zero(LazySodium ls) {
-            return fromBytes(ls, pointBuffer());
+            return fromTrustedBytes(ls, pointBuffer());
         }
 
         /**
@@ -1005,6 +1144,45 @@ public interface Ristretto255 {
             return new RistrettoPoint(ls, bytes);
         }
 
+        /**
+         * Creates a new {@link RistrettoPoint} from the binary representation without
+         * decoding it. The check is deferred to the first {@link #isValid()} call and
+         * cached; the arithmetic natives reject invalid points on their own, so
+         * points that are only multiplied or added never pay for a separate check.
+         * Use this when many points are deserialized but few are used.
+         *
+         * @param ls    the {@link LazySodium} instance
+         * @param bytes the Ristretto255 encoding, {@link #RISTRETTO255_BYTES} long
+         * @return the corresponding {@link RistrettoPoint}, possibly invalid
+         */
+        public static RistrettoPoint fromBytesUnchecked(LazySodium ls, byte[] bytes) {
+            return new RistrettoPoint(ls, bytes, UNCHECKED);
+        }
+
+        /**
+         * Wraps an encoding that libsodium has just produced for {@code ls}, e.g. the
+         * result of {@code crypto_scalarmult_ristretto255}, {@code crypto_core_ristretto255_add}
+         * or {@code crypto_core_ristretto255_from_hash}, which can only output valid
+         * points. {@link LazySodium} passes its private token so that the point skips
+         * the decode that {@link #fromBytes(LazySodium, byte[])} performs. With any
+         * other token this behaves like {@link #fromBytesUnchecked(LazySodium, byte[])}.
+         *
+         * @param ls    the {@link LazySodium} instance that computed the point
+         * @param bytes a canonical encoding produced by libsodium
+         * @param token the token of {@code ls}
+         * @return the corresponding {@link RistrettoPoint}
+         */
+        public static RistrettoPoint fromNativeResult(LazySodium ls, byte[] bytes, Object token) {
+            return new RistrettoPoint(ls, bytes, ls.isNativeResultToken(token) ? VALID : UNCHECKED);
+        }
+
+        /**
+         * Wraps an encoding computed in this package, such as the identity.
+         */
+        static RistrettoPoint fromTrustedBytes(LazySodium ls, byte[] bytes) {
+            return new RistrettoPoint(ls, bytes, VALID);
+        }
+
         /**
          * Maps the encoded input to a {@link RistrettoPoint}, using the {@link LazySodium}'s
          * associated {@link MessageEncoder}. The resulting bytes are hashed using SHA-512 and
@@ -1039,4 +1217,296 @@ public interface Ristretto255 {
             return ls.cryptoCoreRistretto255FromHash(hash);
         }
     }
+
+    /**
+     * A mutable Ristretto255 scalar held as its 32 byte little-endian canonical encoding.
+     * <p>
+     * Unlike the {@link BigInteger} based {@link Lazy} methods, arithmetic here
+     * calls the natives on the encoding directly and updates the scalar in
+     * place, so chained computations allocate nothing per step. Each scalar
+     * owns a second buffer that the native writes its result into before the
+     * two are swapped: JNA copies every {@code byte[]} argument back after the
+     * call, so passing one array as both input and output would lose the result.
+     * <p>
+     * Every operation returns {@code this} for chaining. Use {@link #copy()} to
+     * keep an intermediate value. Not thread safe. {@link #wipe()} zeroes both
+     * buffers once a secret scalar is no longer needed.
+     */
+    final class RistrettoScalar {
+
+        private static final byte[] L_BYTES = scalarToBytes(RISTRETTO255_L);
+
+        private final LazySodium ls;
+        private byte[] repr;
+        private byte[] scratch;
+
+        private RistrettoScalar(LazySodium ls, byte[] repr) {
+            this.ls = ls;
+            this.repr = repr;
+            this.scratch = scalarBuffer();
+        }
+
+        /**
+         * @param ls the {@link LazySodium} instance
+         * @return a new scalar equal to zero
+         */
+        public static RistrettoScalar zero(LazySodium ls) {
+            return new RistrettoScalar(ls, scalarBuffer());
+        }
+
+        /**
+         * @param ls the {@link LazySodium} instance
+         * @return a new scalar equal to one
+         */
+        public static RistrettoScalar one(LazySodium ls) {
+            byte[] repr = scalarBuffer();
+            repr[0] = 1;
+            return new RistrettoScalar(ls, repr);
+        }
+
+        /**
+         * @param ls the {@link LazySodium} instance
+         * @return a new uniformly random non-zero scalar
+         */
+        public static RistrettoScalar random(LazySodium ls) {
+            byte[] repr = scalarBuffer();
+            ls.cryptoCoreRistretto255ScalarRandom(repr);
+            return new RistrettoScalar(ls, repr);
+        }
+
+        /**
+         * Creates a scalar from its canonical encoding. The bytes are copied.
+         *
+         * @param ls    the {@link LazySodium} instance
+         * @param bytes the {@link #RISTRETTO255_SCALAR_BYTES} byte little-endian encoding
+         * @return the corresponding scalar
+         * @throws IllegalArgumentException if the value is not below L, use
+         *                                  {@link #reduce(LazySodium, byte[])} for those
+         */
+        public static RistrettoScalar fromBytes(LazySodium ls, byte[] bytes) {
+            if (bytes == null || bytes.length != RISTRETTO255_SCALAR_BYTES) {
+                throw new IllegalArgumentException("bytes out of bounds");
+            }
+            if (!isCanonical(bytes)) {
+                throw new IllegalArgumentException("bytes is not a canonical scalar");
+            }
+            return new RistrettoScalar(ls, bytes.clone());
+        }
+
+        /**
+         * Creates a scalar by reducing {@link #RISTRETTO255_NON_REDUCED_SCALAR_BYTES} bytes,
+         * e.g. a SHA-512 hash, modulo L.
+         *
+         * @param ls    the {@link LazySodium} instance
+         * @param bytes the little-endian value to reduce
+         * @return the reduced scalar
+         */
+        public static RistrettoScalar reduce(LazySodium ls, byte[] bytes) {
+            if (bytes == null || bytes.length != RISTRETTO255_NON_REDUCED_SCALAR_BYTES) {
+                throw new IllegalArgumentException("bytes out of bounds");
+            }
+            byte[] repr = scalarBuffer();
+            ls.cryptoCoreRistretto255ScalarReduce(repr, bytes);
+            return new RistrettoScalar(ls, repr);
+        }
+
+        /**
+         * @param ls the {@link LazySodium} instance
+         * @param n  a value between 0 and L - 1
+         * @return the corresponding scalar
+         */
+        public static RistrettoScalar fromBigInteger(LazySodium ls, BigInteger n) {
+            if (n.signum() < 0 || n.compareTo(RISTRETTO255_L) >= 0) {
+                throw new IllegalArgumentException("n out of bounds");
+            }
+            return new RistrettoScalar(ls, scalarToBytes(n));
+        }
+
+        /**
+         * Sets this scalar to {@code this + y mod L}.
+         *
+         * @param y the scalar to add
+         * @return this scalar
+         */
+        public RistrettoScalar add(RistrettoScalar y) {
+            ls.cryptoCoreRistretto255ScalarAdd(scratch, repr, y.repr);
+            return swap();
+        }
+
+        /**
+         * Sets this scalar to {@code this - y mod L}.
+         *
+         * @param y the scalar to subtract
+         * @return this scalar
+         */
+        public RistrettoScalar sub(RistrettoScalar y) {
+            ls.cryptoCoreRistretto255ScalarSub(scratch, repr, y.repr);
+            return swap();
+        }
+
+        /**
+         * Sets this scalar to {@code this * y mod L}.
+         *
+         * @param y the scalar to multiply by
+         * @return this scalar
+         */
+        public RistrettoScalar mul(RistrettoScalar y) {
+            ls.cryptoCoreRistretto255ScalarMul(scratch, repr, y.repr);
+            return swap();
+        }
+
+        /**
+         * Sets this scalar to {@code -this mod L}.
+         *
+         * @return this scalar
+         */
+        public RistrettoScalar negate() {
+            ls.cryptoCoreRistretto255ScalarNegate(scratch, repr);
+            return swap();
+        }
+
+        /**
+         * Sets this scalar to {@code 1 - this mod L}.
+         *
+         * @return this scalar
+         */
+        public RistrettoScalar complement() {
+            ls.cryptoCoreRistretto255ScalarComplement(scratch, repr);
+            return swap();
+        }
+
+        /**
+         * Sets this scalar to its multiplicative inverse.
+         *
+         * @return this scalar
+         * @throws SodiumException if this scalar is zero
+         */
+        public RistrettoScalar invert() throws SodiumException {
+            if (!ls.cryptoCoreRistretto255ScalarInvert(scratch, repr)) {
+                throw new SodiumException("Zero has no inverse");
+            }
+            return swap();
+        }
+
+        /**
+         * Sets this scalar to the value of another one, without allocating.
+         *
+         * @param other the scalar to copy
+         * @return this scalar
+         */
+        public RistrettoScalar set(RistrettoScalar other) {
+            System.arraycopy(other.repr, 0, repr, 0, RISTRETTO255_SCALAR_BYTES);
+            return this;
+        }
+
+        /**
+         * @return an independent scalar with the same value
+         */
+        public RistrettoScalar copy() {
+            return new RistrettoScalar(ls, repr.clone());
+        }
+
+        /**
+         * Multiplies the base point by this scalar.
+         *
+         * @return the resulting point
+         * @throws SodiumException if this scalar is zero
+         */
+        public RistrettoPoint timesBase() throws SodiumException {
+            return ls.cryptoScalarmultRistretto255Base(repr);
+        }
+
+        /**
+         * Multiplies a point by this scalar.
+         *
+         * @param point the point to multiply
+         * @return the resulting point
+         * @throws SodiumException if the result is zero
+         */
+        public RistrettoPoint times(RistrettoPoint point) throws SodiumException {
+            return ls.cryptoScalarmultRistretto255(repr, point);
+        }
+
+        /**
+         * @return a copy of the canonical little-endian encoding
+         */
+        public byte[] toBytes() {
+            return repr.clone();
+        }
+
+        /**
+         * Writes the canonical little-endian encoding into {@code dst} at {@code offset}.
+         *
+         * @param dst    the destination
+         * @param offset where the encoding starts
+         */
+        public void toBytes(byte[] dst, int offset) {
+            System.arraycopy(repr, 0, dst, offset, RISTRETTO255_SCALAR_BYTES);
+        }
+
+        /**
+         * @return the value as a {@link BigInteger}
+         */
+        public BigInteger toBigInteger() {
+            return bytesToScalar(repr);
+        }
+
+        /**
+         * Zeroes this scalar and its scratch buffer.
+         */
+        public void wipe() {
+            Arrays.fill(repr, (byte) 0);
+            Arrays.fill(scratch, (byte) 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof RistrettoScalar)) {
+                return false;
+            }
+
+            return MessageDigest.isEqual(repr, ((RistrettoScalar) o).repr);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(repr);
+        }
+
+        /**
+         * Scalars are usually secret, so their value is left out; use
+         * {@link #toBytes()} where it is really needed.
+         */
+        @Override
+        public String toString() {
+            return "RistrettoScalar(redacted)";
+        }
+
+        /**
+         * Whether the little-endian {@code s} is below L, in the same constant-time
+         * way as libsodium's {@code sc25519_is_canonical}.
+         */
+        private static boolean isCanonical(byte[] s) {
+            int c = 0;
+            int n = 1;
+            for (int i = RISTRETTO255_SCALAR_BYTES - 1; i >= 0; i--) {
+                int si = s[i] & 0xff;
+                int li = L_BYTES[i] & 0xff;
+                c |= ((si - li) >> 8) & n;
+                n &= ((si ^ li) - 1) >> 8;
+            }
+            return c != 0;
+        }
+
+        private RistrettoScalar swap() {
+            byte[] result = scratch;
+            scratch = repr;
+            repr = result;
+            return this;
+        }
+    }
 }
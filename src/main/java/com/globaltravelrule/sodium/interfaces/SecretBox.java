@@ -12,6 +12,7 @@ package com.globaltravelrule.sodium.interfaces;
 import com.globaltravelrule.sodium.exceptions.SodiumException;
 import com.globaltravelrule.sodium.utils.DetachedEncrypt;
 import com.globaltravelrule.sodium.utils.Key;
+import com.globaltravelrule.sodium.utils.SecureKey;
 
 public interface SecretBox {
 
@@ -105,6 +106,99 @@ public interface SecretBox {
                                           byte[] nonce,
                                           byte[] key);
 
+        /**
+         * Same as {@link #cryptoSecretBoxEasy(byte[], byte[], long, byte[], byte[])}
+         * but works on slices of larger arrays, so a framed message
+         * can be encrypted in place without copying it out first.
+         * @param cipherText The cipher text will be written here from {@code cipherTextOffset}.
+         *                   Needs room for {@link #MACBYTES} + {@code messageLen} bytes.
+         * @param cipherTextOffset Where the cipher text starts in {@code cipherText}.
+         * @param message The array holding the message.
+         * @param messageOffset Where the message starts in {@code message}.
+         * @param messageLen The message length.
+         * @param nonce A nonce of size {@link #NONCEBYTES}.
+         * @param key The symmetric key generated by {@link #cryptoSecretBoxKeygen(byte[])}.
+         * @return True if successful.
+         */
+        boolean cryptoSecretBoxEasy(byte[] cipherText, int cipherTextOffset,
+                                    byte[] message, int messageOffset, int messageLen,
+                                    byte[] nonce,
+                                    byte[] key);
+
+        /**
+         * Same as {@link #cryptoSecretBoxOpenEasy(byte[], byte[], long, byte[], byte[])}
+         * but works on slices of larger arrays.
+         * @param message The message will be written here from {@code messageOffset}.
+         *                Needs room for {@code cipherTextLen} - {@link #MACBYTES} bytes.
+         * @param messageOffset Where the message starts in {@code message}.
+         * @param cipherText The array holding the cipher text.
+         * @param cipherTextOffset Where the cipher text starts in {@code cipherText}.
+         * @param cipherTextLen The cipher text length.
+         * @param nonce The nonce that was used when encrypting.
+         * @param key The key generated by {@link #cryptoSecretBoxKeygen(byte[])}.
+         * @return True if successful.
+         */
+        boolean cryptoSecretBoxOpenEasy(byte[] message, int messageOffset,
+                                        byte[] cipherText, int cipherTextOffset, int cipherTextLen,
+                                        byte[] nonce,
+                                        byte[] key);
+
+        /**
+         * Same as {@link #cryptoSecretBoxDetached(byte[], byte[], byte[], long, byte[], byte[])}
+         * but works on slices of larger arrays.
+         * @param cipherText The cipher text will be written here from {@code cipherTextOffset}.
+         * @param cipherTextOffset Where the cipher text starts in {@code cipherText}.
+         * @param mac The mac of size {@link #MACBYTES} will be written here from {@code macOffset}.
+         * @param macOffset Where the mac starts in {@code mac}.
+         * @param message The array holding the message.
+         * @param messageOffset Where the message starts in {@code message}.
+         * @param messageLen The message length.
+         * @param nonce A nonce of size {@link #NONCEBYTES}.
+         * @param key The key generated by {@link #cryptoSecretBoxKeygen(byte[])}.
+         * @return True if successful.
+         */
+        boolean cryptoSecretBoxDetached(byte[] cipherText, int cipherTextOffset,
+                                        byte[] mac, int macOffset,
+                                        byte[] message, int messageOffset, int messageLen,
+                                        byte[] nonce,
+                                        byte[] key);
+
+        /**
+         * Same as {@link #cryptoSecretBoxOpenDetached(byte[], byte[], byte[], long, byte[], byte[])}
+         * but works on slices of larger arrays.
+         * @param message The message will be written here from {@code messageOffset}.
+         * @param messageOffset Where the message starts in {@code message}.
+         * @param cipherText The array holding the cipher text.
+         * @param cipherTextOffset Where the cipher text starts in {@code cipherText}.
+         * @param cipherTextLen The cipher text length.
+         * @param mac The array holding the mac.
+         * @param macOffset Where the mac starts in {@code mac}.
+         * @param nonce The nonce that was used when encrypting.
+         * @param key The key generated by {@link #cryptoSecretBoxKeygen(byte[])}.
+         * @return True if successful.
+         */
+        boolean cryptoSecretBoxOpenDetached(byte[] message, int messageOffset,
+                                            byte[] cipherText, int cipherTextOffset, int cipherTextLen,
+                                            byte[] mac, int macOffset,
+                                            byte[] nonce,
+                                            byte[] key);
+
+        /**
+         * Same as {@link #cryptoSecretBoxEasy(byte[], byte[], long, byte[], byte[])}
+         * but reads the key straight from secure memory.
+         * @param key A {@link SecureKey} of {@link #KEYBYTES}.
+         * @return True if successful.
+         */
+        boolean cryptoSecretBoxEasy(byte[] cipherText, byte[] message, long messageLen, byte[] nonce, SecureKey key);
+
+        /**
+         * Same as {@link #cryptoSecretBoxOpenEasy(byte[], byte[], long, byte[], byte[])}
+         * but reads the key straight from secure memory.
+         * @param key A {@link SecureKey} of {@link #KEYBYTES}.
+         * @return True if successful.
+         */
+        boolean cryptoSecretBoxOpenEasy(byte[] message, byte[] cipherText, long cipherTextLen, byte[] nonce, SecureKey key);
+
     }
 
     interface Lazy {
@@ -14,6 +14,7 @@ import com.globaltravelrule.sodium.utils.BaseChecker;
 import com.globaltravelrule.sodium.utils.Key;
 import com.sun.jna.Structure;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 
@@ -190,6 +191,33 @@ public interface SecretStream {
         );
 
 
+        /**
+         * Encrypt the remaining bytes of {@code message} into {@code cipher},
+         * which needs room for {@link #ABYTES} more. Direct buffers, including
+         * {@link java.nio.MappedByteBuffer}s, are handed to libsodium without a copy.
+         * The positions of both buffers are advanced on success.
+         * @param state The state as put into cryptoSecretStreamInitPush.
+         * @param cipher The buffer to write the encrypted message to.
+         * @param message The message to encrypt.
+         * @param additionalData Any authenticated data, may be null.
+         * @param tag The tag.
+         * @return True if successful encryption.
+         */
+        boolean cryptoSecretStreamPush(State state, ByteBuffer cipher, ByteBuffer message, byte[] additionalData, byte tag);
+
+        /**
+         * Decrypt the remaining bytes of {@code cipher} into {@code message},
+         * which needs room for that minus {@link #ABYTES}.
+         * The positions of both buffers are advanced on success.
+         * @param state The state as put into cryptoSecretStreamInitPull.
+         * @param message The buffer to write the message to.
+         * @param tag Receives the tag.
+         * @param cipher The encrypted message.
+         * @param additionalData Any authenticated data, may be null.
+         * @return True if successful decryption.
+         */
+        boolean cryptoSecretStreamPull(State state, ByteBuffer message, byte[] tag, ByteBuffer cipher, byte[] additionalData);
+
         /**
          * Explicitly rekeys.
          * @param state The state to update.
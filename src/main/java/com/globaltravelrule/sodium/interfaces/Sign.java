@@ -18,6 +18,7 @@ import com.sun.jna.Structure;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 public interface Sign {
 
@@ -163,6 +164,86 @@ public interface Sign {
          */
         boolean cryptoSignVerifyDetached(byte[] signature, byte[] message, int messageLen, byte[] publicKey);
 
+        /**
+         * Same as {@link #cryptoSignUpdate(StateCryptoSign, byte[], long)}
+         * but reads the chunk from a slice of a larger array.
+         * @param state The state.
+         * @param chunk The array holding the chunk.
+         * @param chunkOffset Where the chunk starts in {@code chunk}.
+         * @param chunkLength The chunk length.
+         * @return True if successful.
+         */
+        boolean cryptoSignUpdate(Sign.StateCryptoSign state, byte[] chunk, int chunkOffset, int chunkLength);
+
+        /**
+         * Same as {@link #cryptoSign(byte[], byte[], long, byte[])}
+         * but works on slices of larger arrays.
+         * @param signedMessage Signed message will be written here from {@code signedMessageOffset}.
+         *                      It is {@link #BYTES} + {@code messageLen} long.
+         * @param signedMessageOffset Where the signed message starts in {@code signedMessage}.
+         * @param message The array holding the message.
+         * @param messageOffset Where the message starts in {@code message}.
+         * @param messageLen The message length.
+         * @param secretKey The secret key.
+         * @return True if successfully signed.
+         */
+        boolean cryptoSign(
+                byte[] signedMessage, int signedMessageOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] secretKey
+        );
+
+        /**
+         * Same as {@link #cryptoSignOpen(byte[], byte[], long, byte[])}
+         * but works on slices of larger arrays.
+         * @param message The message will be written here from {@code messageOffset}.
+         * @param messageOffset Where the message starts in {@code message}.
+         * @param signedMessage The array holding the signed message.
+         * @param signedMessageOffset Where the signed message starts in {@code signedMessage}.
+         * @param signedMessageLen The signed message length.
+         * @param publicKey Public key.
+         * @return True if the signature is from the public key.
+         */
+        boolean cryptoSignOpen(
+                byte[] message, int messageOffset,
+                byte[] signedMessage, int signedMessageOffset, int signedMessageLen,
+                byte[] publicKey
+        );
+
+        /**
+         * Same as {@link #cryptoSignDetached(byte[], byte[], long, byte[])}
+         * but works on slices of larger arrays.
+         * @param signature The signature of {@link #BYTES} will be written here from {@code signatureOffset}.
+         * @param signatureOffset Where the signature starts in {@code signature}.
+         * @param message The array holding the message.
+         * @param messageOffset Where the message starts in {@code message}.
+         * @param messageLen The message length.
+         * @param secretKey The secret key.
+         * @return True if the secret key could provide a signature.
+         */
+        boolean cryptoSignDetached(
+                byte[] signature, int signatureOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] secretKey
+        );
+
+        /**
+         * Same as {@link #cryptoSignVerifyDetached(byte[], byte[], int, byte[])}
+         * but works on slices of larger arrays.
+         * @param signature The array holding the signature.
+         * @param signatureOffset Where the signature starts in {@code signature}.
+         * @param message The array holding the message.
+         * @param messageOffset Where the message starts in {@code message}.
+         * @param messageLen The message length.
+         * @param publicKey The public key that signed the message.
+         * @return Returns true if the signature is valid for the message.
+         */
+        boolean cryptoSignVerifyDetached(
+                byte[] signature, int signatureOffset,
+                byte[] message, int messageOffset, int messageLen,
+                byte[] publicKey
+        );
+
         /**
          * Converts a public ed25519 key to a public curve25519 key.
          * @param curve The array in which the generated key will be placed.
@@ -275,6 +356,39 @@ public interface Sign {
         KeyPair convertKeyPairEd25519ToCurve25519(KeyPair ed25519KeyPair) throws SodiumException;
     }
 
+    /**
+     * Verifies many detached signatures at once. The items are split into
+     * contiguous chunks and each chunk is verified on one thread of an
+     * {@link Executor}, so a task costs one hand-off rather than one per
+     * signature.
+     */
+    interface Batch {
+
+        /**
+         * Verify {@code signatures[i]} over {@code messages[i]} with {@code publicKeys[i]}
+         * for every {@code i}, using the common fork-join pool.
+         * @param signatures The signatures, each {@link Sign#BYTES} long.
+         * @param messages The signed messages.
+         * @param publicKeys The public keys, each {@link Sign#PUBLICKEYBYTES} long.
+         * @return Element {@code i} is true if signature {@code i} is valid.
+         *         Signatures or keys of the wrong length are reported as invalid.
+         */
+        boolean[] cryptoSignVerifyDetachedBatch(byte[][] signatures, byte[][] messages, byte[][] publicKeys);
+
+        /**
+         * Like {@link #cryptoSignVerifyDetachedBatch(byte[][], byte[][], byte[][])}
+         * but on the given executor.
+         * @param signatures The signatures, each {@link Sign#BYTES} long.
+         * @param messages The signed messages.
+         * @param publicKeys The public keys, each {@link Sign#PUBLICKEYBYTES} long.
+         * @param executor Runs the chunks.
+         * @param chunkSize The number of signatures each task verifies.
+         * @return Element {@code i} is true if signature {@code i} is valid.
+         */
+        boolean[] cryptoSignVerifyDetachedBatch(byte[][] signatures, byte[][] messages, byte[][] publicKeys,
+                                                Executor executor, int chunkSize);
+    }
+
 
     class StateCryptoSign extends Structure {
         public Hash.State512 hs;
@@ -0,0 +1,1802 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.metrics;
+
+import com.globaltravelrule.sodium.SodiumJava;
+import com.globaltravelrule.sodium.interfaces.AEAD;
+import com.globaltravelrule.sodium.interfaces.Auth;
+import com.globaltravelrule.sodium.interfaces.Hash;
+import com.globaltravelrule.sodium.interfaces.SecretStream;
+import com.globaltravelrule.sodium.interfaces.Sign;
+import com.globaltravelrule.sodium.utils.LibraryLoader;
+import com.sun.jna.NativeLong;
+import com.sun.jna.Pointer;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * {@link SodiumJava} that times the hot natives and reports each call to a {@link MetricsRegistry}.
+ * <p>
+ * Covers AEAD, secret box, box, sealed box, signatures, secret stream,
+ * generic, short and SHA-2 hashing, authentication, password hashing and
+ * Ristretto255 point and scalar operations, including key generation and
+ * the streaming init, update and final calls, in all their argument
+ * variants. Each call
+ * is reported under its libsodium function name together with its message
+ * or input length and whether libsodium rejected it (bad tag, bad signature,
+ * invalid point, ...).
+ * <p>
+ * Instrumentation is opt-in: pass an instance to {@code LazySodiumJava} to
+ * turn it on. A plain {@link SodiumJava} contains none of this code, so the
+ * uninstrumented path costs nothing.
+ */
+public class InstrumentedSodium extends SodiumJava {
+
+    private final MetricsRegistry registry;
+
+    public InstrumentedSodium(MetricsRegistry registry) {
+        this(LibraryLoader.Mode.PREFER_SYSTEM, registry);
+    }
+
+    public InstrumentedSodium(LibraryLoader.Mode loadingMode, MetricsRegistry registry) {
+        super(loadingMode);
+        this.registry = Objects.requireNonNull(registry, "registry");
+    }
+
+    public InstrumentedSodium(String absolutePath, MetricsRegistry registry) {
+        super(absolutePath);
+        this.registry = Objects.requireNonNull(registry, "registry");
+    }
+
+    public MetricsRegistry getRegistry() {
+        return registry;
+    }
+
+    @Override
+    public int crypto_pwhash(byte[] outputHash, long outputHashLen, byte[] password, long passwordLen, byte[] salt, long opsLimit, NativeLong memLimit, int alg) {
+        long start = System.nanoTime();
+        int result = super.crypto_pwhash(outputHash, outputHashLen, password, passwordLen, salt, opsLimit, memLimit, alg);
+        registry.record("crypto_pwhash", passwordLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_pwhash_str(byte[] outputStr, byte[] password, long passwordLen, long opsLimit, NativeLong memLimit) {
+        long start = System.nanoTime();
+        int result = super.crypto_pwhash_str(outputStr, password, passwordLen, opsLimit, memLimit);
+        registry.record("crypto_pwhash_str", passwordLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_pwhash_str_verify(byte[] hash, byte[] password, long passwordLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_pwhash_str_verify(hash, password, passwordLen);
+        registry.record("crypto_pwhash_str_verify", passwordLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_pwhash_str_needs_rehash(byte[] hash, long opsLimit, NativeLong memLimit) {
+        long start = System.nanoTime();
+        int result = super.crypto_pwhash_str_needs_rehash(hash, opsLimit, memLimit);
+        registry.record("crypto_pwhash_str_needs_rehash", 0, System.nanoTime() - start, result < 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_pwhash_scryptsalsa208sha256(byte[] out, long outLen, byte[] password, long passwordLen, byte[] salt, long opsLimit, long memLimit) {
+        long start = System.nanoTime();
+        int result = super.crypto_pwhash_scryptsalsa208sha256(out, outLen, password, passwordLen, salt, opsLimit, memLimit);
+        registry.record("crypto_pwhash_scryptsalsa208sha256", passwordLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_pwhash_scryptsalsa208sha256_str(byte[] out, byte[] password, long passwordLen, long opsLimit, long memLimit) {
+        long start = System.nanoTime();
+        int result = super.crypto_pwhash_scryptsalsa208sha256_str(out, password, passwordLen, opsLimit, memLimit);
+        registry.record("crypto_pwhash_scryptsalsa208sha256_str", passwordLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_pwhash_scryptsalsa208sha256_str_verify(byte[] str, byte[] password, long passwordLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_pwhash_scryptsalsa208sha256_str_verify(str, password, passwordLen);
+        registry.record("crypto_pwhash_scryptsalsa208sha256_str_verify", passwordLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_pwhash_scryptsalsa208sha256_ll(byte[] password, int passwordLen, byte[] salt, int saltLen, long N, long r, long p, byte[] buf, int bufLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_pwhash_scryptsalsa208sha256_ll(password, passwordLen, salt, saltLen, N, r, p, buf, bufLen);
+        registry.record("crypto_pwhash_scryptsalsa208sha256_ll", passwordLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_pwhash_scryptsalsa208sha256_str_needs_rehash(byte[] password, long opsLimit, long memLimit) {
+        long start = System.nanoTime();
+        int result = super.crypto_pwhash_scryptsalsa208sha256_str_needs_rehash(password, opsLimit, memLimit);
+        registry.record("crypto_pwhash_scryptsalsa208sha256_str_needs_rehash", 0, System.nanoTime() - start, result < 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_hash_sha256(byte[] out, byte[] in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_hash_sha256(out, in, inLen);
+        registry.record("crypto_hash_sha256", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_hash_sha512(byte[] out, byte[] in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_hash_sha512(out, in, inLen);
+        registry.record("crypto_hash_sha512", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_hash_sha256(Pointer out, Pointer in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_hash_sha256(out, in, inLen);
+        registry.record("crypto_hash_sha256", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_hash_sha512(Pointer out, Pointer in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_hash_sha512(out, in, inLen);
+        registry.record("crypto_hash_sha512", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_hash_sha256_init(Hash.State256 state) {
+        long start = System.nanoTime();
+        int result = super.crypto_hash_sha256_init(state);
+        registry.record("crypto_hash_sha256_init", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_hash_sha256_update(Hash.State256 state, byte[] in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_hash_sha256_update(state, in, inLen);
+        registry.record("crypto_hash_sha256_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_hash_sha256_final(Hash.State256 state, byte[] out) {
+        long start = System.nanoTime();
+        int result = super.crypto_hash_sha256_final(state, out);
+        registry.record("crypto_hash_sha256_final", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_hash_sha512_init(Hash.State512 state) {
+        long start = System.nanoTime();
+        int result = super.crypto_hash_sha512_init(state);
+        registry.record("crypto_hash_sha512_init", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_hash_sha512_update(Hash.State512 state, byte[] in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_hash_sha512_update(state, in, inLen);
+        registry.record("crypto_hash_sha512_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_hash_sha512_final(Hash.State512 state, byte[] out) {
+        long start = System.nanoTime();
+        int result = super.crypto_hash_sha512_final(state, out);
+        registry.record("crypto_hash_sha512_final", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_hash_sha256_update(Hash.State256 state, Pointer in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_hash_sha256_update(state, in, inLen);
+        registry.record("crypto_hash_sha256_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_hash_sha512_update(Hash.State512 state, Pointer in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_hash_sha512_update(state, in, inLen);
+        registry.record("crypto_hash_sha512_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretbox_easy(byte[] cipherText, byte[] message, long messageLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretbox_easy(cipherText, message, messageLen, nonce, key);
+        registry.record("crypto_secretbox_easy", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretbox_open_easy(byte[] message, byte[] cipherText, long cipherTextLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretbox_open_easy(message, cipherText, cipherTextLen, nonce, key);
+        registry.record("crypto_secretbox_open_easy", cipherTextLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretbox_easy(byte[] cipherText, byte[] message, long messageLen, byte[] nonce, Pointer key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretbox_easy(cipherText, message, messageLen, nonce, key);
+        registry.record("crypto_secretbox_easy", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretbox_open_easy(byte[] message, byte[] cipherText, long cipherTextLen, byte[] nonce, Pointer key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretbox_open_easy(message, cipherText, cipherTextLen, nonce, key);
+        registry.record("crypto_secretbox_open_easy", cipherTextLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretbox_detached(byte[] cipherText, byte[] mac, byte[] message, long messageLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretbox_detached(cipherText, mac, message, messageLen, nonce, key);
+        registry.record("crypto_secretbox_detached", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretbox_open_detached(byte[] message, byte[] cipherText, byte[] mac, long cipherTextLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretbox_open_detached(message, cipherText, mac, cipherTextLen, nonce, key);
+        registry.record("crypto_secretbox_open_detached", cipherTextLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretbox_easy(Pointer cipherText, Pointer message, long messageLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretbox_easy(cipherText, message, messageLen, nonce, key);
+        registry.record("crypto_secretbox_easy", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretbox_open_easy(Pointer message, Pointer cipherText, long cipherTextLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretbox_open_easy(message, cipherText, cipherTextLen, nonce, key);
+        registry.record("crypto_secretbox_open_easy", cipherTextLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretbox_detached(Pointer cipherText, Pointer mac, Pointer message, long messageLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretbox_detached(cipherText, mac, message, messageLen, nonce, key);
+        registry.record("crypto_secretbox_detached", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretbox_open_detached(Pointer message, Pointer cipherText, Pointer mac, long cipherTextLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretbox_open_detached(message, cipherText, mac, cipherTextLen, nonce, key);
+        registry.record("crypto_secretbox_open_detached", cipherTextLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretbox_easy(Pointer cipherText, Pointer message, long messageLen, Pointer nonce, Pointer key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretbox_easy(cipherText, message, messageLen, nonce, key);
+        registry.record("crypto_secretbox_easy", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretbox_open_easy(Pointer message, Pointer cipherText, long cipherTextLen, Pointer nonce, Pointer key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretbox_open_easy(message, cipherText, cipherTextLen, nonce, key);
+        registry.record("crypto_secretbox_open_easy", cipherTextLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public void crypto_secretbox_keygen(byte[] key) {
+        long start = System.nanoTime();
+        super.crypto_secretbox_keygen(key);
+        registry.record("crypto_secretbox_keygen", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public int crypto_box_easy(byte[] cipherText, byte[] message, long messageLen, byte[] nonce, byte[] publicKey, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_easy(cipherText, message, messageLen, nonce, publicKey, secretKey);
+        registry.record("crypto_box_easy", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_open_easy(byte[] message, byte[] cipherText, long cipherTextLen, byte[] nonce, byte[] publicKey, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_open_easy(message, cipherText, cipherTextLen, nonce, publicKey, secretKey);
+        registry.record("crypto_box_open_easy", cipherTextLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_detached(byte[] cipherText, byte[] mac, byte[] message, long messageLen, byte[] nonce, byte[] publicKey, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_detached(cipherText, mac, message, messageLen, nonce, publicKey, secretKey);
+        registry.record("crypto_box_detached", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_open_detached(byte[] message, byte[] cipherText, byte[] mac, long cipherTextLen, byte[] nonce, byte[] publicKey, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_open_detached(message, cipherText, mac, cipherTextLen, nonce, publicKey, secretKey);
+        registry.record("crypto_box_open_detached", cipherTextLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_easy_afternm(byte[] cipherText, byte[] message, long messageLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_easy_afternm(cipherText, message, messageLen, nonce, key);
+        registry.record("crypto_box_easy_afternm", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_open_easy_afternm(byte[] message, byte[] cipher, long cLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_open_easy_afternm(message, cipher, cLen, nonce, key);
+        registry.record("crypto_box_open_easy_afternm", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_detached_afternm(byte[] cipherText, byte[] mac, byte[] message, long messageLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_detached_afternm(cipherText, mac, message, messageLen, nonce, key);
+        registry.record("crypto_box_detached_afternm", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_open_detached_afternm(byte[] message, byte[] cipherText, byte[] mac, long cipherTextLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_open_detached_afternm(message, cipherText, mac, cipherTextLen, nonce, key);
+        registry.record("crypto_box_open_detached_afternm", cipherTextLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_seal(byte[] cipher, byte[] message, long messageLen, byte[] publicKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_seal(cipher, message, messageLen, publicKey);
+        registry.record("crypto_box_seal", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_seal_open(byte[] m, byte[] cipher, long cipherLen, byte[] publicKey, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_seal_open(m, cipher, cipherLen, publicKey, secretKey);
+        registry.record("crypto_box_seal_open", cipherLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_easy(Pointer cipherText, Pointer message, long messageLen, byte[] nonce, byte[] publicKey, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_easy(cipherText, message, messageLen, nonce, publicKey, secretKey);
+        registry.record("crypto_box_easy", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_open_easy(Pointer message, Pointer cipherText, long cipherTextLen, byte[] nonce, byte[] publicKey, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_open_easy(message, cipherText, cipherTextLen, nonce, publicKey, secretKey);
+        registry.record("crypto_box_open_easy", cipherTextLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_detached(Pointer cipherText, Pointer mac, Pointer message, long messageLen, byte[] nonce, byte[] publicKey, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_detached(cipherText, mac, message, messageLen, nonce, publicKey, secretKey);
+        registry.record("crypto_box_detached", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_open_detached(Pointer message, Pointer cipherText, Pointer mac, long cipherTextLen, byte[] nonce, byte[] publicKey, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_open_detached(message, cipherText, mac, cipherTextLen, nonce, publicKey, secretKey);
+        registry.record("crypto_box_open_detached", cipherTextLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_easy_afternm(Pointer cipherText, Pointer message, long messageLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_easy_afternm(cipherText, message, messageLen, nonce, key);
+        registry.record("crypto_box_easy_afternm", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_open_easy_afternm(Pointer message, Pointer cipher, long cLen, byte[] nonce, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_open_easy_afternm(message, cipher, cLen, nonce, key);
+        registry.record("crypto_box_open_easy_afternm", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_seal(Pointer cipher, Pointer message, long messageLen, byte[] publicKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_seal(cipher, message, messageLen, publicKey);
+        registry.record("crypto_box_seal", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_seal_open(Pointer m, Pointer cipher, long cipherLen, byte[] publicKey, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_seal_open(m, cipher, cipherLen, publicKey, secretKey);
+        registry.record("crypto_box_seal_open", cipherLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_easy(Pointer cipherText, Pointer message, long messageLen, Pointer nonce, Pointer publicKey, Pointer secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_easy(cipherText, message, messageLen, nonce, publicKey, secretKey);
+        registry.record("crypto_box_easy", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_open_easy(Pointer message, Pointer cipherText, long cipherTextLen, Pointer nonce, Pointer publicKey, Pointer secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_open_easy(message, cipherText, cipherTextLen, nonce, publicKey, secretKey);
+        registry.record("crypto_box_open_easy", cipherTextLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_easy_afternm(Pointer cipherText, Pointer message, long messageLen, Pointer nonce, Pointer key) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_easy_afternm(cipherText, message, messageLen, nonce, key);
+        registry.record("crypto_box_easy_afternm", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_open_easy_afternm(Pointer message, Pointer cipher, long cLen, Pointer nonce, Pointer key) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_open_easy_afternm(message, cipher, cLen, nonce, key);
+        registry.record("crypto_box_open_easy_afternm", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_keypair(byte[] publicKey, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_keypair(publicKey, secretKey);
+        registry.record("crypto_box_keypair", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_seed_keypair(byte[] publicKey, byte[] secretKey, byte[] seed) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_seed_keypair(publicKey, secretKey, seed);
+        registry.record("crypto_box_seed_keypair", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_box_beforenm(byte[] k, byte[] publicKey, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_box_beforenm(k, publicKey, secretKey);
+        registry.record("crypto_box_beforenm", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_detached(byte[] signature, Pointer sigLength, byte[] message, long messageLen, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_detached(signature, sigLength, message, messageLen, secretKey);
+        registry.record("crypto_sign_detached", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_verify_detached(byte[] signature, byte[] message, long messageLen, byte[] publicKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_verify_detached(signature, message, messageLen, publicKey);
+        registry.record("crypto_sign_verify_detached", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_detached(Pointer signature, Pointer sigLength, Pointer message, long messageLen, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_detached(signature, sigLength, message, messageLen, secretKey);
+        registry.record("crypto_sign_detached", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_verify_detached(Pointer signature, Pointer message, long messageLen, byte[] publicKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_verify_detached(signature, message, messageLen, publicKey);
+        registry.record("crypto_sign_verify_detached", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_detached(Pointer signature, Pointer sigLength, Pointer message, long messageLen, Pointer secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_detached(signature, sigLength, message, messageLen, secretKey);
+        registry.record("crypto_sign_detached", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_verify_detached(Pointer signature, Pointer message, long messageLen, Pointer publicKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_verify_detached(signature, message, messageLen, publicKey);
+        registry.record("crypto_sign_verify_detached", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_init(Sign.StateCryptoSign state) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_init(state);
+        registry.record("crypto_sign_init", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_update(Sign.StateCryptoSign state, byte[] chunk, long chunkLength) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_update(state, chunk, chunkLength);
+        registry.record("crypto_sign_update", chunkLength, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_final_create(Sign.StateCryptoSign state, byte[] sig, Pointer sigLen, byte[] sk) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_final_create(state, sig, sigLen, sk);
+        registry.record("crypto_sign_final_create", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_final_verify(Sign.StateCryptoSign state, byte[] sig, byte[] pk) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_final_verify(state, sig, pk);
+        registry.record("crypto_sign_final_verify", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_keypair(byte[] publicKey, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_keypair(publicKey, secretKey);
+        registry.record("crypto_sign_keypair", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_seed_keypair(byte[] publicKey, byte[] secretKey, byte[] seed) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_seed_keypair(publicKey, secretKey, seed);
+        registry.record("crypto_sign_seed_keypair", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign(byte[] signedMessage, Pointer sigLength, byte[] message, long messageLen, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign(signedMessage, sigLength, message, messageLen, secretKey);
+        registry.record("crypto_sign", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_open(byte[] message, Pointer messageLen, byte[] signedMessage, long signedMessageLen, byte[] publicKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_open(message, messageLen, signedMessage, signedMessageLen, publicKey);
+        registry.record("crypto_sign_open", signedMessageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_update(Sign.StateCryptoSign state, Pointer chunk, long chunkLength) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_update(state, chunk, chunkLength);
+        registry.record("crypto_sign_update", chunkLength, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign(Pointer signedMessage, Pointer sigLength, Pointer message, long messageLen, byte[] secretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign(signedMessage, sigLength, message, messageLen, secretKey);
+        registry.record("crypto_sign", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_open(Pointer message, Pointer messageLen, Pointer signedMessage, long signedMessageLen, byte[] publicKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_open(message, messageLen, signedMessage, signedMessageLen, publicKey);
+        registry.record("crypto_sign_open", signedMessageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_ed25519_pk_to_curve25519(byte[] curve25519PublicKey, byte[] ed25519PublicKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_ed25519_pk_to_curve25519(curve25519PublicKey, ed25519PublicKey);
+        registry.record("crypto_sign_ed25519_pk_to_curve25519", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_ed25519_sk_to_curve25519(byte[] curve25519SecretKey, byte[] ed25519SecretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_ed25519_sk_to_curve25519(curve25519SecretKey, ed25519SecretKey);
+        registry.record("crypto_sign_ed25519_sk_to_curve25519", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_ed25519_sk_to_seed(byte[] seed, byte[] ed25519SecretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_ed25519_sk_to_seed(seed, ed25519SecretKey);
+        registry.record("crypto_sign_ed25519_sk_to_seed", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_sign_ed25519_sk_to_pk(byte[] ed25519PublicKey, byte[] ed25519SecretKey) {
+        long start = System.nanoTime();
+        int result = super.crypto_sign_ed25519_sk_to_pk(ed25519PublicKey, ed25519SecretKey);
+        registry.record("crypto_sign_ed25519_sk_to_pk", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretstream_xchacha20poly1305_push(SecretStream.State state, byte[] cipher, long[] cipherAddr, byte[] message, long messageLen, byte[] additionalData, long additionalDataLen, byte  tag) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretstream_xchacha20poly1305_push(state, cipher, cipherAddr, message, messageLen, additionalData, additionalDataLen, tag);
+        registry.record("crypto_secretstream_xchacha20poly1305_push", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretstream_xchacha20poly1305_pull(SecretStream.State state, byte[] message, long[] messageAddress, byte[] tagAddress, byte[] cipher, long cipherLen, byte[] additionalData, long additionalDataLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretstream_xchacha20poly1305_pull(state, message, messageAddress, tagAddress, cipher, cipherLen, additionalData, additionalDataLen);
+        registry.record("crypto_secretstream_xchacha20poly1305_pull", cipherLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretstream_xchacha20poly1305_push(SecretStream.State state, ByteBuffer cipher, long[] cipherAddr, ByteBuffer message, long messageLen, byte[] additionalData, long additionalDataLen, byte tag) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretstream_xchacha20poly1305_push(state, cipher, cipherAddr, message, messageLen, additionalData, additionalDataLen, tag);
+        registry.record("crypto_secretstream_xchacha20poly1305_push", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretstream_xchacha20poly1305_pull(SecretStream.State state, ByteBuffer message, long[] messageAddress, byte[] tagAddress, ByteBuffer cipher, long cipherLen, byte[] additionalData, long additionalDataLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretstream_xchacha20poly1305_pull(state, message, messageAddress, tagAddress, cipher, cipherLen, additionalData, additionalDataLen);
+        registry.record("crypto_secretstream_xchacha20poly1305_pull", cipherLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public void crypto_secretstream_xchacha20poly1305_keygen(byte[] key) {
+        long start = System.nanoTime();
+        super.crypto_secretstream_xchacha20poly1305_keygen(key);
+        registry.record("crypto_secretstream_xchacha20poly1305_keygen", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public int crypto_secretstream_xchacha20poly1305_init_push(SecretStream.State state, byte[] header, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretstream_xchacha20poly1305_init_push(state, header, key);
+        registry.record("crypto_secretstream_xchacha20poly1305_init_push", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_secretstream_xchacha20poly1305_init_pull(SecretStream.State state, byte[] header, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_secretstream_xchacha20poly1305_init_pull(state, header, key);
+        registry.record("crypto_secretstream_xchacha20poly1305_init_pull", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public void crypto_secretstream_xchacha20poly1305_rekey(SecretStream.State state) {
+        long start = System.nanoTime();
+        super.crypto_secretstream_xchacha20poly1305_rekey(state);
+        registry.record("crypto_secretstream_xchacha20poly1305_rekey", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public int crypto_auth(byte[] tag, byte[] in, long inLen, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth(tag, in, inLen, key);
+        registry.record("crypto_auth", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_verify(byte[] tag, byte[] in, long inLen, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_verify(tag, in, inLen, key);
+        registry.record("crypto_auth_verify", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth(Pointer tag, Pointer in, long inLen, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth(tag, in, inLen, key);
+        registry.record("crypto_auth", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_verify(Pointer tag, Pointer in, long inLen, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_verify(tag, in, inLen, key);
+        registry.record("crypto_auth_verify", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha256(byte[] out, byte[] in, long inLen, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha256(out, in, inLen, k);
+        registry.record("crypto_auth_hmacsha256", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha256_verify(byte[] h, byte[] in, long inLen, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha256_verify(h, in, inLen, k);
+        registry.record("crypto_auth_hmacsha256_verify", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha256(Pointer out, Pointer in, long inLen, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha256(out, in, inLen, k);
+        registry.record("crypto_auth_hmacsha256", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha256_verify(Pointer h, Pointer in, long inLen, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha256_verify(h, in, inLen, k);
+        registry.record("crypto_auth_hmacsha256_verify", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512256(byte[] out, byte[] in, long inLen, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512256(out, in, inLen, k);
+        registry.record("crypto_auth_hmacsha512256", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512256_verify(byte[] h, byte[] in, long inLen, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512256_verify(h, in, inLen, k);
+        registry.record("crypto_auth_hmacsha512256_verify", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512256(Pointer out, Pointer in, long inLen, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512256(out, in, inLen, k);
+        registry.record("crypto_auth_hmacsha512256", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512256_verify(Pointer h, Pointer in, long inLen, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512256_verify(h, in, inLen, k);
+        registry.record("crypto_auth_hmacsha512256_verify", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512(byte[] out, byte[] in, long inLen, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512(out, in, inLen, k);
+        registry.record("crypto_auth_hmacsha512", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512_verify(byte[] h, byte[] in, long inLen, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512_verify(h, in, inLen, k);
+        registry.record("crypto_auth_hmacsha512_verify", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512(Pointer out, Pointer in, long inLen, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512(out, in, inLen, k);
+        registry.record("crypto_auth_hmacsha512", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512_verify(Pointer h, Pointer in, long inLen, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512_verify(h, in, inLen, k);
+        registry.record("crypto_auth_hmacsha512_verify", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public void crypto_auth_keygen(byte[] k) {
+        long start = System.nanoTime();
+        super.crypto_auth_keygen(k);
+        registry.record("crypto_auth_keygen", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public void crypto_auth_hmacsha256_keygen(byte[] key) {
+        long start = System.nanoTime();
+        super.crypto_auth_hmacsha256_keygen(key);
+        registry.record("crypto_auth_hmacsha256_keygen", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public int crypto_auth_hmacsha256_init(Auth.StateHMAC256 state, byte[] key, int keyLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha256_init(state, key, keyLen);
+        registry.record("crypto_auth_hmacsha256_init", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha256_update(Auth.StateHMAC256 state, byte[] in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha256_update(state, in, inLen);
+        registry.record("crypto_auth_hmacsha256_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha256_final(Auth.StateHMAC256 state, byte[] out) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha256_final(state, out);
+        registry.record("crypto_auth_hmacsha256_final", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha256_update(Auth.StateHMAC256 state, Pointer in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha256_update(state, in, inLen);
+        registry.record("crypto_auth_hmacsha256_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public void crypto_auth_hmacsha512256_keygen(byte[] key) {
+        long start = System.nanoTime();
+        super.crypto_auth_hmacsha512256_keygen(key);
+        registry.record("crypto_auth_hmacsha512256_keygen", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512256_init(Auth.StateHMAC512256 state, byte[] key, int keyLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512256_init(state, key, keyLen);
+        registry.record("crypto_auth_hmacsha512256_init", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512256_update(Auth.StateHMAC512256 state, byte[] in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512256_update(state, in, inLen);
+        registry.record("crypto_auth_hmacsha512256_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512256_final(Auth.StateHMAC512256 state, byte[] out) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512256_final(state, out);
+        registry.record("crypto_auth_hmacsha512256_final", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512256_update(Auth.StateHMAC512256 state, Pointer in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512256_update(state, in, inLen);
+        registry.record("crypto_auth_hmacsha512256_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public void crypto_auth_hmacsha512_keygen(byte[] key) {
+        long start = System.nanoTime();
+        super.crypto_auth_hmacsha512_keygen(key);
+        registry.record("crypto_auth_hmacsha512_keygen", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512_init(Auth.StateHMAC512 state, byte[] key, int keyLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512_init(state, key, keyLen);
+        registry.record("crypto_auth_hmacsha512_init", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512_update(Auth.StateHMAC512 state, byte[] in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512_update(state, in, inLen);
+        registry.record("crypto_auth_hmacsha512_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512_final(Auth.StateHMAC512 state, byte[] out) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512_final(state, out);
+        registry.record("crypto_auth_hmacsha512_final", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_auth_hmacsha512_update(Auth.StateHMAC512 state, Pointer in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_auth_hmacsha512_update(state, in, inLen);
+        registry.record("crypto_auth_hmacsha512_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_shorthash(byte[] out, byte[] in, long inLen, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_shorthash(out, in, inLen, key);
+        registry.record("crypto_shorthash", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_shorthash_keygen(byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_shorthash_keygen(key);
+        registry.record("crypto_shorthash_keygen", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_generichash(byte[] out, int outLen, byte[] in, long inLen, byte[] key, int keyLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_generichash(out, outLen, in, inLen, key, keyLen);
+        registry.record("crypto_generichash", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_generichash(Pointer out, int outLen, Pointer in, long inLen, byte[] key, int keyLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_generichash(out, outLen, in, inLen, key, keyLen);
+        registry.record("crypto_generichash", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_generichash(Pointer out, int outLen, Pointer in, long inLen, Pointer key, int keyLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_generichash(out, outLen, in, inLen, key, keyLen);
+        registry.record("crypto_generichash", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_generichash_blake2b_salt_personal(byte[] subKey, int subKeyLen, byte[] in, long inLen, byte[] masterKey, int masterKeyLen, byte[] subKeyId, byte[] context) {
+        long start = System.nanoTime();
+        int result = super.crypto_generichash_blake2b_salt_personal(subKey, subKeyLen, in, inLen, masterKey, masterKeyLen, subKeyId, context);
+        registry.record("crypto_generichash_blake2b_salt_personal", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_generichash_blake2b_salt_personal(byte[] out, int outLen, ByteBuffer in, long inLen, byte[] key, int keyLen, byte[] salt, byte[] personal) {
+        long start = System.nanoTime();
+        int result = super.crypto_generichash_blake2b_salt_personal(out, outLen, in, inLen, key, keyLen, salt, personal);
+        registry.record("crypto_generichash_blake2b_salt_personal", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public void crypto_generichash_keygen(byte[] k) {
+        long start = System.nanoTime();
+        super.crypto_generichash_keygen(k);
+        registry.record("crypto_generichash_keygen", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public int crypto_generichash_init(byte[] state, byte[] key, int keyLength, int outLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_generichash_init(state, key, keyLength, outLen);
+        registry.record("crypto_generichash_init", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_generichash_update(byte[] state, byte[] in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_generichash_update(state, in, inLen);
+        registry.record("crypto_generichash_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_generichash_final(byte[] state, byte[] out, int outLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_generichash_final(state, out, outLen);
+        registry.record("crypto_generichash_final", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_generichash_update(byte[] state, Pointer in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_generichash_update(state, in, inLen);
+        registry.record("crypto_generichash_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_generichash_init(Pointer state, byte[] key, int keyLength, int outLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_generichash_init(state, key, keyLength, outLen);
+        registry.record("crypto_generichash_init", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_generichash_update(Pointer state, byte[] in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_generichash_update(state, in, inLen);
+        registry.record("crypto_generichash_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_generichash_update(Pointer state, ByteBuffer in, long inLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_generichash_update(state, in, inLen);
+        registry.record("crypto_generichash_update", inLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_generichash_final(Pointer state, byte[] out, int outLen) {
+        long start = System.nanoTime();
+        int result = super.crypto_generichash_final(state, out, outLen);
+        registry.record("crypto_generichash_final", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_encrypt(byte[] c, long[] cLen, byte[] m, long mLen, byte[] ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_decrypt(byte[] m, long[] mLen, byte[] nSec, byte[] c, long cLen, byte[] ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_encrypt_detached(byte[] c, byte[] mac, long[] macLenAddress, byte[] m, long mLen, byte[] ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_encrypt_detached(c, mac, macLenAddress, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_encrypt_detached", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_decrypt_detached(byte[] m, byte[] nsec, byte[] c, long cLen, byte[] mac, byte[] ad, long adLen, byte[] npub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_decrypt_detached(m, nsec, c, cLen, mac, ad, adLen, npub, k);
+        registry.record("crypto_aead_chacha20poly1305_decrypt_detached", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_encrypt(ByteBuffer c, long[] cLen, ByteBuffer m, long mLen, ByteBuffer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_decrypt(ByteBuffer m, long[] mLen, byte[] nSec, ByteBuffer c, long cLen, ByteBuffer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_encrypt_detached(ByteBuffer c, ByteBuffer mac, long[] macLenAddress, ByteBuffer m, long mLen, ByteBuffer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_encrypt_detached(c, mac, macLenAddress, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_encrypt_detached", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_decrypt_detached(ByteBuffer m, byte[] nSec, ByteBuffer c, long cLen, ByteBuffer mac, ByteBuffer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_decrypt_detached(m, nSec, c, cLen, mac, ad, adLen, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_decrypt_detached", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_encrypt(Pointer c, long[] cLen, Pointer m, long mLen, Pointer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_decrypt(Pointer m, long[] mLen, byte[] nSec, Pointer c, long cLen, Pointer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_encrypt_detached(Pointer c, Pointer mac, long[] macLenAddress, Pointer m, long mLen, Pointer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_encrypt_detached(c, mac, macLenAddress, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_encrypt_detached", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_decrypt_detached(Pointer m, byte[] nSec, Pointer c, long cLen, Pointer mac, Pointer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_decrypt_detached(m, nSec, c, cLen, mac, ad, adLen, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_decrypt_detached", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_encrypt(Pointer c, Pointer cLen, Pointer m, long mLen, Pointer ad, long adLen, Pointer nSec, Pointer nPub, Pointer k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_decrypt(Pointer m, Pointer mLen, Pointer nSec, Pointer c, long cLen, Pointer ad, long adLen, Pointer nPub, Pointer k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_encrypt(byte[] c, long[] cLen, byte[] m, long mLen, byte[] ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_decrypt(byte[] m, long[] mLen, byte[] nSec, byte[] c, long cLen, byte[] ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_encrypt_detached(byte[] c, byte[] mac, long[] macLenAddress, byte[] m, long mLen, byte[] ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_encrypt_detached(c, mac, macLenAddress, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_encrypt_detached", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_decrypt_detached(byte[] m, byte[] nSec, byte[] c, long cLen, byte[] mac, byte[] ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_decrypt_detached(m, nSec, c, cLen, mac, ad, adLen, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_decrypt_detached", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_encrypt(ByteBuffer c, long[] cLen, ByteBuffer m, long mLen, ByteBuffer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_decrypt(ByteBuffer m, long[] mLen, byte[] nSec, ByteBuffer c, long cLen, ByteBuffer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_encrypt_detached(ByteBuffer c, ByteBuffer mac, long[] macLenAddress, ByteBuffer m, long mLen, ByteBuffer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_encrypt_detached(c, mac, macLenAddress, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_encrypt_detached", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_decrypt_detached(ByteBuffer m, byte[] nSec, ByteBuffer c, long cLen, ByteBuffer mac, ByteBuffer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_decrypt_detached(m, nSec, c, cLen, mac, ad, adLen, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_decrypt_detached", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_encrypt(Pointer c, long[] cLen, Pointer m, long mLen, Pointer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_decrypt(Pointer m, long[] mLen, byte[] nSec, Pointer c, long cLen, Pointer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_encrypt_detached(Pointer c, Pointer mac, long[] macLenAddress, Pointer m, long mLen, Pointer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_encrypt_detached(c, mac, macLenAddress, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_encrypt_detached", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_decrypt_detached(Pointer m, byte[] nSec, Pointer c, long cLen, Pointer mac, Pointer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_decrypt_detached(m, nSec, c, cLen, mac, ad, adLen, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_decrypt_detached", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_encrypt(Pointer c, Pointer cLen, Pointer m, long mLen, Pointer ad, long adLen, Pointer nSec, Pointer nPub, Pointer k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_chacha20poly1305_ietf_decrypt(Pointer m, Pointer mLen, Pointer nSec, Pointer c, long cLen, Pointer ad, long adLen, Pointer nPub, Pointer k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_chacha20poly1305_ietf_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_chacha20poly1305_ietf_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_encrypt(byte[] c, long[] cLen, byte[] m, long mLen, byte[] ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_decrypt(byte[] m, long[] mLen, byte[] nSec, byte[] c, long cLen, byte[] ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_encrypt_detached(byte[] cipher, byte[] mac, long[] macLenAddress, byte[] message, long messageLen, byte[] additionalData, long additionalDataLen, byte[] nSec, byte[] nPub, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_encrypt_detached(cipher, mac, macLenAddress, message, messageLen, additionalData, additionalDataLen, nSec, nPub, key);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_encrypt_detached", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_decrypt_detached(byte[] message, byte[] nSec, byte[] cipher, long cipherLen, byte[] mac, byte[] additionalData, long additionalDataLen, byte[] nPub, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_decrypt_detached(message, nSec, cipher, cipherLen, mac, additionalData, additionalDataLen, nPub, key);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_decrypt_detached", cipherLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_encrypt(ByteBuffer c, long[] cLen, ByteBuffer m, long mLen, ByteBuffer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_decrypt(ByteBuffer m, long[] mLen, byte[] nSec, ByteBuffer c, long cLen, ByteBuffer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_encrypt_detached(ByteBuffer c, ByteBuffer mac, long[] macLenAddress, ByteBuffer m, long mLen, ByteBuffer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_encrypt_detached(c, mac, macLenAddress, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_encrypt_detached", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_decrypt_detached(ByteBuffer m, byte[] nSec, ByteBuffer c, long cLen, ByteBuffer mac, ByteBuffer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_decrypt_detached(m, nSec, c, cLen, mac, ad, adLen, nPub, k);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_decrypt_detached", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_encrypt(Pointer c, long[] cLen, Pointer m, long mLen, Pointer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_decrypt(Pointer m, long[] mLen, byte[] nSec, Pointer c, long cLen, Pointer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_encrypt_detached(Pointer c, Pointer mac, long[] macLenAddress, Pointer m, long mLen, Pointer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_encrypt_detached(c, mac, macLenAddress, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_encrypt_detached", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_decrypt_detached(Pointer m, byte[] nSec, Pointer c, long cLen, Pointer mac, Pointer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_decrypt_detached(m, nSec, c, cLen, mac, ad, adLen, nPub, k);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_decrypt_detached", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_encrypt(Pointer c, Pointer cLen, Pointer m, long mLen, Pointer ad, long adLen, Pointer nSec, Pointer nPub, Pointer k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_xchacha20poly1305_ietf_decrypt(Pointer m, Pointer mLen, Pointer nSec, Pointer c, long cLen, Pointer ad, long adLen, Pointer nPub, Pointer k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_xchacha20poly1305_ietf_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_encrypt(byte[] cipher, long[] cipherLen, byte[] message, long messageLen, byte[] additionalData, long additionalDataLen, byte[] nSec, byte[] nPub, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_encrypt(cipher, cipherLen, message, messageLen, additionalData, additionalDataLen, nSec, nPub, key);
+        registry.record("crypto_aead_aes256gcm_encrypt", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_decrypt(byte[] message, long[] messageLen, byte[] nSec, byte[] cipher, long cipherLen, byte[] additionalData, long additionalDataLen, byte[] nPub, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_decrypt(message, messageLen, nSec, cipher, cipherLen, additionalData, additionalDataLen, nPub, key);
+        registry.record("crypto_aead_aes256gcm_decrypt", cipherLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_encrypt_detached(byte[] cipher, byte[] mac, long[] macLenAddress, byte[] message, long messageLen, byte[] additionalData, long additionalDataLen, byte[] nSec, byte[] nPub, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_encrypt_detached(cipher, mac, macLenAddress, message, messageLen, additionalData, additionalDataLen, nSec, nPub, key);
+        registry.record("crypto_aead_aes256gcm_encrypt_detached", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_decrypt_detached(byte[] message, byte[] nSec, byte[] cipher, long cipherLen, byte[] mac, byte[] additionalData, long additionalDataLen, byte[] nPub, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_decrypt_detached(message, nSec, cipher, cipherLen, mac, additionalData, additionalDataLen, nPub, key);
+        registry.record("crypto_aead_aes256gcm_decrypt_detached", cipherLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_encrypt(ByteBuffer c, long[] cLen, ByteBuffer m, long mLen, ByteBuffer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_aes256gcm_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_decrypt(ByteBuffer m, long[] mLen, byte[] nSec, ByteBuffer c, long cLen, ByteBuffer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_aes256gcm_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_encrypt_detached(ByteBuffer c, ByteBuffer mac, long[] macLenAddress, ByteBuffer m, long mLen, ByteBuffer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_encrypt_detached(c, mac, macLenAddress, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_aes256gcm_encrypt_detached", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_decrypt_detached(ByteBuffer m, byte[] nSec, ByteBuffer c, long cLen, ByteBuffer mac, ByteBuffer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_decrypt_detached(m, nSec, c, cLen, mac, ad, adLen, nPub, k);
+        registry.record("crypto_aead_aes256gcm_decrypt_detached", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_encrypt(Pointer c, long[] cLen, Pointer m, long mLen, Pointer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_aes256gcm_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_decrypt(Pointer m, long[] mLen, byte[] nSec, Pointer c, long cLen, Pointer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_aes256gcm_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_encrypt_detached(Pointer c, Pointer mac, long[] macLenAddress, Pointer m, long mLen, Pointer ad, long adLen, byte[] nSec, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_encrypt_detached(c, mac, macLenAddress, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_aes256gcm_encrypt_detached", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_decrypt_detached(Pointer m, byte[] nSec, Pointer c, long cLen, Pointer mac, Pointer ad, long adLen, byte[] nPub, byte[] k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_decrypt_detached(m, nSec, c, cLen, mac, ad, adLen, nPub, k);
+        registry.record("crypto_aead_aes256gcm_decrypt_detached", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_encrypt(Pointer c, Pointer cLen, Pointer m, long mLen, Pointer ad, long adLen, Pointer nSec, Pointer nPub, Pointer k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_encrypt(c, cLen, m, mLen, ad, adLen, nSec, nPub, k);
+        registry.record("crypto_aead_aes256gcm_encrypt", mLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_decrypt(Pointer m, Pointer mLen, Pointer nSec, Pointer c, long cLen, Pointer ad, long adLen, Pointer nPub, Pointer k) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_decrypt(m, mLen, nSec, c, cLen, ad, adLen, nPub, k);
+        registry.record("crypto_aead_aes256gcm_decrypt", cLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_encrypt_afternm(byte[] cipher, long[] cipherLength, byte[] message, long messageLen, byte[] additionalData, long additionalDataLen, byte[] nSec, byte[] nPub, AEAD.StateAES state) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_encrypt_afternm(cipher, cipherLength, message, messageLen, additionalData, additionalDataLen, nSec, nPub, state);
+        registry.record("crypto_aead_aes256gcm_encrypt_afternm", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_decrypt_afternm(byte[] message, long[] messageLength, byte[] nSec, byte[] cipher, long cipherLen, byte[] additionalData, long additionalDataLen, byte[] nPub, AEAD.StateAES state) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_decrypt_afternm(message, messageLength, nSec, cipher, cipherLen, additionalData, additionalDataLen, nPub, state);
+        registry.record("crypto_aead_aes256gcm_decrypt_afternm", cipherLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_encrypt_detached_afternm(byte[] cipher, byte[] mac, long[] macLenAddress, byte[] message, long messageLen, byte[] additionalData, long additionalDataLen, byte[] nSec, byte[] nPub, AEAD.StateAES state) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_encrypt_detached_afternm(cipher, mac, macLenAddress, message, messageLen, additionalData, additionalDataLen, nSec, nPub, state);
+        registry.record("crypto_aead_aes256gcm_encrypt_detached_afternm", messageLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_decrypt_detached_afternm(byte[] message, byte[] nSec, byte[] cipher, long cipherLen, byte[] mac, byte[] additionalData, long additionalDataLen, byte[] nPub, AEAD.StateAES state) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_decrypt_detached_afternm(message, nSec, cipher, cipherLen, mac, additionalData, additionalDataLen, nPub, state);
+        registry.record("crypto_aead_aes256gcm_decrypt_detached_afternm", cipherLen, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public void crypto_aead_chacha20poly1305_keygen(byte[] key) {
+        long start = System.nanoTime();
+        super.crypto_aead_chacha20poly1305_keygen(key);
+        registry.record("crypto_aead_chacha20poly1305_keygen", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public void crypto_aead_chacha20poly1305_ietf_keygen(byte[] key) {
+        long start = System.nanoTime();
+        super.crypto_aead_chacha20poly1305_ietf_keygen(key);
+        registry.record("crypto_aead_chacha20poly1305_ietf_keygen", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public void crypto_aead_xchacha20poly1305_ietf_keygen(byte[] k) {
+        long start = System.nanoTime();
+        super.crypto_aead_xchacha20poly1305_ietf_keygen(k);
+        registry.record("crypto_aead_xchacha20poly1305_ietf_keygen", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public void crypto_aead_aes256gcm_keygen(byte[] key) {
+        long start = System.nanoTime();
+        super.crypto_aead_aes256gcm_keygen(key);
+        registry.record("crypto_aead_aes256gcm_keygen", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public int crypto_aead_aes256gcm_beforenm(AEAD.StateAES state, byte[] key) {
+        long start = System.nanoTime();
+        int result = super.crypto_aead_aes256gcm_beforenm(state, key);
+        registry.record("crypto_aead_aes256gcm_beforenm", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_core_ristretto255_is_valid_point(byte[] p) {
+        long start = System.nanoTime();
+        int result = super.crypto_core_ristretto255_is_valid_point(p);
+        registry.record("crypto_core_ristretto255_is_valid_point", 0, System.nanoTime() - start, result != 1);
+        return result;
+    }
+
+    @Override
+    public int crypto_core_ristretto255_from_hash(byte[] p, byte[] r) {
+        long start = System.nanoTime();
+        int result = super.crypto_core_ristretto255_from_hash(p, r);
+        registry.record("crypto_core_ristretto255_from_hash", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_scalarmult_ristretto255(byte[] q, byte[] n, byte[] p) {
+        long start = System.nanoTime();
+        int result = super.crypto_scalarmult_ristretto255(q, n, p);
+        registry.record("crypto_scalarmult_ristretto255", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_scalarmult_ristretto255_base(byte[] q, byte[] n) {
+        long start = System.nanoTime();
+        int result = super.crypto_scalarmult_ristretto255_base(q, n);
+        registry.record("crypto_scalarmult_ristretto255_base", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_core_ristretto255_is_valid_point(Pointer p) {
+        long start = System.nanoTime();
+        int result = super.crypto_core_ristretto255_is_valid_point(p);
+        registry.record("crypto_core_ristretto255_is_valid_point", 0, System.nanoTime() - start, result != 1);
+        return result;
+    }
+
+    @Override
+    public int crypto_core_ristretto255_from_hash(Pointer p, Pointer r) {
+        long start = System.nanoTime();
+        int result = super.crypto_core_ristretto255_from_hash(p, r);
+        registry.record("crypto_core_ristretto255_from_hash", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_scalarmult_ristretto255(Pointer q, Pointer n, Pointer p) {
+        long start = System.nanoTime();
+        int result = super.crypto_scalarmult_ristretto255(q, n, p);
+        registry.record("crypto_scalarmult_ristretto255", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_core_ristretto255_add(Pointer r, Pointer p, Pointer q) {
+        long start = System.nanoTime();
+        int result = super.crypto_core_ristretto255_add(r, p, q);
+        registry.record("crypto_core_ristretto255_add", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public void crypto_core_ristretto255_random(byte[] p) {
+        long start = System.nanoTime();
+        super.crypto_core_ristretto255_random(p);
+        registry.record("crypto_core_ristretto255_random", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public int crypto_core_ristretto255_add(byte[] r, byte[] p, byte[] q) {
+        long start = System.nanoTime();
+        int result = super.crypto_core_ristretto255_add(r, p, q);
+        registry.record("crypto_core_ristretto255_add", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public int crypto_core_ristretto255_sub(byte[] r, byte[] p, byte[] q) {
+        long start = System.nanoTime();
+        int result = super.crypto_core_ristretto255_sub(r, p, q);
+        registry.record("crypto_core_ristretto255_sub", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public void crypto_core_ristretto255_scalar_random(byte[] r) {
+        long start = System.nanoTime();
+        super.crypto_core_ristretto255_scalar_random(r);
+        registry.record("crypto_core_ristretto255_scalar_random", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public void crypto_core_ristretto255_scalar_reduce(byte[] r, byte[] s) {
+        long start = System.nanoTime();
+        super.crypto_core_ristretto255_scalar_reduce(r, s);
+        registry.record("crypto_core_ristretto255_scalar_reduce", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public int crypto_core_ristretto255_scalar_invert(byte[] recip, byte[] s) {
+        long start = System.nanoTime();
+        int result = super.crypto_core_ristretto255_scalar_invert(recip, s);
+        registry.record("crypto_core_ristretto255_scalar_invert", 0, System.nanoTime() - start, result != 0);
+        return result;
+    }
+
+    @Override
+    public void crypto_core_ristretto255_scalar_negate(byte[] neg, byte[] s) {
+        long start = System.nanoTime();
+        super.crypto_core_ristretto255_scalar_negate(neg, s);
+        registry.record("crypto_core_ristretto255_scalar_negate", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public void crypto_core_ristretto255_scalar_complement(byte[] comp, byte[] s) {
+        long start = System.nanoTime();
+        super.crypto_core_ristretto255_scalar_complement(comp, s);
+        registry.record("crypto_core_ristretto255_scalar_complement", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public void crypto_core_ristretto255_scalar_add(byte[] z, byte[] x, byte[] y) {
+        long start = System.nanoTime();
+        super.crypto_core_ristretto255_scalar_add(z, x, y);
+        registry.record("crypto_core_ristretto255_scalar_add", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public void crypto_core_ristretto255_scalar_sub(byte[] z, byte[] x, byte[] y) {
+        long start = System.nanoTime();
+        super.crypto_core_ristretto255_scalar_sub(z, x, y);
+        registry.record("crypto_core_ristretto255_scalar_sub", 0, System.nanoTime() - start, false);
+    }
+
+    @Override
+    public void crypto_core_ristretto255_scalar_mul(byte[] z, byte[] x, byte[] y) {
+        long start = System.nanoTime();
+        super.crypto_core_ristretto255_scalar_mul(z, x, y);
+        registry.record("crypto_core_ristretto255_scalar_mul", 0, System.nanoTime() - start, false);
+    }
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.metrics;
+
+/**
+ * Receives one sample per instrumented native call.
+ * <p>
+ * {@link SodiumMetrics} is the built-in implementation. Implement this
+ * interface to forward samples to another metrics system instead; it is
+ * called on the thread that made the native call, so implementations must
+ * be thread-safe and should not block.
+ */
+public interface MetricsRegistry {
+
+    /**
+     * Record a completed native call.
+     * @param operation The libsodium function name, e.g. {@code crypto_box_easy}.
+     * @param bytes The message, cipher text or input length, or 0 for fixed-size operations.
+     * @param latencyNanos Wall-clock time spent in the native call.
+     * @param failed Whether libsodium reported a failure, e.g. a bad tag,
+     *               a bad signature or an invalid point.
+     */
+    void record(String operation, long bytes, long latencyNanos, boolean failed);
+
+}
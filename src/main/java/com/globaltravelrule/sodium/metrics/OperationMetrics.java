@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call, failure and byte counters plus a latency histogram for one native operation.
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+
+    private final String operation;
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    OperationMetrics(String operation) {
+        this.operation = operation;
+    }
+
+    void record(long bytes, long latencyNanos, boolean failed) {
+        latency.record(latencyNanos);
+        if (bytes > 0) {
+            this.bytes.add(bytes);
+        }
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    @Override
+    public String getOperation() {
+        return operation;
+    }
+
+    @Override
+    public long getCalls() {
+        return latency.getCount();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    @Override
+    public double getMeanNanos() {
+        return latency.getMean();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return latency.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return latency.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getP999Nanos() {
+        return latency.getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return latency.getMax();
+    }
+
+    /**
+     * @return The latency histogram, for percentiles other than the ones exposed over JMX.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public void reset() {
+        latency.reset();
+        failures.reset();
+        bytes.reset();
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.metrics;
+
+/**
+ * JMX view of the metrics collected for one native operation.
+ * Latencies are in nanoseconds.
+ */
+public interface OperationMetricsMXBean {
+
+    String getOperation();
+
+    long getCalls();
+
+    long getFailures();
+
+    long getBytes();
+
+    double getMeanNanos();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getP999Nanos();
+
+    long getMaxNanos();
+
+    void reset();
+
+}
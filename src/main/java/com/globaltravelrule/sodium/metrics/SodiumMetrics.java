@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The built-in {@link MetricsRegistry}: one {@link OperationMetrics} per
+ * native operation, created on first use and optionally published over JMX.
+ * <p>
+ * Once {@link #registerMBeans()} has been called every operation, including
+ * ones first seen later, is registered as
+ * {@code com.globaltravelrule.sodium:type=Metrics,operation=<name>}.
+ */
+public final class SodiumMetrics implements MetricsRegistry {
+
+    public static final String JMX_DOMAIN = "com.globaltravelrule.sodium";
+
+    private final ConcurrentHashMap<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private volatile MBeanServer server;
+
+    @Override
+    public void record(String operation, long bytes, long latencyNanos, boolean failed) {
+        OperationMetrics metrics = operations.get(operation);
+        if (metrics == null) {
+            metrics = operations.computeIfAbsent(operation, this::create);
+        }
+        metrics.record(bytes, latencyNanos, failed);
+    }
+
+    /**
+     * @param operation The libsodium function name.
+     * @return The metrics for that operation, or null if it was never called.
+     */
+    public OperationMetrics get(String operation) {
+        return operations.get(operation);
+    }
+
+    /**
+     * @return A snapshot of all operations seen so far, sorted by name.
+     */
+    public Map<String, OperationMetrics> getOperations() {
+        return Collections.unmodifiableMap(new TreeMap<>(operations));
+    }
+
+    /**
+     * Reset every operation's counters and histogram.
+     */
+    public void reset() {
+        for (OperationMetrics metrics : operations.values()) {
+            metrics.reset();
+        }
+    }
+
+    /**
+     * Publish every operation on the platform MBean server, now and as new operations appear.
+     */
+    public synchronized void registerMBeans() {
+        if (server != null) {
+            return;
+        }
+        server = ManagementFactory.getPlatformMBeanServer();
+        for (OperationMetrics metrics : operations.values()) {
+            register(metrics);
+        }
+    }
+
+    /**
+     * Remove every MBean published by {@link #registerMBeans()}.
+     */
+    public synchronized void unregisterMBeans() {
+        MBeanServer current = server;
+        if (current == null) {
+            return;
+        }
+        server = null;
+        for (String operation : operations.keySet()) {
+            try {
+                ObjectName name = objectName(operation);
+                if (current.isRegistered(name)) {
+                    current.unregisterMBean(name);
+                }
+            } catch (JMException e) {
+                throw new IllegalStateException("Could not unregister metrics for " + operation, e);
+            }
+        }
+    }
+
+    /**
+     * @param operation The libsodium function name.
+     * @return The JMX name the operation is published under.
+     */
+    public static ObjectName objectName(String operation) {
+        try {
+            return new ObjectName(JMX_DOMAIN + ":type=Metrics,operation=" + ObjectName.quote(operation));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("operation out of bounds", e);
+        }
+    }
+
+    private OperationMetrics create(String operation) {
+        OperationMetrics metrics = new OperationMetrics(operation);
+        if (server != null) {
+            register(metrics);
+        }
+        return metrics;
+    }
+
+    private synchronized void register(OperationMetrics metrics) {
+        MBeanServer current = server;
+        if (current == null) {
+            return;
+        }
+        try {
+            ObjectName name = objectName(metrics.getOperation());
+            if (!current.isRegistered(name)) {
+                current.registerMBean(metrics, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register metrics for " + metrics.getOperation(), e);
+        }
+    }
+
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.pwhash;
+
+import com.globaltravelrule.sodium.LazySodium;
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.PwHash;
+import com.sun.jna.NativeLong;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Picks Argon2id parameters by timing {@code crypto_pwhash} on the current host.
+ * <p>
+ * Each measurement runs {@code concurrency} hashes at once, because that is
+ * what a login spike looks like and Argon2 is bound by memory bandwidth, so
+ * the latency of one hash on an idle machine says little about the latency
+ * under load. Memory is grown first, doubling from {@link #MIN_MEMLIMIT},
+ * and passes are added on top once memory is at its cap, which is the order
+ * RFC 9106 recommends. A hash that fails while memory is being grown, most
+ * likely because the allocation failed, ends the memory search at the last
+ * size that worked. The strongest fitting combination, by {@code opsLimit *
+ * memLimit}, is returned as a {@link Profile}.
+ * <p>
+ * Calibration takes a few multiples of the target latency per grid point,
+ * so run it once at startup or as part of provisioning, not per request.
+ */
+public final class PwHashCalibrator {
+
+    /**
+     * The smallest memory limit considered, in bytes.
+     */
+    public static final long MIN_MEMLIMIT = 8L * 1024 * 1024;
+
+    /**
+     * The memory all concurrent hashes may use together when no budget is given, in bytes.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 256L * 1024 * 1024;
+
+    /**
+     * The most passes considered.
+     */
+    public static final long MAX_OPSLIMIT = 16;
+
+    private static final int OUTPUT_BYTES = 32;
+
+    /**
+     * libsodium refuses fewer passes for Argon2i.
+     */
+    private static final long ARGON2I_OPSLIMIT_MIN = 3;
+
+    private final LazySodium lazySodium;
+    private final PwHash.Alg alg;
+    private final long minOpsLimit;
+
+    public PwHashCalibrator(LazySodium lazySodium) {
+        this(lazySodium, PwHash.Alg.PWHASH_ALG_ARGON2ID13);
+    }
+
+    public PwHashCalibrator(LazySodium lazySodium, PwHash.Alg alg) {
+        this.lazySodium = lazySodium;
+        this.alg = alg;
+        this.minOpsLimit = alg == PwHash.Alg.PWHASH_ALG_ARGON2I13 ? ARGON2I_OPSLIMIT_MIN : PwHash.OPSLIMIT_MIN;
+    }
+
+    /**
+     * Find the strongest parameters that keep {@code concurrency} simultaneous
+     * hashes within {@code targetMillis}, using at most
+     * {@link #DEFAULT_MEMORY_BUDGET} in total, or {@link #MIN_MEMLIMIT} per
+     * hash if {@code concurrency} is too high for that.
+     * @param targetMillis The latency budget of one hash.
+     * @param concurrency The number of hashes expected to run at once.
+     * @return The calibrated profile.
+     * @throws SodiumException If not even the weakest parameters fit, or hashing fails.
+     */
+    public Profile calibrate(long targetMillis, int concurrency) throws SodiumException {
+        return calibrate(targetMillis, concurrency, Math.max(DEFAULT_MEMORY_BUDGET, MIN_MEMLIMIT * concurrency));
+    }
+
+    /**
+     * Find the strongest parameters that keep {@code concurrency} simultaneous
+     * hashes within {@code targetMillis} and within {@code memoryBudget} bytes
+     * in total, e.g. the budget of a {@link PwHashExecutor}.
+     * @param targetMillis The latency budget of one hash.
+     * @param concurrency The number of hashes expected to run at once.
+     * @param memoryBudget The memory all concurrent hashes may use together, in bytes.
+     * @return The calibrated profile.
+     * @throws SodiumException If not even the weakest parameters fit, or hashing fails.
+     */
+    public Profile calibrate(long targetMillis, int concurrency, long memoryBudget) throws SodiumException {
+        if (targetMillis <= 0) {
+            throw new IllegalArgumentException("targetMillis out of bounds");
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency out of bounds");
+        }
+        long maxMemLimit = Math.min(memoryBudget / concurrency, PwHash.ARGON2ID_MEMLIMIT_MAX);
+        if (maxMemLimit < MIN_MEMLIMIT) {
+            throw new IllegalArgumentException("memoryBudget out of bounds");
+        }
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+
+        // Warm up the allocator and caches so the first grid point is not penalised.
+        measure(minOpsLimit, MIN_MEMLIMIT, 1);
+
+        Profile best = null;
+        for (long memLimit = MIN_MEMLIMIT; memLimit <= maxMemLimit; memLimit = nextMemLimit(memLimit, maxMemLimit)) {
+            long nanos;
+            try {
+                nanos = measure(minOpsLimit, memLimit, concurrency);
+            } catch (SodiumException e) {
+                if (best == null) {
+                    throw e;
+                }
+                // Keep what fit rather than failing the calibration on the allocation we meant to avoid.
+                break;
+            }
+            if (nanos > targetNanos) {
+                break;
+            }
+            best = new Profile(alg, minOpsLimit, memLimit, nanos, concurrency);
+            if (memLimit == maxMemLimit) {
+                break;
+            }
+        }
+        if (best == null) {
+            throw new SodiumException("No Argon2 parameters fit in " + targetMillis + " ms at concurrency " + concurrency + ".");
+        }
+
+        // Time scales linearly with passes; predict from the minimum, then confirm.
+        long perPass = Math.max(best.getNanos() / minOpsLimit, 1);
+        long ops = Math.min(MAX_OPSLIMIT, targetNanos / perPass);
+        while (ops > best.getOpsLimit()) {
+            long nanos = measure(ops, best.getMemLimit().longValue(), concurrency);
+            if (nanos <= targetNanos) {
+                best = new Profile(alg, ops, best.getMemLimit().longValue(), nanos, concurrency);
+                break;
+            }
+            ops--;
+        }
+        return best;
+    }
+
+    /**
+     * Time {@code concurrency} simultaneous hashes with the given parameters.
+     * @param opsLimit The number of passes.
+     * @param memLimit The memory per hash, in bytes.
+     * @param concurrency The number of hashes run at once.
+     * @return The wall-clock time until the last hash finished, in nanoseconds.
+     * @throws SodiumException If hashing fails.
+     */
+    public long measure(long opsLimit, long memLimit, int concurrency) throws SodiumException {
+        NativeLong mem = new NativeLong(memLimit);
+        byte[] password = lazySodium.randomBytesBuf(16);
+        byte[] salt = lazySodium.randomBytesBuf(PwHash.SALTBYTES);
+        AtomicReference<SodiumException> failure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        List<Thread> threads = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    byte[] out = new byte[OUTPUT_BYTES];
+                    if (!lazySodium.cryptoPwHash(out, OUTPUT_BYTES, password, password.length, salt, opsLimit, mem, alg)) {
+                        failure.compareAndSet(null, new SodiumException("Password hashing failed."));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "sodium-pwhash-calibrate-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SodiumException("Calibration interrupted.");
+        }
+        long elapsed = System.nanoTime() - begin;
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return elapsed;
+    }
+
+    private static long nextMemLimit(long memLimit, long maxMemLimit) {
+        long next = memLimit * 2;
+        return next > maxMemLimit && memLimit < maxMemLimit ? maxMemLimit : next;
+    }
+
+    /**
+     * Calibrated Argon2 parameters and the latency they were measured at.
+     */
+    public static final class Profile {
+
+        private final PwHash.Alg alg;
+        private final long opsLimit;
+        private final NativeLong memLimit;
+        private final long nanos;
+        private final int concurrency;
+
+        public Profile(PwHash.Alg alg, long opsLimit, long memLimit, long nanos, int concurrency) {
+            this.alg = alg;
+            this.opsLimit = opsLimit;
+            this.memLimit = new NativeLong(memLimit);
+            this.nanos = nanos;
+            this.concurrency = concurrency;
+        }
+
+        public PwHash.Alg getAlg() {
+            return alg;
+        }
+
+        public long getOpsLimit() {
+            return opsLimit;
+        }
+
+        public NativeLong getMemLimit() {
+            return memLimit;
+        }
+
+        /**
+         * @return The measured latency, in nanoseconds, with {@link #getConcurrency()} hashes at once.
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        /**
+         * Whether a stored hash was made with parameters other than this profile's,
+         * via {@code crypto_pwhash_str_needs_rehash}. Hashes that cannot be parsed
+         * also need rehashing.
+         * <p>
+         * Note that {@link PwHash.Native#cryptoPwHashStrNeedsRehash(byte[], long, NativeLong)}
+         * returns {@code true} when the hash does <em>not</em> need rehashing; this method
+         * returns {@code true} when it does.
+         * @param lazySodium The bindings to use.
+         * @param hash The NUL terminated hash string.
+         * @return Whether the password should be rehashed with this profile on next login.
+         */
+        public boolean needsRehash(LazySodium lazySodium, byte[] hash) {
+            byte[] terminated = hash;
+            if (hash.length == 0 || hash[hash.length - 1] != 0) {
+                terminated = Arrays.copyOf(hash, hash.length + 1);
+            }
+            return lazySodium.getSodium().crypto_pwhash_str_needs_rehash(terminated, opsLimit, memLimit) != 0;
+        }
+
+        /**
+         * @param lazySodium The bindings to use.
+         * @param hash An encoded hash string from {@link PwHash.Lazy#cryptoPwHashStr(String, long, NativeLong)}.
+         * @return Whether the password should be rehashed with this profile on next login.
+         * @see #needsRehash(LazySodium, byte[])
+         */
+        public boolean needsRehash(LazySodium lazySodium, String hash) {
+            return needsRehash(lazySodium, lazySodium.decodeFromString(hash));
+        }
+
+        @Override
+        public String toString() {
+            return alg + " opsLimit=" + opsLimit + " memLimit=" + memLimit + " at "
+                    + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms x" + concurrency;
+        }
+
+    }
+
+}
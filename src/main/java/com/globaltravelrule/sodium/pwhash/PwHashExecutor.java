@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.pwhash;
+
+import com.globaltravelrule.sodium.LazySodium;
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.PwHash;
+import com.globaltravelrule.sodium.metrics.LatencyHistogram;
+import com.sun.jna.NativeLong;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs Argon2 password hashing and verification on a bounded pool of
+ * workers under a global memory budget.
+ * <p>
+ * Every Argon2 call allocates its whole {@code memLimit} up front, so a burst
+ * of concurrent verifies multiplies that allocation by the number of callers.
+ * Here each job first reserves its memory cost against the budget, taken from
+ * {@code memLimit} when hashing and from the {@code m=} parameter of the hash
+ * string when verifying, and waits in a FIFO queue until it fits. Load is
+ * shed instead of queued without limit:
+ * <ul>
+ *     <li>a job whose cost exceeds the whole budget is rejected straight away,</li>
+ *     <li>a job submitted while the queue is full is rejected straight away,</li>
+ *     <li>a job that waited longer than {@code maxWaitMillis} before it could start is dropped.</li>
+ * </ul>
+ * Rejected and dropped jobs complete their future with a
+ * {@link RejectedExecutionException}; failed hashing completes it with a
+ * {@link SodiumException}.
+ * <p>
+ * Queue depth, memory in use and queue wait times are available from the
+ * getters, which also make up {@link PwHashExecutorMXBean} for registering
+ * the executor with an MBean server.
+ */
+public final class PwHashExecutor implements PwHashExecutorMXBean, AutoCloseable {
+
+    public static final int DEFAULT_MAX_QUEUED = 1024;
+
+    private static final int KIB = 1024;
+
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    private final LazySodium lazySodium;
+    private final long memoryBudget;
+    private final long maxWaitNanos;
+    private final Semaphore memory;
+    private final ThreadPoolExecutor workers;
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LatencyHistogram waits = new LatencyHistogram();
+
+    /**
+     * @param lazySodium The bindings to hash with.
+     * @param threads The number of workers.
+     * @param memoryBudget The Argon2 memory, in bytes, that may be in use at once.
+     */
+    public PwHashExecutor(LazySodium lazySodium, int threads, long memoryBudget) {
+        this(lazySodium, threads, memoryBudget, DEFAULT_MAX_QUEUED, 0);
+    }
+
+    /**
+     * @param lazySodium The bindings to hash with.
+     * @param threads The number of workers.
+     * @param memoryBudget The Argon2 memory, in bytes, that may be in use at once.
+     * @param maxQueued The number of jobs that may wait for a worker.
+     * @param maxWaitMillis Jobs that waited longer than this before starting are dropped; 0 waits forever.
+     */
+    public PwHashExecutor(LazySodium lazySodium, int threads, long memoryBudget, int maxQueued, long maxWaitMillis) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads out of bounds");
+        }
+        if (memoryBudget < KIB || memoryBudget / KIB > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("memoryBudget out of bounds");
+        }
+        if (maxQueued <= 0) {
+            throw new IllegalArgumentException("maxQueued out of bounds");
+        }
+        if (maxWaitMillis < 0) {
+            throw new IllegalArgumentException("maxWaitMillis out of bounds");
+        }
+        this.lazySodium = lazySodium;
+        this.memoryBudget = memoryBudget;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.memory = new Semaphore((int) (memoryBudget / KIB), true);
+        int pool = POOL_NUMBER.incrementAndGet();
+        AtomicInteger thread = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueued), r -> {
+            Thread t = new Thread(r, "sodium-pwhash-" + pool + "-" + thread.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Verify a password against a hash string.
+     * @param hash The NUL terminated hash string, as produced by {@code crypto_pwhash_str}.
+     * @param password The password.
+     * @return Completes with whether the password matches.
+     */
+    public CompletableFuture<Boolean> verify(byte[] hash, byte[] password) {
+        return submit(memoryCost(hash), () -> lazySodium.cryptoPwHashStrVerify(hash, password, password.length));
+    }
+
+    /**
+     * Verify a password against a hash string from {@link PwHash.Lazy#cryptoPwHashStr(String, long, NativeLong)}.
+     * @param hash The encoded hash string.
+     * @param password The password.
+     * @return Completes with whether the password matches.
+     */
+    public CompletableFuture<Boolean> verify(String hash, String password) {
+        return submit(memoryCost(lazySodium.decodeFromString(hash)), () -> lazySodium.cryptoPwHashStrVerify(hash, password));
+    }
+
+    /**
+     * Hash a password into an encoded hash string.
+     * @param password The password.
+     * @param opsLimit The number of passes.
+     * @param memLimit The memory to use, in bytes.
+     * @return Completes with the encoded hash string.
+     * @see PwHash.Lazy#cryptoPwHashStr(String, long, NativeLong)
+     */
+    public CompletableFuture<String> hashStr(String password, long opsLimit, NativeLong memLimit) {
+        return submit(memLimit.longValue(), () -> {
+            try {
+                return lazySodium.cryptoPwHashStr(password, opsLimit, memLimit);
+            } catch (SodiumException e) {
+                throw new JobException(e);
+            }
+        });
+    }
+
+    /**
+     * Derive a key from a password.
+     * @param outputLen The key length.
+     * @param password The password.
+     * @param salt A salt of {@link PwHash#SALTBYTES}.
+     * @param opsLimit The number of passes.
+     * @param memLimit The memory to use, in bytes.
+     * @param alg The algorithm.
+     * @return Completes with the key.
+     */
+    public CompletableFuture<byte[]> hash(int outputLen, byte[] password, byte[] salt, long opsLimit, NativeLong memLimit, PwHash.Alg alg) {
+        return submit(memLimit.longValue(), () -> {
+            byte[] out = new byte[outputLen];
+            if (!lazySodium.cryptoPwHash(out, outputLen, password, password.length, salt, opsLimit, memLimit, alg)) {
+                throw new JobException(new SodiumException("Password hashing failed."));
+            }
+            return out;
+        });
+    }
+
+    /**
+     * Stop accepting jobs. Jobs already queued still run.
+     */
+    @Override
+    public void close() {
+        workers.shutdown();
+    }
+
+    /**
+     * Wait for queued jobs to finish after {@link #close()}.
+     * @param timeout The longest time to wait.
+     * @param unit The unit of {@code timeout}.
+     * @return Whether every job finished.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return workers.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return workers.getQueue().size();
+    }
+
+    @Override
+    public int getRunning() {
+        return running.get();
+    }
+
+    @Override
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    @Override
+    public long getMemoryInUse() {
+        return memoryBudget - (long) memory.availablePermits() * KIB;
+    }
+
+    @Override
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public double getMeanWaitNanos() {
+        return waits.getMean();
+    }
+
+    @Override
+    public long getP99WaitNanos() {
+        return waits.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getMaxWaitNanos() {
+        return waits.getMax();
+    }
+
+    /**
+     * @return The histogram of time jobs spent queued before starting.
+     */
+    public LatencyHistogram getWaitTimes() {
+        return waits;
+    }
+
+    /**
+     * The memory an Argon2 hash string asks for, read from its {@code m=} parameter.
+     * @param hash The hash string.
+     * @return The memory cost in bytes, or 0 if the string carries none.
+     */
+    static long memoryCost(byte[] hash) {
+        int end = 0;
+        while (end < hash.length && hash[end] != 0) {
+            end++;
+        }
+        String str = new String(hash, 0, end, StandardCharsets.US_ASCII);
+        int start = str.indexOf("$m=");
+        if (start < 0) {
+            start = str.indexOf(",m=");
+        }
+        if (start < 0) {
+            return 0;
+        }
+        long kib = 0;
+        for (int i = start + 3; i < str.length() && Character.isDigit(str.charAt(i)); i++) {
+            kib = kib * 10 + (str.charAt(i) - '0');
+            if (kib > Integer.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+        }
+        return kib * KIB;
+    }
+
+    private <T> CompletableFuture<T> submit(long cost, Supplier<T> job) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (cost > memoryBudget) {
+            return reject(future, "Password hash needs " + cost + " bytes, over the budget of " + memoryBudget + ".");
+        }
+        int permits = (int) Math.max(1, (cost + KIB - 1) / KIB);
+        long submitted = System.nanoTime();
+        try {
+            workers.execute(() -> run(future, permits, submitted, job));
+        } catch (RejectedExecutionException e) {
+            return reject(future, workers.isShutdown() ? "Executor is closed." : "Password hash queue is full.");
+        }
+        return future;
+    }
+
+    private <T> void run(CompletableFuture<T> future, int permits, long submitted, Supplier<T> job) {
+        memory.acquireUninterruptibly(permits);
+        long waited = System.nanoTime() - submitted;
+        waits.record(waited);
+        if (maxWaitNanos > 0 && waited > maxWaitNanos) {
+            memory.release(permits);
+            reject(future, "Password hash waited " + TimeUnit.NANOSECONDS.toMillis(waited) + " ms, dropped.");
+            return;
+        }
+        T result = null;
+        Throwable failure = null;
+        running.incrementAndGet();
+        try {
+            result = job.get();
+        } catch (JobException e) {
+            failure = e.getCause();
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            running.decrementAndGet();
+            completed.increment();
+            memory.release(permits);
+        }
+        // Complete only after the counters and the budget are settled, so callers see consistent stats.
+        if (failure == null) {
+            future.complete(result);
+        } else {
+            future.completeExceptionally(failure);
+        }
+    }
+
+    private <T> CompletableFuture<T> reject(CompletableFuture<T> future, String message) {
+        rejected.increment();
+        future.completeExceptionally(new RejectedExecutionException(message));
+        return future;
+    }
+
+    /**
+     * Carries a checked failure out of a job.
+     */
+    private static final class JobException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        JobException(SodiumException cause) {
+            super(cause);
+        }
+
+    }
+
+}
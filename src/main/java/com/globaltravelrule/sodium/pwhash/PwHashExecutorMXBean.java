@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.pwhash;
+
+/**
+ * JMX view of a {@link PwHashExecutor}, for sizing workers and memory budgets.
+ * Times are in nanoseconds, memory in bytes.
+ */
+public interface PwHashExecutorMXBean {
+
+    int getQueueDepth();
+
+    int getRunning();
+
+    long getMemoryBudget();
+
+    long getMemoryInUse();
+
+    long getCompleted();
+
+    long getRejected();
+
+    double getMeanWaitNanos();
+
+    long getP99WaitNanos();
+
+    long getMaxWaitNanos();
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.secretstream;
+
+import com.globaltravelrule.sodium.LazySodium;
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.SecretStream;
+import com.globaltravelrule.sodium.utils.Key;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Encrypts and decrypts whole files with {@code crypto_secretstream_xchacha20poly1305}.
+ * <p>
+ * The plaintext is split into chunks of {@code chunkSize} bytes, each pushed
+ * as one frame (see {@link SecretStreamFormat}), and the last one is tagged
+ * {@link SecretStream#TAG_FINAL}. Sources are memory mapped a window at a time
+ * and chunks are handed to libsodium straight from the mapping, so apart
+ * from one fixed output buffer nothing is copied or allocated per chunk.
+ * Decryption verifies every frame before writing it out and fails if the
+ * final tag is missing.
+ */
+public class SecretStreamFileCipher {
+
+    private static final long MAP_WINDOW = 64L * 1024 * 1024;
+
+    private final LazySodium lazySodium;
+    private final int chunkSize;
+    private final int maxChunkSize;
+
+    public SecretStreamFileCipher(LazySodium lazySodium) {
+        this(lazySodium, SecretStreamFormat.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param lazySodium The bindings to use.
+     * @param chunkSize The number of plaintext bytes per frame, 64 KiB by default.
+     */
+    public SecretStreamFileCipher(LazySodium lazySodium, int chunkSize) {
+        this(lazySodium, chunkSize, Math.max(chunkSize, SecretStreamFormat.DEFAULT_MAX_READ_CHUNK_SIZE));
+    }
+
+    /**
+     * @param lazySodium The bindings to use.
+     * @param chunkSize The number of plaintext bytes per frame, 64 KiB by default.
+     * @param maxChunkSize The largest chunk size accepted when decrypting, by default
+     *                     1 MiB or {@code chunkSize} if larger. The chunk size in a file
+     *                     is not authenticated and sizes the decryption buffers.
+     */
+    public SecretStreamFileCipher(LazySodium lazySodium, int chunkSize, int maxChunkSize) {
+        SecretStreamFormat.checkChunkSize(chunkSize);
+        SecretStreamFormat.checkMaxChunkSize(maxChunkSize);
+        this.lazySodium = lazySodium;
+        this.chunkSize = chunkSize;
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getMaxChunkSize() {
+        return maxChunkSize;
+    }
+
+    /**
+     * Encrypt {@code source} into {@code target}, replacing it if it exists.
+     * @return The number of plaintext bytes encrypted.
+     */
+    public long encrypt(Path source, Path target, Key key) throws IOException, SodiumException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            return encrypt(in, out, key);
+        }
+    }
+
+    /**
+     * Encrypt everything from the current position of {@code source} to its end.
+     * @return The number of plaintext bytes encrypted.
+     */
+    public long encrypt(FileChannel source, WritableByteChannel target, Key key) throws IOException, SodiumException {
+        byte[] header = new byte[SecretStream.HEADERBYTES];
+        SecretStream.State state = lazySodium.cryptoSecretStreamInitPush(header, key);
+        SecretStreamFormat.writeFully(target, SecretStreamFormat.prelude(header, chunkSize));
+
+        ByteBuffer frame = ByteBuffer.allocateDirect(SecretStreamFormat.FRAME_PREFIX_BYTES + chunkSize + SecretStream.ABYTES);
+        long window = Math.max(chunkSize, MAP_WINDOW / chunkSize * chunkSize);
+        long start = source.position();
+        long end = source.size();
+        long pos = start;
+        do {
+            long len = Math.min(window, end - pos);
+            ByteBuffer mapped = len == 0 ? ByteBuffer.allocateDirect(0) : source.map(FileChannel.MapMode.READ_ONLY, pos, len);
+            do {
+                int n = Math.min(chunkSize, mapped.remaining());
+                ByteBuffer chunk = mapped.duplicate();
+                ((Buffer) chunk).limit(chunk.position() + n);
+                byte tag = pos + n == end ? SecretStream.TAG_FINAL : SecretStream.TAG_MESSAGE;
+                writeFrame(state, frame, chunk, tag, target);
+                ((Buffer) mapped).position(mapped.position() + n);
+                pos += n;
+            } while (mapped.hasRemaining());
+        } while (pos < end);
+        source.position(end);
+        return end - start;
+    }
+
+    /**
+     * Decrypt {@code source} into {@code target}, replacing it if it exists.
+     * If decryption fails the partly written {@code target} is deleted.
+     * @return The number of plaintext bytes decrypted.
+     */
+    public long decrypt(Path source, Path target, Key key) throws IOException, SodiumException {
+        boolean done = false;
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long written = decrypt(in, out, key);
+            done = true;
+            return written;
+        } finally {
+            if (!done) {
+                Files.deleteIfExists(target);
+            }
+        }
+    }
+
+    /**
+     * Decrypt a stream written by {@link #encrypt(FileChannel, WritableByteChannel, Key)}.
+     * Each frame is verified before it is written to {@code target}.
+     * @return The number of plaintext bytes decrypted.
+     * @throws SodiumException If a frame does not verify, or the stream is truncated
+     *                         or continues after the final frame.
+     */
+    public long decrypt(ReadableByteChannel source, WritableByteChannel target, Key key) throws IOException, SodiumException {
+        ByteBuffer prelude = ByteBuffer.allocate(SecretStreamFormat.PRELUDE_BYTES);
+        if (!SecretStreamFormat.readFully(source, prelude)) {
+            throw new SodiumException("Secret stream is truncated.");
+        }
+        ((Buffer) prelude).flip();
+        byte[] header = new byte[SecretStream.HEADERBYTES];
+        int frameChunkSize = SecretStreamFormat.readPrelude(prelude, header, maxChunkSize);
+        SecretStream.State state = lazySodium.cryptoSecretStreamInitPull(header, key);
+
+        ByteBuffer prefix = ByteBuffer.allocate(SecretStreamFormat.FRAME_PREFIX_BYTES);
+        ByteBuffer cipher = ByteBuffer.allocateDirect(frameChunkSize + SecretStream.ABYTES);
+        ByteBuffer message = ByteBuffer.allocateDirect(frameChunkSize);
+        byte[] tag = new byte[1];
+        long total = 0;
+        boolean last = false;
+        while (true) {
+            if (!SecretStreamFormat.readFrame(source, prefix, cipher, frameChunkSize)) {
+                if (!last) {
+                    throw new SodiumException("Secret stream is truncated.");
+                }
+                return total;
+            }
+            if (last) {
+                throw new SodiumException("Secret stream continues after the final frame.");
+            }
+            ((Buffer) message).clear();
+            if (!lazySodium.cryptoSecretStreamPull(state, message, tag, cipher, null)) {
+                throw new SodiumException("Secret stream frame could not be verified.");
+            }
+            ((Buffer) message).flip();
+            total += message.remaining();
+            SecretStreamFormat.writeFully(target, message);
+            last = tag[0] == SecretStream.TAG_FINAL;
+        }
+    }
+
+    private void writeFrame(SecretStream.State state, ByteBuffer frame, ByteBuffer chunk, byte tag,
+                            WritableByteChannel target) throws IOException, SodiumException {
+        ((Buffer) frame).clear();
+        ((Buffer) frame).position(SecretStreamFormat.FRAME_PREFIX_BYTES);
+        if (!lazySodium.cryptoSecretStreamPush(state, frame, chunk, null, tag)) {
+            throw new SodiumException("Error when encrypting a message using secret stream.");
+        }
+        frame.putInt(0, frame.position() - SecretStreamFormat.FRAME_PREFIX_BYTES);
+        ((Buffer) frame).flip();
+        SecretStreamFormat.writeFully(target, frame);
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.secretstream;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.SecretStream;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The framing shared by the secret stream file cipher, streams and channels.
+ * <pre>
+ *   header      HEADERBYTES  crypto_secretstream header
+ *   chunkSize   4            largest message in a frame, big endian
+ *   frames      ...          4 byte big endian cipher length, then the cipher
+ * </pre>
+ * The last frame carries {@link SecretStream#TAG_FINAL}; a stream that ends
+ * without it, or continues after it, has been truncated or tampered with.
+ * <p>
+ * The chunk size is not authenticated and sizes the readers' buffers, so
+ * readers only accept chunk sizes up to a limit chosen by the caller,
+ * {@link #DEFAULT_MAX_READ_CHUNK_SIZE} unless told otherwise.
+ */
+final class SecretStreamFormat {
+
+    static final int PRELUDE_BYTES = SecretStream.HEADERBYTES + 4;
+    static final int FRAME_PREFIX_BYTES = 4;
+    static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    static final int MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+    static final int DEFAULT_MAX_READ_CHUNK_SIZE = 1024 * 1024;
+
+    private SecretStreamFormat() {
+    }
+
+    static void checkChunkSize(int chunkSize) {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("chunkSize out of bounds: " + chunkSize);
+        }
+    }
+
+    static ByteBuffer prelude(byte[] header, int chunkSize) {
+        ByteBuffer prelude = ByteBuffer.allocate(PRELUDE_BYTES);
+        prelude.put(header).putInt(chunkSize);
+        ((Buffer) prelude).flip();
+        return prelude;
+    }
+
+    static void checkMaxChunkSize(int maxChunkSize) {
+        if (maxChunkSize <= 0 || maxChunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("maxChunkSize out of bounds: " + maxChunkSize);
+        }
+    }
+
+    /**
+     * @param maxChunkSize The largest chunk size the reader is willing to allocate buffers for.
+     * @return The chunk size from a prelude whose header has been read into {@code header}.
+     */
+    static int readPrelude(ByteBuffer prelude, byte[] header, int maxChunkSize) throws SodiumException {
+        prelude.get(header);
+        int chunkSize = prelude.getInt();
+        if (chunkSize <= 0 || chunkSize > maxChunkSize) {
+            throw new SodiumException("Invalid secret stream chunk size: " + chunkSize);
+        }
+        return chunkSize;
+    }
+
+    /**
+     * Read the next frame into {@code cipher}, which must hold at least
+     * {@code chunkSize + ABYTES} bytes, and flip it ready for pulling.
+     * @return False if the channel ended cleanly before the frame.
+     * @throws SodiumException If the frame length is invalid or the channel ended part way.
+     */
+    static boolean readFrame(ReadableByteChannel source, ByteBuffer prefix, ByteBuffer cipher, int chunkSize)
+            throws IOException, SodiumException {
+        ((Buffer) prefix).clear();
+        if (!readFully(source, prefix)) {
+            return false;
+        }
+        int frameLength = prefix.getInt(0);
+        if (frameLength < SecretStream.ABYTES || frameLength > chunkSize + SecretStream.ABYTES) {
+            throw new SodiumException("Invalid secret stream frame length: " + frameLength);
+        }
+        ((Buffer) cipher).clear();
+        ((Buffer) cipher).limit(frameLength);
+        if (!readFully(source, cipher)) {
+            throw new SodiumException("Secret stream is truncated.");
+        }
+        ((Buffer) cipher).flip();
+        return true;
+    }
+
+    /**
+     * Read until {@code buffer} is full.
+     * @return False if the channel ended before anything was read.
+     * @throws SodiumException If the channel ended part way.
+     */
+    static boolean readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException, SodiumException {
+        int start = buffer.position();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                if (buffer.position() == start) {
+                    return false;
+                }
+                throw new SodiumException("Secret stream is truncated.");
+            }
+        }
+        return true;
+    }
+
+    static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.secretstream;
+
+import com.globaltravelrule.sodium.LazySodium;
+import com.globaltravelrule.sodium.utils.Key;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.function.LongFunction;
+
+/**
+ * An {@link InputStream} over {@link SecretStreamReadableChannel}.
+ * Only verified plaintext is returned; a damaged, truncated or extended
+ * stream fails with an {@link IOException}.
+ */
+public class SecretStreamInputStream extends InputStream {
+
+    private final SecretStreamReadableChannel channel;
+    private final ByteBuffer single = ByteBuffer.allocate(1);
+
+    public SecretStreamInputStream(LazySodium lazySodium, InputStream in, Key key) {
+        this(lazySodium, in, key, null);
+    }
+
+    /**
+     * @param lazySodium The bindings to use.
+     * @param in Where to read the frames from.
+     * @param key The key the stream was written with.
+     * @param additionalData Additional data for each frame index, or null for none.
+     */
+    public SecretStreamInputStream(LazySodium lazySodium, InputStream in, Key key, LongFunction<byte[]> additionalData) {
+        this(lazySodium, in, key, additionalData, SecretStreamFormat.DEFAULT_MAX_READ_CHUNK_SIZE);
+    }
+
+    /**
+     * @param lazySodium The bindings to use.
+     * @param in Where to read the frames from.
+     * @param key The key the stream was written with.
+     * @param additionalData Additional data for each frame index, or null for none.
+     * @param maxChunkSize The largest chunk size to accept, 1 MiB by default.
+     */
+    public SecretStreamInputStream(LazySodium lazySodium, InputStream in, Key key, LongFunction<byte[]> additionalData,
+                                   int maxChunkSize) {
+        this.channel = new SecretStreamReadableChannel(lazySodium, Channels.newChannel(in), key, additionalData, maxChunkSize);
+    }
+
+    @Override
+    public int read() throws IOException {
+        ((Buffer) single).clear();
+        int n;
+        do {
+            n = channel.read(single);
+        } while (n == 0);
+        return n < 0 ? -1 : single.get(0) & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        return channel.read(ByteBuffer.wrap(b, off, len));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
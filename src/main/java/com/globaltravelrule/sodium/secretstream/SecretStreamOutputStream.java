@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.secretstream;
+
+import com.globaltravelrule.sodium.LazySodium;
+import com.globaltravelrule.sodium.utils.Key;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.function.LongFunction;
+
+/**
+ * An {@link OutputStream} over {@link SecretStreamWritableChannel}.
+ * Frames are written to the underlying stream each time a chunk fills up;
+ * {@link #close()} writes the final frame and must be called.
+ */
+public class SecretStreamOutputStream extends OutputStream {
+
+    private final OutputStream out;
+    private final SecretStreamWritableChannel channel;
+    private final ByteBuffer single = ByteBuffer.allocate(1);
+
+    public SecretStreamOutputStream(LazySodium lazySodium, OutputStream out, Key key) throws IOException {
+        this(lazySodium, out, key, SecretStreamFormat.DEFAULT_CHUNK_SIZE, null);
+    }
+
+    /**
+     * @param lazySodium The bindings to use.
+     * @param out Where to write the frames.
+     * @param key A {@link com.globaltravelrule.sodium.interfaces.SecretStream#KEYBYTES} key.
+     * @param chunkSize The number of plaintext bytes per frame.
+     * @param additionalData Additional data for each frame index, or null for none.
+     */
+    public SecretStreamOutputStream(LazySodium lazySodium, OutputStream out, Key key, int chunkSize,
+                                    LongFunction<byte[]> additionalData) throws IOException {
+        this.out = out;
+        this.channel = new SecretStreamWritableChannel(lazySodium, Channels.newChannel(out), key, chunkSize, additionalData);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ((Buffer) single).clear();
+        single.put(0, (byte) b);
+        channel.write(single);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        channel.write(ByteBuffer.wrap(b, off, len));
+    }
+
+    /**
+     * Flush the frames written so far. Plaintext that does not fill a chunk
+     * stays buffered until the chunk is full or the stream is closed.
+     */
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
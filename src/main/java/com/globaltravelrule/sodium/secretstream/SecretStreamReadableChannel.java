@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.secretstream;
+
+import com.globaltravelrule.sodium.LazySodium;
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.SecretStream;
+import com.globaltravelrule.sodium.utils.Key;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.function.LongFunction;
+
+/**
+ * A channel that reads frames written by {@link SecretStreamWritableChannel}
+ * or {@link SecretStreamFileCipher} from another channel and returns the
+ * decrypted plaintext.
+ * <p>
+ * Frames are read and verified one at a time, so no more than one chunk
+ * of plaintext is ever held in memory and nothing unverified is returned.
+ * A stream that ends before its final frame, or continues after it, fails
+ * with an {@link IOException} whose cause is a {@link SodiumException}.
+ */
+public class SecretStreamReadableChannel implements ReadableByteChannel {
+
+    private final LazySodium lazySodium;
+    private final ReadableByteChannel source;
+    private final LongFunction<byte[]> additionalData;
+    private final int maxChunkSize;
+    private final ByteBuffer prefix = ByteBuffer.allocate(SecretStreamFormat.FRAME_PREFIX_BYTES);
+    private final byte[] tag = new byte[1];
+    private Key key;
+    private SecretStream.State state;
+    private int chunkSize;
+    private ByteBuffer cipher;
+    private ByteBuffer message;
+    private long index;
+    private boolean finalFrame;
+    private boolean eof;
+    private boolean open = true;
+
+    public SecretStreamReadableChannel(LazySodium lazySodium, ReadableByteChannel source, Key key) {
+        this(lazySodium, source, key, null);
+    }
+
+    /**
+     * The stream header is read on the first call to {@link #read(ByteBuffer)}.
+     * @param lazySodium The bindings to use.
+     * @param source Where to read the frames from.
+     * @param key The {@link SecretStream#KEYBYTES} key the stream was written with.
+     * @param additionalData Additional data for each frame index, or null for none.
+     */
+    public SecretStreamReadableChannel(LazySodium lazySodium, ReadableByteChannel source, Key key,
+                                       LongFunction<byte[]> additionalData) {
+        this(lazySodium, source, key, additionalData, SecretStreamFormat.DEFAULT_MAX_READ_CHUNK_SIZE);
+    }
+
+    /**
+     * The stream header is read on the first call to {@link #read(ByteBuffer)}.
+     * @param lazySodium The bindings to use.
+     * @param source Where to read the frames from.
+     * @param key The {@link SecretStream#KEYBYTES} key the stream was written with.
+     * @param additionalData Additional data for each frame index, or null for none.
+     * @param maxChunkSize The largest chunk size to accept, 1 MiB by default. The chunk
+     *                     size in the stream is not authenticated and sizes the buffers.
+     */
+    public SecretStreamReadableChannel(LazySodium lazySodium, ReadableByteChannel source, Key key,
+                                       LongFunction<byte[]> additionalData, int maxChunkSize) {
+        SecretStreamFormat.checkMaxChunkSize(maxChunkSize);
+        this.lazySodium = lazySodium;
+        this.source = source;
+        this.key = key;
+        this.additionalData = additionalData;
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+        try {
+            if (state == null) {
+                init();
+            }
+            while (!message.hasRemaining()) {
+                if (!nextFrame()) {
+                    return -1;
+                }
+            }
+        } catch (SodiumException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        int n = Math.min(dst.remaining(), message.remaining());
+        ByteBuffer slice = message.duplicate();
+        ((Buffer) slice).limit(slice.position() + n);
+        dst.put(slice);
+        ((Buffer) message).position(message.position() + n);
+        return n;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!open) {
+            return;
+        }
+        open = false;
+        source.close();
+    }
+
+    private void init() throws IOException, SodiumException {
+        ByteBuffer prelude = ByteBuffer.allocate(SecretStreamFormat.PRELUDE_BYTES);
+        if (!SecretStreamFormat.readFully(source, prelude)) {
+            throw new SodiumException("Secret stream is truncated.");
+        }
+        ((Buffer) prelude).flip();
+        byte[] header = new byte[SecretStream.HEADERBYTES];
+        chunkSize = SecretStreamFormat.readPrelude(prelude, header, maxChunkSize);
+        state = lazySodium.cryptoSecretStreamInitPull(header, key);
+        key = null;
+        cipher = ByteBuffer.allocateDirect(chunkSize + SecretStream.ABYTES);
+        message = ByteBuffer.allocateDirect(chunkSize);
+        ((Buffer) message).limit(0);
+    }
+
+    private boolean nextFrame() throws IOException, SodiumException {
+        if (eof) {
+            return false;
+        }
+        if (!SecretStreamFormat.readFrame(source, prefix, cipher, chunkSize)) {
+            if (!finalFrame) {
+                throw new SodiumException("Secret stream is truncated.");
+            }
+            eof = true;
+            return false;
+        }
+        if (finalFrame) {
+            throw new SodiumException("Secret stream continues after the final frame.");
+        }
+        ((Buffer) message).clear();
+        byte[] ad = additionalData == null ? null : additionalData.apply(index);
+        if (!lazySodium.cryptoSecretStreamPull(state, message, tag, cipher, ad)) {
+            throw new SodiumException("Secret stream frame could not be verified.");
+        }
+        ((Buffer) message).flip();
+        finalFrame = tag[0] == SecretStream.TAG_FINAL;
+        index++;
+        return true;
+    }
+
+}
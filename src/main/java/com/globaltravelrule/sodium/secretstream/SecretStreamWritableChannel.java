@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.secretstream;
+
+import com.globaltravelrule.sodium.LazySodium;
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.SecretStream;
+import com.globaltravelrule.sodium.utils.Key;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.LongFunction;
+
+/**
+ * A channel that encrypts everything written to it with
+ * {@code crypto_secretstream_xchacha20poly1305} and writes the frames to
+ * another channel, in the format read by {@link SecretStreamReadableChannel}
+ * and {@link SecretStreamFileCipher}.
+ * <p>
+ * Plaintext is collected in a buffer of {@code chunkSize} bytes and a frame
+ * is pushed each time it fills up, so memory use does not depend on the
+ * length of the stream. The last frame is tagged {@link SecretStream#TAG_FINAL}
+ * on {@link #close()}, which must be called for the stream to be readable.
+ * <p>
+ * Frames can be bound to additional data by passing a function from the
+ * zero based frame index to the data; the reader must supply the same function.
+ */
+public class SecretStreamWritableChannel implements WritableByteChannel {
+
+    private final LazySodium lazySodium;
+    private final WritableByteChannel target;
+    private final LongFunction<byte[]> additionalData;
+    private final SecretStream.State state;
+    private final ByteBuffer chunk;
+    private final ByteBuffer frame;
+    private long index;
+    private boolean open = true;
+
+    public SecretStreamWritableChannel(LazySodium lazySodium, WritableByteChannel target, Key key) throws IOException {
+        this(lazySodium, target, key, SecretStreamFormat.DEFAULT_CHUNK_SIZE, null);
+    }
+
+    /**
+     * Write the stream header to {@code target}.
+     * @param lazySodium The bindings to use.
+     * @param target Where to write the frames.
+     * @param key A {@link SecretStream#KEYBYTES} key.
+     * @param chunkSize The number of plaintext bytes per frame.
+     * @param additionalData Additional data for each frame index, or null for none.
+     */
+    public SecretStreamWritableChannel(LazySodium lazySodium, WritableByteChannel target, Key key, int chunkSize,
+                                       LongFunction<byte[]> additionalData) throws IOException {
+        SecretStreamFormat.checkChunkSize(chunkSize);
+        this.lazySodium = lazySodium;
+        this.target = target;
+        this.additionalData = additionalData;
+        byte[] header = new byte[SecretStream.HEADERBYTES];
+        try {
+            this.state = lazySodium.cryptoSecretStreamInitPush(header, key);
+        } catch (SodiumException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        this.chunk = ByteBuffer.allocateDirect(chunkSize);
+        this.frame = ByteBuffer.allocateDirect(SecretStreamFormat.FRAME_PREFIX_BYTES + chunkSize + SecretStream.ABYTES);
+        SecretStreamFormat.writeFully(target, SecretStreamFormat.prelude(header, chunkSize));
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+        int written = src.remaining();
+        while (src.hasRemaining()) {
+            // A full chunk is only pushed once more data arrives, as it may turn out to be the final one.
+            if (!chunk.hasRemaining()) {
+                push(SecretStream.TAG_MESSAGE);
+            }
+            int n = Math.min(chunk.remaining(), src.remaining());
+            ByteBuffer slice = src.duplicate();
+            ((Buffer) slice).limit(slice.position() + n);
+            chunk.put(slice);
+            ((Buffer) src).position(src.position() + n);
+        }
+        return written;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Push the remaining plaintext as the final frame and close the target.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!open) {
+            return;
+        }
+        open = false;
+        try {
+            push(SecretStream.TAG_FINAL);
+        } finally {
+            target.close();
+        }
+    }
+
+    private void push(byte tag) throws IOException {
+        ((Buffer) chunk).flip();
+        ((Buffer) frame).clear();
+        ((Buffer) frame).position(SecretStreamFormat.FRAME_PREFIX_BYTES);
+        byte[] ad = additionalData == null ? null : additionalData.apply(index);
+        if (!lazySodium.cryptoSecretStreamPush(state, frame, chunk, ad, tag)) {
+            throw new IOException("Error when encrypting a message using secret stream.");
+        }
+        frame.putInt(0, frame.position() - SecretStreamFormat.FRAME_PREFIX_BYTES);
+        ((Buffer) frame).flip();
+        SecretStreamFormat.writeFully(target, frame);
+        ((Buffer) chunk).clear();
+        index++;
+    }
+
+}
@@ -0,0 +1,449 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.utils;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Table driven Base64 encoding and decoding in the four variants
+ * libsodium supports: the original alphabet and the URL and file name
+ * safe alphabet of RFC 4648, each with or without padding.
+ * <p>
+ * Three input bytes are encoded with two lookups into a 4096 entry table
+ * of character pairs, one per 12 bits, and four characters are decoded
+ * with four lookups into a 128 entry table of values and a single check
+ * for invalid characters. Whole arrays and strings are handed to
+ * {@link java.util.Base64} instead, which newer JDKs compile to vector
+ * instructions, after the padding has been checked against the variant.
+ * <p>
+ * Like {@link HexCodec} the codec reads and writes caller supplied
+ * arrays, {@link ByteBuffer}s and {@link CharBuffer}s, and the buffer
+ * methods are streaming: they convert whole groups while there is room
+ * and leave the rest for the next call.
+ * <p>
+ * The padded variants also accept input without padding, as
+ * {@link java.util.Base64} does; the unpadded variants reject it.
+ */
+public final class Base64Codec {
+
+    /**
+     * The original alphabet with padding, {@code sodium_base64_VARIANT_ORIGINAL}.
+     */
+    public static final Base64Codec ORIGINAL = new Base64Codec(1, false, true,
+            Base64.getEncoder(), Base64.getDecoder());
+
+    /**
+     * The original alphabet without padding, {@code sodium_base64_VARIANT_ORIGINAL_NO_PADDING}.
+     */
+    public static final Base64Codec ORIGINAL_NO_PADDING = new Base64Codec(3, false, false,
+            Base64.getEncoder().withoutPadding(), Base64.getDecoder());
+
+    /**
+     * The URL safe alphabet with padding, {@code sodium_base64_VARIANT_URLSAFE}.
+     */
+    public static final Base64Codec URLSAFE = new Base64Codec(5, true, true,
+            Base64.getUrlEncoder(), Base64.getUrlDecoder());
+
+    /**
+     * The URL safe alphabet without padding, {@code sodium_base64_VARIANT_URLSAFE_NO_PADDING}.
+     */
+    public static final Base64Codec URLSAFE_NO_PADDING = new Base64Codec(7, true, false,
+            Base64.getUrlEncoder().withoutPadding(), Base64.getUrlDecoder());
+
+    private static final String LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    private final int variant;
+    private final boolean padding;
+    private final Base64.Encoder encoder;
+    private final Base64.Decoder decoder;
+    private final char[] chars = new char[8192];
+    private final byte[] ascii = new byte[8192];
+    private final byte[] values = new byte[128];
+
+    private Base64Codec(int variant, boolean urlSafe, boolean padding, Base64.Encoder encoder, Base64.Decoder decoder) {
+        this.variant = variant;
+        this.padding = padding;
+        this.encoder = encoder;
+        this.decoder = decoder;
+        String alphabet = LETTERS + (urlSafe ? "-_" : "+/");
+        for (int i = 0; i < 4096; i++) {
+            chars[i * 2] = alphabet.charAt(i >>> 6);
+            chars[i * 2 + 1] = alphabet.charAt(i & 0x3F);
+            ascii[i * 2] = (byte) chars[i * 2];
+            ascii[i * 2 + 1] = (byte) chars[i * 2 + 1];
+        }
+        Arrays.fill(values, (byte) -1);
+        for (int i = 0; i < 64; i++) {
+            values[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    /**
+     * @return The matching {@code sodium_base64_VARIANT_*} constant,
+     * for use with {@code sodium_bin2base64} and {@code sodium_base642bin}.
+     */
+    public int getVariant() {
+        return variant;
+    }
+
+    /**
+     * @param length The number of bytes to encode.
+     * @return The number of characters they encode to.
+     */
+    public int encodedLength(int length) {
+        return padding ? (length + 2) / 3 * 4 : length / 3 * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+    }
+
+    public String encodeToString(byte[] src) {
+        return encodeToString(src, 0, src.length);
+    }
+
+    public String encodeToString(byte[] src, int srcOffset, int length) {
+        if (srcOffset == 0 && length == src.length) {
+            return encoder.encodeToString(src);
+        }
+        char[] out = new char[encodedLength(length)];
+        encode(src, srcOffset, length, out, 0);
+        return new String(out);
+    }
+
+    /**
+     * Encode a slice of {@code src} as ASCII into {@code dst}.
+     * The input may occupy the tail of the output range in the same
+     * array, which lets callers encode in place.
+     * @return The number of bytes written to {@code dst}.
+     */
+    public int encode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        int encodedLength = encodedLength(length);
+        BaseChecker.checkSlice(src, srcOffset, length, "length");
+        BaseChecker.checkSlice(dst, dstOffset, encodedLength, "dstOffset");
+        if (src != dst && srcOffset == 0 && length == src.length && dstOffset == 0) {
+            return encoder.encode(src, dst);
+        }
+        // Each group of three is read before its four characters are
+        // written, so src may sit at the tail of the dst range.
+        byte[] table = ascii;
+        int s = srcOffset;
+        int d = dstOffset;
+        int end = srcOffset + length / 3 * 3;
+        while (s < end) {
+            int bits = (src[s] & 0xFF) << 16 | (src[s + 1] & 0xFF) << 8 | (src[s + 2] & 0xFF);
+            int hi = bits >>> 12 << 1;
+            int lo = (bits & 0xFFF) << 1;
+            dst[d] = table[hi];
+            dst[d + 1] = table[hi + 1];
+            dst[d + 2] = table[lo];
+            dst[d + 3] = table[lo + 1];
+            s += 3;
+            d += 4;
+        }
+        int rest = length - length / 3 * 3;
+        if (rest > 0) {
+            int bits = (src[s] & 0xFF) << 16 | (rest == 2 ? (src[s + 1] & 0xFF) << 8 : 0);
+            int hi = bits >>> 12 << 1;
+            dst[d++] = table[hi];
+            dst[d++] = table[hi + 1];
+            if (rest == 2) {
+                dst[d++] = table[((bits >>> 6) & 0x3F) << 1 | 1];
+            }
+            if (padding) {
+                dst[d++] = '=';
+                if (rest == 1) {
+                    dst[d] = '=';
+                }
+            }
+        }
+        return encodedLength;
+    }
+
+    /**
+     * Encode a slice of {@code src} into {@code dst}.
+     * @return The number of chars written to {@code dst}.
+     */
+    public int encode(byte[] src, int srcOffset, int length, char[] dst, int dstOffset) {
+        int encodedLength = encodedLength(length);
+        BaseChecker.checkSlice(src, srcOffset, length, "length");
+        if (dstOffset < 0 || dstOffset > dst.length - encodedLength) {
+            throw new IllegalArgumentException("dstOffset out of bounds: " + encodedLength + " at offset " + dstOffset);
+        }
+        char[] table = chars;
+        int s = srcOffset;
+        int d = dstOffset;
+        int end = srcOffset + length / 3 * 3;
+        while (s < end) {
+            int bits = (src[s] & 0xFF) << 16 | (src[s + 1] & 0xFF) << 8 | (src[s + 2] & 0xFF);
+            int hi = bits >>> 12 << 1;
+            int lo = (bits & 0xFFF) << 1;
+            dst[d] = table[hi];
+            dst[d + 1] = table[hi + 1];
+            dst[d + 2] = table[lo];
+            dst[d + 3] = table[lo + 1];
+            s += 3;
+            d += 4;
+        }
+        int rest = length - length / 3 * 3;
+        if (rest > 0) {
+            int bits = (src[s] & 0xFF) << 16 | (rest == 2 ? (src[s + 1] & 0xFF) << 8 : 0);
+            int hi = bits >>> 12 << 1;
+            dst[d++] = table[hi];
+            dst[d++] = table[hi + 1];
+            if (rest == 2) {
+                dst[d++] = table[((bits >>> 6) & 0x3F) << 1 | 1];
+            }
+            if (padding) {
+                dst[d++] = '=';
+                if (rest == 1) {
+                    dst[d] = '=';
+                }
+            }
+        }
+        return encodedLength;
+    }
+
+    /**
+     * Encode the remaining bytes of {@code src} into {@code dst}, advancing
+     * both buffers. Whole groups of three bytes are encoded while they fit;
+     * a final group of one or two bytes is only encoded, padded if the
+     * variant pads, when {@code endOfInput} is set.
+     * @param src The bytes to encode.
+     * @param dst Receives the characters.
+     * @param endOfInput Whether {@code src} holds the last of the input.
+     * @return The number of chars written to {@code dst}.
+     */
+    public int encode(ByteBuffer src, CharBuffer dst, boolean endOfInput) {
+        int length = Math.min(src.remaining() / 3, dst.remaining() / 4) * 3;
+        if (endOfInput && length == src.remaining() / 3 * 3 && src.remaining() % 3 != 0
+                && encodedLength(src.remaining()) <= dst.remaining()) {
+            length = src.remaining();
+        }
+        int encodedLength = encodedLength(length);
+        if (src.hasArray() && dst.hasArray()) {
+            encode(src.array(), src.arrayOffset() + src.position(), length,
+                    dst.array(), dst.arrayOffset() + dst.position());
+            ((Buffer) src).position(src.position() + length);
+            ((Buffer) dst).position(dst.position() + encodedLength);
+        } else {
+            // Go through a small bounce buffer rather than per character puts.
+            byte[] in = new byte[Math.min(length, 3 * 256)];
+            char[] out = new char[encodedLength(in.length)];
+            for (int left = length; left > 0; ) {
+                int n = Math.min(left, in.length);
+                src.get(in, 0, n);
+                dst.put(out, 0, encode(in, 0, n, out, 0));
+                left -= n;
+            }
+        }
+        return encodedLength;
+    }
+
+    /**
+     * @param text Base64 text in this variant.
+     * @return The decoded bytes.
+     * @throws IllegalArgumentException If {@code text} is not valid in this variant.
+     */
+    public byte[] decode(CharSequence text) {
+        int length = text.length();
+        int chars = checkPadding(length, padding(text, 0, length));
+        if (text instanceof String) {
+            return decoder.decode((String) text);
+        }
+        byte[] out = new byte[decodedLength(chars)];
+        decodeChars(text, 0, chars, out, 0);
+        return out;
+    }
+
+    /**
+     * Decode a slice of ASCII bytes in {@code src} into {@code dst}.
+     * The output may start at the same position as the input in the
+     * same array, which lets callers decode in place.
+     * @return The number of bytes written to {@code dst}.
+     * @throws IllegalArgumentException If the slice is not valid in this variant.
+     */
+    public int decode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        BaseChecker.checkSlice(src, srcOffset, length, "length");
+        int end = srcOffset + length;
+        int pad = 0;
+        while (pad < 2 && end - pad > srcOffset && src[end - pad - 1] == '=') {
+            pad++;
+        }
+        int chars = checkPadding(length, pad);
+        int decodedLength = decodedLength(chars);
+        BaseChecker.checkSlice(dst, dstOffset, decodedLength, "dstOffset");
+        if (src != dst && srcOffset == 0 && length == src.length && dstOffset == 0) {
+            return decoder.decode(src, dst);
+        }
+        byte[] table = values;
+        int s = srcOffset;
+        int d = dstOffset;
+        int full = srcOffset + chars / 4 * 4;
+        while (s < full) {
+            int a = value(table, src[s]);
+            int b = value(table, src[s + 1]);
+            int c = value(table, src[s + 2]);
+            int e = value(table, src[s + 3]);
+            if ((a | b | c | e) < 0) {
+                throw invalid(src[s + (a < 0 ? 0 : b < 0 ? 1 : c < 0 ? 2 : 3)] & 0xFF);
+            }
+            int bits = a << 18 | b << 12 | c << 6 | e;
+            dst[d] = (byte) (bits >>> 16);
+            dst[d + 1] = (byte) (bits >>> 8);
+            dst[d + 2] = (byte) bits;
+            s += 4;
+            d += 3;
+        }
+        int rest = srcOffset + chars - s;
+        if (rest > 0) {
+            int a = value(table, src[s]);
+            int b = value(table, src[s + 1]);
+            int c = rest == 3 ? value(table, src[s + 2]) : 0;
+            if ((a | b | c) < 0) {
+                throw invalid(src[s + (a < 0 ? 0 : b < 0 ? 1 : 2)] & 0xFF);
+            }
+            int bits = a << 18 | b << 12 | c << 6;
+            dst[d] = (byte) (bits >>> 16);
+            if (rest == 3) {
+                dst[d + 1] = (byte) (bits >>> 8);
+            }
+        }
+        return decodedLength;
+    }
+
+    /**
+     * Decode {@code length} characters of {@code src} starting at {@code offset} into {@code dst}.
+     * @return The number of bytes written to {@code dst}.
+     * @throws IllegalArgumentException If the range is not valid in this variant.
+     */
+    public int decode(CharSequence src, int offset, int length, byte[] dst, int dstOffset) {
+        if (offset < 0 || length < 0 || offset > src.length() - length) {
+            throw new IllegalArgumentException("length out of bounds: " + length + " at offset " + offset);
+        }
+        int chars = checkPadding(length, padding(src, offset, length));
+        BaseChecker.checkSlice(dst, dstOffset, decodedLength(chars), "dstOffset");
+        return decodeChars(src, offset, chars, dst, dstOffset);
+    }
+
+    /**
+     * Decode the remaining characters of {@code src} into {@code dst},
+     * advancing both buffers. Whole groups of four characters are decoded
+     * while they fit; a final short or padded group is only decoded
+     * when {@code endOfInput} is set.
+     * @param src The characters to decode.
+     * @param dst Receives the bytes.
+     * @param endOfInput Whether {@code src} holds the last of the input.
+     * @return The number of bytes written to {@code dst}.
+     * @throws IllegalArgumentException If the input is not valid in this variant.
+     */
+    public int decode(CharBuffer src, ByteBuffer dst, boolean endOfInput) {
+        int remaining = src.remaining();
+        int chars;
+        if (endOfInput) {
+            chars = checkPadding(remaining, padding(src, 0, remaining));
+        } else {
+            // Keep a padded group back for the final call.
+            chars = remaining / 4 * 4;
+            if (chars > 0 && src.charAt(chars - 1) == '=') {
+                chars -= 4;
+            }
+        }
+        int groups = Math.min(chars / 4, dst.remaining() / 3);
+        int length = groups * 4;
+        boolean last = false;
+        if (groups == chars / 4 && chars % 4 != 0 && decodedLength(chars) <= dst.remaining()) {
+            length = chars;
+            last = true;
+        }
+        int decodedLength = decodedLength(length);
+        if (dst.hasArray()) {
+            decodeChars(src, 0, length, dst.array(), dst.arrayOffset() + dst.position());
+            ((Buffer) dst).position(dst.position() + decodedLength);
+        } else {
+            byte[] out = new byte[decodedLength];
+            decodeChars(src, 0, length, out, 0);
+            dst.put(out);
+        }
+        if (last || (endOfInput && length == chars)) {
+            length = remaining;
+        }
+        ((Buffer) src).position(src.position() + length);
+        return decodedLength;
+    }
+
+    private int decodeChars(CharSequence src, int offset, int chars, byte[] dst, int dstOffset) {
+        byte[] table = values;
+        int s = offset;
+        int d = dstOffset;
+        int full = offset + chars / 4 * 4;
+        while (s < full) {
+            int a = value(table, src.charAt(s));
+            int b = value(table, src.charAt(s + 1));
+            int c = value(table, src.charAt(s + 2));
+            int e = value(table, src.charAt(s + 3));
+            if ((a | b | c | e) < 0) {
+                throw invalid(src.charAt(s + (a < 0 ? 0 : b < 0 ? 1 : c < 0 ? 2 : 3)));
+            }
+            int bits = a << 18 | b << 12 | c << 6 | e;
+            dst[d] = (byte) (bits >>> 16);
+            dst[d + 1] = (byte) (bits >>> 8);
+            dst[d + 2] = (byte) bits;
+            s += 4;
+            d += 3;
+        }
+        int rest = offset + chars - s;
+        if (rest > 0) {
+            int a = value(table, src.charAt(s));
+            int b = value(table, src.charAt(s + 1));
+            int c = rest == 3 ? value(table, src.charAt(s + 2)) : 0;
+            if ((a | b | c) < 0) {
+                throw invalid(src.charAt(s + (a < 0 ? 0 : b < 0 ? 1 : 2)));
+            }
+            int bits = a << 18 | b << 12 | c << 6;
+            dst[d] = (byte) (bits >>> 16);
+            if (rest == 3) {
+                dst[d + 1] = (byte) (bits >>> 8);
+            }
+        }
+        return decodedLength(chars);
+    }
+
+    private static int decodedLength(int chars) {
+        return chars / 4 * 3 + (chars % 4 == 0 ? 0 : chars % 4 - 1);
+    }
+
+    private static int padding(CharSequence src, int offset, int length) {
+        int pad = 0;
+        while (pad < 2 && length - pad > 0 && src.charAt(offset + length - pad - 1) == '=') {
+            pad++;
+        }
+        return pad;
+    }
+
+    /**
+     * @return The number of characters before the padding.
+     */
+    private int checkPadding(int length, int pad) {
+        int chars = length - pad;
+        if (chars % 4 == 1 || (pad > 0 && (!padding || length % 4 != 0))) {
+            throw new IllegalArgumentException("Invalid Base64 length: " + length);
+        }
+        return chars;
+    }
+
+    private static int value(byte[] table, int c) {
+        return c < 128 && c >= 0 ? table[c] : -1;
+    }
+
+    private static IllegalArgumentException invalid(int c) {
+        return new IllegalArgumentException("Invalid Base64 character: " + (char) c);
+    }
+
+}
@@ -11,8 +11,13 @@ package com.globaltravelrule.sodium.utils;
 import com.globaltravelrule.sodium.Sodium;
 import com.globaltravelrule.sodium.interfaces.MessageEncoder;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
 public class Base64MessageEncoder implements MessageEncoder {
 
+    private static final Base64Codec CODEC = Base64Codec.ORIGINAL;
+
     @Override
     public String encode(byte[] cipher) {
         return Sodium.base64Facade.encode(cipher);
@@ -22,4 +27,29 @@ public class Base64MessageEncoder implements MessageEncoder {
     public byte[] decode(String cipherText) {
         return Sodium.base64Facade.decode(cipherText);
     }
+
+    @Override
+    public int encodedLength(int length) {
+        return CODEC.encodedLength(length);
+    }
+
+    @Override
+    public int encode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        return CODEC.encode(src, srcOffset, length, dst, dstOffset);
+    }
+
+    @Override
+    public int decode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        return CODEC.decode(src, srcOffset, length, dst, dstOffset);
+    }
+
+    @Override
+    public int encode(ByteBuffer src, CharBuffer dst) {
+        return CODEC.encode(src, dst, true);
+    }
+
+    @Override
+    public int decode(CharBuffer src, ByteBuffer dst) {
+        return CODEC.decode(src, dst, true);
+    }
 }
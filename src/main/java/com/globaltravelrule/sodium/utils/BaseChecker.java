@@ -25,4 +25,14 @@ public class BaseChecker {
         return num == len;
     }
 
+    /**
+     * Check that {@code len} bytes starting at {@code offset} fit in {@code buf}.
+     * @throws IllegalArgumentException If the slice is out of bounds.
+     */
+    public static void checkSlice(byte[] buf, int offset, int len, String name) {
+        if (len < 0 || offset < 0 || offset > buf.length - len) {
+            throw new IllegalArgumentException(name + " out of bounds: " + len + " at offset " + offset);
+        }
+    }
+
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.utils;
+
+import com.globaltravelrule.sodium.LazySodium;
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.Box;
+import com.globaltravelrule.sodium.interfaces.GenericHash;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded, thread-safe cache of {@code crypto_box} shared keys.
+ * <p>
+ * {@code crypto_box_easy} does an X25519 scalar multiplication on every
+ * call. When the same (local secret key, peer public key) pairs come up
+ * again and again, this cache computes the shared key once with
+ * {@code crypto_box_beforenm} and routes the operations through the
+ * {@code *_afternm} natives.
+ * <p>
+ * Entries are evicted least recently used first once {@code maxEntries}
+ * is reached, and once they are older than the time to live. Evicted
+ * shared keys are zeroed. Entries are looked up by a BLAKE2b digest of
+ * the key pair, so the cache keeps no extra copy of the secret key.
+ */
+public class BoxSharedKeyCache {
+
+    private final LazySodium lazySodium;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<ByteBuffer, SharedKey> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param lazySodium Used for the box and hash operations.
+     * @param maxEntries The most shared keys to keep.
+     * @param ttl How long a shared key may be used for, zero or less for no limit.
+     * @param unit The unit of {@code ttl}.
+     */
+    public BoxSharedKeyCache(LazySodium lazySodium, int maxEntries, long ttl, TimeUnit unit) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries out of bounds: " + maxEntries);
+        }
+        this.lazySodium = lazySodium;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl <= 0 ? 0 : unit.toNanos(ttl);
+        this.entries = new LinkedHashMap<ByteBuffer, SharedKey>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, SharedKey> eldest) {
+                if (size() > BoxSharedKeyCache.this.maxEntries) {
+                    eldest.getValue().wipe();
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public boolean cryptoBoxEasy(byte[] cipherText, byte[] message, long messageLen, byte[] nonce,
+                                 byte[] publicKey, byte[] secretKey) {
+        byte[] k = sharedKey(publicKey, secretKey);
+        try {
+            return k != null && lazySodium.cryptoBoxEasyAfterNm(cipherText, message, messageLen, nonce, k);
+        } finally {
+            wipe(k);
+        }
+    }
+
+    public boolean cryptoBoxOpenEasy(byte[] message, byte[] cipherText, long cipherTextLen, byte[] nonce,
+                                     byte[] publicKey, byte[] secretKey) {
+        byte[] k = sharedKey(publicKey, secretKey);
+        try {
+            return k != null && lazySodium.cryptoBoxOpenEasyAfterNm(message, cipherText, cipherTextLen, nonce, k);
+        } finally {
+            wipe(k);
+        }
+    }
+
+    public boolean cryptoBoxDetached(byte[] cipherText, byte[] mac, byte[] message, long messageLen, byte[] nonce,
+                                     byte[] publicKey, byte[] secretKey) {
+        byte[] k = sharedKey(publicKey, secretKey);
+        try {
+            return k != null && lazySodium.cryptoBoxDetachedAfterNm(cipherText, mac, message, messageLen, nonce, k);
+        } finally {
+            wipe(k);
+        }
+    }
+
+    public boolean cryptoBoxOpenDetached(byte[] message, byte[] cipherText, byte[] mac, long cipherTextLen, byte[] nonce,
+                                         byte[] publicKey, byte[] secretKey) {
+        byte[] k = sharedKey(publicKey, secretKey);
+        try {
+            return k != null && lazySodium.cryptoBoxOpenDetachedAfterNm(message, cipherText, mac, cipherTextLen, nonce, k);
+        } finally {
+            wipe(k);
+        }
+    }
+
+    /**
+     * Same as {@link LazySodium#cryptoBoxEasy(String, byte[], KeyPair)} but with a cached shared key.
+     * @param message The message to encrypt.
+     * @param nonce The nonce.
+     * @param keyPair The peer's public key and our secret key.
+     * @return The encoded cipher text.
+     * @throws SodiumException If the message could not be encrypted.
+     */
+    public String cryptoBoxEasy(String message, byte[] nonce, KeyPair keyPair) throws SodiumException {
+        byte[] messageBytes = lazySodium.bytes(message);
+        byte[] cipherBytes = new byte[Box.MACBYTES + messageBytes.length];
+        if (!cryptoBoxEasy(cipherBytes, messageBytes, messageBytes.length, nonce,
+                keyPair.getPublicKey().getAsBytes(), keyPair.getSecretKey().getAsBytes())) {
+            throw new SodiumException("Could not encrypt your message.");
+        }
+        return lazySodium.getMessageEncoder().encode(cipherBytes);
+    }
+
+    /**
+     * Same as {@link LazySodium#cryptoBoxOpenEasy(String, byte[], KeyPair)} but with a cached shared key.
+     * @param cipherText The encoded cipher text.
+     * @param nonce The nonce.
+     * @param keyPair The peer's public key and our secret key.
+     * @return The message.
+     * @throws SodiumException If the message could not be decrypted.
+     */
+    public String cryptoBoxOpenEasy(String cipherText, byte[] nonce, KeyPair keyPair) throws SodiumException {
+        byte[] cipher = lazySodium.getMessageEncoder().decode(cipherText);
+        if (cipher.length < Box.MACBYTES) {
+            throw new SodiumException("Could not decrypt your message.");
+        }
+        byte[] message = new byte[cipher.length - Box.MACBYTES];
+        if (!cryptoBoxOpenEasy(message, cipher, cipher.length, nonce,
+                keyPair.getPublicKey().getAsBytes(), keyPair.getSecretKey().getAsBytes())) {
+            throw new SodiumException("Could not decrypt your message.");
+        }
+        return lazySodium.str(message);
+    }
+
+    /**
+     * Drop and zero the shared key for one pair, e.g. after a peer rotates keys.
+     */
+    public void invalidate(byte[] publicKey, byte[] secretKey) {
+        ByteBuffer id = id(publicKey, secretKey);
+        synchronized (entries) {
+            SharedKey entry = entries.remove(id);
+            if (entry != null) {
+                entry.wipe();
+            }
+        }
+    }
+
+    /**
+     * Drop and zero all shared keys.
+     */
+    public void clear() {
+        synchronized (entries) {
+            for (SharedKey entry : entries.values()) {
+                entry.wipe();
+            }
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        synchronized (entries) {
+            return hits;
+        }
+    }
+
+    public long getMisses() {
+        synchronized (entries) {
+            return misses;
+        }
+    }
+
+    public long getEvictions() {
+        synchronized (entries) {
+            return evictions;
+        }
+    }
+
+    /**
+     * @return A copy of the shared key that the caller must wipe, or null if it could not be computed.
+     */
+    private byte[] sharedKey(byte[] publicKey, byte[] secretKey) {
+        ByteBuffer id = id(publicKey, secretKey);
+        long now = System.nanoTime();
+        synchronized (entries) {
+            SharedKey entry = entries.get(id);
+            if (entry != null && expired(entry, now)) {
+                entries.remove(id);
+                entry.wipe();
+                evictions++;
+                entry = null;
+            }
+            if (entry != null) {
+                hits++;
+                return entry.sharedKey.clone();
+            }
+            misses++;
+        }
+        // Computed outside the lock so a miss does not hold up other pairs.
+        byte[] k = new byte[Box.BEFORENMBYTES];
+        if (!lazySodium.cryptoBoxBeforeNm(k, publicKey, secretKey)) {
+            return null;
+        }
+        synchronized (entries) {
+            SharedKey previous = entries.put(id, new SharedKey(k.clone(), now));
+            if (previous != null) {
+                previous.wipe();
+            }
+            evictExpired(now);
+        }
+        return k;
+    }
+
+    private void evictExpired(long now) {
+        if (ttlNanos == 0) {
+            return;
+        }
+        Iterator<SharedKey> it = entries.values().iterator();
+        while (it.hasNext()) {
+            SharedKey entry = it.next();
+            if (expired(entry, now)) {
+                entry.wipe();
+                it.remove();
+                evictions++;
+            }
+        }
+    }
+
+    private boolean expired(SharedKey entry, long now) {
+        return ttlNanos != 0 && now - entry.created >= ttlNanos;
+    }
+
+    private ByteBuffer id(byte[] publicKey, byte[] secretKey) {
+        byte[] pair = new byte[secretKey.length + publicKey.length];
+        System.arraycopy(secretKey, 0, pair, 0, secretKey.length);
+        System.arraycopy(publicKey, 0, pair, secretKey.length, publicKey.length);
+        byte[] digest = new byte[GenericHash.BYTES];
+        lazySodium.cryptoGenericHash(digest, digest.length, pair, pair.length);
+        wipe(pair);
+        return ByteBuffer.wrap(digest);
+    }
+
+    private static void wipe(byte[] bytes) {
+        if (bytes != null) {
+            Arrays.fill(bytes, (byte) 0);
+        }
+    }
+
+    private static final class SharedKey {
+        private final byte[] sharedKey;
+        private final long created;
+
+        private SharedKey(byte[] sharedKey, long created) {
+            this.sharedKey = sharedKey;
+            this.created = created;
+        }
+
+        private void wipe() {
+            BoxSharedKeyCache.wipe(sharedKey);
+        }
+    }
+
+}
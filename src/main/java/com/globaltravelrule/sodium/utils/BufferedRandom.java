@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.utils;
+
+import com.globaltravelrule.sodium.LazySodium;
+import com.globaltravelrule.sodium.interfaces.Random;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * A {@link Random} that serves small requests from per-thread blocks of
+ * random bytes instead of crossing into native code for every key or nonce.
+ * <p>
+ * Each thread fills a block of {@link #DEFAULT_BLOCK_SIZE} bytes at a time
+ * and hands them out front to back. A refill takes a fresh
+ * {@value #SEED_BYTES} byte seed from {@code randombytes_buf} and expands it
+ * with {@code randombytes_buf_deterministic} (ChaCha20), the same fast key
+ * erasure construction libsodium's internal generator uses; the seed is
+ * wiped right away. This matters because {@code randombytes_buf} usually
+ * reads from the kernel, which costs several nanoseconds per byte. Bytes are wiped from the block as soon as they are
+ * handed out, so a heap dump only ever shows randomness that has not been
+ * used yet. Requests above {@value #MAX_BUFFERED} bytes, and
+ * {@link #randomBytesDeterministic(int, byte[])}, go straight to libsodium.
+ * <p>
+ * A JVM never forks, but a process restored from a checkpoint or a cloned
+ * VM image would replay whatever was buffered at the time of the snapshot.
+ * Call {@link #reseed()} after such a restore; every thread then wipes and
+ * refills its block before its next request.
+ * <p>
+ * Thread safe. {@link #asSecureRandom()} exposes the same source through the JCA.
+ */
+public final class BufferedRandom implements Random {
+
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    /**
+     * Largest request served from the per-thread block.
+     */
+    public static final int MAX_BUFFERED = 256;
+
+    private static final int SEED_BYTES = 32;
+
+    private final LazySodium lazySodium;
+    private final int blockSize;
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+    private volatile int generation;
+
+    public BufferedRandom(LazySodium lazySodium) {
+        this(lazySodium, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param lazySodium The bindings to fetch randomness with.
+     * @param blockSize Bytes fetched per native call, at least {@value #MAX_BUFFERED}.
+     */
+    public BufferedRandom(LazySodium lazySodium, int blockSize) {
+        if (blockSize < MAX_BUFFERED) {
+            throw new IllegalArgumentException("blockSize out of bounds");
+        }
+        this.lazySodium = lazySodium;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Fill {@code len} bytes of {@code dst} starting at {@code off} with random bytes.
+     * @param dst The destination.
+     * @param off Where to start.
+     * @param len How many bytes to write.
+     */
+    public void nextBytes(byte[] dst, int off, int len) {
+        if (off < 0 || len < 0 || off > dst.length - len) {
+            throw new IllegalArgumentException("len out of bounds");
+        }
+        if (len > MAX_BUFFERED) {
+            byte[] direct = lazySodium.randomBytesBuf(len);
+            System.arraycopy(direct, 0, dst, off, len);
+            Arrays.fill(direct, (byte) 0);
+            return;
+        }
+        Block block = blocks.get();
+        if (block.generation != generation || block.bytes.length - block.position < len) {
+            refill(block);
+        }
+        System.arraycopy(block.bytes, block.position, dst, off, len);
+        Arrays.fill(block.bytes, block.position, block.position + len, (byte) 0);
+        block.position += len;
+    }
+
+    /**
+     * Discard every thread's buffered bytes, e.g. after restoring from a snapshot.
+     * Each thread wipes and refills its block on its next request.
+     */
+    public void reseed() {
+        synchronized (this) {
+            generation++;
+        }
+    }
+
+    /**
+     * @return A {@link SecureRandom} drawing from this source.
+     */
+    public SecureRandom asSecureRandom() {
+        return new SodiumSecureRandom(new SodiumSecureRandomSpi(this));
+    }
+
+    LazySodium getLazySodium() {
+        return lazySodium;
+    }
+
+    @Override
+    public byte[] randomBytesBuf(int size) {
+        byte[] bytes = new byte[size];
+        nextBytes(bytes, 0, size);
+        return bytes;
+    }
+
+    @Override
+    public byte[] nonce(int size) {
+        return randomBytesBuf(size);
+    }
+
+    @Override
+    public long randomBytesRandom() {
+        byte[] bytes = new byte[4];
+        nextBytes(bytes, 0, 4);
+        return (bytes[0] & 0xffL) | (bytes[1] & 0xffL) << 8 | (bytes[2] & 0xffL) << 16 | (bytes[3] & 0xffL) << 24;
+    }
+
+    /**
+     * Same rejection sampling as {@code randombytes_uniform}, fed from the buffer.
+     */
+    @Override
+    public long randomBytesUniform(int upperBound) {
+        long upper = upperBound & 0xffffffffL;
+        if (upper < 2) {
+            return 0;
+        }
+        long min = (0x100000000L - upper) % upper;
+        long r;
+        do {
+            r = randomBytesRandom();
+        } while (r < min);
+        return r % upper;
+    }
+
+    @Override
+    public byte[] randomBytesDeterministic(int size, byte[] seed) {
+        return lazySodium.randomBytesDeterministic(size, seed);
+    }
+
+    private void refill(Block block) {
+        Arrays.fill(block.bytes, (byte) 0);
+        block.generation = generation;
+        if (block.bytes.length != blockSize) {
+            block.bytes = new byte[blockSize];
+        }
+        byte[] seed = new byte[SEED_BYTES];
+        lazySodium.getSodium().randombytes_buf(seed, SEED_BYTES);
+        lazySodium.getSodium().randombytes_buf_deterministic(block.bytes, blockSize, seed);
+        Arrays.fill(seed, (byte) 0);
+        block.position = 0;
+    }
+
+    private static final class Block {
+        byte[] bytes = new byte[0];
+        int position;
+        int generation = -1;
+    }
+
+    private static final class SodiumSecureRandom extends SecureRandom {
+
+        private static final long serialVersionUID = 1L;
+
+        SodiumSecureRandom(SodiumSecureRandomSpi spi) {
+            super(spi, SodiumProvider.getInstance());
+        }
+
+    }
+
+}
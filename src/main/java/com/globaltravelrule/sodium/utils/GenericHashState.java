@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.utils;
+
+import com.globaltravelrule.sodium.LazySodium;
+import com.globaltravelrule.sodium.Sodium;
+import com.globaltravelrule.sodium.interfaces.GenericHash;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * An incremental BLAKE2b hash whose state lives in native memory.
+ * <p>
+ * {@link GenericHash.Native#cryptoGenericHashUpdate(byte[], byte[], long)}
+ * keeps the state in a {@code byte[]}, which JNA copies to native memory and
+ * back on every call. Here the state is allocated once, 64 byte aligned as
+ * libsodium requires, and only the input crosses into native code. Direct
+ * and mapped buffers are hashed in place.
+ * <p>
+ * Not thread safe. {@link #close()} wipes and frees the state.
+ */
+public final class GenericHashState implements AutoCloseable {
+
+    /**
+     * Bytes of a file mapped at a time by {@link #update(FileChannel)}.
+     */
+    static final long MAP_WINDOW = 64L * 1024 * 1024;
+
+    private static final int ALIGNMENT = 64;
+
+    private final Sodium sodium;
+    private final int outLen;
+    private final int stateBytes;
+    private Memory memory;
+    private Pointer state;
+    private boolean finished;
+
+    /**
+     * Start an unkeyed hash.
+     * @param lazySodium The bindings to use.
+     * @param outLen The digest length, between {@link GenericHash#BYTES_MIN} and {@link GenericHash#BYTES_MAX}.
+     */
+    public GenericHashState(LazySodium lazySodium, int outLen) {
+        this(lazySodium, null, outLen);
+    }
+
+    /**
+     * Start a keyed hash.
+     * @param lazySodium The bindings to use.
+     * @param key A key of up to {@link GenericHash#KEYBYTES_MAX} bytes, or null.
+     * @param outLen The digest length, between {@link GenericHash#BYTES_MIN} and {@link GenericHash#BYTES_MAX}.
+     */
+    public GenericHashState(LazySodium lazySodium, Key key, int outLen) {
+        if (outLen < GenericHash.BYTES_MIN || outLen > GenericHash.BYTES_MAX) {
+            throw new IllegalArgumentException("outLen out of bounds: " + outLen);
+        }
+        byte[] k = key == null ? null : key.getAsBytes();
+        if (k != null && (k.length == 0 || k.length > GenericHash.KEYBYTES_MAX)) {
+            throw new IllegalArgumentException("key out of bounds: " + k.length);
+        }
+        this.sodium = lazySodium.getSodium();
+        this.outLen = outLen;
+        this.stateBytes = sodium.crypto_generichash_statebytes();
+        this.memory = new Memory(stateBytes + ALIGNMENT - 1);
+        this.state = memory.align(ALIGNMENT);
+        if (sodium.crypto_generichash_init(state, k, k == null ? 0 : k.length, outLen) != 0) {
+            close();
+            throw new IllegalStateException("Could not initialise the hash state.");
+        }
+    }
+
+    /**
+     * @return The digest length given on construction.
+     */
+    public int getOutLen() {
+        return outLen;
+    }
+
+    public GenericHashState update(byte[] in) {
+        return update(in, 0, in.length);
+    }
+
+    /**
+     * Hash {@code len} bytes of {@code in} starting at {@code offset}.
+     * @return This state.
+     */
+    public GenericHashState update(byte[] in, int offset, int len) {
+        BaseChecker.checkSlice(in, offset, len, "len");
+        return update(ByteBuffer.wrap(in, offset, len));
+    }
+
+    /**
+     * Hash the remaining bytes of {@code in} and move its position to its limit.
+     * @return This state.
+     */
+    public GenericHashState update(ByteBuffer in) {
+        checkActive();
+        int len = in.remaining();
+        if (sodium.crypto_generichash_update(state, in, len) != 0) {
+            throw new IllegalStateException("Could not update the hash state.");
+        }
+        ((Buffer) in).position(in.limit());
+        return this;
+    }
+
+    /**
+     * Hash everything from the current position of {@code channel} to its
+     * end, one memory mapped window at a time, and move the position to the end.
+     * @return This state.
+     */
+    public GenericHashState update(FileChannel channel) throws IOException {
+        checkActive();
+        long pos = channel.position();
+        long end = channel.size();
+        while (pos < end) {
+            long len = Math.min(MAP_WINDOW, end - pos);
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, pos, len);
+            update(mapped);
+            pos += len;
+        }
+        channel.position(end);
+        return this;
+    }
+
+    /**
+     * Hash the rest of {@code channel} and finish.
+     * @return The digest.
+     */
+    public byte[] hash(FileChannel channel) throws IOException {
+        return update(channel).finish();
+    }
+
+    /**
+     * Finish the hash. The state cannot be updated afterwards.
+     * @return The digest of {@link #getOutLen()} bytes.
+     */
+    public byte[] finish() {
+        checkActive();
+        finished = true;
+        byte[] out = new byte[outLen];
+        if (sodium.crypto_generichash_final(state, out, outLen) != 0) {
+            throw new IllegalStateException("Could not finish the hash.");
+        }
+        return out;
+    }
+
+    /**
+     * Wipe and free the state.
+     */
+    @Override
+    public void close() {
+        if (memory == null) {
+            return;
+        }
+        memory.clear();
+        memory.close();
+        memory = null;
+        state = null;
+    }
+
+    private void checkActive() {
+        if (memory == null) {
+            throw new IllegalStateException("GenericHashState is closed.");
+        }
+        if (finished) {
+            throw new IllegalStateException("GenericHashState is already finished.");
+        }
+    }
+
+}
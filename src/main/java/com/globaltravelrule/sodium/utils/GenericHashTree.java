@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.utils;
+
+import com.globaltravelrule.sodium.LazySodium;
+import com.globaltravelrule.sodium.Sodium;
+import com.globaltravelrule.sodium.interfaces.GenericHash;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A two level BLAKE2b tree hash whose leaves are hashed in parallel.
+ * <p>
+ * The input is split into leaves of {@code leafSize} bytes; the last leaf
+ * may be shorter and an empty input has a single empty leaf. Every leaf and
+ * the root use {@code crypto_generichash_blake2b_salt_personal}:
+ * <pre>
+ *   leaf[i] = BLAKE2b-256(chunk[i],
+ *                         salt     = u64be(i) || u64be(leafSize),
+ *                         personal = "GTR-TREE-LEAF-V1")
+ *   root    = BLAKE2b-outLen(leaf[0] || leaf[1] || ... || leaf[n - 1],
+ *                            salt     = u64be(length) || u32be(leafSize) || u32be(outLen),
+ *                            personal = "GTR-TREE-ROOT-V1")
+ * </pre>
+ * Binding the index, sizes and total length into the salts means leaves
+ * cannot be reordered, dropped or reused under other parameters. Given the
+ * root and the leaf digests, {@link #verifyLeaf} rechecks one chunk
+ * without reading the rest of the input.
+ * <p>
+ * The root differs from {@code cryptoGenericHash} of the same input.
+ */
+public final class GenericHashTree {
+
+    public static final int DEFAULT_LEAF_SIZE = 1024 * 1024;
+
+    /**
+     * Length of each leaf digest.
+     */
+    public static final int LEAF_BYTES = GenericHash.BYTES;
+
+    /**
+     * Bytes of a file mapped at a time by one task.
+     */
+    static final long MAP_WINDOW = 64L * 1024 * 1024;
+
+    private static final byte[] LEAF_PERSONAL = "GTR-TREE-LEAF-V1".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ROOT_PERSONAL = "GTR-TREE-ROOT-V1".getBytes(StandardCharsets.US_ASCII);
+
+    private final Sodium sodium;
+    private final int leafSize;
+    private final int outLen;
+    private final Executor executor;
+    private final int parallelism;
+
+    /**
+     * 1 MiB leaves and a {@link GenericHash#BYTES} root, hashed on the common pool.
+     */
+    public GenericHashTree(LazySodium lazySodium) {
+        this(lazySodium, DEFAULT_LEAF_SIZE, GenericHash.BYTES, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param lazySodium The bindings to use.
+     * @param leafSize Bytes per leaf.
+     * @param outLen Root length, between {@link GenericHash#BYTES_MIN} and {@link GenericHash#BYTES_MAX}.
+     * @param executor Runs the leaf tasks.
+     */
+    public GenericHashTree(LazySodium lazySodium, int leafSize, int outLen, Executor executor) {
+        if (leafSize <= 0) {
+            throw new IllegalArgumentException("leafSize out of bounds: " + leafSize);
+        }
+        if (outLen < GenericHash.BYTES_MIN || outLen > GenericHash.BYTES_MAX) {
+            throw new IllegalArgumentException("outLen out of bounds: " + outLen);
+        }
+        this.sodium = lazySodium.getSodium();
+        this.leafSize = leafSize;
+        this.outLen = outLen;
+        this.executor = executor;
+        this.parallelism = executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getLeafSize() {
+        return leafSize;
+    }
+
+    public int getOutLen() {
+        return outLen;
+    }
+
+    /**
+     * @param length Input length in bytes.
+     * @return The number of leaves an input of {@code length} bytes has.
+     */
+    public int leafCount(long length) {
+        long count = Math.max(1, (length + leafSize - 1) / leafSize);
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("length out of bounds: " + length);
+        }
+        return (int) count;
+    }
+
+    public Digest hash(byte[] in) {
+        return hash(ByteBuffer.wrap(in));
+    }
+
+    /**
+     * Hash the remaining bytes of {@code in}. The position of {@code in} is not changed.
+     */
+    public Digest hash(ByteBuffer in) {
+        ByteBuffer source = in.slice();
+        long length = source.remaining();
+        byte[][] leaves = hashLeaves(length, (from, to, out) -> {
+            ByteBuffer chunk = source.duplicate();
+            for (int i = from; i < to; i++) {
+                int start = (int) ((long) i * leafSize);
+                ((Buffer) chunk).limit((int) Math.min(source.capacity(), (long) start + leafSize));
+                ((Buffer) chunk).position(start);
+                out[i] = leaf(i, chunk);
+            }
+        });
+        return new Digest(length, root(length, leaves), leaves);
+    }
+
+    /**
+     * Hash the whole file behind {@code channel}, each task mapping its own
+     * range of leaves. The position of {@code channel} is not changed.
+     */
+    public Digest hash(FileChannel channel) throws IOException {
+        long length = channel.size();
+        byte[][] leaves;
+        try {
+            leaves = hashLeaves(length, (from, to, out) -> {
+                long start = (long) from * leafSize;
+                long end = Math.min(length, (long) to * leafSize);
+                ByteBuffer mapped;
+                try {
+                    mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                for (int i = from; i < to; i++) {
+                    int offset = (int) ((long) (i - from) * leafSize);
+                    ((Buffer) mapped).limit((int) Math.min(mapped.capacity(), (long) offset + leafSize));
+                    ((Buffer) mapped).position(offset);
+                    out[i] = leaf(i, mapped);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return new Digest(length, root(length, leaves), leaves);
+    }
+
+    /**
+     * Hash one leaf.
+     * @param index The leaf index.
+     * @param chunk The leaf bytes, from position to limit. The position is not changed.
+     * @return The {@link #LEAF_BYTES} leaf digest.
+     */
+    public byte[] leaf(long index, ByteBuffer chunk) {
+        int len = chunk.remaining();
+        if (len > leafSize) {
+            throw new IllegalArgumentException("chunk out of bounds: " + len);
+        }
+        byte[] salt = ByteBuffer.allocate(16).putLong(index).putLong(leafSize).array();
+        byte[] out = new byte[LEAF_BYTES];
+        if (sodium.crypto_generichash_blake2b_salt_personal(out, LEAF_BYTES, chunk, len, null, 0, salt, LEAF_PERSONAL) != 0) {
+            throw new IllegalStateException("Could not hash leaf " + index + ".");
+        }
+        return out;
+    }
+
+    /**
+     * Combine leaf digests into the root.
+     * @param length The total input length.
+     * @param leaves The {@link #leafCount(long)} leaf digests, in order.
+     * @return The {@link #getOutLen()} byte root.
+     */
+    public byte[] root(long length, byte[][] leaves) {
+        if (leaves.length != leafCount(length)) {
+            throw new IllegalArgumentException("leaves out of bounds: " + leaves.length);
+        }
+        ByteBuffer in = ByteBuffer.allocateDirect(leaves.length * LEAF_BYTES);
+        for (byte[] leaf : leaves) {
+            if (leaf.length != LEAF_BYTES) {
+                throw new IllegalArgumentException("leaf out of bounds: " + leaf.length);
+            }
+            in.put(leaf);
+        }
+        ((Buffer) in).flip();
+        byte[] salt = ByteBuffer.allocate(16).putLong(length).putInt(leafSize).putInt(outLen).array();
+        byte[] out = new byte[outLen];
+        if (sodium.crypto_generichash_blake2b_salt_personal(out, outLen, in, in.remaining(), null, 0, salt, ROOT_PERSONAL) != 0) {
+            throw new IllegalStateException("Could not hash the root.");
+        }
+        return out;
+    }
+
+    /**
+     * Check one chunk against a root and its leaf digests, e.g. as stored next to a file.
+     * @param root The expected root.
+     * @param length The total input length.
+     * @param leaves The leaf digests.
+     * @param index The index of the chunk.
+     * @param chunk The chunk bytes, from position to limit.
+     * @return True if the leaf digests match {@code root} and the chunk matches its leaf.
+     */
+    public boolean verifyLeaf(byte[] root, long length, byte[][] leaves, int index, ByteBuffer chunk) {
+        if (leaves.length != leafCount(length) || index < 0 || index >= leaves.length) {
+            return false;
+        }
+        long expected = Math.min(leafSize, length - (long) index * leafSize);
+        if (chunk.remaining() != expected) {
+            return false;
+        }
+        for (byte[] leaf : leaves) {
+            if (leaf == null || leaf.length != LEAF_BYTES) {
+                return false;
+            }
+        }
+        return MessageDigest.isEqual(root, root(length, leaves))
+                && MessageDigest.isEqual(leaves[index], leaf(index, chunk));
+    }
+
+    private byte[][] hashLeaves(long length, LeafRange range) {
+        int count = leafCount(length);
+        byte[][] leaves = new byte[count][];
+        long perTask = Math.min((count + parallelism * 4L - 1) / (parallelism * 4L), Math.max(1, MAP_WINDOW / leafSize));
+        int chunkSize = (int) Math.max(1, perTask);
+        if (count <= chunkSize) {
+            range.hash(0, count, leaves);
+            return leaves;
+        }
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[(count + chunkSize - 1) / chunkSize];
+        for (int t = 0; t < tasks.length; t++) {
+            int from = t * chunkSize;
+            int to = Math.min(count, from + chunkSize);
+            tasks[t] = CompletableFuture.runAsync(() -> range.hash(from, to, leaves), executor);
+        }
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return leaves;
+    }
+
+    private interface LeafRange {
+        void hash(int from, int to, byte[][] leaves);
+    }
+
+    /**
+     * The root of a tree hash together with its leaf digests.
+     */
+    public static final class Digest {
+
+        private final long length;
+        private final byte[] root;
+        private final byte[][] leaves;
+
+        Digest(long length, byte[] root, byte[][] leaves) {
+            this.length = length;
+            this.root = root;
+            this.leaves = leaves;
+        }
+
+        /**
+         * @return The input length in bytes.
+         */
+        public long getLength() {
+            return length;
+        }
+
+        public byte[] getRoot() {
+            return root;
+        }
+
+        /**
+         * @return The leaf digests, in order.
+         */
+        public byte[][] getLeaves() {
+            return leaves;
+        }
+
+    }
+
+}
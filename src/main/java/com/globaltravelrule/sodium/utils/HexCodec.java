@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.utils;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Table driven hexadecimal encoding and decoding.
+ * <p>
+ * Every byte is encoded with a single lookup into a 256 entry table of
+ * digit pairs and decoded with two lookups into a 256 entry table of digit
+ * values, with one range check per pair. There are no branches on the
+ * data besides that check, which lets the JIT unroll the loops.
+ * <p>
+ * Besides {@code String}s the codec reads and writes caller supplied
+ * arrays, {@link ByteBuffer}s and {@link CharBuffer}s. The buffer methods
+ * are streaming: they convert as much as fits, advance both buffers and
+ * can be called again with more input or more room.
+ * <p>
+ * Decoding accepts upper and lower case digits regardless of which case
+ * the codec encodes with.
+ */
+public final class HexCodec {
+
+    /**
+     * Encodes with {@code 0123456789ABCDEF}, the digits {@link com.globaltravelrule.sodium.LazySodium} has always used.
+     */
+    public static final HexCodec UPPER_CASE = new HexCodec("0123456789ABCDEF");
+
+    /**
+     * Encodes with {@code 0123456789abcdef}, as {@code sodium_bin2hex} does.
+     */
+    public static final HexCodec LOWER_CASE = new HexCodec("0123456789abcdef");
+
+    private static final byte[] VALUES = new byte[256];
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            VALUES['A' + i] = (byte) (10 + i);
+            VALUES['a' + i] = (byte) (10 + i);
+        }
+    }
+
+    private final char[] chars = new char[512];
+    private final byte[] ascii = new byte[512];
+
+    private HexCodec(String digits) {
+        for (int i = 0; i < 256; i++) {
+            chars[i * 2] = digits.charAt(i >>> 4);
+            chars[i * 2 + 1] = digits.charAt(i & 0x0F);
+            ascii[i * 2] = (byte) chars[i * 2];
+            ascii[i * 2 + 1] = (byte) chars[i * 2 + 1];
+        }
+    }
+
+    /**
+     * @param length The number of bytes to encode.
+     * @return The number of digits they encode to.
+     */
+    public int encodedLength(int length) {
+        return length * 2;
+    }
+
+    public String encodeToString(byte[] src) {
+        return encodeToString(src, 0, src.length);
+    }
+
+    public String encodeToString(byte[] src, int srcOffset, int length) {
+        char[] out = new char[encodedLength(length)];
+        encode(src, srcOffset, length, out, 0);
+        return new String(out);
+    }
+
+    /**
+     * Encode a slice of {@code src} as ASCII digits into {@code dst}.
+     * The input may occupy the tail of the output range in the same
+     * array, which lets callers encode in place.
+     * @return The number of bytes written to {@code dst}.
+     */
+    public int encode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        BaseChecker.checkSlice(src, srcOffset, length, "length");
+        BaseChecker.checkSlice(dst, dstOffset, encodedLength(length), "dstOffset");
+        // Each byte is read before its two digits are written.
+        byte[] table = ascii;
+        for (int i = 0, d = dstOffset; i < length; i++, d += 2) {
+            int v = (src[srcOffset + i] & 0xFF) << 1;
+            dst[d] = table[v];
+            dst[d + 1] = table[v + 1];
+        }
+        return encodedLength(length);
+    }
+
+    /**
+     * Encode a slice of {@code src} into {@code dst}.
+     * @return The number of chars written to {@code dst}.
+     */
+    public int encode(byte[] src, int srcOffset, int length, char[] dst, int dstOffset) {
+        BaseChecker.checkSlice(src, srcOffset, length, "length");
+        if (dstOffset < 0 || dstOffset > dst.length - encodedLength(length)) {
+            throw new IllegalArgumentException("dstOffset out of bounds: " + encodedLength(length) + " at offset " + dstOffset);
+        }
+        char[] table = chars;
+        for (int i = 0, d = dstOffset; i < length; i++, d += 2) {
+            int v = (src[srcOffset + i] & 0xFF) << 1;
+            dst[d] = table[v];
+            dst[d + 1] = table[v + 1];
+        }
+        return encodedLength(length);
+    }
+
+    /**
+     * Encode as many of the remaining bytes of {@code src} as fit into
+     * {@code dst}, advancing both buffers.
+     * @param src The bytes to encode.
+     * @param dst Receives the digits.
+     * @return The number of chars written to {@code dst}.
+     */
+    public int encode(ByteBuffer src, CharBuffer dst) {
+        int length = Math.min(src.remaining(), dst.remaining() / 2);
+        if (src.hasArray() && dst.hasArray()) {
+            encode(src.array(), src.arrayOffset() + src.position(), length,
+                    dst.array(), dst.arrayOffset() + dst.position());
+            ((Buffer) src).position(src.position() + length);
+            ((Buffer) dst).position(dst.position() + encodedLength(length));
+        } else {
+            char[] table = chars;
+            for (int i = 0; i < length; i++) {
+                int v = (src.get() & 0xFF) << 1;
+                dst.put(table[v]).put(table[v + 1]);
+            }
+        }
+        return encodedLength(length);
+    }
+
+    /**
+     * @param hex Hexadecimal digits.
+     * @return The decoded bytes.
+     * @throws IllegalArgumentException If {@code hex} has an odd length or a non hex character.
+     */
+    public byte[] decode(CharSequence hex) {
+        byte[] out = new byte[checkLength(hex.length()) / 2];
+        decode(hex, 0, hex.length(), out, 0);
+        return out;
+    }
+
+    /**
+     * Decode a slice of ASCII digits in {@code src} into {@code dst}.
+     * The output may start at the same position as the input in the
+     * same array, which lets callers decode in place.
+     * @return The number of bytes written to {@code dst}.
+     * @throws IllegalArgumentException If the slice has an odd length or a non hex character.
+     */
+    public int decode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        checkLength(length);
+        BaseChecker.checkSlice(src, srcOffset, length, "length");
+        BaseChecker.checkSlice(dst, dstOffset, length / 2, "dstOffset");
+        for (int i = 0; i < length; i += 2) {
+            int hi = value(src[srcOffset + i]);
+            int lo = value(src[srcOffset + i + 1]);
+            if ((hi | lo) < 0) {
+                throw invalid(hi < 0 ? src[srcOffset + i] & 0xFF : src[srcOffset + i + 1] & 0xFF);
+            }
+            dst[dstOffset + i / 2] = (byte) (hi << 4 | lo);
+        }
+        return length / 2;
+    }
+
+    /**
+     * Decode {@code length} digits of {@code src} starting at {@code offset} into {@code dst}.
+     * @return The number of bytes written to {@code dst}.
+     * @throws IllegalArgumentException If the range has an odd length or a non hex character.
+     */
+    public int decode(CharSequence src, int offset, int length, byte[] dst, int dstOffset) {
+        checkLength(length);
+        if (offset < 0 || length < 0 || offset > src.length() - length) {
+            throw new IllegalArgumentException("length out of bounds: " + length + " at offset " + offset);
+        }
+        BaseChecker.checkSlice(dst, dstOffset, length / 2, "dstOffset");
+        for (int i = 0; i < length; i += 2) {
+            char c1 = src.charAt(offset + i);
+            char c2 = src.charAt(offset + i + 1);
+            int hi = value(c1);
+            int lo = value(c2);
+            if ((hi | lo) < 0) {
+                throw invalid(hi < 0 ? c1 : c2);
+            }
+            dst[dstOffset + i / 2] = (byte) (hi << 4 | lo);
+        }
+        return length / 2;
+    }
+
+    /**
+     * Decode as many whole digit pairs of {@code src} as fit into {@code dst},
+     * advancing both buffers. A single trailing digit is left in {@code src}
+     * for the next call unless {@code endOfInput} is set. If the input is
+     * rejected neither buffer is advanced.
+     * @param src The digits to decode.
+     * @param dst Receives the bytes.
+     * @param endOfInput Whether {@code src} holds the last of the input.
+     * @return The number of bytes written to {@code dst}.
+     * @throws IllegalArgumentException If the input has an odd length or a non hex character.
+     */
+    public int decode(CharBuffer src, ByteBuffer dst, boolean endOfInput) {
+        if (endOfInput) {
+            checkLength(src.remaining());
+        }
+        int length = Math.min(src.remaining() / 2, dst.remaining());
+        if (dst.hasArray()) {
+            decode(src, 0, length * 2, dst.array(), dst.arrayOffset() + dst.position());
+            ((Buffer) dst).position(dst.position() + length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                char c1 = src.charAt(i * 2);
+                char c2 = src.charAt(i * 2 + 1);
+                int hi = value(c1);
+                int lo = value(c2);
+                if ((hi | lo) < 0) {
+                    throw invalid(hi < 0 ? c1 : c2);
+                }
+                dst.put(dst.position() + i, (byte) (hi << 4 | lo));
+            }
+            ((Buffer) dst).position(dst.position() + length);
+        }
+        ((Buffer) src).position(src.position() + length * 2);
+        return length;
+    }
+
+    private static int value(int c) {
+        return c < 256 ? VALUES[c] : -1;
+    }
+
+    private static int value(byte c) {
+        return VALUES[c & 0xFF];
+    }
+
+    private static int checkLength(int length) {
+        if ((length & 1) != 0) {
+            throw new IllegalArgumentException("Hex length must be even: " + length);
+        }
+        return length;
+    }
+
+    private static IllegalArgumentException invalid(int c) {
+        return new IllegalArgumentException("Invalid hex character: " + (char) c);
+    }
+
+}
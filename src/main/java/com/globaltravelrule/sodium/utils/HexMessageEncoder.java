@@ -11,15 +11,47 @@ package com.globaltravelrule.sodium.utils;
 import com.globaltravelrule.sodium.LazySodium;
 import com.globaltravelrule.sodium.interfaces.MessageEncoder;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
 public class HexMessageEncoder implements MessageEncoder {
 
+    private static final HexCodec CODEC = HexCodec.UPPER_CASE;
+
     @Override
     public String encode(byte[] cipher) {
-        return LazySodium.toHex(cipher);
+        return CODEC.encodeToString(cipher);
     }
 
     @Override
     public byte[] decode(String cipherText) {
+        // Lenient like LazySodium.toBin, so the lazy methods keep failing on
+        // text that is not hex with a SodiumException rather than an IAE.
         return LazySodium.toBin(cipherText);
     }
+
+    @Override
+    public int encodedLength(int length) {
+        return CODEC.encodedLength(length);
+    }
+
+    @Override
+    public int encode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        return CODEC.encode(src, srcOffset, length, dst, dstOffset);
+    }
+
+    @Override
+    public int decode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        return CODEC.decode(src, srcOffset, length, dst, dstOffset);
+    }
+
+    @Override
+    public int encode(ByteBuffer src, CharBuffer dst) {
+        return CODEC.encode(src, dst);
+    }
+
+    @Override
+    public int decode(CharBuffer src, ByteBuffer dst) {
+        return CODEC.decode(src, dst, true);
+    }
 }
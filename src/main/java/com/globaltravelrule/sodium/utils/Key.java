@@ -10,6 +10,7 @@ package com.globaltravelrule.sodium.utils;
 
 import com.globaltravelrule.sodium.LazySodium;
 import com.globaltravelrule.sodium.Sodium;
+import com.globaltravelrule.sodium.interfaces.Random;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -116,6 +117,17 @@ public class Key {
         return new Key(ls.randomBytesBuf(size));
     }
 
+    /**
+     * Generate a random Key with a given size from any random
+     * source, e.g. a {@link BufferedRandom}.
+     * @param random The random source.
+     * @param size The size of the key to generate.
+     * @return A new Key.
+     */
+    public static Key generate(Random random, int size) {
+        return new Key(random.randomBytesBuf(size));
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (!(obj instanceof Key)) return false;
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.utils;
+
+import com.globaltravelrule.sodium.interfaces.AEAD;
+import com.globaltravelrule.sodium.interfaces.Random;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Produces nonces without a native call per nonce.
+ * <p>
+ * {@link Random#nonce(int)} calls {@code randombytes_buf} through JNA for
+ * every nonce. The generators here touch native code only to seed
+ * themselves or, in random mode, to refill a per-thread buffer in bulk.
+ * <ul>
+ *     <li>{@link #counter(Random, int)}: a random prefix followed by a 64 bit
+ *     big-endian counter. Nonces from one generator never repeat, which makes
+ *     this the safe choice for the 96 bit IETF ChaCha20 and AES-GCM nonces.
+ *     Use a single generator per key, for as long as the key lives.
+ *     Threads increment one of {@value #STRIPES} striped counters chosen by
+ *     thread id, and the stripe number is part of the counter, so threads
+ *     never contend on the same cache line or hand out the same value.</li>
+ *     <li>{@link #random(Random, int)}: independent random nonces sliced out of
+ *     a per-thread buffer filled {@value #RANDOM_BUFFER_BYTES} bytes at a time.
+ *     Only safe where the nonce is large enough for random collisions to be
+ *     negligible, e.g. XChaCha20 or XSalsa20.</li>
+ * </ul>
+ * All generators are thread safe.
+ */
+public abstract class NonceGenerator {
+
+    /**
+     * Number of independent counters in a counter-mode generator.
+     */
+    static final int STRIPES = 16;
+
+    /**
+     * Bytes of randomness fetched per native call in random mode.
+     */
+    static final int RANDOM_BUFFER_BYTES = 4096;
+
+    private static final int COUNTER_BYTES = 8;
+
+    private final int size;
+
+    private NonceGenerator(int size) {
+        this.size = size;
+    }
+
+    /**
+     * A counter-mode generator.
+     * @param random Source of the random prefix.
+     * @param size The nonce length, at least 8 bytes.
+     * @return A counter-mode generator.
+     */
+    public static NonceGenerator counter(Random random, int size) {
+        if (size < COUNTER_BYTES) {
+            throw new IllegalArgumentException("size out of bounds");
+        }
+        return new Counter(random.randomBytesBuf(size - COUNTER_BYTES), size);
+    }
+
+    /**
+     * A counter-mode generator for the nonces of an AEAD method.
+     * @param random Source of the random prefix.
+     * @param method The AEAD method.
+     * @return A counter-mode generator.
+     */
+    public static NonceGenerator counter(Random random, AEAD.Method method) {
+        return counter(random, AEAD.nPubBytes(method));
+    }
+
+    /**
+     * A random-mode generator.
+     * @param random Source of randomness.
+     * @param size The nonce length, between 1 and {@value #RANDOM_BUFFER_BYTES} bytes.
+     * @return A random-mode generator.
+     */
+    public static NonceGenerator random(Random random, int size) {
+        if (size <= 0 || size > RANDOM_BUFFER_BYTES) {
+            throw new IllegalArgumentException("size out of bounds");
+        }
+        return new RandomPool(random, size);
+    }
+
+    /**
+     * A random-mode generator for the nonces of an AEAD method.
+     * @param random Source of randomness.
+     * @param method The AEAD method.
+     * @return A random-mode generator.
+     */
+    public static NonceGenerator random(Random random, AEAD.Method method) {
+        return random(random, AEAD.nPubBytes(method));
+    }
+
+    /**
+     * @return The length of the nonces produced.
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * @return A new nonce.
+     */
+    public final byte[] next() {
+        byte[] nonce = new byte[size];
+        nextInto(nonce, 0);
+        return nonce;
+    }
+
+    /**
+     * Write a new nonce into {@code nonce} starting at {@code offset},
+     * e.g. straight into the header of an output frame.
+     * @param nonce The destination.
+     * @param offset Where the nonce starts.
+     */
+    public final void next(byte[] nonce, int offset) {
+        if (offset < 0 || offset > nonce.length - size) {
+            throw new IllegalArgumentException("offset out of bounds");
+        }
+        nextInto(nonce, offset);
+    }
+
+    abstract void nextInto(byte[] nonce, int offset);
+
+    private static final class Counter extends NonceGenerator {
+
+        /**
+         * Longs per stripe, so that each counter sits on its own cache line.
+         */
+        private static final int PADDING = 8;
+
+        private static final int STRIPE_BITS = Integer.numberOfTrailingZeros(STRIPES);
+
+        private static final long MAX_SEQUENCE = -1L >>> STRIPE_BITS;
+
+        private final byte[] prefix;
+        private final AtomicLongArray sequences = new AtomicLongArray(STRIPES * PADDING);
+
+        Counter(byte[] prefix, int size) {
+            super(size);
+            this.prefix = prefix;
+        }
+
+        @Override
+        void nextInto(byte[] nonce, int offset) {
+            int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+            long sequence = sequences.getAndIncrement(stripe * PADDING);
+            if (sequence >= MAX_SEQUENCE) {
+                sequences.set(stripe * PADDING, MAX_SEQUENCE);
+                throw new IllegalStateException("Nonce counter exhausted, rotate the key.");
+            }
+            long counter = sequence << STRIPE_BITS | stripe;
+            System.arraycopy(prefix, 0, nonce, offset, prefix.length);
+            int end = offset + prefix.length + COUNTER_BYTES;
+            for (int i = 1; i <= COUNTER_BYTES; i++) {
+                nonce[end - i] = (byte) counter;
+                counter >>>= 8;
+            }
+        }
+
+    }
+
+    private static final class RandomPool extends NonceGenerator {
+
+        private final Random random;
+        private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+
+        RandomPool(Random random, int size) {
+            super(size);
+            this.random = random;
+        }
+
+        @Override
+        void nextInto(byte[] nonce, int offset) {
+            Buffer buffer = buffers.get();
+            if (buffer.position + size() > buffer.bytes.length) {
+                buffer.bytes = random.randomBytesBuf(RANDOM_BUFFER_BYTES);
+                buffer.position = 0;
+            }
+            System.arraycopy(buffer.bytes, buffer.position, nonce, offset, size());
+            buffer.position += size();
+        }
+
+        private static final class Buffer {
+            byte[] bytes = new byte[0];
+            int position;
+        }
+
+    }
+
+}
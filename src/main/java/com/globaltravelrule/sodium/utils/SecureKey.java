@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.utils;
+
+import com.globaltravelrule.sodium.LazySodium;
+import com.globaltravelrule.sodium.Sodium;
+import com.sun.jna.Pointer;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Key material held off the Java heap in memory from {@code sodium_malloc}.
+ * <p>
+ * Unlike {@link Key}, the bytes are never copied around or moved by the
+ * garbage collector. They sit between guard pages and are kept
+ * {@code PROT_NONE} while nobody is using them. {@link #acquire()} makes
+ * them read-only and hands out a {@link Pointer} that can be passed
+ * straight to the natives, and {@link #release()} makes them inaccessible
+ * again once the last user is done.
+ * <p>
+ * {@link #close()} zeroes and frees the memory. If a key is never closed,
+ * that happens on a daemon thread once it has been garbage collected.
+ */
+public final class SecureKey implements AutoCloseable {
+
+    private final Sodium sodium;
+    private final Pointer pointer;
+    private final int size;
+    private final Free free;
+
+    private int users;
+    private boolean closed;
+
+    private SecureKey(Sodium sodium, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size out of bounds: " + size);
+        }
+        Pointer p = sodium.sodium_malloc(size);
+        if (p == null) {
+            throw new IllegalStateException("Could not allocate " + size + " bytes of secure memory.");
+        }
+        this.sodium = sodium;
+        this.pointer = p;
+        this.size = size;
+        this.free = new Free(this, sodium, p);
+    }
+
+    /**
+     * Create a key of random bytes.
+     * @param lazySodium The bindings to allocate with.
+     * @param size The key length in bytes.
+     * @return A new key.
+     */
+    public static SecureKey random(LazySodium lazySodium, int size) {
+        SecureKey key = new SecureKey(lazySodium.getSodium(), size);
+        lazySodium.getSodium().randombytes_buf(key.pointer, size);
+        key.lock();
+        return key;
+    }
+
+    /**
+     * Copy existing key material into secure memory. The caller should wipe
+     * {@code key} afterwards, e.g. with {@code sodiumMemZero}.
+     * @param lazySodium The bindings to allocate with.
+     * @param key The key bytes.
+     * @return A new key.
+     */
+    public static SecureKey copyOf(LazySodium lazySodium, byte[] key) {
+        SecureKey secureKey = new SecureKey(lazySodium.getSodium(), key.length);
+        secureKey.pointer.write(0, key, 0, key.length);
+        secureKey.lock();
+        return secureKey;
+    }
+
+    /**
+     * Copy a heap {@link Key} into secure memory.
+     */
+    public static SecureKey copyOf(LazySodium lazySodium, Key key) {
+        return copyOf(lazySodium, key.getAsBytes());
+    }
+
+    /**
+     * @return The key length in bytes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Make the key readable and return a pointer to it. Every call must be
+     * paired with {@link #release()}, ideally in a {@code finally} block.
+     * @return A pointer to the key, valid until the matching release.
+     */
+    public synchronized Pointer acquire() {
+        if (closed) {
+            throw new IllegalStateException("SecureKey is closed.");
+        }
+        if (users++ == 0) {
+            sodium.sodium_mprotect_readonly(pointer);
+        }
+        return pointer;
+    }
+
+    /**
+     * Give up access obtained with {@link #acquire()}. The memory becomes
+     * inaccessible again when the last user releases it.
+     */
+    public synchronized void release() {
+        if (users <= 0) {
+            throw new IllegalStateException("SecureKey released more often than acquired.");
+        }
+        if (--users == 0) {
+            sodium.sodium_mprotect_noaccess(pointer);
+        }
+    }
+
+    /**
+     * Copy the key onto the heap, e.g. to persist it.
+     * The caller is responsible for wiping the copy.
+     * @return A copy of the key bytes.
+     */
+    public byte[] copyBytes() {
+        Pointer p = acquire();
+        try {
+            return p.getByteArray(0, size);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Zero and free the key.
+     * @throws IllegalStateException If it is still acquired.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        if (users > 0) {
+            throw new IllegalStateException("SecureKey is still in use.");
+        }
+        closed = true;
+        free.free();
+    }
+
+    private void lock() {
+        sodium.sodium_mprotect_noaccess(pointer);
+    }
+
+    /**
+     * Frees the memory of a key that was never closed. Holds no reference
+     * to the key itself so that it can become phantom reachable; the
+     * {@link #LIVE} set keeps the reference alive until it is freed.
+     */
+    private static final class Free extends PhantomReference<SecureKey> {
+
+        private static final ReferenceQueue<SecureKey> QUEUE = new ReferenceQueue<>();
+        private static final Set<Free> LIVE = ConcurrentHashMap.newKeySet();
+
+        static {
+            Thread reaper = new Thread(Free::reap, "SecureKey cleaner");
+            reaper.setDaemon(true);
+            reaper.start();
+        }
+
+        private final Sodium sodium;
+        private final Pointer pointer;
+
+        private Free(SecureKey key, Sodium sodium, Pointer pointer) {
+            super(key, QUEUE);
+            this.sodium = sodium;
+            this.pointer = pointer;
+            LIVE.add(this);
+        }
+
+        /**
+         * Free the memory unless that has already happened.
+         */
+        private void free() {
+            if (LIVE.remove(this)) {
+                clear();
+                // sodium_free makes the region writable again, zeroes it and unmaps it.
+                sodium.sodium_free(pointer);
+            }
+        }
+
+        private static void reap() {
+            while (true) {
+                try {
+                    ((Free) QUEUE.remove()).free();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    // Keep the thread alive for the other keys.
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.utils;
+
+import java.security.Provider;
+
+/**
+ * JCA provider exposing libsodium's generator as the {@value #SECURE_RANDOM}
+ * {@code SecureRandom} algorithm, e.g. after
+ * {@code Security.addProvider(SodiumProvider.getInstance())}:
+ * {@code SecureRandom.getInstance("Sodium")}.
+ */
+public final class SodiumProvider extends Provider {
+
+    public static final String NAME = "Sodium";
+
+    public static final String SECURE_RANDOM = "Sodium";
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SodiumProvider INSTANCE = new SodiumProvider();
+
+    @SuppressWarnings("deprecation")
+    private SodiumProvider() {
+        super(NAME, 1.0, "libsodium randombytes, buffered per thread");
+        put("SecureRandom." + SECURE_RANDOM, SodiumSecureRandomSpi.class.getName());
+        put("SecureRandom." + SECURE_RANDOM + " ThreadSafe", "true");
+    }
+
+    public static SodiumProvider getInstance() {
+        return INSTANCE;
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:38
+ */
+
+package com.globaltravelrule.sodium.utils;
+
+import com.globaltravelrule.sodium.LazySodiumJava;
+import com.globaltravelrule.sodium.SodiumJava;
+
+import java.security.SecureRandomSpi;
+
+/**
+ * {@link SecureRandomSpi} over a {@link BufferedRandom}.
+ * <p>
+ * libsodium seeds itself from the operating system, so caller supplied
+ * seeds are ignored. {@link #engineGenerateSeed(int)} bypasses the buffer.
+ * <p>
+ * The no-argument constructor, used when the SPI is looked up through
+ * {@link SodiumProvider}, shares one {@link BufferedRandom} over the
+ * default {@link SodiumJava} bindings.
+ */
+public final class SodiumSecureRandomSpi extends SecureRandomSpi {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient BufferedRandom random;
+
+    public SodiumSecureRandomSpi() {
+        this(DefaultHolder.RANDOM);
+    }
+
+    public SodiumSecureRandomSpi(BufferedRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    protected void engineSetSeed(byte[] seed) {
+        // libsodium's generator is seeded by the operating system and takes no input.
+    }
+
+    @Override
+    protected void engineNextBytes(byte[] bytes) {
+        random.nextBytes(bytes, 0, bytes.length);
+    }
+
+    @Override
+    protected byte[] engineGenerateSeed(int numBytes) {
+        return random.getLazySodium().randomBytesBuf(numBytes);
+    }
+
+    private static final class DefaultHolder {
+        static final BufferedRandom RANDOM = new BufferedRandom(new LazySodiumJava(new SodiumJava()));
+    }
+
+}
@@ -17,9 +17,13 @@ import com.globaltravelrule.sodium.utils.Key;
 import org.junit.Test;
 
 import javax.crypto.AEADBadTagException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.*;
 
 
 public class AEADTest extends BaseTest {
@@ -240,6 +244,130 @@ public class AEADTest extends BaseTest {
         }
     }
 
+    @Test
+    public void encryptXChachaDirectBuffer() {
+        Key key = lazySodium.keygen(AEAD.Method.XCHACHA20_POLY1305_IETF);
+        byte[] nPub = lazySodium.nonce(AEAD.XCHACHA20POLY1305_IETF_NPUBBYTES);
+        byte[] messageBytes = lazySodium.bytes(PASSWORD);
+
+        ByteBuffer message = ByteBuffer.allocateDirect(messageBytes.length);
+        ((Buffer) message.put(messageBytes)).flip();
+        ByteBuffer ad = ByteBuffer.allocateDirect(4);
+        ((Buffer) ad.put(new byte[]{1, 2, 3, 4})).flip();
+        ByteBuffer cipher = ByteBuffer.allocateDirect(messageBytes.length + AEAD.XCHACHA20POLY1305_IETF_ABYTES + 8);
+        ((Buffer) cipher).position(8);
+
+        assertTrue(lazySodium.cryptoAeadXChaCha20Poly1305IetfEncrypt(cipher, message, ad, null, nPub, key.getAsBytes()));
+        assertEquals(cipher.limit(), cipher.position());
+        assertFalse(message.hasRemaining());
+        assertFalse(ad.hasRemaining());
+
+        ((Buffer) cipher).position(8);
+        ((Buffer) ad).rewind();
+        ByteBuffer decrypted = ByteBuffer.allocateDirect(messageBytes.length);
+        assertTrue(lazySodium.cryptoAeadXChaCha20Poly1305IetfDecrypt(decrypted, null, cipher, ad, nPub, key.getAsBytes()));
+        assertFalse(decrypted.hasRemaining());
+
+        byte[] result = new byte[messageBytes.length];
+        ((Buffer) decrypted).flip();
+        decrypted.get(result);
+        assertArrayEquals(messageBytes, result);
+    }
+
+    @Test
+    public void encryptDirectBufferMatchesByteArray() {
+        byte[] messageBytes = lazySodium.bytes(PASSWORD);
+        for (AEAD.Method method : AEAD.Method.values()) {
+            if (method == AEAD.Method.AES256GCM && !lazySodium.cryptoAeadAES256GCMIsAvailable()) {
+                continue;
+            }
+            Key key = lazySodium.keygen(method);
+            String expected = lazySodium.encrypt(PASSWORD, null, nonceFor(method), key, method);
+
+            ByteBuffer cipher = ByteBuffer.allocateDirect(messageBytes.length + 16);
+            boolean res = encrypt(cipher, ByteBuffer.wrap(messageBytes), nonceFor(method), key.getAsBytes(), method);
+            assertTrue(res);
+
+            byte[] cipherBytes = new byte[((Buffer) cipher).flip().remaining()];
+            cipher.get(cipherBytes);
+            assertEquals(expected, encoder.encode(cipherBytes));
+        }
+    }
+
+    @Test
+    public void decryptDirectBufferMalformedCipher() {
+        Key key = lazySodium.keygen(AEAD.Method.CHACHA20_POLY1305_IETF);
+        byte[] nPub = lazySodium.nonce(AEAD.CHACHA20POLY1305_IETF_NPUBBYTES);
+        byte[] messageBytes = lazySodium.bytes(PASSWORD);
+
+        ByteBuffer cipher = ByteBuffer.allocateDirect(messageBytes.length + AEAD.CHACHA20POLY1305_IETF_ABYTES);
+        assertTrue(lazySodium.cryptoAeadChaCha20Poly1305IetfEncrypt(cipher, ByteBuffer.wrap(messageBytes), null, null, nPub, key.getAsBytes()));
+        ((Buffer) cipher).flip();
+        cipher.put(0, (byte) (cipher.get(0) ^ 0xff));
+
+        ByteBuffer decrypted = ByteBuffer.allocateDirect(messageBytes.length);
+        assertFalse(lazySodium.cryptoAeadChaCha20Poly1305IetfDecrypt(decrypted, null, cipher, null, nPub, key.getAsBytes()));
+        assertEquals(0, cipher.position());
+        assertEquals(0, decrypted.position());
+    }
+
+    @Test
+    public void encryptDirectBufferTooSmall() {
+        Key key = lazySodium.keygen(AEAD.Method.CHACHA20_POLY1305);
+        byte[] nPub = lazySodium.nonce(AEAD.CHACHA20POLY1305_NPUBBYTES);
+        byte[] messageBytes = lazySodium.bytes(PASSWORD);
+
+        ByteBuffer cipher = ByteBuffer.allocateDirect(messageBytes.length);
+        assertThrows(IllegalArgumentException.class, () ->
+                lazySodium.cryptoAeadChaCha20Poly1305Encrypt(cipher, ByteBuffer.wrap(messageBytes), null, null, nPub, key.getAsBytes()));
+    }
+
+    @Test
+    public void encryptChachaDetachedDirectBuffer() {
+        Key key = lazySodium.keygen(AEAD.Method.CHACHA20_POLY1305);
+        byte[] nPub = lazySodium.nonce(AEAD.CHACHA20POLY1305_NPUBBYTES);
+        byte[] messageBytes = lazySodium.bytes(PASSWORD);
+
+        ByteBuffer cipher = ByteBuffer.allocateDirect(messageBytes.length);
+        ByteBuffer mac = ByteBuffer.allocateDirect(AEAD.CHACHA20POLY1305_ABYTES);
+        assertTrue(lazySodium.cryptoAeadChaCha20Poly1305EncryptDetached(cipher, mac, ByteBuffer.wrap(messageBytes), null, null, nPub, key.getAsBytes()));
+        assertFalse(cipher.hasRemaining());
+        assertFalse(mac.hasRemaining());
+
+        ((Buffer) cipher).flip();
+        ((Buffer) mac).flip();
+        ByteBuffer decrypted = ByteBuffer.allocate(messageBytes.length);
+        assertTrue(lazySodium.cryptoAeadChaCha20Poly1305DecryptDetached(decrypted, null, cipher, mac, null, nPub, key.getAsBytes()));
+        assertArrayEquals(messageBytes, decrypted.array());
+    }
+
+    private byte[] nonceFor(AEAD.Method method) {
+        // Fixed nonce so that the lazy and buffer paths produce the same output.
+        switch (method) {
+            case CHACHA20_POLY1305:
+                return new byte[AEAD.CHACHA20POLY1305_NPUBBYTES];
+            case CHACHA20_POLY1305_IETF:
+                return new byte[AEAD.CHACHA20POLY1305_IETF_NPUBBYTES];
+            case XCHACHA20_POLY1305_IETF:
+                return new byte[AEAD.XCHACHA20POLY1305_IETF_NPUBBYTES];
+            default:
+                return new byte[AEAD.AES256GCM_NPUBBYTES];
+        }
+    }
+
+    private boolean encrypt(ByteBuffer cipher, ByteBuffer message, byte[] nPub, byte[] key, AEAD.Method method) {
+        switch (method) {
+            case CHACHA20_POLY1305:
+                return lazySodium.cryptoAeadChaCha20Poly1305Encrypt(cipher, message, null, null, nPub, key);
+            case CHACHA20_POLY1305_IETF:
+                return lazySodium.cryptoAeadChaCha20Poly1305IetfEncrypt(cipher, message, null, null, nPub, key);
+            case XCHACHA20_POLY1305_IETF:
+                return lazySodium.cryptoAeadXChaCha20Poly1305IetfEncrypt(cipher, message, null, null, nPub, key);
+            default:
+                return lazySodium.cryptoAeadAES256GCMEncrypt(cipher, message, null, null, nPub, key);
+        }
+    }
+
     private String malformCipher(String ciphertext) {
         byte[] malformedBuf = malformCipherBytes(ciphertext);
         return encoder.encode(malformedBuf);
@@ -252,4 +380,178 @@ public class AEADTest extends BaseTest {
         }
         return cipherBuf;
     }
+
+    @Test
+    public void encryptXChachaInPlaceWithOffsets() {
+        Key key = lazySodium.keygen(AEAD.Method.XCHACHA20_POLY1305_IETF);
+        byte[] nPub = lazySodium.nonce(AEAD.XCHACHA20POLY1305_IETF_NPUBBYTES);
+        byte[] messageBytes = lazySodium.bytes(PASSWORD);
+        byte[] ad = new byte[]{9, 9, 1, 2, 3, 9};
+
+        byte[] expected = new byte[messageBytes.length + AEAD.XCHACHA20POLY1305_IETF_ABYTES];
+        assertTrue(lazySodium.cryptoAeadXChaCha20Poly1305IetfEncrypt(expected, null, messageBytes, messageBytes.length,
+                new byte[]{1, 2, 3}, 3, null, nPub, key.getAsBytes()));
+
+        byte[] frame = new byte[5 + expected.length];
+        System.arraycopy(messageBytes, 0, frame, 5, messageBytes.length);
+        assertTrue(lazySodium.cryptoAeadXChaCha20Poly1305IetfEncrypt(frame, 5, frame, 5, messageBytes.length,
+                ad, 2, 3, null, nPub, key.getAsBytes()));
+        assertEquals(encoder.encode(expected), encoder.encode(Arrays.copyOfRange(frame, 5, frame.length)));
+
+        assertTrue(lazySodium.cryptoAeadXChaCha20Poly1305IetfDecrypt(frame, 5, null, frame, 5, expected.length,
+                ad, 2, 3, nPub, key.getAsBytes()));
+        assertArrayEquals(messageBytes, Arrays.copyOfRange(frame, 5, 5 + messageBytes.length));
+    }
+
+    @Test
+    public void decryptWithOffsetsMalformedCipher() {
+        Key key = lazySodium.keygen(AEAD.Method.CHACHA20_POLY1305);
+        byte[] nPub = lazySodium.nonce(AEAD.CHACHA20POLY1305_NPUBBYTES);
+        byte[] messageBytes = lazySodium.bytes(PASSWORD);
+
+        byte[] cipher = new byte[AEAD.CHACHA20POLY1305_ABYTES + messageBytes.length];
+        byte[] mac = new byte[AEAD.CHACHA20POLY1305_ABYTES];
+        assertTrue(lazySodium.cryptoAeadChaCha20Poly1305EncryptDetached(cipher, 0, mac, 0, messageBytes, 0, messageBytes.length,
+                null, 0, 0, null, nPub, key.getAsBytes()));
+        cipher[0] ^= 1;
+
+        byte[] decrypted = new byte[messageBytes.length];
+        assertFalse(lazySodium.cryptoAeadChaCha20Poly1305DecryptDetached(decrypted, 0, null, cipher, 0, messageBytes.length, mac, 0,
+                null, 0, 0, nPub, key.getAsBytes()));
+    }
+
+    @Test
+    public void encryptIntoReusableBuffer() throws AEADBadTagException {
+        for (AEAD.Method method : AEAD.Method.values()) {
+            if (method == AEAD.Method.AES256GCM && !lazySodium.cryptoAeadAES256GCMIsAvailable()) {
+                continue;
+            }
+            Key key = lazySodium.keygen(method);
+            byte[] nPub = nonceFor(method);
+            byte[] messageBytes = lazySodium.bytes(PASSWORD);
+            byte[] ad = lazySodium.bytes("ad");
+            byte[] out = new byte[256];
+
+            int cipherLen = lazySodium.encrypt(messageBytes, 0, messageBytes.length, ad, nPub, key, method, out, 3);
+            assertEquals(lazySodium.encrypt(PASSWORD, "ad", nPub, key, method),
+                    encoder.encode(Arrays.copyOfRange(out, 3, 3 + cipherLen)));
+
+            byte[] decrypted = new byte[64];
+            int messageLen = lazySodium.decrypt(out, 3, cipherLen, ad, nPub, key, method, decrypted, 0);
+            assertEquals(PASSWORD, lazySodium.str(Arrays.copyOf(decrypted, messageLen)));
+        }
+    }
+
+    @Test
+    public void encryptEncodedIntoReusableBuffer() throws AEADBadTagException {
+        Key key = lazySodium.keygen(AEAD.Method.XCHACHA20_POLY1305_IETF);
+        byte[] nPub = lazySodium.nonce(AEAD.XCHACHA20POLY1305_IETF_NPUBBYTES);
+        byte[] messageBytes = lazySodium.bytes(PASSWORD);
+        byte[] out = new byte[128];
+
+        int encodedLen = lazySodium.encryptEncoded(messageBytes, 0, messageBytes.length, null, nPub, key,
+                AEAD.Method.XCHACHA20_POLY1305_IETF, out, 0);
+        String expected = lazySodium.encrypt(PASSWORD, null, nPub, key, AEAD.Method.XCHACHA20_POLY1305_IETF);
+        assertEquals(expected, new String(out, 0, encodedLen, StandardCharsets.US_ASCII));
+
+        int messageLen = lazySodium.decryptEncoded(out, 0, encodedLen, null, nPub, key,
+                AEAD.Method.XCHACHA20_POLY1305_IETF, out, 0);
+        assertEquals(PASSWORD, lazySodium.str(Arrays.copyOf(out, messageLen)));
+    }
+
+    @Test
+    public void encryptIntoReusableDirectBuffer() throws AEADBadTagException {
+        Key key = lazySodium.keygen(AEAD.Method.CHACHA20_POLY1305_IETF);
+        byte[] nPub = lazySodium.nonce(AEAD.CHACHA20POLY1305_IETF_NPUBBYTES);
+        ByteBuffer message = ByteBuffer.allocateDirect(64);
+        ((Buffer) message.put(lazySodium.bytes(PASSWORD))).flip();
+        ByteBuffer cipher = ByteBuffer.allocateDirect(128);
+
+        int cipherLen = lazySodium.encrypt(message, null, nPub, key, AEAD.Method.CHACHA20_POLY1305_IETF, cipher);
+        assertEquals(PASSWORD.length() + AEAD.CHACHA20POLY1305_IETF_ABYTES, cipherLen);
+        assertEquals(cipherLen, cipher.position());
+        assertFalse(message.hasRemaining());
+
+        ((Buffer) cipher).flip();
+        ByteBuffer decrypted = ByteBuffer.allocateDirect(64);
+        assertEquals(PASSWORD.length(), lazySodium.decrypt(cipher, null, nPub, key, AEAD.Method.CHACHA20_POLY1305_IETF, decrypted));
+        ((Buffer) decrypted).flip();
+        byte[] plain = new byte[decrypted.remaining()];
+        decrypted.get(plain);
+        assertEquals(PASSWORD, lazySodium.str(plain));
+    }
+
+    @Test(expected = AEADBadTagException.class)
+    public void decryptEncodedMalformedCipher() throws AEADBadTagException {
+        Key key = lazySodium.keygen(AEAD.Method.CHACHA20_POLY1305);
+        byte[] nPub = lazySodium.nonce(AEAD.CHACHA20POLY1305_NPUBBYTES);
+        byte[] encoded = malformCipher(lazySodium.encrypt(PASSWORD, null, nPub, key, AEAD.Method.CHACHA20_POLY1305))
+                .getBytes(StandardCharsets.US_ASCII);
+        lazySodium.decryptEncoded(encoded, 0, encoded.length, null, nPub, key, AEAD.Method.CHACHA20_POLY1305,
+                new byte[encoded.length], 0);
+    }
+
+    @Test
+    public void batchMatchesSingleCalls() {
+        AEAD.Method method = AEAD.Method.XCHACHA20_POLY1305_IETF;
+        Key key = lazySodium.keygen(method);
+        byte[][] messages = {lazySodium.bytes("first"), new byte[0], lazySodium.bytes(PASSWORD)};
+        byte[][] ads = {lazySodium.bytes("a"), lazySodium.bytes("bc"), new byte[0]};
+        byte[] nonces = lazySodium.nonce(3 * AEAD.XCHACHA20POLY1305_IETF_NPUBBYTES);
+
+        int[] messageBounds = new int[4];
+        int[] adBounds = new int[4];
+        byte[] packed = new byte[64];
+        byte[] packedAd = new byte[8];
+        for (int i = 0; i < 3; i++) {
+            System.arraycopy(messages[i], 0, packed, messageBounds[i], messages[i].length);
+            messageBounds[i + 1] = messageBounds[i] + messages[i].length;
+            System.arraycopy(ads[i], 0, packedAd, adBounds[i], ads[i].length);
+            adBounds[i + 1] = adBounds[i] + ads[i].length;
+        }
+
+        byte[] out = new byte[messageBounds[3] + 3 * AEAD.XCHACHA20POLY1305_IETF_ABYTES];
+        BitSet encrypted = lazySodium.encryptBatch(packed, messageBounds, packedAd, adBounds, nonces, key, method, out);
+        assertEquals(3, encrypted.cardinality());
+
+        int[] cipherBounds = new int[4];
+        for (int i = 0; i < 3; i++) {
+            byte[] nPub = Arrays.copyOfRange(nonces, i * AEAD.XCHACHA20POLY1305_IETF_NPUBBYTES,
+                    (i + 1) * AEAD.XCHACHA20POLY1305_IETF_NPUBBYTES);
+            byte[] expected = new byte[messages[i].length + AEAD.XCHACHA20POLY1305_IETF_ABYTES];
+            assertTrue(lazySodium.cryptoAeadXChaCha20Poly1305IetfEncrypt(expected, null, messages[i], messages[i].length,
+                    ads[i], ads[i].length, null, nPub, key.getAsBytes()));
+            cipherBounds[i + 1] = cipherBounds[i] + expected.length;
+            assertArrayEquals(expected, Arrays.copyOfRange(out, cipherBounds[i], cipherBounds[i + 1]));
+        }
+
+        out[cipherBounds[2]] ^= 1;
+        byte[] decrypted = new byte[messageBounds[3]];
+        Arrays.fill(decrypted, (byte) 7);
+        BitSet verified = lazySodium.decryptBatch(out, cipherBounds, packedAd, adBounds, nonces, key, method, decrypted);
+        assertTrue(verified.get(0));
+        assertTrue(verified.get(1));
+        assertFalse(verified.get(2));
+        assertArrayEquals(Arrays.copyOf(packed, messageBounds[2]), Arrays.copyOf(decrypted, messageBounds[2]));
+        assertArrayEquals(new byte[messages[2].length], Arrays.copyOfRange(decrypted, messageBounds[2], messageBounds[3]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void batchRejectsDecreasingBounds() {
+        Key key = lazySodium.keygen(AEAD.Method.CHACHA20_POLY1305_IETF);
+        lazySodium.encryptBatch(new byte[8], new int[]{0, 6, 4}, null, null,
+                new byte[2 * AEAD.CHACHA20POLY1305_IETF_NPUBBYTES], key, AEAD.Method.CHACHA20_POLY1305_IETF, new byte[64]);
+    }
+
+    @Test
+    public void batchRejectsWrongKeySize() {
+        AEAD.Method method = AEAD.Method.CHACHA20_POLY1305_IETF;
+        Key key = Key.fromBytes(new byte[AEAD.CHACHA20POLY1305_IETF_KEYBYTES - 1]);
+        byte[] nonces = new byte[AEAD.CHACHA20POLY1305_IETF_NPUBBYTES];
+        assertThrows(IllegalArgumentException.class, () -> lazySodium.encryptBatch(new byte[4], new int[]{0, 4},
+                null, null, nonces, key, method, new byte[4 + AEAD.CHACHA20POLY1305_IETF_ABYTES]));
+        assertThrows(IllegalArgumentException.class, () -> lazySodium.decryptBatch(
+                new byte[4 + AEAD.CHACHA20POLY1305_IETF_ABYTES], new int[]{0, 4 + AEAD.CHACHA20POLY1305_IETF_ABYTES},
+                null, null, nonces, key, method, new byte[4]));
+    }
 }
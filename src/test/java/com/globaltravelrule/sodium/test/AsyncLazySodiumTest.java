@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test;
+
+import com.globaltravelrule.sodium.AsyncLazySodium;
+import com.globaltravelrule.sodium.interfaces.AEAD;
+import com.globaltravelrule.sodium.interfaces.PwHash;
+import com.globaltravelrule.sodium.interfaces.Sign;
+import com.globaltravelrule.sodium.utils.Key;
+import com.globaltravelrule.sodium.utils.KeyPair;
+import org.junit.Test;
+
+import javax.crypto.AEADBadTagException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class AsyncLazySodiumTest extends BaseTest {
+
+    @Test
+    public void hashesAndVerifiesPasswords() throws Exception {
+        AsyncLazySodium async = new AsyncLazySodium(lazySodium);
+        String hash = async.cryptoPwHashStr("password", PwHash.OPSLIMIT_MIN, PwHash.MEMLIMIT_MIN).get();
+        assertTrue(async.cryptoPwHashStrVerify(hash, "password").get());
+        assertFalse(async.cryptoPwHashStrVerify(hash, "wrong").get());
+
+        byte[] salt = lazySodium.randomBytesBuf(PwHash.SALTBYTES);
+        byte[] password = "password".getBytes();
+        byte[] key = async.cryptoPwHash(32, password, salt, PwHash.OPSLIMIT_MIN, PwHash.MEMLIMIT_MIN,
+                PwHash.Alg.PWHASH_ALG_ARGON2ID13).get();
+        byte[] expected = new byte[32];
+        assertTrue(lazySodium.cryptoPwHash(expected, 32, password, password.length, salt, PwHash.OPSLIMIT_MIN,
+                PwHash.MEMLIMIT_MIN, PwHash.Alg.PWHASH_ALG_ARGON2ID13));
+        assertArrayEquals(expected, key);
+        assertArrayEquals("password".getBytes(), password);
+
+        byte[] scrypt = async.cryptoPwHashScryptSalsa208Sha256(32, password, lazySodium.randomBytesBuf(32), 32768, 16 * 1024 * 1024).get();
+        assertEquals(32, scrypt.length);
+    }
+
+    @Test
+    public void encryptsFromACopyOfTheCallersBuffers() throws Exception {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            AsyncLazySodium async = new AsyncLazySodium(lazySodium, single);
+            CountDownLatch hold = new CountDownLatch(1);
+            single.execute(() -> awaitQuietly(hold));
+
+            Key key = lazySodium.keygen(AEAD.Method.XCHACHA20_POLY1305_IETF);
+            byte[] nonce = lazySodium.nonce(AEAD.XCHACHA20POLY1305_IETF_NPUBBYTES);
+            byte[] message = lazySodium.randomBytesBuf(100_000);
+            byte[] original = message.clone();
+            CompletableFuture<byte[]> cipher = async.encrypt(message, null, nonce, key, AEAD.Method.XCHACHA20_POLY1305_IETF);
+            // Reuse the buffer before the task had a chance to run.
+            Arrays.fill(message, (byte) 0);
+            hold.countDown();
+
+            byte[] decrypted = async.decrypt(cipher.get(), null, nonce, key, AEAD.Method.XCHACHA20_POLY1305_IETF).get();
+            assertArrayEquals(original, decrypted);
+
+            byte[] forged = cipher.get().clone();
+            forged[0] ^= 1;
+            try {
+                async.decrypt(forged, null, nonce, key, AEAD.Method.XCHACHA20_POLY1305_IETF).get();
+                fail("Expected a bad tag.");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof AEADBadTagException);
+            }
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    public void signsAndVerifiesBatches() throws Exception {
+        AsyncLazySodium async = new AsyncLazySodium(lazySodium);
+        KeyPair keyPair = lazySodium.cryptoSignKeypair();
+        byte[][] messages = {lazySodium.randomBytesBuf(10), lazySodium.randomBytesBuf(20)};
+        byte[][] signatures = new byte[2][];
+        byte[][] publicKeys = new byte[2][];
+        for (int i = 0; i < 2; i++) {
+            signatures[i] = async.cryptoSignDetached(messages[i], keyPair.getSecretKey().getAsBytes()).get();
+            assertEquals(Sign.BYTES, signatures[i].length);
+            publicKeys[i] = keyPair.getPublicKey().getAsBytes();
+        }
+        signatures[1][0] ^= 1;
+        boolean[] results = async.cryptoSignVerifyDetachedBatch(signatures, messages, publicKeys).get();
+        assertTrue(results[0]);
+        assertFalse(results[1]);
+    }
+
+    @Test
+    public void cancelledTasksDoNotRun() throws Exception {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            AtomicBoolean ran = new AtomicBoolean();
+            AsyncLazySodium async = new AsyncLazySodium(lazySodium, command -> single.execute(() -> {
+                command.run();
+                ran.set(true);
+            }));
+            CountDownLatch hold = new CountDownLatch(1);
+            single.execute(() -> awaitQuietly(hold));
+            CompletableFuture<String> future = async.cryptoPwHashStr("password", PwHash.OPSLIMIT_SENSITIVE, PwHash.MEMLIMIT_SENSITIVE);
+            assertTrue(future.cancel(true));
+            hold.countDown();
+            single.shutdown();
+            assertTrue(single.awaitTermination(5, TimeUnit.SECONDS));
+            assertTrue(ran.get());
+            assertTrue(future.isCancelled());
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    public void reportsRejectedTasks() {
+        ExecutorService closed = Executors.newSingleThreadExecutor();
+        closed.shutdown();
+        AsyncLazySodium async = new AsyncLazySodium(lazySodium, closed);
+        CompletableFuture<Boolean> future = async.cryptoPwHashStrVerify("00", "password");
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            future.join();
+            fail("Expected a rejection.");
+        } catch (Exception e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test
+    public void runsOnVirtualThreadsWhereAvailable() throws Exception {
+        ExecutorService virtual;
+        try {
+            virtual = AsyncLazySodium.virtualThreadExecutor();
+        } catch (UnsupportedOperationException e) {
+            return;
+        }
+        try {
+            AsyncLazySodium async = new AsyncLazySodium(lazySodium, virtual);
+            assertEquals(Sign.BYTES, async.cryptoSignDetached(new byte[1], lazySodium.cryptoSignKeypair().getSecretKey().getAsBytes()).get().length);
+        } finally {
+            virtual.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -13,8 +13,9 @@ import com.globaltravelrule.sodium.interfaces.Auth;
 import com.globaltravelrule.sodium.utils.Key;
 import org.junit.Test;
 
-import static org.junit.Assert.assertTrue;
-import static org.junit.Assert.fail;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
 
 public class AuthTest extends BaseTest {
 
@@ -148,4 +149,31 @@ public class AuthTest extends BaseTest {
         boolean isTrue = lazySodium.cryptoAuthHMACShaVerify(Auth.Type.SHA512256, sha, m + m2 + m3, k);
         assertTrue(isTrue);
     }
+
+    @Test
+    public void hmacSha256WithOffsets() {
+        byte[] key = new byte[Auth.HMACSHA256_KEYBYTES];
+        lazySodium.cryptoAuthHMACSha256Keygen(key);
+        byte[] frame = lazySodium.bytes("header|A simple message.|trailer");
+
+        byte[] expected = new byte[Auth.HMACSHA256_BYTES];
+        assertTrue(lazySodium.cryptoAuthHMACSha256(expected, Arrays.copyOfRange(frame, 7, 24), 17, key));
+
+        byte[] out = new byte[Auth.HMACSHA256_BYTES + 4];
+        assertTrue(lazySodium.cryptoAuthHMACSha256(out, 4, frame, 7, 17, key));
+        assertArrayEquals(expected, Arrays.copyOfRange(out, 4, out.length));
+        assertTrue(lazySodium.cryptoAuthHMACSha256Verify(out, 4, frame, 7, 17, key));
+        assertFalse(lazySodium.cryptoAuthHMACSha256Verify(out, 4, frame, 6, 17, key));
+    }
+
+    @Test
+    public void authWithOffsets() {
+        byte[] key = new byte[Auth.KEYBYTES];
+        lazySodium.cryptoAuthKeygen(key);
+        byte[] frame = lazySodium.bytes("..A simple message.");
+
+        byte[] tag = new byte[Auth.BYTES];
+        assertTrue(lazySodium.cryptoAuth(tag, 0, frame, 2, frame.length - 2, key));
+        assertTrue(lazySodium.cryptoAuthVerify(tag, 0, frame, 2, frame.length - 2, key));
+    }
 }
@@ -16,8 +16,7 @@ import com.globaltravelrule.sodium.utils.KeyPair;
 import org.junit.Before;
 import org.junit.Test;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.*;
 
 /**
  * Tests public and private key encryption.
@@ -144,4 +143,37 @@ public class BoxTest extends BaseTest {
         // Public-private key encryption complete!
         assertEquals(message, decryptedMessage);
     }
+
+    @Test
+    public void sealWithOffsets() throws SodiumException {
+        KeyPair keyPair = cryptoBoxLazy.cryptoBoxKeypair();
+        byte[] message = lazySodium.bytes("Sealed inside a larger buffer");
+
+        byte[] frame = new byte[2 + Box.SEALBYTES + message.length];
+        System.arraycopy(message, 0, frame, 2, message.length);
+        assertTrue(lazySodium.cryptoBoxSeal(frame, 2, frame, 2, message.length, keyPair.getPublicKey().getAsBytes()));
+
+        byte[] opened = new byte[message.length];
+        assertTrue(lazySodium.cryptoBoxSealOpen(opened, 0, frame, 2, Box.SEALBYTES + message.length,
+                keyPair.getPublicKey().getAsBytes(), keyPair.getSecretKey().getAsBytes()));
+        assertArrayEquals(message, opened);
+    }
+
+    @Test
+    public void easyAfterNmWithOffsets() throws SodiumException {
+        KeyPair alice = cryptoBoxLazy.cryptoBoxKeypair();
+        KeyPair bob = cryptoBoxLazy.cryptoBoxKeypair();
+        byte[] shared = new byte[Box.BEFORENMBYTES];
+        assertTrue(lazySodium.cryptoBoxBeforeNm(shared, bob.getPublicKey().getAsBytes(), alice.getSecretKey().getAsBytes()));
+        byte[] nonce = lazySodium.nonce(Box.NONCEBYTES);
+        byte[] message = lazySodium.bytes("Precomputed");
+
+        byte[] frame = new byte[Box.MACBYTES + message.length];
+        assertTrue(lazySodium.cryptoBoxEasyAfterNm(frame, 0, message, 0, message.length, nonce, shared));
+
+        byte[] opened = new byte[message.length];
+        assertTrue(lazySodium.cryptoBoxOpenEasy(opened, 0, frame, 0, frame.length, nonce,
+                alice.getPublicKey().getAsBytes(), bob.getSecretKey().getAsBytes()));
+        assertArrayEquals(message, opened);
+    }
 }
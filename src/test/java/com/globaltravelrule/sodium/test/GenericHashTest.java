@@ -13,7 +13,9 @@ import com.globaltravelrule.sodium.interfaces.GenericHash;
 import com.globaltravelrule.sodium.utils.Key;
 import org.junit.Test;
 
-import static org.junit.Assert.assertNotNull;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
 
 public class GenericHashTest extends BaseTest {
 
@@ -87,5 +89,26 @@ public class GenericHashTest extends BaseTest {
         return lazySodium.cryptoGenericHashFinal(state, hashSize);
     }
 
+    @Test
+    public void hashWithOffsets() {
+        byte[] key = new byte[GenericHash.KEYBYTES];
+        lazySodium.cryptoGenericHashKeygen(key);
+        byte[] frame = lazySodium.bytes("xxhttps://globaltravelrule.comyy");
+
+        byte[] expected = new byte[GenericHash.BYTES];
+        byte[] part = Arrays.copyOfRange(frame, 2, frame.length - 2);
+        assertTrue(lazySodium.cryptoGenericHash(expected, expected.length, part, part.length, key, key.length));
 
+        byte[] out = new byte[GenericHash.BYTES + 3];
+        assertTrue(lazySodium.cryptoGenericHash(out, 3, GenericHash.BYTES, frame, 2, part.length, key, key.length));
+        assertArrayEquals(expected, Arrays.copyOfRange(out, 3, out.length));
+
+        byte[] state = new byte[lazySodium.cryptoGenericHashStateBytes()];
+        assertTrue(lazySodium.cryptoGenericHashInit(state, key, key.length, GenericHash.BYTES));
+        assertTrue(lazySodium.cryptoGenericHashUpdate(state, frame, 2, 10));
+        assertTrue(lazySodium.cryptoGenericHashUpdate(state, frame, 12, part.length - 10));
+        byte[] streamed = new byte[GenericHash.BYTES];
+        assertTrue(lazySodium.cryptoGenericHashFinal(state, streamed, streamed.length));
+        assertArrayEquals(expected, streamed);
+    }
 }
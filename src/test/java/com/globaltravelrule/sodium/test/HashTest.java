@@ -12,6 +12,8 @@ import com.globaltravelrule.sodium.exceptions.SodiumException;
 import com.globaltravelrule.sodium.interfaces.Hash;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static org.junit.Assert.*;
 
 public class HashTest extends BaseTest {
@@ -68,4 +70,32 @@ public class HashTest extends BaseTest {
 
         assertNotNull(hash);
     }
+
+    @Test
+    public void sha256WithOffsets() {
+        byte[] message = lazySodium.bytes(MESSAGE);
+        byte[] expected = new byte[Hash.SHA256_BYTES];
+        assertTrue(lazySodium.cryptoHashSha256(expected, message, message.length));
+
+        byte[] frame = new byte[message.length + 6];
+        System.arraycopy(message, 0, frame, 3, message.length);
+        byte[] out = new byte[Hash.SHA256_BYTES + 1];
+        assertTrue(lazySodium.cryptoHashSha256(out, 1, frame, 3, message.length));
+        assertArrayEquals(expected, Arrays.copyOfRange(out, 1, out.length));
+    }
+
+    @Test
+    public void sha512UpdateWithOffsets() {
+        byte[] message = lazySodium.bytes(MESSAGE);
+        byte[] expected = new byte[Hash.SHA512_BYTES];
+        assertTrue(lazySodium.cryptoHashSha512(expected, message, message.length));
+
+        Hash.State512 state = new Hash.State512.ByReference();
+        assertTrue(lazySodium.cryptoHashSha512Init(state));
+        assertTrue(lazySodium.cryptoHashSha512Update(state, message, 0, M1.length()));
+        assertTrue(lazySodium.cryptoHashSha512Update(state, message, M1.length(), M2.length()));
+        byte[] out = new byte[Hash.SHA512_BYTES];
+        assertTrue(lazySodium.cryptoHashSha512Final(state, out));
+        assertArrayEquals(expected, out);
+    }
 }
@@ -15,15 +15,24 @@ import com.globaltravelrule.sodium.SodiumJava;
 import com.globaltravelrule.sodium.exceptions.SodiumException;
 import com.globaltravelrule.sodium.interfaces.Ristretto255;
 import com.globaltravelrule.sodium.interfaces.Ristretto255.RistrettoPoint;
+import com.globaltravelrule.sodium.interfaces.Ristretto255.RistrettoScalar;
+import com.globaltravelrule.sodium.metrics.InstrumentedSodium;
+import com.globaltravelrule.sodium.metrics.OperationMetrics;
+import com.globaltravelrule.sodium.metrics.SodiumMetrics;
 import com.globaltravelrule.sodium.utils.Base64MessageEncoder;
 import com.globaltravelrule.sodium.utils.HexMessageEncoder;
+import com.globaltravelrule.sodium.utils.LibraryLoader;
 import org.junit.Test;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.BitSet;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -610,4 +619,223 @@ public class Ristretto255Test extends BaseTest {
         assertEquals(randomPoint.toHex(), hexEncoded);
         assertEquals(Base64.getEncoder().encodeToString(randomPoint.toBytes()), base64Encoded);
     }
+
+    @Test
+    public void ristrettoScalarMatchesBigIntegerArithmetic() throws Exception {
+        BigInteger a = lazySodium.cryptoCoreRistretto255ScalarRandom();
+        BigInteger b = lazySodium.cryptoCoreRistretto255ScalarRandom();
+        RistrettoScalar x = RistrettoScalar.fromBigInteger(lazySodium, a);
+        RistrettoScalar y = RistrettoScalar.fromBigInteger(lazySodium, b);
+
+        BigInteger expected = a.add(b).multiply(b).subtract(a).negate().mod(Ristretto255.RISTRETTO255_L);
+        assertEquals(expected, x.copy().add(y).mul(y).sub(x).negate().toBigInteger());
+
+        BigInteger complement = BigInteger.ONE.subtract(a).mod(Ristretto255.RISTRETTO255_L);
+        assertEquals(complement, x.copy().complement().toBigInteger());
+
+        assertEquals(RistrettoScalar.one(lazySodium), x.copy().invert().mul(x));
+        assertEquals(a, x.toBigInteger());
+        assertArrayEquals(Ristretto255.scalarToBytes(a), x.toBytes());
+    }
+
+    @Test
+    public void ristrettoScalarHandlesAliasing() {
+        RistrettoScalar x = RistrettoScalar.random(lazySodium);
+        BigInteger a = x.toBigInteger();
+        assertEquals(a.shiftLeft(1).mod(Ristretto255.RISTRETTO255_L), x.add(x).toBigInteger());
+        assertEquals(RistrettoScalar.zero(lazySodium), x.sub(x));
+    }
+
+    @Test
+    public void ristrettoScalarMultipliesPoints() throws Exception {
+        BigInteger a = lazySodium.cryptoCoreRistretto255ScalarRandom();
+        RistrettoScalar x = RistrettoScalar.fromBigInteger(lazySodium, a);
+        assertEquals(lazySodium.cryptoScalarmultRistretto255Base(a), x.timesBase());
+
+        RistrettoPoint p = RistrettoPoint.random(lazySodium);
+        assertEquals(p.times(a), p.times(x));
+    }
+
+    @Test
+    public void ristrettoScalarRejectsBadInput() {
+        try {
+            RistrettoScalar.zero(lazySodium).invert();
+            fail("Zero must not be invertible");
+        } catch (SodiumException e) {
+            // expected
+        }
+        assertThrows(IllegalArgumentException.class, () -> RistrettoScalar.fromBytes(lazySodium, new byte[31]));
+        byte[] l = Ristretto255.scalarToBytes(Ristretto255.RISTRETTO255_L);
+        assertThrows(IllegalArgumentException.class, () -> RistrettoScalar.fromBytes(lazySodium, l));
+        byte[] ones = new byte[Ristretto255.RISTRETTO255_SCALAR_BYTES];
+        Arrays.fill(ones, (byte) 0xff);
+        assertThrows(IllegalArgumentException.class, () -> RistrettoScalar.fromBytes(lazySodium, ones));
+        byte[] max = Ristretto255.scalarToBytes(Ristretto255.RISTRETTO255_L.subtract(BigInteger.ONE));
+        assertEquals(Ristretto255.RISTRETTO255_L.subtract(BigInteger.ONE),
+                RistrettoScalar.fromBytes(lazySodium, max).toBigInteger());
+        assertThrows(IllegalArgumentException.class,
+                () -> RistrettoScalar.fromBigInteger(lazySodium, Ristretto255.RISTRETTO255_L));
+        assertThrows(IllegalArgumentException.class, () -> RistrettoScalar.reduce(lazySodium, new byte[32]));
+
+        byte[] wide = new byte[Ristretto255.RISTRETTO255_NON_REDUCED_SCALAR_BYTES];
+        wide[0] = 5;
+        assertEquals(BigInteger.valueOf(5), RistrettoScalar.reduce(lazySodium, wide).toBigInteger());
+
+        RistrettoScalar secret = RistrettoScalar.random(lazySodium);
+        assertFalse(secret.toString().contains(lazySodium.toHexStr(secret.toBytes())));
+        secret.wipe();
+        assertEquals(RistrettoScalar.zero(lazySodium), secret);
+    }
+
+    @Test
+    public void arithmeticResultsAreNotRevalidated() throws Exception {
+        SodiumMetrics metrics = new SodiumMetrics();
+        LazySodium counted = new LazySodiumJava(new InstrumentedSodium(LibraryLoader.Mode.PREFER_BUNDLED, metrics));
+
+        RistrettoPoint p = RistrettoPoint.random(counted);
+        RistrettoPoint q = RistrettoPoint.hashToPoint(counted, "trusted".getBytes(StandardCharsets.UTF_8));
+        RistrettoPoint r = p.plus(q).minus(p).times(BigInteger.valueOf(3)).plus(RistrettoPoint.base(counted));
+        RistrettoPoint.zero(counted);
+        assertTrue(r.isValid());
+        assertNull(metrics.get("crypto_core_ristretto255_is_valid_point"));
+
+        RistrettoPoint parsed = RistrettoPoint.fromBytes(counted, r.toBytes());
+        assertEquals(r, parsed);
+        assertTrue(parsed.isValid());
+        OperationMetrics validations = metrics.get("crypto_core_ristretto255_is_valid_point");
+        assertEquals(1, validations.getCalls());
+    }
+
+    @Test
+    public void uncheckedPointsAreValidatedOnce() throws Exception {
+        SodiumMetrics metrics = new SodiumMetrics();
+        LazySodium counted = new LazySodiumJava(new InstrumentedSodium(LibraryLoader.Mode.PREFER_BUNDLED, metrics));
+
+        RistrettoPoint good = RistrettoPoint.fromBytesUnchecked(counted, RistrettoPoint.random(lazySodium).toBytes());
+        assertNull(metrics.get("crypto_core_ristretto255_is_valid_point"));
+        assertTrue(good.isValid());
+        assertTrue(good.isValid());
+        assertEquals(1, metrics.get("crypto_core_ristretto255_is_valid_point").getCalls());
+
+        RistrettoPoint bad = RistrettoPoint.fromBytesUnchecked(
+            counted, LazySodium.toBin("0100000000000000000000000000000000000000000000000000000000000000"));
+        assertFalse(bad.isValid());
+        assertFalse(bad.isValid());
+        assertEquals(2, metrics.get("crypto_core_ristretto255_is_valid_point").getCalls());
+        assertThrows(SodiumException.class, () -> bad.plus(good));
+        assertThrows(SodiumException.class, () -> bad.times(BigInteger.ONE));
+        assertThrows(IllegalArgumentException.class, () -> RistrettoPoint.fromBytesUnchecked(counted, new byte[31]));
+    }
+
+    @Test
+    public void onlyLibraryResultsAreTrusted() {
+        byte[] invalid = LazySodium.toBin("0100000000000000000000000000000000000000000000000000000000000000");
+        assertFalse(RistrettoPoint.fromNativeResult(lazySodium, invalid, new Object()).isValid());
+        assertFalse(RistrettoPoint.fromNativeResult(lazySodium, invalid, null).isValid());
+        assertFalse(lazySodium.isNativeResultToken(new Object()));
+    }
+
+    @Test
+    public void scalarMultManyMatchesSingleProducts() throws Exception {
+        int count = 9;
+        byte[] points = new byte[count * Ristretto255.RISTRETTO255_BYTES];
+        byte[] scalars = new byte[count * Ristretto255.RISTRETTO255_SCALAR_BYTES];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(RistrettoPoint.random(lazySodium).toBytes(), 0, points, i * 32, 32);
+            System.arraycopy(Ristretto255.scalarToBytes(lazySodium.cryptoCoreRistretto255ScalarRandom()), 0, scalars, i * 32, 32);
+        }
+        // An invalid point and a zero scalar both fail without affecting their neighbours.
+        System.arraycopy(LazySodium.toBin("0100000000000000000000000000000000000000000000000000000000000000"), 0, points, 2 * 32, 32);
+        Arrays.fill(scalars, 5 * 32, 6 * 32, (byte) 0);
+
+        byte[] results = new byte[points.length];
+        BitSet ok = lazySodium.cryptoScalarmultRistretto255Many(results, scalars, points, count);
+        assertEquals(count - 2, ok.cardinality());
+        assertFalse(ok.get(2));
+        assertFalse(ok.get(5));
+        for (int i = 0; i < count; i++) {
+            byte[] actual = Arrays.copyOfRange(results, i * 32, i * 32 + 32);
+            if (!ok.get(i)) {
+                assertArrayEquals(new byte[32], actual);
+                continue;
+            }
+            RistrettoPoint p = RistrettoPoint.fromBytes(lazySodium, Arrays.copyOfRange(points, i * 32, i * 32 + 32));
+            assertArrayEquals(lazySodium.cryptoScalarmultRistretto255(Arrays.copyOfRange(scalars, i * 32, i * 32 + 32), p).toBytes(), actual);
+        }
+
+        byte[] blind = Ristretto255.scalarToBytes(BigInteger.valueOf(7));
+        ok = lazySodium.cryptoScalarmultRistretto255Many(results, blind, points, count);
+        assertEquals(count - 1, ok.cardinality());
+        RistrettoPoint first = RistrettoPoint.fromBytes(lazySodium, Arrays.copyOf(points, 32));
+        assertArrayEquals(first.times(BigInteger.valueOf(7)).toBytes(), Arrays.copyOf(results, 32));
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> lazySodium.cryptoScalarmultRistretto255Many(new byte[32], blind, points, count));
+        assertThrows(IllegalArgumentException.class,
+                     () -> lazySodium.cryptoScalarmultRistretto255Many(results, new byte[64], points, count));
+    }
+
+    @Test
+    public void addManyAndFromHashMany() throws Exception {
+        int count = 5;
+        byte[] hashes = lazySodium.randomBytesBuf(count * Ristretto255.RISTRETTO255_HASH_BYTES);
+        byte[] p = new byte[count * Ristretto255.RISTRETTO255_BYTES];
+        assertEquals(count, lazySodium.cryptoCoreRistretto255FromHashMany(p, hashes, count).cardinality());
+
+        byte[] q = new byte[p.length];
+        byte[] sums = new byte[p.length];
+        for (int i = 0; i < count; i++) {
+            byte[] hash = Arrays.copyOfRange(hashes, i * 64, i * 64 + 64);
+            assertArrayEquals(lazySodium.cryptoCoreRistretto255FromHash(hash).toBytes(),
+                              Arrays.copyOfRange(p, i * 32, i * 32 + 32));
+            System.arraycopy(RistrettoPoint.random(lazySodium).toBytes(), 0, q, i * 32, 32);
+        }
+        Arrays.fill(q, 32, 64, (byte) 0xff);
+
+        BitSet ok = lazySodium.cryptoCoreRistretto255AddMany(sums, p, q, count);
+        assertEquals(count - 1, ok.cardinality());
+        assertFalse(ok.get(1));
+        assertArrayEquals(new byte[32], Arrays.copyOfRange(sums, 32, 64));
+        RistrettoPoint p0 = RistrettoPoint.fromBytes(lazySodium, Arrays.copyOf(p, 32));
+        RistrettoPoint q0 = RistrettoPoint.fromBytes(lazySodium, Arrays.copyOf(q, 32));
+        assertArrayEquals(p0.plus(q0).toBytes(), Arrays.copyOf(sums, 32));
+    }
+
+    @Test
+    public void multiScalarMultiplication() throws Exception {
+        int count = 23;
+        byte[] points = new byte[count * Ristretto255.RISTRETTO255_BYTES];
+        byte[] scalars = new byte[count * Ristretto255.RISTRETTO255_SCALAR_BYTES];
+        RistrettoPoint expected = RistrettoPoint.zero(lazySodium);
+        for (int i = 0; i < count; i++) {
+            RistrettoPoint p = RistrettoPoint.random(lazySodium);
+            BigInteger n = i == 4 ? BigInteger.ZERO : lazySodium.cryptoCoreRistretto255ScalarRandom();
+            System.arraycopy(p.toBytes(), 0, points, i * 32, 32);
+            System.arraycopy(Ristretto255.scalarToBytes(n), 0, scalars, i * 32, 32);
+            if (n.signum() != 0) {
+                expected = expected.plus(p.times(n));
+            }
+        }
+
+        assertEquals(expected, lazySodium.cryptoScalarmultRistretto255Multi(scalars, points, count));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertEquals(expected, lazySodium.cryptoScalarmultRistretto255Multi(scalars, points, count, executor, 4));
+            assertEquals(expected, lazySodium.cryptoScalarmultRistretto255Multi(scalars, points, count, executor, count));
+
+            Arrays.fill(points, 17 * 32, 18 * 32, (byte) 0xff);
+            try {
+                lazySodium.cryptoScalarmultRistretto255Multi(scalars, points, count, executor, 4);
+                fail("An invalid point must be reported");
+            } catch (SodiumException e) {
+                assertTrue(e.getMessage().contains("17"));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(RistrettoPoint.zero(lazySodium), lazySodium.cryptoScalarmultRistretto255Multi(scalars, points, 0));
+        assertThrows(IllegalArgumentException.class,
+                     () -> lazySodium.cryptoScalarmultRistretto255Multi(scalars, points, count + 1));
+    }
 }
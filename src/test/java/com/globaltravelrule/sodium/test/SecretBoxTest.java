@@ -14,7 +14,14 @@ import com.globaltravelrule.sodium.utils.Key;
 import org.junit.Before;
 import org.junit.Test;
 
-import static org.junit.Assert.assertEquals;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
 
 public class SecretBoxTest extends BaseTest {
 
@@ -42,4 +49,84 @@ public class SecretBoxTest extends BaseTest {
         assertEquals(message, decrypted);
     }
 
+    @Test
+    public void encryptInPlaceInsideFrame() {
+        byte[] key = new byte[SecretBox.KEYBYTES];
+        lazySodium.cryptoSecretBoxKeygen(key);
+        byte[] nonce = lazySodium.nonce(SecretBox.NONCEBYTES);
+        byte[] message = lazySodium.bytes("This is a super secret message.");
+
+        // 4 byte header, cipher text, 3 trailing bytes.
+        byte[] frame = new byte[4 + SecretBox.MACBYTES + message.length + 3];
+        System.arraycopy(message, 0, frame, 4, message.length);
+        assertTrue(lazySodium.cryptoSecretBoxEasy(frame, 4, frame, 4, message.length, nonce, key));
+
+        byte[] expected = new byte[SecretBox.MACBYTES + message.length];
+        assertTrue(lazySodium.cryptoSecretBoxEasy(expected, message, message.length, nonce, key));
+        assertArrayEquals(expected, Arrays.copyOfRange(frame, 4, 4 + expected.length));
+
+        assertTrue(lazySodium.cryptoSecretBoxOpenEasy(frame, 4, frame, 4, expected.length, nonce, key));
+        assertArrayEquals(message, Arrays.copyOfRange(frame, 4, 4 + message.length));
+    }
+
+    @Test
+    public void detachedWithOffsets() {
+        byte[] key = new byte[SecretBox.KEYBYTES];
+        lazySodium.cryptoSecretBoxKeygen(key);
+        byte[] nonce = lazySodium.nonce(SecretBox.NONCEBYTES);
+        byte[] message = lazySodium.bytes("This is a super secret message.");
+
+        byte[] frame = new byte[SecretBox.MACBYTES + message.length];
+        assertTrue(lazySodium.cryptoSecretBoxDetached(frame, SecretBox.MACBYTES, frame, 0, message, 0, message.length, nonce, key));
+
+        byte[] decrypted = new byte[message.length + 8];
+        assertTrue(lazySodium.cryptoSecretBoxOpenDetached(decrypted, 8, frame, SecretBox.MACBYTES, message.length, frame, 0, nonce, key));
+        assertArrayEquals(message, Arrays.copyOfRange(decrypted, 8, decrypted.length));
+
+        frame[0] ^= 1;
+        assertFalse(lazySodium.cryptoSecretBoxOpenDetached(decrypted, 8, frame, SecretBox.MACBYTES, message.length, frame, 0, nonce, key));
+    }
+
+    @Test
+    public void sliceOutOfBounds() {
+        byte[] key = new byte[SecretBox.KEYBYTES];
+        byte[] nonce = new byte[SecretBox.NONCEBYTES];
+        byte[] frame = new byte[32];
+        assertThrows(IllegalArgumentException.class,
+                () -> lazySodium.cryptoSecretBoxEasy(frame, 0, frame, 8, 20, nonce, key));
+        assertThrows(IllegalArgumentException.class,
+                () -> lazySodium.cryptoSecretBoxOpenEasy(frame, 0, frame, 0, SecretBox.MACBYTES - 1, nonce, key));
+    }
+
+    @Test
+    public void lazyMatchesNativeAcrossThreads() throws Exception {
+        Key key = lazySodium.cryptoSecretBoxKeygen();
+        byte[] nonce = lazySodium.nonce(SecretBox.NONCEBYTES);
+        String message = "staged in a per-thread scratch block";
+        byte[] messageBytes = lazySodium.bytes(message);
+        byte[] expected = new byte[messageBytes.length + SecretBox.MACBYTES];
+        assertTrue(lazySodium.cryptoSecretBoxEasy(expected, messageBytes, messageBytes.length, nonce, key.getAsBytes()));
+        String expectedHex = lazySodium.toHexStr(expected);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 50; j++) {
+                        String cipher = secretBoxLazy.cryptoSecretBoxEasy(message, nonce, key);
+                        if (!expectedHex.equals(cipher) || !message.equals(secretBoxLazy.cryptoSecretBoxOpenEasy(cipher, nonce, key))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -17,6 +17,10 @@ import com.globaltravelrule.sodium.utils.KeyPair;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.junit.Assert.*;
 
 public class SignTest extends BaseTest {
@@ -155,4 +159,66 @@ public class SignTest extends BaseTest {
         assertTrue("cryptoSignFinalVerify did not work", verified);
     }
 
+    @Test
+    public void signDetachedWithOffsets() throws SodiumException {
+        KeyPair keyPair = cryptoSignLazy.cryptoSignKeypair();
+        byte[] sk = keyPair.getSecretKey().getAsBytes();
+        byte[] pk = keyPair.getPublicKey().getAsBytes();
+        byte[] message = lazySodium.bytes("Sign only the middle of this");
+
+        byte[] expected = new byte[Sign.BYTES];
+        assertTrue(lazySodium.cryptoSignDetached(expected, Arrays.copyOfRange(message, 5, 16), 11, sk));
+
+        byte[] frame = new byte[Sign.BYTES + 1];
+        assertTrue(lazySodium.cryptoSignDetached(frame, 1, message, 5, 11, sk));
+        assertArrayEquals(expected, Arrays.copyOfRange(frame, 1, frame.length));
+
+        assertTrue(lazySodium.cryptoSignVerifyDetached(frame, 1, message, 5, 11, pk));
+        assertFalse(lazySodium.cryptoSignVerifyDetached(frame, 1, message, 5, 12, pk));
+    }
+
+    @Test
+    public void signCombinedWithOffsets() throws SodiumException {
+        KeyPair keyPair = cryptoSignLazy.cryptoSignKeypair();
+        byte[] message = lazySodium.bytes("Combined");
+
+        byte[] signed = new byte[Sign.BYTES + message.length];
+        assertTrue(lazySodium.cryptoSign(signed, 0, message, 0, message.length, keyPair.getSecretKey().getAsBytes()));
+
+        byte[] opened = new byte[message.length + 2];
+        assertTrue(lazySodium.cryptoSignOpen(opened, 2, signed, 0, signed.length, keyPair.getPublicKey().getAsBytes()));
+        assertArrayEquals(message, Arrays.copyOfRange(opened, 2, opened.length));
+    }
+
+    @Test
+    public void verifyDetachedBatch() throws SodiumException {
+        int count = 37;
+        byte[][] signatures = new byte[count][];
+        byte[][] messages = new byte[count][];
+        byte[][] publicKeys = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            KeyPair keyPair = lazySodium.cryptoSignKeypair();
+            messages[i] = lazySodium.bytes("message " + i);
+            signatures[i] = new byte[Sign.BYTES];
+            assertTrue(lazySodium.cryptoSignDetached(signatures[i], messages[i], messages[i].length,
+                    keyPair.getSecretKey().getAsBytes()));
+            publicKeys[i] = keyPair.getPublicKey().getAsBytes();
+        }
+        signatures[3][0] ^= 1;
+        messages[20] = lazySodium.bytes("tampered");
+        publicKeys[30] = new byte[5];
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            boolean[] results = lazySodium.cryptoSignVerifyDetachedBatch(signatures, messages, publicKeys, executor, 4);
+            boolean[] common = lazySodium.cryptoSignVerifyDetachedBatch(signatures, messages, publicKeys);
+            for (int i = 0; i < count; i++) {
+                boolean expected = i != 3 && i != 20 && i != 30;
+                assertEquals("item " + i, expected, results[i]);
+                assertEquals("item " + i, expected, common[i]);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
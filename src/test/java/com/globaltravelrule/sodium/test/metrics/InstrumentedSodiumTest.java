@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test.metrics;
+
+import com.globaltravelrule.sodium.LazySodiumJava;
+import com.globaltravelrule.sodium.Sodium;
+import com.globaltravelrule.sodium.SodiumJava;
+import com.globaltravelrule.sodium.interfaces.GenericHash;
+import com.globaltravelrule.sodium.interfaces.SecretBox;
+import com.globaltravelrule.sodium.metrics.InstrumentedSodium;
+import com.globaltravelrule.sodium.metrics.LatencyHistogram;
+import com.globaltravelrule.sodium.metrics.OperationMetrics;
+import com.globaltravelrule.sodium.metrics.SodiumMetrics;
+import com.globaltravelrule.sodium.test.BaseTest;
+import com.globaltravelrule.sodium.utils.GenericHashState;
+import com.globaltravelrule.sodium.utils.LibraryLoader;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+public class InstrumentedSodiumTest extends BaseTest {
+
+    private SodiumMetrics metrics;
+    private LazySodiumJava instrumented;
+
+    @Before
+    public void setUp() {
+        metrics = new SodiumMetrics();
+        instrumented = new LazySodiumJava(new InstrumentedSodium(LibraryLoader.Mode.BUNDLED_ONLY, metrics));
+    }
+
+    @Test
+    public void countsCallsBytesAndBadTags() {
+        byte[] key = instrumented.randomBytesBuf(SecretBox.KEYBYTES);
+        byte[] nonce = instrumented.randomBytesBuf(SecretBox.NONCEBYTES);
+        byte[] message = instrumented.randomBytesBuf(100);
+        byte[] cipher = new byte[message.length + SecretBox.MACBYTES];
+        byte[] opened = new byte[message.length];
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(instrumented.cryptoSecretBoxEasy(cipher, message, message.length, nonce, key));
+        }
+        assertTrue(instrumented.cryptoSecretBoxOpenEasy(opened, cipher, cipher.length, nonce, key));
+        cipher[0] ^= 1;
+        assertFalse(instrumented.cryptoSecretBoxOpenEasy(opened, cipher, cipher.length, nonce, key));
+
+        OperationMetrics easy = metrics.get("crypto_secretbox_easy");
+        assertEquals(3, easy.getCalls());
+        assertEquals(0, easy.getFailures());
+        assertEquals(300, easy.getBytes());
+        assertTrue(easy.getMaxNanos() > 0);
+
+        OperationMetrics open = metrics.get("crypto_secretbox_open_easy");
+        assertEquals(2, open.getCalls());
+        assertEquals(1, open.getFailures());
+        assertEquals(2L * cipher.length, open.getBytes());
+    }
+
+    @Test
+    public void countsInvalidPoints() {
+        byte[] point = new byte[32];
+        instrumented.getSodium().crypto_core_ristretto255_from_hash(point, instrumented.randomBytesBuf(64));
+        assertTrue(instrumented.cryptoCoreRistretto255IsValidPoint(point));
+        point[31] = (byte) 0xff;
+        assertFalse(instrumented.cryptoCoreRistretto255IsValidPoint(point));
+
+        OperationMetrics valid = metrics.get("crypto_core_ristretto255_is_valid_point");
+        assertEquals(2, valid.getCalls());
+        assertEquals(1, valid.getFailures());
+        assertEquals(1, metrics.get("crypto_core_ristretto255_from_hash").getCalls());
+    }
+
+    @Test
+    public void countsBatchRistrettoCalls() {
+        byte[] hashes = instrumented.randomBytesBuf(3 * 64);
+        byte[] points = new byte[3 * 32];
+        byte[] scalars = new byte[3 * 32];
+        byte[] results = new byte[3 * 32];
+        byte[] scalar = new byte[32];
+        for (int i = 0; i < 3; i++) {
+            lazySodium.cryptoCoreRistretto255ScalarRandom(scalar);
+            System.arraycopy(scalar, 0, scalars, i * 32, 32);
+        }
+
+        assertEquals(3, instrumented.cryptoCoreRistretto255FromHashMany(points, hashes, 3).cardinality());
+        assertEquals(3, instrumented.cryptoCoreRistretto255AddMany(results, points, points, 3).cardinality());
+        assertEquals(3, instrumented.cryptoScalarmultRistretto255Many(results, scalars, points, 3).cardinality());
+
+        assertEquals(3, metrics.get("crypto_core_ristretto255_from_hash").getCalls());
+        assertEquals(3, metrics.get("crypto_core_ristretto255_add").getCalls());
+        assertTrue(metrics.get("crypto_scalarmult_ristretto255").getCalls() >= 3);
+    }
+
+    @Test
+    public void overridesEveryNativeInTheCoveredFamilies() {
+        Pattern covered = Pattern.compile("crypto_(aead|secretbox|box|sign|secretstream|generichash|shorthash"
+                + "|hash|auth|pwhash|core_ristretto255|scalarmult_ristretto255)(_.*)?");
+        List<String> missing = new ArrayList<>();
+        for (Class<?> type : new Class<?>[]{Sodium.class, SodiumJava.class}) {
+            for (Method method : type.getDeclaredMethods()) {
+                // Natives without parameters only return libsodium constants.
+                if (!Modifier.isNative(method.getModifiers()) || method.getParameterCount() == 0
+                        || !covered.matcher(method.getName()).matches()) {
+                    continue;
+                }
+                try {
+                    InstrumentedSodium.class.getDeclaredMethod(method.getName(), method.getParameterTypes());
+                } catch (NoSuchMethodException e) {
+                    missing.add(method.toString());
+                }
+            }
+        }
+        assertEquals(Collections.emptyList(), missing);
+    }
+
+    @Test
+    public void countsStreamingHashUpdates() {
+        try (GenericHashState state = new GenericHashState(instrumented, GenericHash.BYTES)) {
+            state.update(new byte[100]).update(ByteBuffer.allocateDirect(50)).finish();
+        }
+
+        OperationMetrics update = metrics.get("crypto_generichash_update");
+        assertEquals(2, update.getCalls());
+        assertEquals(150, update.getBytes());
+        assertEquals(1, metrics.get("crypto_generichash_final").getCalls());
+    }
+
+    @Test
+    public void plainSodiumIsNotInstrumented() {
+        lazySodium.cryptoSecretBoxKeygen();
+        assertNull(metrics.get("crypto_secretbox_easy"));
+        assertTrue(metrics.getOperations().isEmpty());
+    }
+
+    @Test
+    public void publishesOperationsOverJmx() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = SodiumMetrics.objectName("crypto_shorthash");
+        metrics.registerMBeans();
+        try {
+            byte[] out = new byte[8];
+            instrumented.getSodium().crypto_shorthash(out, new byte[10], 10, new byte[16]);
+            assertTrue(server.isRegistered(name));
+            assertEquals(1L, server.getAttribute(name, "Calls"));
+            assertEquals(10L, server.getAttribute(name, "Bytes"));
+        } finally {
+            metrics.unregisterMBeans();
+        }
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void histogramPercentilesAreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 10_000; v++) {
+            histogram.record(v);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000, histogram.getMax());
+        assertEquals(5000.5, histogram.getMean(), 1e-9);
+        assertEquals(5000, histogram.getValueAtPercentile(50), 5000 * 0.07);
+        assertEquals(9900, histogram.getValueAtPercentile(99), 9900 * 0.07);
+        assertEquals(10_000, histogram.getValueAtPercentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+}
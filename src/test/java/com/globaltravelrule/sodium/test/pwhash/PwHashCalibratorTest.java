@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test.pwhash;
+
+import com.globaltravelrule.sodium.LazySodiumJava;
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.PwHash;
+import com.globaltravelrule.sodium.pwhash.PwHashCalibrator;
+import com.globaltravelrule.sodium.test.BaseTest;
+import com.sun.jna.NativeLong;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class PwHashCalibratorTest extends BaseTest {
+
+    private static final long MIB = 1024 * 1024;
+
+    @Test
+    public void findsParametersWithinTargetAndBudget() throws SodiumException {
+        PwHashCalibrator.Profile profile = new PwHashCalibrator(lazySodium).calibrate(300, 2, 32 * MIB);
+        assertEquals(PwHash.Alg.PWHASH_ALG_ARGON2ID13, profile.getAlg());
+        assertTrue(profile.getMemLimit().longValue() >= PwHashCalibrator.MIN_MEMLIMIT);
+        assertTrue(profile.getMemLimit().longValue() <= 16 * MIB);
+        assertTrue(profile.getOpsLimit() >= PwHash.OPSLIMIT_MIN);
+        assertTrue(profile.getOpsLimit() <= PwHashCalibrator.MAX_OPSLIMIT);
+        assertTrue(profile.getNanos() <= TimeUnit.MILLISECONDS.toNanos(300));
+        assertEquals(2, profile.getConcurrency());
+    }
+
+    @Test
+    public void rehashFollowsTheProfile() throws SodiumException {
+        PwHashCalibrator.Profile profile = new PwHashCalibrator.Profile(PwHash.Alg.PWHASH_ALG_ARGON2ID13, 2, 8 * MIB, 0, 1);
+        String current = lazySodium.cryptoPwHashStr("password", 2, new NativeLong(8 * MIB));
+        String weaker = lazySodium.cryptoPwHashStr("password", 1, new NativeLong(8 * MIB));
+        assertFalse(profile.needsRehash(lazySodium, current));
+        assertTrue(profile.needsRehash(lazySodium, weaker));
+        assertTrue(profile.needsRehash(lazySodium, new byte[]{'$', 'x'}));
+    }
+
+    @Test
+    public void stopsGrowingMemoryWhenHashingFails() throws SodiumException {
+        LazySodiumJava failsAbove16Mib = new LazySodiumJava(lazySodium.getSodium()) {
+            @Override
+            public boolean cryptoPwHash(byte[] outputHash, int outputHashLen, byte[] password, int passwordLen,
+                                        byte[] salt, long opsLimit, NativeLong memLimit, PwHash.Alg alg) {
+                return memLimit.longValue() <= 16 * MIB
+                        && super.cryptoPwHash(outputHash, outputHashLen, password, passwordLen, salt, opsLimit, memLimit, alg);
+            }
+        };
+        PwHashCalibrator.Profile profile = new PwHashCalibrator(failsAbove16Mib).calibrate(5000, 1, 64 * MIB);
+        assertEquals(16 * MIB, profile.getMemLimit().longValue());
+    }
+
+    @Test
+    public void failsWhenNothingFits() {
+        PwHashCalibrator calibrator = new PwHashCalibrator(lazySodium);
+        assertThrows(SodiumException.class, () -> calibrator.calibrate(1, 4, 64 * MIB));
+        assertThrows(IllegalArgumentException.class, () -> calibrator.calibrate(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> calibrator.calibrate(100, 4, 16 * MIB));
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test.pwhash;
+
+import com.globaltravelrule.sodium.interfaces.PwHash;
+import com.globaltravelrule.sodium.pwhash.PwHashExecutor;
+import com.globaltravelrule.sodium.test.BaseTest;
+import com.sun.jna.NativeLong;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class PwHashExecutorTest extends BaseTest {
+
+    private static final NativeLong SMALL = new NativeLong(1024 * 1024);
+    private static final NativeLong SLOW = new NativeLong(64 * 1024 * 1024);
+
+    @Test
+    public void hashesAndVerifies() throws Exception {
+        try (PwHashExecutor executor = new PwHashExecutor(lazySodium, 2, 8 * 1024 * 1024)) {
+            String hash = executor.hashStr("password", PwHash.OPSLIMIT_MIN, SMALL).get();
+            assertTrue(executor.verify(hash, "password").get());
+            assertFalse(executor.verify(hash, "wrong").get());
+
+            byte[] salt = lazySodium.randomBytesBuf(PwHash.SALTBYTES);
+            byte[] key = executor.hash(32, "password".getBytes(), salt, PwHash.OPSLIMIT_MIN, SMALL, PwHash.Alg.PWHASH_ALG_ARGON2ID13).get();
+            assertEquals(32, key.length);
+
+            assertEquals(4, executor.getCompleted());
+            assertEquals(0, executor.getRejected());
+            assertEquals(0, executor.getMemoryInUse());
+            assertEquals(4, executor.getWaitTimes().getCount());
+        }
+    }
+
+    @Test
+    public void rejectsJobsOverTheMemoryBudget() throws Exception {
+        String hash = lazySodium.cryptoPwHashStr("password", PwHash.OPSLIMIT_MIN, new NativeLong(4 * 1024 * 1024));
+        try (PwHashExecutor executor = new PwHashExecutor(lazySodium, 1, 2 * 1024 * 1024)) {
+            assertRejected(executor.verify(hash, "password"));
+            assertRejected(executor.hashStr("password", PwHash.OPSLIMIT_MIN, new NativeLong(4 * 1024 * 1024)));
+            assertEquals(2, executor.getRejected());
+            assertTrue(executor.hashStr("password", PwHash.OPSLIMIT_MIN, SMALL).get().length() > 0);
+        }
+    }
+
+    @Test
+    public void rejectsWhenTheQueueIsFull() throws Exception {
+        try (PwHashExecutor executor = new PwHashExecutor(lazySodium, 1, 128 * 1024 * 1024, 1, 0)) {
+            CompletableFuture<String> running = executor.hashStr("password", 3, SLOW);
+            CompletableFuture<String> queued = executor.hashStr("password", PwHash.OPSLIMIT_MIN, SMALL);
+            assertRejected(executor.hashStr("password", PwHash.OPSLIMIT_MIN, SMALL));
+            assertNotNull(running.get());
+            assertNotNull(queued.get());
+        }
+    }
+
+    @Test
+    public void dropsJobsThatWaitedTooLong() throws Exception {
+        try (PwHashExecutor executor = new PwHashExecutor(lazySodium, 1, 128 * 1024 * 1024, 10, 20)) {
+            CompletableFuture<String> running = executor.hashStr("password", 3, SLOW);
+            CompletableFuture<String> late = executor.hashStr("password", PwHash.OPSLIMIT_MIN, SMALL);
+            assertNotNull(running.get());
+            assertRejected(late);
+            assertTrue(executor.getMaxWaitNanos() > TimeUnit.MILLISECONDS.toNanos(20));
+        }
+    }
+
+    @Test
+    public void rejectsAfterClose() throws Exception {
+        PwHashExecutor executor = new PwHashExecutor(lazySodium, 1, 8 * 1024 * 1024);
+        executor.close();
+        assertRejected(executor.hashStr("password", PwHash.OPSLIMIT_MIN, SMALL));
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+    }
+
+    private static void assertRejected(CompletableFuture<?> future) throws InterruptedException {
+        try {
+            future.get();
+            fail("Expected the job to be rejected.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+}
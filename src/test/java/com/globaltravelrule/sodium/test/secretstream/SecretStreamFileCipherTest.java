@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test.secretstream;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.SecretStream;
+import com.globaltravelrule.sodium.secretstream.SecretStreamFileCipher;
+import com.globaltravelrule.sodium.test.BaseTest;
+import com.globaltravelrule.sodium.utils.Key;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class SecretStreamFileCipherTest extends BaseTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Key key = lazySodium.cryptoSecretStreamKeygen();
+
+    @Test
+    public void roundTripsSeveralChunks() throws IOException, SodiumException {
+        SecretStreamFileCipher cipher = new SecretStreamFileCipher(lazySodium, 1000);
+        byte[] data = lazySodium.randomBytesBuf(3500);
+        Path plain = write(data);
+        Path encrypted = folder.newFile().toPath();
+        Path decrypted = folder.newFile().toPath();
+
+        assertEquals(data.length, cipher.encrypt(plain, encrypted, key));
+        assertEquals(SecretStream.HEADERBYTES + 4 + 4 * (4 + SecretStream.ABYTES) + data.length, Files.size(encrypted));
+        assertEquals(data.length, cipher.decrypt(encrypted, decrypted, key));
+        assertArrayEquals(data, Files.readAllBytes(decrypted));
+    }
+
+    @Test
+    public void roundTripsExactMultipleOfChunkSize() throws IOException, SodiumException {
+        SecretStreamFileCipher cipher = new SecretStreamFileCipher(lazySodium, 512);
+        byte[] data = lazySodium.randomBytesBuf(2048);
+        Path encrypted = folder.newFile().toPath();
+        Path decrypted = folder.newFile().toPath();
+
+        cipher.encrypt(write(data), encrypted, key);
+        assertEquals(SecretStream.HEADERBYTES + 4 + 4 * (4 + SecretStream.ABYTES) + data.length, Files.size(encrypted));
+        cipher.decrypt(encrypted, decrypted, key);
+        assertArrayEquals(data, Files.readAllBytes(decrypted));
+    }
+
+    @Test
+    public void roundTripsEmptyFile() throws IOException, SodiumException {
+        SecretStreamFileCipher cipher = new SecretStreamFileCipher(lazySodium);
+        Path encrypted = folder.newFile().toPath();
+        Path decrypted = folder.newFile().toPath();
+
+        assertEquals(0, cipher.encrypt(write(new byte[0]), encrypted, key));
+        assertEquals(SecretStream.HEADERBYTES + 4 + 4 + SecretStream.ABYTES, Files.size(encrypted));
+        assertEquals(0, cipher.decrypt(encrypted, decrypted, key));
+        assertEquals(0, Files.size(decrypted));
+    }
+
+    @Test
+    public void rejectsTamperedChunk() throws IOException, SodiumException {
+        byte[] encrypted = encrypt(lazySodium.randomBytesBuf(3000), 1000);
+        encrypted[encrypted.length - 10] ^= 1;
+        assertDecryptFails(encrypted);
+    }
+
+    @Test
+    public void rejectsTruncatedStream() throws IOException, SodiumException {
+        byte[] encrypted = encrypt(lazySodium.randomBytesBuf(3000), 1000);
+        int lastFrame = 4 + 1000 + SecretStream.ABYTES;
+        assertDecryptFails(Arrays.copyOf(encrypted, encrypted.length - lastFrame));
+        assertDecryptFails(Arrays.copyOf(encrypted, encrypted.length - 1));
+    }
+
+    @Test
+    public void rejectsDataAfterFinalChunk() throws IOException, SodiumException {
+        byte[] encrypted = encrypt(lazySodium.randomBytesBuf(100), 1000);
+        assertDecryptFails(Arrays.copyOf(encrypted, encrypted.length + 4));
+    }
+
+    @Test
+    public void rejectsWrongKey() throws IOException, SodiumException {
+        byte[] encrypted = encrypt(lazySodium.randomBytesBuf(100), 1000);
+        Path target = folder.getRoot().toPath().resolve("wrong-key.out");
+        try {
+            new SecretStreamFileCipher(lazySodium).decrypt(write(encrypted), target, lazySodium.cryptoSecretStreamKeygen());
+            fail("Decrypting with the wrong key should fail");
+        } catch (SodiumException expected) {
+            assertFalse(Files.exists(target));
+        }
+    }
+
+    @Test
+    public void rejectsChunkSizeAboveLimit() throws IOException, SodiumException {
+        byte[] encrypted = encrypt(lazySodium.randomBytesBuf(100), 1000);
+        // A crafted prelude must not make the reader allocate 64 MB buffers.
+        encrypted[SecretStream.HEADERBYTES] = 0x04;
+        assertDecryptFails(encrypted);
+
+        byte[] large = encrypt(lazySodium.randomBytesBuf(100), 4000);
+        Path target = folder.getRoot().toPath().resolve("limited.out");
+        try {
+            new SecretStreamFileCipher(lazySodium, 1000, 2000).decrypt(write(large), target, key);
+            fail("A chunk size above the limit should be rejected");
+        } catch (SodiumException expected) {
+            assertFalse(Files.exists(target));
+        }
+        assertEquals(100, new SecretStreamFileCipher(lazySodium, 1000, 4000).decrypt(write(large), target, key));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidChunkSize() {
+        new SecretStreamFileCipher(lazySodium, 0);
+    }
+
+    private byte[] encrypt(byte[] data, int chunkSize) throws IOException, SodiumException {
+        Path encrypted = folder.newFile().toPath();
+        new SecretStreamFileCipher(lazySodium, chunkSize).encrypt(write(data), encrypted, key);
+        return Files.readAllBytes(encrypted);
+    }
+
+    private void assertDecryptFails(byte[] encrypted) throws IOException {
+        Path target = folder.getRoot().toPath().resolve("failed.out");
+        try {
+            new SecretStreamFileCipher(lazySodium).decrypt(write(encrypted), target, key);
+            fail("Decrypting a damaged stream should fail");
+        } catch (SodiumException expected) {
+            assertFalse(Files.exists(target));
+        }
+    }
+
+    private Path write(byte[] data) throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, data);
+        return path;
+    }
+
+}
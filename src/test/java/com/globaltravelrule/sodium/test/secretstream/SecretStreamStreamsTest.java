@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test.secretstream;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.secretstream.SecretStreamFileCipher;
+import com.globaltravelrule.sodium.secretstream.SecretStreamInputStream;
+import com.globaltravelrule.sodium.secretstream.SecretStreamOutputStream;
+import com.globaltravelrule.sodium.secretstream.SecretStreamReadableChannel;
+import com.globaltravelrule.sodium.secretstream.SecretStreamWritableChannel;
+import com.globaltravelrule.sodium.test.BaseTest;
+import com.globaltravelrule.sodium.utils.Key;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.LongFunction;
+
+import static org.junit.Assert.*;
+
+public class SecretStreamStreamsTest extends BaseTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Key key = lazySodium.cryptoSecretStreamKeygen();
+
+    private static final LongFunction<byte[]> INDEX_AD =
+            index -> ("chunk-" + index).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void streamsRoundTripInSmallWrites() throws IOException {
+        byte[] data = lazySodium.randomBytesBuf(5000);
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        try (SecretStreamOutputStream out = new SecretStreamOutputStream(lazySodium, sink, key, 1024, null)) {
+            out.write(data[0]);
+            for (int off = 1; off < data.length; off += 333) {
+                out.write(data, off, Math.min(333, data.length - off));
+            }
+        }
+
+        try (SecretStreamInputStream in = new SecretStreamInputStream(lazySodium, new ByteArrayInputStream(sink.toByteArray()), key)) {
+            assertEquals(data[0] & 0xff, in.read());
+            assertArrayEquals(Arrays.copyOfRange(data, 1, data.length), readAll(in));
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void streamsRoundTripEmpty() throws IOException {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        new SecretStreamOutputStream(lazySodium, sink, key).close();
+        try (SecretStreamInputStream in = new SecretStreamInputStream(lazySodium, new ByteArrayInputStream(sink.toByteArray()), key)) {
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void channelsRoundTripWithAdditionalData() throws IOException {
+        byte[] data = lazySodium.randomBytesBuf(4096);
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        try (WritableByteChannel out = new SecretStreamWritableChannel(lazySodium, Channels.newChannel(sink), key, 1000, INDEX_AD)) {
+            ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+            ((Buffer) direct.put(data)).flip();
+            assertEquals(data.length, out.write(direct));
+            assertFalse(direct.hasRemaining());
+        }
+
+        byte[] decrypted = new byte[data.length];
+        ByteBuffer dst = ByteBuffer.wrap(decrypted);
+        try (ReadableByteChannel in = new SecretStreamReadableChannel(lazySodium,
+                Channels.newChannel(new ByteArrayInputStream(sink.toByteArray())), key, INDEX_AD)) {
+            while (dst.hasRemaining()) {
+                assertTrue(in.read(dst) >= 0);
+            }
+            assertEquals(-1, in.read(ByteBuffer.allocate(1)));
+        }
+        assertArrayEquals(data, decrypted);
+    }
+
+    @Test
+    public void rejectsMismatchedAdditionalData() throws IOException {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        try (SecretStreamOutputStream out = new SecretStreamOutputStream(lazySodium, sink, key, 100, INDEX_AD)) {
+            out.write(new byte[250]);
+        }
+        assertReadFails(sink.toByteArray(), index -> index == 2 ? new byte[1] : INDEX_AD.apply(index));
+        assertReadFails(sink.toByteArray(), null);
+    }
+
+    @Test
+    public void rejectsTruncatedAndExtendedStreams() throws IOException {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        try (SecretStreamOutputStream out = new SecretStreamOutputStream(lazySodium, sink, key, 100, null)) {
+            out.write(new byte[250]);
+        }
+        byte[] encrypted = sink.toByteArray();
+        assertReadFails(Arrays.copyOf(encrypted, encrypted.length - (4 + 50 + 17)), null);
+        assertReadFails(Arrays.copyOf(encrypted, encrypted.length - 1), null);
+        assertReadFails(Arrays.copyOf(encrypted, encrypted.length + 1), null);
+    }
+
+    @Test
+    public void readsFilesWrittenByFileCipher() throws IOException, SodiumException {
+        byte[] data = lazySodium.randomBytesBuf(3000);
+        Path plain = folder.newFile().toPath();
+        Path encrypted = folder.newFile().toPath();
+        Files.write(plain, data);
+        new SecretStreamFileCipher(lazySodium, 1000).encrypt(plain, encrypted, key);
+
+        try (InputStream in = new SecretStreamInputStream(lazySodium, Files.newInputStream(encrypted), key)) {
+            assertArrayEquals(data, readAll(in));
+        }
+    }
+
+    private void assertReadFails(byte[] encrypted, LongFunction<byte[]> additionalData) {
+        try (InputStream in = new SecretStreamInputStream(lazySodium, new ByteArrayInputStream(encrypted), key, additionalData)) {
+            readAll(in);
+            fail("Reading a damaged stream should fail");
+        } catch (IOException expected) {
+            assertTrue(expected.getCause() instanceof SodiumException);
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[777];
+        int n;
+        while ((n = in.read(buf)) >= 0) {
+            out.write(buf, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test.utils;
+
+import com.globaltravelrule.sodium.test.BaseTest;
+import com.globaltravelrule.sodium.utils.Base64Codec;
+import com.globaltravelrule.sodium.utils.Base64MessageEncoder;
+import org.junit.Test;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class Base64CodecTest extends BaseTest {
+
+    private static final Base64Codec[] CODECS = {
+        Base64Codec.ORIGINAL, Base64Codec.ORIGINAL_NO_PADDING, Base64Codec.URLSAFE, Base64Codec.URLSAFE_NO_PADDING
+    };
+
+    private static final Base64.Encoder[] ENCODERS = {
+        Base64.getEncoder(), Base64.getEncoder().withoutPadding(),
+        Base64.getUrlEncoder(), Base64.getUrlEncoder().withoutPadding()
+    };
+
+    @Test
+    public void matchesJavaAndSodium() {
+        for (int v = 0; v < CODECS.length; v++) {
+            Base64Codec codec = CODECS[v];
+            for (int len = 0; len < 40; len++) {
+                byte[] bin = lazySodium.randomBytesBuf(len);
+                String expected = ENCODERS[v].encodeToString(bin);
+                byte[] b64 = new byte[lazySodium.getSodium().sodium_base64_encoded_len(len, codec.getVariant())];
+
+                assertEquals(expected, codec.encodeToString(bin));
+                assertEquals(expected, lazySodium.getSodium().sodium_bin2base64(b64, b64.length, bin, len, codec.getVariant()));
+                assertEquals(expected.length(), codec.encodedLength(len));
+                assertArrayEquals(bin, codec.decode(expected));
+
+                byte[] ascii = new byte[expected.length()];
+                assertEquals(ascii.length, codec.encode(bin, 0, len, ascii, 0));
+                assertEquals(expected, new String(ascii, StandardCharsets.US_ASCII));
+                byte[] decoded = new byte[len];
+                assertEquals(len, codec.decode(ascii, 0, ascii.length, decoded, 0));
+                assertArrayEquals(bin, decoded);
+            }
+        }
+    }
+
+    @Test
+    public void streamsThroughSmallBuffers() {
+        byte[] bin = lazySodium.randomBytesBuf(1001);
+        for (Base64Codec codec : CODECS) {
+            String expected = codec.encodeToString(bin);
+            for (boolean direct : new boolean[]{false, true}) {
+                ByteBuffer src = direct ? ByteBuffer.allocateDirect(bin.length) : ByteBuffer.allocate(bin.length);
+                ((Buffer) src.put(bin)).flip();
+                CharBuffer window = CharBuffer.allocate(37);
+                StringBuilder encoded = new StringBuilder();
+                while (src.hasRemaining()) {
+                    codec.encode(src, window, true);
+                    ((Buffer) window).flip();
+                    encoded.append(window);
+                    ((Buffer) window).clear();
+                }
+                assertEquals(expected, encoded.toString());
+
+                CharBuffer text = CharBuffer.wrap(expected);
+                ByteBuffer out = direct ? ByteBuffer.allocateDirect(bin.length) : ByteBuffer.allocate(bin.length);
+                while (text.hasRemaining()) {
+                    // Chunks that end inside groups and inside the padding.
+                    CharBuffer chunk = text.duplicate();
+                    ((Buffer) chunk).limit(Math.min(text.limit(), text.position() + 53));
+                    codec.decode(chunk, out, chunk.limit() == text.limit());
+                    ((Buffer) text).position(chunk.position());
+                }
+                byte[] decoded = new byte[bin.length];
+                ((Buffer) out).flip();
+                out.get(decoded);
+                assertArrayEquals(bin, decoded);
+            }
+        }
+    }
+
+    @Test
+    public void messageEncoderUsesBuffers() {
+        Base64MessageEncoder encoder = new Base64MessageEncoder();
+        byte[] bin = "lazysodium".getBytes(StandardCharsets.UTF_8);
+        CharBuffer text = CharBuffer.allocate(16);
+
+        assertEquals(16, encoder.encode(ByteBuffer.wrap(bin), text));
+        ((Buffer) text).flip();
+        assertEquals(encoder.encode(bin), text.toString());
+
+        ByteBuffer out = ByteBuffer.allocate(bin.length);
+        assertEquals(bin.length, encoder.decode(text, out));
+        assertArrayEquals(bin, out.array());
+    }
+
+    @Test
+    public void rejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> Base64Codec.ORIGINAL.decode("VGhp*yBp"));
+        assertThrows(IllegalArgumentException.class, () -> Base64Codec.ORIGINAL.decode("VGhpc"));
+        assertThrows(IllegalArgumentException.class, () -> Base64Codec.ORIGINAL.decode("VGh=="));
+        assertThrows(IllegalArgumentException.class, () -> Base64Codec.ORIGINAL.decode("-_-_"));
+        assertThrows(IllegalArgumentException.class, () -> Base64Codec.URLSAFE.decode("+/+/"));
+        assertThrows(IllegalArgumentException.class, () -> Base64Codec.URLSAFE_NO_PADDING.decode("YQ=="));
+        assertArrayEquals(new byte[]{'a'}, Base64Codec.ORIGINAL.decode("YQ"));
+        assertArrayEquals(new byte[]{'a'}, Base64Codec.URLSAFE_NO_PADDING.decode("YQ"));
+
+        byte[] dst = new byte[2];
+        assertThrows(IllegalArgumentException.class, () -> Base64Codec.ORIGINAL.decode("YWJj".getBytes(StandardCharsets.US_ASCII), 0, 4, dst, 0));
+    }
+
+}
@@ -13,7 +13,9 @@ import com.globaltravelrule.sodium.utils.Base64MessageEncoder;
 import org.junit.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class Base64MessageEncoderTest extends BaseTest {
@@ -28,4 +30,28 @@ public class Base64MessageEncoderTest extends BaseTest {
         assertEquals(expected, plain);
         assertEquals(cipherText, encoder.encode(expected.getBytes(StandardCharsets.UTF_8)));
     }
+
+    @Test
+    public void bufferEncodingMatchesStrings() {
+        Base64MessageEncoder encoder = new Base64MessageEncoder();
+        for (int len = 0; len < 10; len++) {
+            byte[] message = Arrays.copyOf("0123456789".getBytes(StandardCharsets.UTF_8), len);
+            int encodedLen = encoder.encodedLength(len);
+            byte[] out = new byte[encodedLen + 2];
+            // Input at the tail of the output range, as the in-place callers do.
+            System.arraycopy(message, 0, out, 2 + encodedLen - len, len);
+            assertEquals(encodedLen, encoder.encode(out, 2 + encodedLen - len, len, out, 2));
+            String encoded = new String(out, 2, encodedLen, StandardCharsets.US_ASCII);
+            assertEquals(encoder.encode(message), encoded);
+
+            assertEquals(len, encoder.decode(out, 2, encodedLen, out, 2));
+            assertArrayEquals(message, Arrays.copyOfRange(out, 2, 2 + len));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bufferDecodingRejectsInvalidCharacters() {
+        byte[] encoded = "VGhp*yBp".getBytes(StandardCharsets.US_ASCII);
+        new Base64MessageEncoder().decode(encoded, 0, encoded.length, new byte[6], 0);
+    }
 }
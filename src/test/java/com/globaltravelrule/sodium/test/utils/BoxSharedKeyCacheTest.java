@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test.utils;
+
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.Box;
+import com.globaltravelrule.sodium.test.BaseTest;
+import com.globaltravelrule.sodium.utils.BoxSharedKeyCache;
+import com.globaltravelrule.sodium.utils.KeyPair;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class BoxSharedKeyCacheTest extends BaseTest {
+
+    @Test
+    public void interoperatesWithBox() throws SodiumException {
+        BoxSharedKeyCache cache = new BoxSharedKeyCache(lazySodium, 8, 0, TimeUnit.SECONDS);
+        KeyPair alice = lazySodium.cryptoBoxKeypair();
+        KeyPair bob = lazySodium.cryptoBoxKeypair();
+        byte[] nonce = lazySodium.nonce(Box.NONCEBYTES);
+
+        KeyPair aliceToBob = new KeyPair(bob.getPublicKey(), alice.getSecretKey());
+        KeyPair bobFromAlice = new KeyPair(alice.getPublicKey(), bob.getSecretKey());
+        String cipher = cache.cryptoBoxEasy("hello", nonce, aliceToBob);
+        assertEquals(lazySodium.cryptoBoxEasy("hello", nonce, aliceToBob), cipher);
+        assertEquals("hello", lazySodium.cryptoBoxOpenEasy(cipher, nonce, bobFromAlice));
+        assertEquals("hello", cache.cryptoBoxOpenEasy(cipher, nonce, bobFromAlice));
+
+        cache.cryptoBoxEasy("again", nonce, aliceToBob);
+        assertEquals(2, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() throws SodiumException {
+        BoxSharedKeyCache cache = new BoxSharedKeyCache(lazySodium, 2, 0, TimeUnit.SECONDS);
+        KeyPair local = lazySodium.cryptoBoxKeypair();
+        KeyPair[] peers = {lazySodium.cryptoBoxKeypair(), lazySodium.cryptoBoxKeypair(), lazySodium.cryptoBoxKeypair()};
+        byte[] nonce = lazySodium.nonce(Box.NONCEBYTES);
+
+        cache.cryptoBoxEasy("m", nonce, new KeyPair(peers[0].getPublicKey(), local.getSecretKey()));
+        cache.cryptoBoxEasy("m", nonce, new KeyPair(peers[1].getPublicKey(), local.getSecretKey()));
+        cache.cryptoBoxEasy("m", nonce, new KeyPair(peers[0].getPublicKey(), local.getSecretKey()));
+        cache.cryptoBoxEasy("m", nonce, new KeyPair(peers[2].getPublicKey(), local.getSecretKey()));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+
+        cache.cryptoBoxEasy("m", nonce, new KeyPair(peers[0].getPublicKey(), local.getSecretKey()));
+        assertEquals(2, cache.getHits());
+        cache.cryptoBoxEasy("m", nonce, new KeyPair(peers[1].getPublicKey(), local.getSecretKey()));
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    public void expiresEntries() throws Exception {
+        BoxSharedKeyCache cache = new BoxSharedKeyCache(lazySodium, 8, 20, TimeUnit.MILLISECONDS);
+        KeyPair pair = new KeyPair(lazySodium.cryptoBoxKeypair().getPublicKey(), lazySodium.cryptoBoxKeypair().getSecretKey());
+        byte[] nonce = lazySodium.nonce(Box.NONCEBYTES);
+
+        cache.cryptoBoxEasy("m", nonce, pair);
+        Thread.sleep(50);
+        cache.cryptoBoxEasy("m", nonce, pair);
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(1, cache.getEvictions());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test.utils;
+
+import com.globaltravelrule.sodium.interfaces.SecretBox;
+import com.globaltravelrule.sodium.test.BaseTest;
+import com.globaltravelrule.sodium.utils.BufferedRandom;
+import com.globaltravelrule.sodium.utils.Key;
+import com.globaltravelrule.sodium.utils.SodiumProvider;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class BufferedRandomTest extends BaseTest {
+
+    @Test
+    public void servesDistinctBytesAcrossRefills() {
+        BufferedRandom random = new BufferedRandom(lazySodium, BufferedRandom.MAX_BUFFERED);
+        Set<ByteBuffer> seen = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            assertTrue(seen.add(ByteBuffer.wrap(random.randomBytesBuf(24))));
+        }
+        byte[] large = random.randomBytesBuf(BufferedRandom.MAX_BUFFERED + 1);
+        assertFalse(Arrays.equals(new byte[large.length], large));
+    }
+
+    @Test
+    public void fillsSlicesOnly() {
+        BufferedRandom random = new BufferedRandom(lazySodium);
+        byte[] out = new byte[48];
+        random.nextBytes(out, 8, 32);
+        assertArrayEquals(new byte[8], Arrays.copyOf(out, 8));
+        assertArrayEquals(new byte[8], Arrays.copyOfRange(out, 40, 48));
+        assertThrows(IllegalArgumentException.class, () -> random.nextBytes(out, 20, 32));
+    }
+
+    @Test
+    public void uniformStaysInRange() {
+        BufferedRandom random = new BufferedRandom(lazySodium);
+        int[] counts = new int[7];
+        for (int i = 0; i < 7000; i++) {
+            counts[(int) random.randomBytesUniform(7)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 700);
+        }
+        assertEquals(0, random.randomBytesUniform(1));
+        long value = random.randomBytesRandom();
+        assertTrue(value >= 0 && value <= 0xffffffffL);
+    }
+
+    @Test
+    public void deterministicBytesMatchLibsodium() {
+        BufferedRandom random = new BufferedRandom(lazySodium);
+        byte[] seed = lazySodium.randomBytesBuf(32);
+        assertArrayEquals(lazySodium.randomBytesDeterministic(40, seed), random.randomBytesDeterministic(40, seed));
+    }
+
+    @Test
+    public void reseedStillProducesRandomBytes() {
+        BufferedRandom random = new BufferedRandom(lazySodium);
+        byte[] before = random.randomBytesBuf(32);
+        random.reseed();
+        byte[] after = random.randomBytesBuf(32);
+        assertFalse(Arrays.equals(before, after));
+    }
+
+    @Test
+    public void generatesKeys() throws Exception {
+        BufferedRandom random = new BufferedRandom(lazySodium);
+        Key key = Key.generate(random, SecretBox.KEYBYTES);
+        byte[] nonce = random.nonce(SecretBox.NONCEBYTES);
+        String cipher = lazySodium.cryptoSecretBoxEasy("message", nonce, key);
+        assertEquals("message", lazySodium.cryptoSecretBoxOpenEasy(cipher, nonce, key));
+    }
+
+    @Test
+    public void worksAsSecureRandom() throws Exception {
+        SecureRandom secureRandom = new BufferedRandom(lazySodium).asSecureRandom();
+        assertEquals(SodiumProvider.NAME, secureRandom.getProvider().getName());
+        byte[] bytes = new byte[64];
+        secureRandom.nextBytes(bytes);
+        assertFalse(Arrays.equals(new byte[64], bytes));
+        assertEquals(16, secureRandom.generateSeed(16).length);
+
+        SecureRandom viaProvider = SecureRandom.getInstance(SodiumProvider.SECURE_RANDOM, SodiumProvider.getInstance());
+        long value = viaProvider.nextLong();
+        assertNotEquals(value, viaProvider.nextLong());
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test.utils;
+
+import com.globaltravelrule.sodium.interfaces.GenericHash;
+import com.globaltravelrule.sodium.test.BaseTest;
+import com.globaltravelrule.sodium.utils.GenericHashState;
+import com.globaltravelrule.sodium.utils.Key;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class GenericHashStateTest extends BaseTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void matchesOneShotHashAcrossUpdates() {
+        byte[] data = lazySodium.randomBytesBuf(10_000);
+        byte[] expected = new byte[GenericHash.BYTES];
+        assertTrue(lazySodium.cryptoGenericHash(expected, expected.length, data, data.length));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(3000);
+        ((Buffer) direct.put(data, 4000, 3000)).flip();
+        ByteBuffer heapSlice = ByteBuffer.wrap(data);
+        ((Buffer) heapSlice).position(7000);
+
+        try (GenericHashState state = new GenericHashState(lazySodium, GenericHash.BYTES)) {
+            state.update(Arrays.copyOf(data, 1000))
+                    .update(data, 1000, 3000)
+                    .update(direct)
+                    .update(heapSlice);
+            assertFalse(direct.hasRemaining());
+            assertFalse(heapSlice.hasRemaining());
+            assertArrayEquals(expected, state.finish());
+        }
+    }
+
+    @Test
+    public void matchesKeyedHash() {
+        Key key = Key.fromBytes(lazySodium.randomBytesBuf(GenericHash.KEYBYTES));
+        byte[] data = lazySodium.randomBytesBuf(300);
+        byte[] expected = new byte[GenericHash.BYTES_MAX];
+        assertTrue(lazySodium.cryptoGenericHash(expected, expected.length, data, data.length,
+                key.getAsBytes(), GenericHash.KEYBYTES));
+
+        try (GenericHashState state = new GenericHashState(lazySodium, key, GenericHash.BYTES_MAX)) {
+            assertArrayEquals(expected, state.update(data).finish());
+        }
+    }
+
+    @Test
+    public void hashesFileChannel() throws IOException {
+        byte[] data = lazySodium.randomBytesBuf(100_000);
+        Path file = folder.newFile().toPath();
+        Files.write(file, data);
+        byte[] expected = new byte[GenericHash.BYTES];
+        assertTrue(lazySodium.cryptoGenericHash(expected, expected.length, data, data.length));
+
+        try (FileChannel channel = FileChannel.open(file);
+             GenericHashState state = new GenericHashState(lazySodium, GenericHash.BYTES)) {
+            assertArrayEquals(expected, state.hash(channel));
+            assertEquals(data.length, channel.position());
+        }
+    }
+
+    @Test
+    public void cannotBeUsedAfterFinishOrClose() {
+        GenericHashState state = new GenericHashState(lazySodium, GenericHash.BYTES);
+        state.finish();
+        try {
+            state.update(new byte[1]);
+            fail("Updating a finished state should fail");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+        state.close();
+        state.close();
+        try {
+            state.finish();
+            fail("Finishing a closed state should fail");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidOutLen() {
+        new GenericHashState(lazySodium, GenericHash.BYTES_MAX + 1);
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test.utils;
+
+import com.globaltravelrule.sodium.interfaces.GenericHash;
+import com.globaltravelrule.sodium.test.BaseTest;
+import com.globaltravelrule.sodium.utils.GenericHashTree;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class GenericHashTreeTest extends BaseTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void parallelMatchesSequential() {
+        byte[] data = lazySodium.randomBytesBuf(100_000);
+        GenericHashTree parallel = new GenericHashTree(lazySodium, 1000, GenericHash.BYTES, ForkJoinPool.commonPool());
+        GenericHashTree sequential = new GenericHashTree(lazySodium, 1000, GenericHash.BYTES, Runnable::run);
+
+        GenericHashTree.Digest digest = parallel.hash(data);
+        assertEquals(100, digest.getLeaves().length);
+        assertEquals(data.length, digest.getLength());
+        assertArrayEquals(sequential.hash(data).getRoot(), digest.getRoot());
+        assertArrayEquals(sequential.leaf(42, ByteBuffer.wrap(data, 42_000, 1000)), digest.getLeaves()[42]);
+    }
+
+    @Test
+    public void fileMatchesBuffers() throws IOException {
+        byte[] data = lazySodium.randomBytesBuf(10_500);
+        Path file = folder.newFile().toPath();
+        Files.write(file, data);
+        GenericHashTree tree = new GenericHashTree(lazySodium, 1024, GenericHash.BYTES_MAX, ForkJoinPool.commonPool());
+
+        byte[] padded = new byte[data.length + 7];
+        System.arraycopy(data, 0, padded, 7, data.length);
+        ByteBuffer slice = ByteBuffer.wrap(padded);
+        ((Buffer) slice).position(7);
+
+        byte[] expected = tree.hash(data).getRoot();
+        assertEquals(GenericHash.BYTES_MAX, expected.length);
+        assertArrayEquals(expected, tree.hash(slice.slice()).getRoot());
+        assertEquals(7, slice.position());
+        try (FileChannel channel = FileChannel.open(file)) {
+            GenericHashTree.Digest digest = tree.hash(channel);
+            assertEquals(11, digest.getLeaves().length);
+            assertArrayEquals(expected, digest.getRoot());
+        }
+    }
+
+    @Test
+    public void emptyInputHasOneLeaf() {
+        GenericHashTree tree = new GenericHashTree(lazySodium);
+        GenericHashTree.Digest digest = tree.hash(new byte[0]);
+        assertEquals(1, digest.getLeaves().length);
+        assertTrue(tree.verifyLeaf(digest.getRoot(), 0, digest.getLeaves(), 0, ByteBuffer.allocate(0)));
+    }
+
+    @Test
+    public void rootDependsOnParameters() {
+        byte[] data = lazySodium.randomBytesBuf(4096);
+        byte[] root = new GenericHashTree(lazySodium, 1024, GenericHash.BYTES, Runnable::run).hash(data).getRoot();
+        assertFalse(Arrays.equals(root, new GenericHashTree(lazySodium, 2048, GenericHash.BYTES, Runnable::run).hash(data).getRoot()));
+        assertFalse(Arrays.equals(root, new GenericHashTree(lazySodium, 1024, GenericHash.BYTES, Runnable::run)
+                .hash(Arrays.copyOf(data, 4095)).getRoot()));
+    }
+
+    @Test
+    public void verifiesSingleLeaf() {
+        byte[] data = lazySodium.randomBytesBuf(5000);
+        GenericHashTree tree = new GenericHashTree(lazySodium, 1000, GenericHash.BYTES, Runnable::run);
+        GenericHashTree.Digest digest = tree.hash(data);
+        byte[] root = digest.getRoot();
+        byte[][] leaves = digest.getLeaves();
+
+        assertTrue(tree.verifyLeaf(root, data.length, leaves, 3, ByteBuffer.wrap(data, 3000, 1000)));
+        assertFalse(tree.verifyLeaf(root, data.length, leaves, 2, ByteBuffer.wrap(data, 3000, 1000)));
+        assertFalse(tree.verifyLeaf(root, data.length, leaves, 3, ByteBuffer.wrap(data, 3000, 999)));
+
+        byte[] tampered = data.clone();
+        tampered[3500] ^= 1;
+        assertFalse(tree.verifyLeaf(root, data.length, leaves, 3, ByteBuffer.wrap(tampered, 3000, 1000)));
+
+        byte[][] swapped = leaves.clone();
+        swapped[3] = tree.leaf(3, ByteBuffer.wrap(tampered, 3000, 1000));
+        assertFalse(tree.verifyLeaf(root, data.length, swapped, 3, ByteBuffer.wrap(tampered, 3000, 1000)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidLeafSize() {
+        new GenericHashTree(lazySodium, 0, GenericHash.BYTES, Runnable::run);
+    }
+
+}
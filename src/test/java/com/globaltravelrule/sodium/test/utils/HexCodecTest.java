@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test.utils;
+
+import com.globaltravelrule.sodium.LazySodium;
+import com.globaltravelrule.sodium.test.BaseTest;
+import com.globaltravelrule.sodium.utils.HexCodec;
+import com.globaltravelrule.sodium.utils.HexMessageEncoder;
+import org.junit.Test;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class HexCodecTest extends BaseTest {
+
+    @Test
+    public void matchesSodiumBin2Hex() {
+        for (int len = 0; len < 40; len++) {
+            byte[] bin = lazySodium.randomBytesBuf(len);
+            byte[] hex = new byte[len * 2 + 1];
+            String expected = lazySodium.getSodium().sodium_bin2hex(hex, hex.length, bin, bin.length);
+
+            assertEquals(expected, HexCodec.LOWER_CASE.encodeToString(bin));
+            assertEquals(expected.toUpperCase(), HexCodec.UPPER_CASE.encodeToString(bin));
+            assertEquals(expected.toUpperCase(), LazySodium.toHex(bin));
+            assertArrayEquals(bin, HexCodec.UPPER_CASE.decode(expected));
+            assertArrayEquals(bin, LazySodium.toBin(expected.toUpperCase()));
+        }
+    }
+
+    @Test
+    public void streamsThroughSmallBuffers() {
+        byte[] bin = lazySodium.randomBytesBuf(1000);
+        String expected = HexCodec.UPPER_CASE.encodeToString(bin);
+
+        for (boolean direct : new boolean[]{false, true}) {
+            ByteBuffer src = direct ? ByteBuffer.allocateDirect(bin.length) : ByteBuffer.allocate(bin.length);
+            ((Buffer) src.put(bin)).flip();
+            CharBuffer window = CharBuffer.allocate(37);
+            StringBuilder encoded = new StringBuilder();
+            while (src.hasRemaining()) {
+                HexCodec.UPPER_CASE.encode(src, window);
+                ((Buffer) window).flip();
+                encoded.append(window);
+                ((Buffer) window).clear();
+            }
+            assertEquals(expected, encoded.toString());
+
+            CharBuffer text = CharBuffer.wrap(expected);
+            ByteBuffer out = direct ? ByteBuffer.allocateDirect(bin.length) : ByteBuffer.allocate(bin.length);
+            while (text.hasRemaining()) {
+                // Hand over odd sized chunks so that pairs straddle the calls.
+                CharBuffer chunk = text.duplicate();
+                ((Buffer) chunk).limit(Math.min(text.limit(), text.position() + 51));
+                boolean last = chunk.limit() == text.limit();
+                HexCodec.UPPER_CASE.decode(chunk, out, last);
+                ((Buffer) text).position(chunk.position());
+            }
+            byte[] decoded = new byte[bin.length];
+            ((Buffer) out).flip();
+            out.get(decoded);
+            assertArrayEquals(bin, decoded);
+        }
+    }
+
+    @Test
+    public void messageEncoderUsesBuffers() {
+        HexMessageEncoder encoder = new HexMessageEncoder();
+        byte[] bin = {0x00, 0x7F, (byte) 0x80, (byte) 0xFF};
+        CharBuffer text = CharBuffer.allocate(8);
+
+        assertEquals(8, encoder.encode(ByteBuffer.wrap(bin), text));
+        ((Buffer) text).flip();
+        assertEquals("007F80FF", text.toString());
+
+        ByteBuffer out = ByteBuffer.allocate(4);
+        assertEquals(4, encoder.decode(CharBuffer.wrap("007f80ff"), out));
+        assertArrayEquals(bin, out.array());
+    }
+
+    @Test
+    public void rejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> HexCodec.UPPER_CASE.decode("ABC"));
+        assertThrows(IllegalArgumentException.class, () -> HexCodec.UPPER_CASE.decode("0G"));
+        assertThrows(IllegalArgumentException.class, () -> HexCodec.UPPER_CASE.decode("\u0660\u0661"));
+
+        CharBuffer odd = CharBuffer.wrap("ABC");
+        assertThrows(IllegalArgumentException.class, () -> HexCodec.UPPER_CASE.decode(odd, ByteBuffer.allocate(2), true));
+        assertEquals(1, HexCodec.UPPER_CASE.decode(odd, ByteBuffer.allocate(2), false));
+        assertEquals(1, odd.remaining());
+
+        byte[] dst = new byte[4];
+        assertThrows(IllegalArgumentException.class, () -> HexCodec.UPPER_CASE.encode(new byte[3], 0, 3, dst, 0));
+    }
+
+    @Test
+    public void rejectedInputLeavesBuffersUntouched() {
+        for (boolean direct : new boolean[]{false, true}) {
+            CharBuffer src = CharBuffer.wrap("00FFZZ");
+            ByteBuffer dst = direct ? ByteBuffer.allocateDirect(3) : ByteBuffer.allocate(3);
+            assertThrows(IllegalArgumentException.class, () -> HexCodec.UPPER_CASE.decode(src, dst, true));
+            assertEquals(0, src.position());
+            assertEquals(0, dst.position());
+        }
+    }
+
+}
@@ -8,11 +8,18 @@
 
 package com.globaltravelrule.sodium.test.utils;
 
+import com.globaltravelrule.sodium.exceptions.SodiumException;
+import com.globaltravelrule.sodium.interfaces.SecretBox;
 import com.globaltravelrule.sodium.test.BaseTest;
 import com.globaltravelrule.sodium.utils.HexMessageEncoder;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 
 public class HexMessageEncoderTest extends BaseTest {
 
@@ -25,4 +32,35 @@ public class HexMessageEncoderTest extends BaseTest {
 
         assertEquals(cipherText, encoder.encode(cipher));
     }
+
+    @Test
+    public void lazyMethodsRejectNonHexWithSodiumException() {
+        HexMessageEncoder encoder = new HexMessageEncoder();
+        String cipherText = "ZZ" + encoder.encode(new byte[SecretBox.MACBYTES + 4]);
+        assertEquals(SecretBox.MACBYTES + 5, encoder.decode(cipherText).length);
+
+        byte[] nonce = lazySodium.nonce(SecretBox.NONCEBYTES);
+        assertThrows(SodiumException.class,
+                () -> lazySodium.cryptoSecretBoxOpenEasy(cipherText, nonce, lazySodium.cryptoSecretBoxKeygen()));
+    }
+
+    @Test
+    public void bufferEncodingMatchesStrings() {
+        HexMessageEncoder encoder = new HexMessageEncoder();
+        byte[] message = {0x00, 0x7F, (byte) 0x80, (byte) 0xFF, 0x1A};
+        byte[] out = new byte[encoder.encodedLength(message.length)];
+        System.arraycopy(message, 0, out, out.length - message.length, message.length);
+
+        assertEquals(out.length, encoder.encode(out, out.length - message.length, message.length, out, 0));
+        assertEquals(encoder.encode(message), new String(out, StandardCharsets.US_ASCII));
+
+        assertEquals(message.length, encoder.decode(out, 0, out.length, out, 0));
+        assertArrayEquals(message, Arrays.copyOf(out, message.length));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bufferDecodingRejectsOddLength() {
+        byte[] encoded = "ABC".getBytes(StandardCharsets.US_ASCII);
+        new HexMessageEncoder().decode(encoded, 0, encoded.length, new byte[2], 0);
+    }
 }
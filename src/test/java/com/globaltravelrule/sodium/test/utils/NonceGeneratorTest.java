@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test.utils;
+
+import com.globaltravelrule.sodium.interfaces.AEAD;
+import com.globaltravelrule.sodium.test.BaseTest;
+import com.globaltravelrule.sodium.utils.Key;
+import com.globaltravelrule.sodium.utils.NonceGenerator;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+
+public class NonceGeneratorTest extends BaseTest {
+
+    @Test
+    public void knowsAeadNonceSizes() {
+        assertEquals(AEAD.CHACHA20POLY1305_NPUBBYTES, AEAD.nPubBytes(AEAD.Method.CHACHA20_POLY1305));
+        assertEquals(AEAD.CHACHA20POLY1305_IETF_NPUBBYTES, AEAD.nPubBytes(AEAD.Method.CHACHA20_POLY1305_IETF));
+        assertEquals(AEAD.XCHACHA20POLY1305_IETF_NPUBBYTES, AEAD.nPubBytes(AEAD.Method.XCHACHA20_POLY1305_IETF));
+        assertEquals(AEAD.AES256GCM_NPUBBYTES, AEAD.nPubBytes(AEAD.Method.AES256GCM));
+        for (AEAD.Method method : AEAD.Method.values()) {
+            assertEquals(AEAD.nPubBytes(method), NonceGenerator.counter(lazySodium, method).next().length);
+            assertEquals(AEAD.nPubBytes(method), NonceGenerator.random(lazySodium, method).next().length);
+        }
+    }
+
+    @Test
+    public void counterNoncesShareAPrefixAndNeverRepeatAcrossThreads() throws InterruptedException {
+        NonceGenerator generator = NonceGenerator.counter(lazySodium, AEAD.Method.CHACHA20_POLY1305_IETF);
+        byte[] first = generator.next();
+        Set<ByteBuffer> seen = Collections.synchronizedSet(new HashSet<>());
+        seen.add(ByteBuffer.wrap(first));
+
+        int threads = 8;
+        int perThread = 5000;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    byte[] nonce = generator.next();
+                    assertArrayEquals(Arrays.copyOf(first, 4), Arrays.copyOf(nonce, 4));
+                    seen.add(ByteBuffer.wrap(nonce));
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        assertEquals(threads * perThread + 1, seen.size());
+    }
+
+    @Test
+    public void randomNoncesAreDistinctAndWrittenInPlace() {
+        NonceGenerator generator = NonceGenerator.random(lazySodium, AEAD.Method.XCHACHA20_POLY1305_IETF);
+        Set<ByteBuffer> seen = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(seen.add(ByteBuffer.wrap(generator.next())));
+        }
+
+        byte[] frame = new byte[4 + generator.size()];
+        generator.next(frame, 4);
+        assertArrayEquals(new byte[4], Arrays.copyOf(frame, 4));
+        assertFalse(Arrays.equals(new byte[generator.size()], Arrays.copyOfRange(frame, 4, frame.length)));
+    }
+
+    @Test
+    public void noncesWorkWithAead() throws Exception {
+        Key key = lazySodium.keygen(AEAD.Method.CHACHA20_POLY1305_IETF);
+        NonceGenerator generator = NonceGenerator.counter(lazySodium, AEAD.Method.CHACHA20_POLY1305_IETF);
+        byte[] nonce = generator.next();
+        String cipher = lazySodium.encrypt("message", null, nonce, key, AEAD.Method.CHACHA20_POLY1305_IETF);
+        assertEquals("message", lazySodium.decrypt(cipher, null, nonce, key, AEAD.Method.CHACHA20_POLY1305_IETF));
+    }
+
+    @Test
+    public void rejectsBadSizesAndOffsets() {
+        assertThrows(IllegalArgumentException.class, () -> NonceGenerator.counter(lazySodium, 7));
+        assertThrows(IllegalArgumentException.class, () -> NonceGenerator.random(lazySodium, 0));
+        NonceGenerator generator = NonceGenerator.random(lazySodium, 24);
+        assertThrows(IllegalArgumentException.class, () -> generator.next(new byte[30], 7));
+        assertThrows(IllegalArgumentException.class, () -> generator.next(new byte[30], -1));
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 Global Travel Rule • globaltravelrule.com
+ * License that can be found in the LICENSE file.
+ *
+ * Author: Global Travel Rule developer
+ * Created on: 2025/3/19 23:53
+ */
+
+package com.globaltravelrule.sodium.test.utils;
+
+import com.globaltravelrule.sodium.interfaces.AEAD;
+import com.globaltravelrule.sodium.interfaces.SecretBox;
+import com.globaltravelrule.sodium.test.BaseTest;
+import com.globaltravelrule.sodium.utils.Key;
+import com.globaltravelrule.sodium.utils.SecureKey;
+import org.junit.Test;
+
+import javax.crypto.AEADBadTagException;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class SecureKeyTest extends BaseTest {
+
+    @Test
+    public void secretBoxMatchesHeapKey() {
+        Key key = lazySodium.cryptoSecretBoxKeygen();
+        byte[] nonce = lazySodium.nonce(SecretBox.NONCEBYTES);
+        byte[] message = lazySodium.bytes("secure memory");
+        byte[] expected = new byte[message.length + SecretBox.MACBYTES];
+        assertTrue(lazySodium.cryptoSecretBoxEasy(expected, message, message.length, nonce, key.getAsBytes()));
+
+        try (SecureKey secureKey = SecureKey.copyOf(lazySodium, key)) {
+            byte[] cipher = new byte[expected.length];
+            assertTrue(lazySodium.cryptoSecretBoxEasy(cipher, message, message.length, nonce, secureKey));
+            assertArrayEquals(expected, cipher);
+
+            byte[] decrypted = new byte[message.length];
+            assertTrue(lazySodium.cryptoSecretBoxOpenEasy(decrypted, cipher, cipher.length, nonce, secureKey));
+            assertArrayEquals(message, decrypted);
+            assertArrayEquals(key.getAsBytes(), secureKey.copyBytes());
+        }
+    }
+
+    @Test
+    public void aeadMatchesHeapKey() throws AEADBadTagException {
+        AEAD.Method method = AEAD.Method.XCHACHA20_POLY1305_IETF;
+        byte[] nPub = lazySodium.nonce(AEAD.XCHACHA20POLY1305_IETF_NPUBBYTES);
+        byte[] message = lazySodium.bytes("secure memory");
+        byte[] ad = lazySodium.bytes("ad");
+
+        try (SecureKey secureKey = SecureKey.random(lazySodium, AEAD.XCHACHA20POLY1305_IETF_KEYBYTES)) {
+            Key key = Key.fromBytes(secureKey.copyBytes());
+            byte[] expected = new byte[64];
+            int expectedLen = lazySodium.encrypt(message, 0, message.length, ad, nPub, key, method, expected, 0);
+
+            byte[] cipher = new byte[64];
+            assertEquals(expectedLen, lazySodium.encrypt(message, 0, message.length, ad, nPub, secureKey, method, cipher, 1));
+            assertArrayEquals(Arrays.copyOf(expected, expectedLen), Arrays.copyOfRange(cipher, 1, 1 + expectedLen));
+
+            byte[] decrypted = new byte[message.length];
+            assertEquals(message.length, lazySodium.decrypt(cipher, 1, expectedLen, ad, nPub, secureKey, method, decrypted, 0));
+            assertArrayEquals(message, decrypted);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsWrongKeySize() {
+        try (SecureKey secureKey = SecureKey.random(lazySodium, 16)) {
+            lazySodium.cryptoSecretBoxEasy(new byte[SecretBox.MACBYTES], new byte[0], 0,
+                    lazySodium.nonce(SecretBox.NONCEBYTES), secureKey);
+        }
+    }
+
+    @Test
+    public void tracksAccess() {
+        SecureKey secureKey = SecureKey.random(lazySodium, 32);
+        secureKey.acquire();
+        secureKey.acquire();
+        secureKey.release();
+        try {
+            secureKey.close();
+            fail("Closed while in use");
+        } catch (IllegalStateException expected) {
+            // still acquired once
+        }
+        secureKey.release();
+        secureKey.close();
+        secureKey.close();
+        try {
+            secureKey.acquire();
+            fail("Acquired after close");
+        } catch (IllegalStateException expected) {
+            // closed
+        }
+    }
+}